@@ -0,0 +1,109 @@
+package dev.kurama.api.core.hateoas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.filter.ContextAuthenticationToken;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.hateoas.assembler.UserModelAssembler;
+import dev.kurama.api.core.hateoas.model.UserModel;
+import dev.kurama.api.core.hateoas.model.UserPreferencesModel;
+import dev.kurama.api.core.hateoas.processor.UserModelProcessor;
+import dev.kurama.api.core.hateoas.processor.UserPreferencesModelProcessor;
+import dev.kurama.api.core.utility.UuidUtils;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPagedModelSerializationBenchmark {
+
+  @Param({"20"})
+  private int pageSize;
+
+  private ObjectMapper objectMapper;
+
+  private PagedModel<UserModel> pagedModel;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    objectMapper.registerModule(new Jackson2HalModule());
+    objectMapper.setHandlerInstantiator(
+      new HalHandlerInstantiator(new EvoInflectorLinkRelationProvider(), CurieProvider.NONE,
+        MessageResolver.DEFAULTS_ONLY));
+
+    ContextUser contextUser = ContextUser.builder().id(UuidUtils.randomUUID()).username("benchmark").build();
+    List<GrantedAuthority> authorities = DefaultAuthority.AUTHORITIES.stream()
+      .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+      .toList();
+    SecurityContextHolder.getContext().setAuthentication(new ContextAuthenticationToken(contextUser, authorities));
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    try {
+      UserModelAssembler userModelAssembler = new UserModelAssembler();
+      userModelAssembler.setPagedResourcesAssembler(
+        new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null));
+      UserModelProcessor userModelProcessor = new UserModelProcessor(new UserPreferencesModelProcessor());
+      List<UserModel> users = IntStream.range(0, pageSize).mapToObj(UserPagedModelSerializationBenchmark::user).toList();
+      pagedModel = userModelAssembler.toPagedModel(
+        new PageImpl<>(users, PageRequest.of(0, pageSize), pageSize * 10L));
+      pagedModel.getContent().forEach(userModelProcessor::process);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  @Benchmark
+  public byte[] writeValueAsBytes() throws Exception {
+    return objectMapper.writeValueAsBytes(pagedModel);
+  }
+
+  private static UserModel user(int index) {
+    return UserModel.builder()
+      .id(UuidUtils.randomUUID())
+      .username("user" + index)
+      .email("user" + index + "@kurama.dev")
+      .firstname("First" + index)
+      .lastname("Last" + index)
+      .profileImageUrl("https://kurama.dev/user" + index + ".png")
+      .joinDate(new Date())
+      .lastLoginDateDisplay(new Date())
+      .active(true)
+      .userPreferences(UserPreferencesModel.builder().id(UuidUtils.randomUUID()).build())
+      .build();
+  }
+}
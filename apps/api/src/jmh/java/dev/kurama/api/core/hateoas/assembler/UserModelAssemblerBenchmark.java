@@ -0,0 +1,128 @@
+package dev.kurama.api.core.hateoas.assembler;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.filter.ContextAuthenticationToken;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.hateoas.model.UserModel;
+import dev.kurama.api.core.hateoas.model.UserPreferencesModel;
+import dev.kurama.api.core.hateoas.processor.UserModelProcessor;
+import dev.kurama.api.core.hateoas.processor.UserPreferencesModelProcessor;
+import dev.kurama.api.core.utility.LinkTemplateUtils;
+import dev.kurama.api.core.utility.UuidUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserModelAssemblerBenchmark {
+
+  @Param({"1000"})
+  private int pageSize;
+
+  @Param({"request", "none"})
+  private String linkTemplateScope;
+
+  private UserModelAssembler userModelAssembler;
+
+  private UserModelProcessor userModelProcessor;
+
+  private List<UserModel> users;
+
+  @Setup
+  public void setUp() {
+    userModelAssembler = new UserModelAssembler();
+    userModelAssembler.setPagedResourcesAssembler(
+      new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null));
+    userModelProcessor = new UserModelProcessor(new UserPreferencesModelProcessor());
+    ContextUser contextUser = ContextUser.builder().id(UuidUtils.randomUUID()).username("benchmark").build();
+    List<GrantedAuthority> authorities = DefaultAuthority.AUTHORITIES.stream()
+      .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+      .toList();
+    SecurityContextHolder.getContext().setAuthentication(new ContextAuthenticationToken(contextUser, authorities));
+    users = IntStream.range(0, pageSize)
+      .mapToObj(i -> UserModel.builder()
+        .id(UuidUtils.randomUUID())
+        .username(UuidUtils.randomUUID())
+        .userPreferences(UserPreferencesModel.builder().id(UuidUtils.randomUUID()).build())
+        .build())
+      .toList();
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpRequest() {
+    RequestContextHolder.setRequestAttributes("request".equals(linkTemplateScope)
+      ? new ServletRequestAttributes(new MockHttpServletRequest())
+      : new UncachedRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDownRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @TearDown
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public PagedModel<UserModel> toPagedModel() {
+    Page<UserModel> page = new PageImpl<>(users.stream().map(UserModelAssemblerBenchmark::copy).toList(),
+      PageRequest.of(0, pageSize), pageSize * 10L);
+    PagedModel<UserModel> pagedModel = userModelAssembler.toPagedModel(page);
+    pagedModel.getContent().forEach(userModelProcessor::process);
+    return pagedModel;
+  }
+
+  private static UserModel copy(UserModel source) {
+    return UserModel.builder()
+      .id(source.getId())
+      .username(source.getUsername())
+      .userPreferences(UserPreferencesModel.builder().id(source.getUserPreferences().getId()).build())
+      .build();
+  }
+
+  private static class UncachedRequestAttributes extends ServletRequestAttributes {
+
+    UncachedRequestAttributes(MockHttpServletRequest request) {
+      super(request);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value, int scope) {
+      if (!name.startsWith(LinkTemplateUtils.class.getName())) {
+        super.setAttribute(name, value, scope);
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package dev.kurama.api.core.hateoas.processor;
+
+import static dev.kurama.api.core.authority.UserAuthority.USER_DELETE;
+import static dev.kurama.api.core.authority.UserAuthority.USER_READ;
+import static dev.kurama.api.core.authority.UserAuthority.USER_UPDATE;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.filter.ContextAuthenticationToken;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.hateoas.model.UserModel;
+import dev.kurama.api.core.hateoas.model.UserPreferencesModel;
+import dev.kurama.api.core.utility.AuthorityUtils;
+import dev.kurama.api.core.utility.UuidUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserModelProcessorBenchmark {
+
+  @Param({"interned", "list"})
+  private String authentication;
+
+  private UserModelProcessor userModelProcessor;
+
+  private List<UserModel> page;
+
+  private List<GrantedAuthority> authorities;
+
+  @Setup
+  public void setUp() {
+    userModelProcessor = new UserModelProcessor(new UserPreferencesModelProcessor());
+    ContextUser contextUser = ContextUser.builder().id(UuidUtils.randomUUID()).username("benchmark").build();
+    authorities = DefaultAuthority.AUTHORITIES.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+    SecurityContextHolder.getContext()
+      .setAuthentication("interned".equals(authentication)
+        ? new ContextAuthenticationToken(contextUser, authorities)
+        : new UsernamePasswordAuthenticationToken(contextUser, null, authorities));
+    page = IntStream.range(0, 100).mapToObj(i -> newUserModel()).toList();
+  }
+
+  @TearDown
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public void processPage(Blackhole blackhole) {
+    for (UserModel userModel : page) {
+      blackhole.consume(userModelProcessor.process(newUserModel(userModel)));
+    }
+  }
+
+  @Benchmark
+  public boolean hasAuthority() {
+    return AuthorityUtils.hasAuthority(USER_READ) && AuthorityUtils.hasAnyAuthority(USER_DELETE, USER_UPDATE);
+  }
+
+  @Benchmark
+  public boolean hasAuthorityWithGrantedAuthorityLookup() {
+    return authorities.contains(new SimpleGrantedAuthority(USER_READ)) && (
+      authorities.contains(new SimpleGrantedAuthority(USER_DELETE)) || authorities.contains(
+        new SimpleGrantedAuthority(USER_UPDATE)));
+  }
+
+  private static UserModel newUserModel() {
+    return UserModel.builder()
+      .id(UuidUtils.randomUUID())
+      .username(UuidUtils.randomUUID())
+      .userPreferences(UserPreferencesModel.builder().id(UuidUtils.randomUUID()).build())
+      .build();
+  }
+
+  private static UserModel newUserModel(UserModel source) {
+    return UserModel.builder()
+      .id(source.getId())
+      .username(source.getUsername())
+      .userPreferences(UserPreferencesModel.builder().id(source.getUserPreferences().getId()).build())
+      .build();
+  }
+}
@@ -0,0 +1,75 @@
+package dev.kurama.api.core.hateoas.root.processor;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.filter.ContextAuthenticationToken;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.hateoas.root.model.RootResource;
+import dev.kurama.api.core.utility.UuidUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RootResourceAssemblerBenchmark {
+
+  @Param({"anonymous", "authenticated"})
+  private String authentication;
+
+  private RootResourceAssembler rootResourceAssembler;
+
+  @Setup
+  public void setUp() {
+    rootResourceAssembler = new RootResourceAssembler();
+    if ("authenticated".equals(authentication)) {
+      ContextUser contextUser = ContextUser.builder().id(UuidUtils.randomUUID()).username("benchmark").build();
+      List<GrantedAuthority> authorities = DefaultAuthority.AUTHORITIES.stream()
+        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+        .toList();
+      SecurityContextHolder.getContext().setAuthentication(new ContextAuthenticationToken(contextUser, authorities));
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpRequest() {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDownRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @TearDown
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public RepresentationModel<RootResource> assemble() {
+    return rootResourceAssembler.assemble();
+  }
+}
@@ -0,0 +1,98 @@
+package dev.kurama.api.core.mapper;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.domain.Authority;
+import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.UserPreferences;
+import dev.kurama.api.core.hateoas.model.UserModel;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+  @Param({"20"})
+  private int pageSize;
+
+  private AnnotationConfigApplicationContext context;
+
+  private UserMapper userMapper;
+
+  private User user;
+
+  private Page<User> page;
+
+  @Setup
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext(AuthorityMapperImpl.class, RoleMapperImpl.class,
+      UserPreferencesMapperImpl.class, UserMapperImpl.class);
+    userMapper = context.getBean(UserMapper.class);
+    Set<Authority> authorities = DefaultAuthority.AUTHORITIES.stream()
+      .map(name -> Authority.builder().setRandomUUID().name(name).build())
+      .collect(Collectors.toSet());
+    Role role = Role.builder().setRandomUUID().name(DefaultAuthority.DEFAULT_ROLE).authorities(authorities).build();
+    List<User> users = IntStream.range(0, pageSize).mapToObj(i -> user(role, authorities, i)).toList();
+    user = users.get(0);
+    page = new PageImpl<>(users, PageRequest.of(0, pageSize), pageSize * 10L);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public UserModel userToUserModel() {
+    return userMapper.userToUserModel(user);
+  }
+
+  @Benchmark
+  public Page<UserModel> userPageToUserModelPage() {
+    return userMapper.userPageToUserModelPage(page);
+  }
+
+  private static User user(Role role, Set<Authority> authorities, int index) {
+    User user = User.builder()
+      .setRandomUUID()
+      .username("user" + index)
+      .email("user" + index + "@kurama.dev")
+      .firstname("First" + index)
+      .lastname("Last" + index)
+      .profileImageUrl("https://kurama.dev/user" + index + ".png")
+      .joinDate(new Date())
+      .lastLoginDate(new Date())
+      .lastLoginDateDisplay(new Date())
+      .role(role)
+      .authorities(authorities)
+      .active(true)
+      .build();
+    user.setUserPreferences(UserPreferences.builder().setRandomUUID().user(user).build());
+    return user;
+  }
+}
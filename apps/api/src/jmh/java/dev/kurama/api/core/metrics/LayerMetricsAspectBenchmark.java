@@ -0,0 +1,80 @@
+package dev.kurama.api.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LayerMetricsAspectBenchmark {
+
+  private AnnotationConfigApplicationContext context;
+
+  private BenchmarkFacade plainFacade;
+
+  private BenchmarkFacade timedFacade;
+
+  @Setup
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext(BenchmarkConfig.class, LayerMetricsAspect.class);
+    plainFacade = new BenchmarkFacade();
+    timedFacade = context.getBean("benchmarkFacade", BenchmarkFacade.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String plainCall() {
+    return plainFacade.getName("plain");
+  }
+
+  @Benchmark
+  public String timedCall() {
+    return timedFacade.getName("timed");
+  }
+
+  @Configuration
+  @EnableAspectJAutoProxy
+  public static class BenchmarkConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+      return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    }
+
+    @Bean
+    public BenchmarkFacade benchmarkFacade() {
+      return new BenchmarkFacade();
+    }
+  }
+
+  public static class BenchmarkFacade {
+
+    public String getName(String name) {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package dev.kurama.api.core.utility;
+
+import static com.google.common.collect.Sets.newHashSet;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.domain.Authority;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.repository.JWTSecretRepository;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTTokenProviderBenchmark {
+
+  private static final String SECRET = "benchmark-secret";
+
+  private JWTTokenProvider jwtTokenProvider;
+
+  private UserPrincipal userPrincipal;
+
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = new JWTTokenProvider(Mockito.mock(JWTSecretRepository.class));
+    ReflectionTestUtils.setField(jwtTokenProvider, "SECRET", SECRET);
+    ReflectionTestUtils.setField(jwtTokenProvider, "TOKEN_LIFE_SPAN", 300_000L);
+    ReflectionTestUtils.setField(jwtTokenProvider, "REFRESH_TOKEN_LIFE_SPAN", 3_600_000L);
+    jwtTokenProvider.initializeKeyring();
+
+    User user = User.builder()
+      .setRandomUUID()
+      .username("benchmark")
+      .authorities(newHashSet(Authority.builder().setRandomUUID().name("user:read").build(),
+        Authority.builder().setRandomUUID().name("user:update").build(),
+        Authority.builder().setRandomUUID().name("profile:read").build()))
+      .build();
+    userPrincipal = new UserPrincipal(user);
+    token = jwtTokenProvider.generateToken(userPrincipal);
+  }
+
+  @Benchmark
+  public String sign() {
+    return jwtTokenProvider.generateToken(userPrincipal);
+  }
+
+  @Benchmark
+  public DecodedJWT verify() {
+    return jwtTokenProvider.getDecodedJWT(token);
+  }
+
+  @Benchmark
+  public DecodedJWT verifyWithRebuiltVerifier() {
+    return JWT.require(Algorithm.HMAC512(SECRET)).withIssuer(SecurityConstant.AUTH_ISSUER).build().verify(token);
+  }
+}
@@ -0,0 +1,99 @@
+package dev.kurama.api.ttt.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicTacToeBoardBenchmark {
+
+  private static final String[] ALL_CELLS = {"A1", "A2", "A3", "B1", "B2", "B3", "C1", "C2", "C3"};
+
+  private final String[] boards = {"_________", "XO_XO_X__", "XXOOOXXXO", "XOXO_OXOX", "O___X____", "XO_OX___X"};
+
+  private TicTacToeBoard[] bitboards;
+
+  @Setup
+  public void setUp() {
+    bitboards = new TicTacToeBoard[boards.length];
+    for (int i = 0; i < boards.length; i++) {
+      bitboards[i] = TicTacToeBoard.of(boards[i]);
+    }
+  }
+
+  @Benchmark
+  public void legacyIsGameOver(Blackhole blackhole) {
+    for (String board : boards) {
+      blackhole.consume(legacyIsGameWon(board) || !board.contains("_"));
+    }
+  }
+
+  @Benchmark
+  public void bitboardIsGameOver(Blackhole blackhole) {
+    for (TicTacToeBoard board : bitboards) {
+      blackhole.consume(board.isOver());
+    }
+  }
+
+  @Benchmark
+  public void stringBoardIsGameOver(Blackhole blackhole) {
+    for (String board : boards) {
+      blackhole.consume(TicTacToeUtils.isGameOver(board));
+    }
+  }
+
+  @Benchmark
+  public void legacyPossibleMoves(Blackhole blackhole) {
+    for (String board : boards) {
+      List<String> moves = new ArrayList<>();
+      for (int i = 0; i < board.length(); i++) {
+        if (board.charAt(i) == '_') {
+          moves.add(ALL_CELLS[i]);
+        }
+      }
+      blackhole.consume(moves);
+    }
+  }
+
+  @Benchmark
+  public void bitboardPossibleMoves(Blackhole blackhole) {
+    for (TicTacToeBoard board : bitboards) {
+      for (int moves = board.getEmpty(); moves != 0; moves &= moves - 1) {
+        blackhole.consume(Integer.numberOfTrailingZeros(moves));
+      }
+    }
+  }
+
+  private static boolean legacyIsGameWon(String board) {
+    for (int i = 0; i < 9; i += 3) {
+      if (board.charAt(i) != '_' && board.charAt(i) == board.charAt(i + 1) && board.charAt(i) == board.charAt(i + 2)) {
+        return true;
+      }
+    }
+    for (int i = 0; i < 3; i++) {
+      if (board.charAt(i) != '_' && board.charAt(i) == board.charAt(i + 3) && board.charAt(i) == board.charAt(i + 6)) {
+        return true;
+      }
+    }
+    if (board.charAt(0) != '_' && board.charAt(0) == board.charAt(4) && board.charAt(0) == board.charAt(8)) {
+      return true;
+    }
+    return board.charAt(2) != '_' && board.charAt(2) == board.charAt(4) && board.charAt(2) == board.charAt(6);
+  }
+}
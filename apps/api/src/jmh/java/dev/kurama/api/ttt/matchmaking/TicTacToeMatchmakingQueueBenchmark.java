@@ -0,0 +1,77 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TicTacToeMatchmakingQueueBenchmark {
+
+  @Param({"100000"})
+  private int players;
+
+  private final LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  private TicTacToePlayer[] pool;
+
+  private TicTacToeMatchmakingQueue queue;
+
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUpPool() {
+    Random random = new Random(42);
+    pool = new TicTacToePlayer[players * 2];
+    for (int i = 0; i < pool.length; i++) {
+      int rating = (int) Math.max(0, Math.min(4000, Math.round(1200 + random.nextGaussian() * 300)));
+      pool[i] = TicTacToePlayer.builder().id("player-" + i).username("user-" + i).rating(rating).build();
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpQueue() {
+    queue = new TicTacToeMatchmakingQueue(50, 25, 400);
+    for (int i = 0; i < players; i++) {
+      queue.enqueue(pool[i], now.minusSeconds(i % 30));
+    }
+    next = 0;
+  }
+
+  @Benchmark
+  public void pairAll(Blackhole blackhole) {
+    blackhole.consume(queue.pair(now, Integer.MAX_VALUE));
+  }
+
+  @Benchmark
+  public void pairBatch(Blackhole blackhole) {
+    blackhole.consume(queue.pair(now, 100));
+  }
+
+  @Benchmark
+  public void enqueueAndDequeueChurn(Blackhole blackhole) {
+    for (int i = 0; i < 10000; i++) {
+      blackhole.consume(queue.enqueue(pool[players + next], now));
+      blackhole.consume(queue.dequeue(pool[next].getId()));
+      next++;
+    }
+  }
+}
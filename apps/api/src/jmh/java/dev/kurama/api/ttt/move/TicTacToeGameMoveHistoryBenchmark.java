@@ -0,0 +1,114 @@
+package dev.kurama.api.ttt.move;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.mockito.Mockito.mock;
+
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
+import dev.kurama.api.ttt.game.TicTacToeGame;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.game.TicTacToeGameRepository;
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicTacToeGameMoveHistoryBenchmark {
+
+  private static final int[] CELLS = {4, 0, 8, 2, 6, 3, 5, 7, 1};
+
+  private TicTacToeGameMoveService service;
+
+  private TicTacToeGame packedGame;
+
+  private Set<TicTacToeGameMove> moveRows;
+
+  @Setup
+  public void setUp() {
+    service = new TicTacToeGameMoveService(mock(TicTacToeGameRepository.class), mock(TicTacToePlayerRepository.class));
+    TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("player-x").build();
+    TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("player-o").build();
+    LocalDateTime startedAt = LocalDateTime.now();
+    packedGame = TicTacToeGame.builder()
+      .setRandomUUID()
+      .playerX(playerX)
+      .playerO(playerO)
+      .status(Status.FINISHED)
+      .startedAt(startedAt)
+      .moveHistory(packMoves().toBytes())
+      .build();
+    moveRows = rowMoves(packedGame);
+  }
+
+  @Benchmark
+  public void writePackedHistory(Blackhole blackhole) {
+    blackhole.consume(packMoves().toBytes());
+  }
+
+  @Benchmark
+  public void writeMoveRows(Blackhole blackhole) {
+    blackhole.consume(rowMoves(packedGame));
+  }
+
+  @Benchmark
+  public void readPackedHistory(Blackhole blackhole) {
+    blackhole.consume(service.getMoves(packedGame));
+  }
+
+  @Benchmark
+  public void readMoveRows(Blackhole blackhole) {
+    blackhole.consume(moveRows.stream().sorted(Comparator.comparingInt(TicTacToeGameMove::getNumber)).toList());
+  }
+
+  private static TicTacToeMoveHistory packMoves() {
+    TicTacToeMoveHistory history = TicTacToeMoveHistory.EMPTY;
+    for (int number = 0; number < CELLS.length; number++) {
+      history = history.append(CELLS[number], 1000L + number);
+    }
+    return history;
+  }
+
+  private static Set<TicTacToeGameMove> rowMoves(TicTacToeGame game) {
+    Set<TicTacToeGameMove> moves = new HashSet<>();
+    TicTacToeBoard board = TicTacToeBoard.EMPTY;
+    LocalDateTime movedAt = game.getStartedAt();
+    for (int number = 0; number < CELLS.length; number++) {
+      Token token = number % 2 == 0 ? Token.X : Token.O;
+      board = board.move(CELLS[number], token);
+      movedAt = movedAt.plusNanos((1000L + number) * 1_000_000);
+      moves.add(TicTacToeGameMove.builder()
+        .id(randomUUID())
+        .cell(TicTacToeBoard.getCell(CELLS[number]))
+        .token(token)
+        .board(board.toString())
+        .number(number + 1)
+        .game(game)
+        .player(token == Token.X ? game.getPlayerX() : game.getPlayerO())
+        .movedAt(movedAt)
+        .moveTime(1000L + number)
+        .build());
+    }
+    return moves;
+  }
+}
@@ -25,6 +25,7 @@ public class DefaultAuthority {
 
 
   public static final List<String> AUTHORITIES = Lists.newArrayList(TokenAuthority.TOKEN_REFRESH,
+    TokenAuthority.TOKEN_ROTATE,
 
     ProfileAuthority.PROFILE_UPDATE, ProfileAuthority.PROFILE_READ, ProfileAuthority.PROFILE_DELETE,
 
@@ -43,6 +44,8 @@ public class DefaultAuthority {
 
     ServiceLogsAuthority.SERVICE_LOGS_READ, ServiceLogsAuthority.SERVICE_LOGS_DELETE,
 
+    MetricsAuthority.METRICS_READ,
+
     GlobalSettingsAuthority.GLOBAL_SETTINGS_READ, GlobalSettingsAuthority.GLOBAL_SETTINGS_UPDATE,
 
     ThemeAuthority.THEME_UPDATE,
@@ -0,0 +1,13 @@
+package dev.kurama.api.core.authority;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component("MetricsAuthority")
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetricsAuthority {
+
+  public static final String METRICS_READ = "metrics:read";
+
+}
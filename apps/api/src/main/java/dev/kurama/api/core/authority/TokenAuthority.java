@@ -9,4 +9,5 @@ import org.springframework.stereotype.Component;
 public class TokenAuthority {
 
   public static final String TOKEN_REFRESH = "token:refresh";
+  public static final String TOKEN_ROTATE = "token:rotate";
 }
@@ -0,0 +1,126 @@
+package dev.kurama.api.core.configuration;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.kurama.api.core.properties.AsyncProperties;
+import dev.kurama.api.core.properties.AsyncProperties.ExecutorProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.flogger.Flogger;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Flogger
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AsyncProperties.class)
+public class AsyncConfiguration implements AsyncConfigurer {
+
+  public static final String COMMON_TASK_EXECUTOR = "commonTaskExecutor";
+  public static final String MAIL_TASK_EXECUTOR = "mailTaskExecutor";
+  public static final String WEBSOCKET_TASK_EXECUTOR = "websocketTaskExecutor";
+
+  public static final String REJECTED_METRIC = "executor.rejected";
+
+  private static final List<String> EXECUTOR_NAMES = List.of(COMMON_TASK_EXECUTOR, MAIL_TASK_EXECUTOR,
+    WEBSOCKET_TASK_EXECUTOR);
+
+  @NonNull
+  private final AsyncProperties asyncProperties;
+
+  private final Map<String, AtomicLong> rejectedTasks = new ConcurrentHashMap<>();
+
+  @Bean(COMMON_TASK_EXECUTOR)
+  public AsyncTaskExecutor commonTaskExecutor() {
+    return createTaskExecutor("common", asyncProperties.getCommon(), discardPolicy(COMMON_TASK_EXECUTOR));
+  }
+
+  @Bean(MAIL_TASK_EXECUTOR)
+  public AsyncTaskExecutor mailTaskExecutor() {
+    return createTaskExecutor("mail", asyncProperties.getMail(), callerRunsPolicy(MAIL_TASK_EXECUTOR));
+  }
+
+  @Bean(WEBSOCKET_TASK_EXECUTOR)
+  public AsyncTaskExecutor websocketTaskExecutor() {
+    return createTaskExecutor("websocket", asyncProperties.getWebsocket(), discardPolicy(WEBSOCKET_TASK_EXECUTOR));
+  }
+
+  @Bean
+  public MeterBinder taskExecutorRejectionMetrics() {
+    return registry -> EXECUTOR_NAMES.forEach(
+      name -> FunctionCounter.builder(REJECTED_METRIC, getRejectedTasks(name), AtomicLong::get)
+        .tag("name", name)
+        .register(registry));
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    return commonTaskExecutor();
+  }
+
+  @Override
+  public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+    return (exception, method, params) -> log.atWarning()
+      .withCause(exception)
+      .log("Async execution of %s failed", method.getName());
+  }
+
+  public long getRejectedTaskCount(@NonNull String name) {
+    return getRejectedTasks(name).get();
+  }
+
+  private AtomicLong getRejectedTasks(String name) {
+    return rejectedTasks.computeIfAbsent(name, key -> new AtomicLong());
+  }
+
+  private AsyncTaskExecutor createTaskExecutor(String name, ExecutorProperties properties,
+                                               RejectedExecutionHandler rejectedExecutionHandler) {
+    if (asyncProperties.isVirtualThreads()) {
+      SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(name + "-");
+      taskExecutor.setVirtualThreads(true);
+      taskExecutor.setConcurrencyLimit(properties.getMaxSize() + properties.getQueueCapacity());
+      return taskExecutor;
+    }
+    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setThreadNamePrefix(name + "-");
+    taskExecutor.setCorePoolSize(properties.getCoreSize());
+    taskExecutor.setMaxPoolSize(properties.getMaxSize());
+    taskExecutor.setQueueCapacity(properties.getQueueCapacity());
+    taskExecutor.setRejectedExecutionHandler(rejectedExecutionHandler);
+    taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    taskExecutor.setAwaitTerminationSeconds(10);
+    return taskExecutor;
+  }
+
+  private RejectedExecutionHandler discardPolicy(String name) {
+    AtomicLong rejected = getRejectedTasks(name);
+    return (runnable, executor) -> {
+      rejected.incrementAndGet();
+      log.atWarning().atMostEvery(10, SECONDS).log("Discarded task, %s executor is saturated", name);
+    };
+  }
+
+  private RejectedExecutionHandler callerRunsPolicy(String name) {
+    AtomicLong rejected = getRejectedTasks(name);
+    RejectedExecutionHandler callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+    return (runnable, executor) -> {
+      rejected.incrementAndGet();
+      callerRunsPolicy.rejectedExecution(runnable, executor);
+    };
+  }
+}
@@ -0,0 +1,38 @@
+package dev.kurama.api.core.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration implements SchedulingConfigurer {
+
+  public static final String SCHEDULING_TASK_SCHEDULER = "schedulingTaskScheduler";
+  public static final String DISPATCHER_TASK_SCHEDULER = "dispatcherTaskScheduler";
+
+  @Bean(SCHEDULING_TASK_SCHEDULER)
+  public ThreadPoolTaskScheduler schedulingTaskScheduler() {
+    ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    taskScheduler.setThreadNamePrefix("scheduling-");
+    taskScheduler.setPoolSize(2);
+    return taskScheduler;
+  }
+
+  @Bean(DISPATCHER_TASK_SCHEDULER)
+  public ThreadPoolTaskScheduler dispatcherTaskScheduler() {
+    ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    taskScheduler.setThreadNamePrefix("dispatcher-");
+    taskScheduler.setPoolSize(1);
+    taskScheduler.setDaemon(true);
+    return taskScheduler;
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.setTaskScheduler(schedulingTaskScheduler());
+  }
+}
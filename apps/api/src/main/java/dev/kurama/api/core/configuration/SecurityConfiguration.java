@@ -1,5 +1,6 @@
 package dev.kurama.api.core.configuration;
 
+import dev.kurama.api.core.authority.MetricsAuthority;
 import dev.kurama.api.core.filter.JWTAccessDeniedHandler;
 import dev.kurama.api.core.filter.JWTAuthenticationEntryPoint;
 import dev.kurama.api.core.filter.JWTAuthorizationFilter;
@@ -7,6 +8,9 @@ import dev.kurama.api.core.properties.ApplicationProperties;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -64,6 +68,8 @@ public class SecurityConfiguration {
       .authorizeHttpRequests()
       .requestMatchers(applicationProperties.getPublicUrls())
       .permitAll()
+      .requestMatchers(EndpointRequest.to(MetricsEndpoint.class, PrometheusScrapeEndpoint.class))
+      .hasAuthority(MetricsAuthority.METRICS_READ)
       .anyRequest()
       .authenticated()
       .and()
@@ -6,6 +6,7 @@ import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_PATH
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.google.common.net.HttpHeaders;
 import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.metrics.StompMetricsInterceptor;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import java.util.List;
 import lombok.NonNull;
@@ -33,16 +34,21 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
   @NonNull
   private final JWTTokenProvider jwtTokenProvider;
 
+  @NonNull
+  private final StompMetricsInterceptor stompMetricsInterceptor;
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
     config.enableSimpleBroker(ROOT_WEBSOCKET_CHANNEL);
     config.setApplicationDestinationPrefixes("/ws/");
+    config.configureBrokerChannel().interceptors(stompMetricsInterceptor);
   }
 
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint(ROOT_WEBSOCKET_PATH).setAllowedOrigins("*");
     registry.addEndpoint(ROOT_WEBSOCKET_PATH).setAllowedOrigins("*").withSockJS();
+    registry.setPreserveReceiveOrder(true);
   }
 
   @Override
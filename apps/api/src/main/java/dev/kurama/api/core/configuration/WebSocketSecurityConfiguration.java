@@ -3,7 +3,9 @@ package dev.kurama.api.core.configuration;
 import dev.kurama.api.core.authority.GlobalSettingsAuthority;
 import dev.kurama.api.core.authority.ProfileAuthority;
 import dev.kurama.api.core.authority.RoleAuthority;
+import dev.kurama.api.core.authority.ServiceLogsAuthority;
 import dev.kurama.api.core.authority.UserAuthority;
+import dev.kurama.api.ttt.core.TicTacToeAuthority;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.security.config.annotation.web.messaging.MessageSecurityMetadataSourceRegistry;
@@ -27,6 +29,10 @@ public class WebSocketSecurityConfiguration extends AbstractSecurityWebSocketMes
       .hasAuthority(RoleAuthority.ROLE_READ)
       .simpSubscribeDestMatchers("/ami/global-settings")
       .hasAuthority(GlobalSettingsAuthority.GLOBAL_SETTINGS_READ)
+      .simpSubscribeDestMatchers("/ami/service-logs")
+      .hasAuthority(ServiceLogsAuthority.SERVICE_LOGS_READ)
+      .simpMessageDestMatchers("/ws/tic-tac-toe/**")
+      .hasAuthority(TicTacToeAuthority.TIC_TAC_TOE_ROOT)
       .anyMessage()
       .authenticated();
   }
@@ -0,0 +1,141 @@
+package dev.kurama.api.core.event.dispatcher;
+
+import dev.kurama.api.core.event.domain.ApplicationEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+
+@Flogger
+public abstract class CoalescingEventDispatcher<E extends ApplicationEvent> implements MeterBinder, DisposableBean {
+
+  public static final String METRIC_PREFIX = "websocket.dispatcher";
+
+  private final String name;
+
+  private final Duration window;
+
+  private final int maxBatchSize;
+
+  private final TaskScheduler scheduler;
+
+  private final Object lock = new Object();
+
+  private final Object deliveryLock = new Object();
+
+  private Map<String, E> pending = new LinkedHashMap<>();
+
+  private final AtomicLong received = new AtomicLong();
+
+  private final AtomicLong dispatched = new AtomicLong();
+
+  private final AtomicLong batches = new AtomicLong();
+
+  protected CoalescingEventDispatcher(@NonNull String name, @NonNull TaskScheduler scheduler, long windowMillis,
+                                      int maxBatchSize) {
+    if (windowMillis < 0 || maxBatchSize < 1) {
+      throw new IllegalArgumentException("Invalid dispatcher window");
+    }
+    this.name = name;
+    this.window = Duration.ofMillis(windowMillis);
+    this.maxBatchSize = maxBatchSize;
+    this.scheduler = scheduler;
+  }
+
+  protected abstract String getKey(E event);
+
+  protected abstract E merge(E previous, E next);
+
+  protected abstract void deliver(List<E> events);
+
+  public void dispatch(@NonNull E event) {
+    received.incrementAndGet();
+    boolean schedule;
+    boolean full;
+    synchronized (lock) {
+      schedule = pending.isEmpty();
+      pending.merge(getKey(event), event, this::merge);
+      full = pending.size() == maxBatchSize;
+    }
+    if (full) {
+      scheduler.schedule(this::flushQuietly, Instant.now());
+    } else if (schedule) {
+      scheduler.schedule(this::flushQuietly, Instant.now().plus(window));
+    }
+  }
+
+  public void flush() {
+    synchronized (deliveryLock) {
+      List<E> events;
+      synchronized (lock) {
+        if (pending.isEmpty()) {
+          return;
+        }
+        events = new ArrayList<>(pending.values());
+        pending = new LinkedHashMap<>();
+      }
+      try {
+        deliver(events);
+      } catch (RuntimeException exception) {
+        requeue(events);
+        throw exception;
+      }
+      dispatched.addAndGet(events.size());
+      batches.incrementAndGet();
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException exception) {
+      log.atWarning().withCause(exception).log("Dispatching %s events failed, keeping them for the next flush", name);
+    }
+  }
+
+  private void requeue(List<E> events) {
+    synchronized (lock) {
+      Map<String, E> requeued = new LinkedHashMap<>();
+      events.forEach(event -> requeued.put(getKey(event), event));
+      pending.forEach((key, event) -> requeued.merge(key, event, this::merge));
+      pending = requeued;
+    }
+  }
+
+  public double getCoalesceRatio() {
+    long receivedCount = received.get();
+    return receivedCount == 0 ? 0 : 1 - (double) dispatched.get() / receivedCount;
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    FunctionCounter.builder(METRIC_PREFIX + ".received", received, AtomicLong::get)
+      .tag("dispatcher", name)
+      .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + ".dispatched", dispatched, AtomicLong::get)
+      .tag("dispatcher", name)
+      .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + ".batches", batches, AtomicLong::get)
+      .tag("dispatcher", name)
+      .register(registry);
+    Gauge.builder(METRIC_PREFIX + ".coalesce.ratio", this, CoalescingEventDispatcher::getCoalesceRatio)
+      .tag("dispatcher", name)
+      .register(registry);
+  }
+
+  @Override
+  public void destroy() {
+    flushQuietly();
+  }
+}
@@ -0,0 +1,45 @@
+package dev.kurama.api.core.event.dispatcher;
+
+import static dev.kurama.api.core.configuration.SchedulingConfiguration.DISPATCHER_TASK_SCHEDULER;
+
+import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import dev.kurama.api.core.message.RoleChangedMessageSender;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoleChangedEventDispatcher extends CoalescingEventDispatcher<RoleChangedEvent> {
+
+  private final RoleChangedMessageSender roleChangedMessageSender;
+
+  public RoleChangedEventDispatcher(@NonNull RoleChangedMessageSender roleChangedMessageSender,
+                                    @NonNull @Qualifier(DISPATCHER_TASK_SCHEDULER) TaskScheduler scheduler,
+                                    @Value("${application.websocket.dispatch_window:100}") long windowMillis,
+                                    @Value("${application.websocket.dispatch_batch_size:1000}") int maxBatchSize) {
+    super("role", scheduler, windowMillis, maxBatchSize);
+    this.roleChangedMessageSender = roleChangedMessageSender;
+  }
+
+  @Override
+  protected String getKey(RoleChangedEvent event) {
+    return event.getRoleId();
+  }
+
+  @Override
+  protected RoleChangedEvent merge(RoleChangedEvent previous, RoleChangedEvent next) {
+    if (previous.getAction() == RoleChangedEventAction.CREATED && next.getAction() == RoleChangedEventAction.UPDATED) {
+      return previous;
+    }
+    return next;
+  }
+
+  @Override
+  protected void deliver(List<RoleChangedEvent> events) {
+    roleChangedMessageSender.sendRoleChangedMessages(events);
+  }
+}
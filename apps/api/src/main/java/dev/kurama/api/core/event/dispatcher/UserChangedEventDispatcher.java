@@ -0,0 +1,49 @@
+package dev.kurama.api.core.event.dispatcher;
+
+import static dev.kurama.api.core.configuration.SchedulingConfiguration.DISPATCHER_TASK_SCHEDULER;
+
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.message.UserChangedMessageSender;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserChangedEventDispatcher extends CoalescingEventDispatcher<UserChangedEvent> {
+
+  private final UserChangedMessageSender userChangedMessageSender;
+
+  public UserChangedEventDispatcher(@NonNull UserChangedMessageSender userChangedMessageSender,
+                                    @NonNull @Qualifier(DISPATCHER_TASK_SCHEDULER) TaskScheduler scheduler,
+                                    @Value("${application.websocket.dispatch_window:100}") long windowMillis,
+                                    @Value("${application.websocket.dispatch_batch_size:1000}") int maxBatchSize) {
+    super("user", scheduler, windowMillis, maxBatchSize);
+    this.userChangedMessageSender = userChangedMessageSender;
+  }
+
+  @Override
+  protected String getKey(UserChangedEvent event) {
+    return event.getUserId();
+  }
+
+  @Override
+  protected UserChangedEvent merge(UserChangedEvent previous, UserChangedEvent next) {
+    if (previous.getAction() == UserChangedEventAction.CREATED && next.getAction() == UserChangedEventAction.UPDATED) {
+      return UserChangedEvent.builder()
+        .userId(next.getUserId())
+        .username(next.getUsername())
+        .action(UserChangedEventAction.CREATED)
+        .build();
+    }
+    return next;
+  }
+
+  @Override
+  protected void deliver(List<UserChangedEvent> events) {
+    userChangedMessageSender.sendUserChangedMessages(events);
+  }
+}
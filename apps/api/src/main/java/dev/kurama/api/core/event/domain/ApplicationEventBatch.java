@@ -0,0 +1,15 @@
+package dev.kurama.api.core.event.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationEventBatch<T extends ApplicationEvent> implements ApplicationEvent {
+
+  private List<T> events;
+
+}
@@ -0,0 +1,18 @@
+package dev.kurama.api.core.event.domain;
+
+import lombok.Data;
+import lombok.NonNull;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+@Data
+public class RelayedEvent<T extends ApplicationEvent> implements ResolvableTypeProvider {
+
+  @NonNull
+  private final T event;
+
+  @Override
+  public ResolvableType getResolvableType() {
+    return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(event));
+  }
+}
@@ -1,5 +1,6 @@
 package dev.kurama.api.core.event.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -10,6 +11,8 @@ public class UserChangedEvent implements ApplicationEvent {
   private UserChangedEventAction action;
   private String userId;
   private String username;
+  @JsonIgnore
+  private String previousUsername;
 
 
   public enum UserChangedEventAction {
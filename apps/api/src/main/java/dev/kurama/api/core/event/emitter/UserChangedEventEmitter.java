@@ -28,6 +28,15 @@ public class UserChangedEventEmitter {
     emitUserChangedEvent(user, UserChangedEventAction.UPDATED);
   }
 
+  public void emitUserUpdatedEvent(User user, String previousUsername) {
+    applicationEventPublisher.publishEvent(UserChangedEvent.builder()
+      .userId(user.getId())
+      .username(user.getUsername())
+      .previousUsername(previousUsername)
+      .action(UserChangedEventAction.UPDATED)
+      .build());
+  }
+
   public void emitUserDeletedEvent(User user) {
     emitUserChangedEvent(user, UserChangedEventAction.DELETED);
   }
@@ -1,11 +1,11 @@
 package dev.kurama.api.core.event.listener;
 
 import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent;
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.message.GlobalSettingsChangedMessageSender;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,10 +15,9 @@ public class SendMessageOnGlobalSettingsChangedEventListener {
   @NonNull
   private final GlobalSettingsChangedMessageSender globalSettingsChangedMessageSender;
 
-  @Async
   @EventListener
-  public void globalSettingsChangedEvent(@NonNull GlobalSettingsChangedEvent event) {
-    globalSettingsChangedMessageSender.sendGlobalSettingsChangedMessage(event);
+  public void globalSettingsChangedEvent(@NonNull RelayedEvent<GlobalSettingsChangedEvent> event) {
+    globalSettingsChangedMessageSender.sendGlobalSettingsChangedMessage(event.getEvent());
   }
 
 }
@@ -1,11 +1,11 @@
 package dev.kurama.api.core.event.listener;
 
+import dev.kurama.api.core.event.dispatcher.RoleChangedEventDispatcher;
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
-import dev.kurama.api.core.message.RoleChangedMessageSender;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,12 +13,11 @@ import org.springframework.stereotype.Component;
 public class SendMessageOnRoleChangedEventListener {
 
   @NonNull
-  private final RoleChangedMessageSender roleChangedMessageSender;
+  private final RoleChangedEventDispatcher roleChangedEventDispatcher;
 
-  @Async
   @EventListener
-  public void roleChangedEvent(@NonNull RoleChangedEvent event) {
-    roleChangedMessageSender.sendRoleChangedMessage(event);
+  public void roleChangedEvent(@NonNull RelayedEvent<RoleChangedEvent> event) {
+    roleChangedEventDispatcher.dispatch(event.getEvent());
   }
 
 }
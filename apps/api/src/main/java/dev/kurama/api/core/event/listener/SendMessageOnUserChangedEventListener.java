@@ -1,11 +1,11 @@
 package dev.kurama.api.core.event.listener;
 
+import dev.kurama.api.core.event.dispatcher.UserChangedEventDispatcher;
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
-import dev.kurama.api.core.message.UserChangedMessageSender;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,12 +13,11 @@ import org.springframework.stereotype.Component;
 public class SendMessageOnUserChangedEventListener {
 
   @NonNull
-  private final UserChangedMessageSender userChangedMessageSender;
+  private final UserChangedEventDispatcher userChangedEventDispatcher;
 
-  @Async
   @EventListener
-  public void userChangedEvent(@NonNull UserChangedEvent event) {
-    userChangedMessageSender.sendUserChangedMessage(event);
+  public void userChangedEvent(@NonNull RelayedEvent<UserChangedEvent> event) {
+    userChangedEventDispatcher.dispatch(event.getEvent());
   }
 
 }
@@ -1,11 +1,11 @@
 package dev.kurama.api.core.event.listener;
 
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent;
 import dev.kurama.api.core.message.UserPreferencesChangedMessageSender;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,10 +15,9 @@ public class SendMessageOnUserPreferencesChangedEventListener {
   @NonNull
   private final UserPreferencesChangedMessageSender userPreferencesChangedMessageSender;
 
-  @Async
   @EventListener
-  public void userPreferencesChangedEvent(@NonNull UserPreferencesChangedEvent event) {
-    userPreferencesChangedMessageSender.sendUserPreferencesChangedMessage(event);
+  public void userPreferencesChangedEvent(@NonNull RelayedEvent<UserPreferencesChangedEvent> event) {
+    userPreferencesChangedMessageSender.sendUserPreferencesChangedMessage(event.getEvent());
   }
 
 }
@@ -0,0 +1,45 @@
+package dev.kurama.api.core.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.domain.OutboxEvent;
+import dev.kurama.api.core.event.domain.ApplicationEvent;
+import dev.kurama.api.core.repository.OutboxEventRepository;
+import java.util.Date;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventAppender {
+
+  @NonNull
+  private final OutboxEventRepository outboxEventRepository;
+
+  @NonNull
+  private final OutboxEventRelay outboxEventRelay;
+
+  @NonNull
+  private final ObjectMapper objectMapper;
+
+  @Transactional
+  @EventListener
+  public void append(@NonNull ApplicationEvent event) throws JsonProcessingException {
+    outboxEventRepository.save(OutboxEvent.builder()
+      .type(event.getClass().getName())
+      .payload(objectMapper.writeValueAsString(event))
+      .created(new Date())
+      .build());
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        outboxEventRelay.requestRelay();
+      }
+    });
+  }
+}
@@ -0,0 +1,153 @@
+package dev.kurama.api.core.event.outbox;
+
+import static dev.kurama.api.core.configuration.AsyncConfiguration.WEBSOCKET_TASK_EXECUTOR;
+import static dev.kurama.api.core.repository.OutboxEventRepository.RELAY_LOCK;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.domain.OutboxEvent;
+import dev.kurama.api.core.event.dispatcher.CoalescingEventDispatcher;
+import dev.kurama.api.core.event.domain.ApplicationEvent;
+import dev.kurama.api.core.event.domain.RelayedEvent;
+import dev.kurama.api.core.repository.OutboxEventRepository;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Flogger
+@Component
+public class OutboxEventRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  private final ObjectMapper objectMapper;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final TaskExecutor taskExecutor;
+
+  private final List<CoalescingEventDispatcher<?>> dispatchers;
+
+  private final int batchSize;
+
+  private final long retention;
+
+  private final int maxAttempts;
+
+  private final ReentrantLock relayLock = new ReentrantLock();
+
+  private final AtomicBoolean relayRequested = new AtomicBoolean();
+
+  public OutboxEventRelay(@NonNull OutboxEventRepository outboxEventRepository,
+                          @NonNull ApplicationEventPublisher applicationEventPublisher,
+                          @NonNull ObjectMapper objectMapper,
+                          @NonNull TransactionTemplate transactionTemplate,
+                          @NonNull @Qualifier(WEBSOCKET_TASK_EXECUTOR) TaskExecutor taskExecutor,
+                          @NonNull List<CoalescingEventDispatcher<?>> dispatchers,
+                          @Value("${application.outbox.batch_size:500}") int batchSize,
+                          @Value("${application.outbox.retention:86400000}") long retention,
+                          @Value("${application.outbox.max_attempts:5}") int maxAttempts) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.applicationEventPublisher = applicationEventPublisher;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = transactionTemplate;
+    this.taskExecutor = taskExecutor;
+    this.dispatchers = dispatchers;
+    this.batchSize = batchSize;
+    this.retention = retention;
+    this.maxAttempts = maxAttempts;
+  }
+
+  public void requestRelay() {
+    if (relayRequested.compareAndSet(false, true)) {
+      taskExecutor.execute(this::relay);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${application.outbox.poll_interval:1000}")
+  public void relay() {
+    relayRequested.set(false);
+    if (!relayLock.tryLock()) {
+      relayRequested.set(true);
+      return;
+    }
+    try {
+      Integer relayed;
+      do {
+        relayed = transactionTemplate.execute(status -> relayBatch());
+      } while (relayed != null && relayed == batchSize);
+    } catch (RuntimeException exception) {
+      log.atWarning().withCause(exception).log("Dispatching relayed outbox events failed, retrying the batch");
+    } finally {
+      relayLock.unlock();
+    }
+    if (relayRequested.compareAndSet(true, false)) {
+      relay();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${application.outbox.purge_interval:3600000}")
+  public void purge() {
+    Integer purged = transactionTemplate.execute(
+      status -> outboxEventRepository.deletePublishedBefore(new Date(System.currentTimeMillis() - retention)));
+    log.atFine().log("Purged %d published outbox events", purged);
+  }
+
+  private int relayBatch() {
+    // a single relay across nodes keeps batches in id order, the lock is released when the batch commits
+    if (!outboxEventRepository.tryAdvisoryTransactionLock(RELAY_LOCK)) {
+      return 0;
+    }
+    List<OutboxEvent> outboxEvents =
+      outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(batchSize));
+    List<Long> published = new ArrayList<>();
+    int relayed = 0;
+    for (OutboxEvent outboxEvent : outboxEvents) {
+      try {
+        publish(outboxEvent);
+        published.add(outboxEvent.getId());
+      } catch (Exception exception) {
+        int attempts = outboxEvent.getAttempts() + 1;
+        if (attempts < maxAttempts) {
+          log.atWarning().withCause(exception).log("Relaying outbox event %d failed, attempt %d of %d",
+            outboxEvent.getId(), attempts, maxAttempts);
+          outboxEventRepository.markAttempted(outboxEvent.getId(), attempts, null);
+          break;
+        }
+        log.atSevere().withCause(exception).log("Relaying outbox event %d failed %d times, giving up",
+          outboxEvent.getId(), attempts);
+        outboxEventRepository.markAttempted(outboxEvent.getId(), attempts, new Date());
+      }
+      relayed++;
+    }
+    // coalesced senders buffer in memory, deliver before the batch commits so a failure or shutdown retries it
+    dispatchers.forEach(CoalescingEventDispatcher::flush);
+    if (!published.isEmpty()) {
+      outboxEventRepository.markPublished(published, new Date());
+    }
+    return relayed;
+  }
+
+  private void publish(OutboxEvent outboxEvent) throws ClassNotFoundException, JsonProcessingException {
+    Class<?> type = Class.forName(outboxEvent.getType());
+    if (!ApplicationEvent.class.isAssignableFrom(type)) {
+      throw new IllegalArgumentException("Invalid outbox event type " + outboxEvent.getType());
+    }
+    ApplicationEvent event = (ApplicationEvent) objectMapper.readValue(outboxEvent.getPayload(), type);
+    applicationEventPublisher.publishEvent(new RelayedEvent<>(event));
+  }
+}
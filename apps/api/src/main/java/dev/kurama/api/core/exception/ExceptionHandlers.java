@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +31,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -54,6 +56,7 @@ public class ExceptionHandlers {
   private static final String NOT_FOUND_MESSAGE = "Id %s not found";
   private static final String ENTITY_EXISTS_MESSAGE = "%s with unique id: %s already exists";
   private static final String EXISTS_MESSAGE = "Id %s already exists";
+  private static final String CONCURRENT_MODIFICATION = "This resource was modified concurrently. Please try again.";
   private static final String IMMUTABLE_ROLE = "Role %s is immutable";
   private static final String SIGN_UP_CLOSED = "Sign Up is closed, try again later.";
   private static final String FORBIDDEN_REQUEST = "Sorry, you do not have permission to access this resource.";
@@ -62,7 +65,7 @@ public class ExceptionHandlers {
   @ResponseStatus(code = BAD_REQUEST)
   @ExceptionHandler({NullPointerException.class, IllegalArgumentException.class, ConversionFailedException.class,
     MissingServletRequestParameterException.class, UnsupportedOperationException.class,
-    HttpMessageNotReadableException.class})
+    HttpMessageNotReadableException.class, MethodArgumentNotValidException.class})
   public ResponseEntity<DomainResponse> badRequest(Exception exception) {
     return createDomainResponse(BAD_REQUEST, AN_ERROR_HAS_OCCURRED, exception.getMessage());
   }
@@ -123,6 +126,12 @@ public class ExceptionHandlers {
         exception.getMessage()) : format(EXISTS_MESSAGE, exception.getMessage()), "");
   }
 
+  @ResponseStatus(code = CONFLICT)
+  @ExceptionHandler(ConcurrencyFailureException.class)
+  public ResponseEntity<DomainResponse> concurrencyFailureException(ConcurrencyFailureException exception) {
+    return createDomainResponse(CONFLICT, CONCURRENT_MODIFICATION, exception.getMessage());
+  }
+
   @ResponseStatus(code = NOT_FOUND)
   @ExceptionHandler({EntityNotFoundException.class})
   public ResponseEntity<DomainResponse> entityNotFoundException(EntityNotFoundException exception) {
@@ -11,6 +11,7 @@ import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
 import dev.kurama.api.core.hateoas.input.AccountActivationInput;
 import dev.kurama.api.core.hateoas.input.LoginInput;
 import dev.kurama.api.core.hateoas.input.SignupInput;
+import dev.kurama.api.core.hateoas.input.TokenRotationInput;
 import dev.kurama.api.core.hateoas.model.AuthenticatedUserModel;
 import dev.kurama.api.core.mapper.UserMapper;
 import dev.kurama.api.core.service.AuthenticationFacility;
@@ -45,6 +46,10 @@ public class AuthenticationFacade {
     return userMapper.authenticatedUserToModel(authenticationFacility.refreshToken(userId));
   }
 
+  public void rotateSecret(TokenRotationInput tokenRotationInput) {
+    authenticationFacility.rotateSecret(tokenRotationInput.getSecret());
+  }
+
   public void requestActivationToken(String email) throws ActivationTokenRecentException, UserNotFoundException {
     userService.requestActivationTokenByEmail(email);
   }
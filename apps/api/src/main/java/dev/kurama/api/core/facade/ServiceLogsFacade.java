@@ -1,6 +1,9 @@
 package dev.kurama.api.core.facade;
 
+import dev.kurama.api.core.hateoas.input.ServiceLogsSearchInput;
 import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
 import dev.kurama.api.core.service.ServiceLogsService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +20,26 @@ public class ServiceLogsFacade {
     return serviceLogsService.getServiceLogs();
   }
 
+  public ServiceLogsModel getServiceLogsTail(int lines) {
+    return serviceLogsService.getServiceLogsTail(lines);
+  }
+
+  public ServiceLogsModel getServiceLogsAfter(long offset) {
+    return serviceLogsService.getServiceLogsAfter(offset);
+  }
+
+  public ServiceLogsSearchModel searchServiceLogs(ServiceLogsSearchInput input) {
+    return serviceLogsService.searchServiceLogs(input);
+  }
+
+  public ServiceLogsSegmentsModel getServiceLogsSegments() {
+    return serviceLogsService.getServiceLogsSegments();
+  }
+
+  public ServiceLogsModel getServiceLogsSegment(String segment, long offset) {
+    return serviceLogsService.getServiceLogsSegment(segment, offset);
+  }
+
   public ServiceLogsModel deleteServiceLogs() {
     return serviceLogsService.deleteServiceLogs();
   }
@@ -13,12 +13,15 @@ import dev.kurama.api.core.hateoas.model.UserModel;
 import dev.kurama.api.core.mapper.UserMapper;
 import dev.kurama.api.core.service.AuthenticationFacility;
 import dev.kurama.api.core.service.UserService;
+import dev.kurama.api.core.utility.KeysetCursorUtils;
 import java.io.IOException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.apache.tomcat.util.codec.binary.StringUtils;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -53,6 +56,12 @@ public class UserFacade {
       userMapper.userPageToUserModelPage(userService.getAllUsers(pageable, search)));
   }
 
+  public CollectionModel<UserModel> scroll(String after, Pageable pageable, String search) {
+    Sort sort = pageable.getSort();
+    return userModelAssembler.toScrollModel(userMapper.userWindowToUserModelWindow(
+      userService.scrollUsers(KeysetCursorUtils.decode(after, User.class, sort), sort, pageable.getPageSize(), search)));
+  }
+
   public void deleteById(String id) throws UserNotFoundException {
     userService.deleteUserById(id);
   }
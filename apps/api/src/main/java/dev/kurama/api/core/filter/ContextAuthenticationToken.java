@@ -0,0 +1,29 @@
+package dev.kurama.api.core.filter;
+
+import dev.kurama.api.core.utility.AuthoritySet;
+import java.util.Collection;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class ContextAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+  private final AuthoritySet authoritySet;
+
+  public ContextAuthenticationToken(ContextUser contextUser, Collection<? extends GrantedAuthority> authorities) {
+    super(contextUser, null, authorities);
+    this.authoritySet = AuthoritySet.of(getAuthorities());
+  }
+
+  private ContextAuthenticationToken(ContextAuthenticationToken source) {
+    super(source.getPrincipal(), null, source.getAuthorities());
+    this.authoritySet = source.getAuthoritySet();
+  }
+
+  public ContextAuthenticationToken copy() {
+    return new ContextAuthenticationToken(this);
+  }
+}
@@ -0,0 +1,89 @@
+package dev.kurama.api.core.filter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Date;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JWTAuthenticationCache implements MeterBinder {
+
+  public static final String CACHE_NAME = "jwt.authentication";
+
+  private final Cache<String, CachedAuthentication> cache;
+
+  public JWTAuthenticationCache(@Value("${application.jwt.cache_size:1000}") long maximumSize,
+                                @Value("${application.jwt.refresh_life}") long maximumLifeSpan) {
+    this.cache = CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(maximumLifeSpan, MILLISECONDS)
+      .recordStats()
+      .build();
+  }
+
+  public Optional<Authentication> getAuthentication(@NonNull String token, HttpServletRequest request) {
+    String key = digest(token);
+    CachedAuthentication cached = cache.getIfPresent(key);
+    if (cached == null) {
+      return Optional.empty();
+    }
+    if (cached.isExpired(getCurrentTimeMillis())) {
+      cache.invalidate(key);
+      return Optional.empty();
+    }
+    ContextAuthenticationToken authenticationToken = cached.authentication().copy();
+    if (request != null) {
+      authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    }
+    return Optional.of(authenticationToken);
+  }
+
+  public void putAuthentication(@NonNull String token, @NonNull Date expiresAt,
+                                @NonNull Authentication authentication) {
+    ContextAuthenticationToken authenticationToken = authentication instanceof ContextAuthenticationToken contextToken
+      ? contextToken
+      : new ContextAuthenticationToken((ContextUser) authentication.getPrincipal(), authentication.getAuthorities());
+    cache.put(digest(token), new CachedAuthentication(authenticationToken, expiresAt.getTime()));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  public long getCurrentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  private String digest(String token) {
+    return Hashing.sha256().hashString(token, UTF_8).toString();
+  }
+
+  private record CachedAuthentication(ContextAuthenticationToken authentication, long expiresAt) {
+
+    boolean isExpired(long now) {
+      return expiresAt <= now;
+    }
+  }
+}
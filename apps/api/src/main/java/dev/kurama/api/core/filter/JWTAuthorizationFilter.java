@@ -13,6 +13,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.flogger.Flogger;
@@ -29,6 +30,9 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
   @NonNull
   private final JWTTokenProvider jwtTokenProvider;
 
+  @NonNull
+  private final JWTAuthenticationCache jwtAuthenticationCache;
+
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
     throws ServletException, IOException {
@@ -42,12 +46,18 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
         return;
       }
       var token = authorizationHeader.substring(SecurityConstant.TOKEN_PREFIX.length());
-      DecodedJWT decodedToken = jwtTokenProvider.getDecodedJWT(token);
-      if (jwtTokenProvider.isTokenValid(decodedToken)) {
-        Authentication authentication = jwtTokenProvider.getAuthentication(decodedToken, request);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+      Optional<Authentication> cachedAuthentication = jwtAuthenticationCache.getAuthentication(token, request);
+      if (cachedAuthentication.isPresent()) {
+        SecurityContextHolder.getContext().setAuthentication(cachedAuthentication.get());
       } else {
-        SecurityContextHolder.clearContext();
+        DecodedJWT decodedToken = jwtTokenProvider.getDecodedJWT(token);
+        if (jwtTokenProvider.isTokenValid(decodedToken)) {
+          Authentication authentication = jwtTokenProvider.getAuthentication(decodedToken, request);
+          jwtAuthenticationCache.putAuthentication(token, decodedToken.getExpiresAt(), authentication);
+          SecurityContextHolder.getContext().setAuthentication(authentication);
+        } else {
+          SecurityContextHolder.clearContext();
+        }
       }
     }
     filterChain.doFilter(request, response);
@@ -1,13 +1,19 @@
 package dev.kurama.api.core.hateoas.assembler;
 
 import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
+import static dev.kurama.api.core.utility.KeysetCursorUtils.AFTER_PARAM;
+import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
 
 import dev.kurama.api.core.utility.HateoasUtils;
+import dev.kurama.api.core.utility.KeysetCursorUtils;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -29,6 +35,17 @@ public abstract class DomainModelAssembler<T extends RepresentationModel<T>> imp
       .mapLink(LinkRelation.of(SELF), HateoasUtils::withDefaultAffordance);
   }
 
+  public @NonNull CollectionModel<T> toScrollModel(Window<T> entities) {
+    CollectionModel<T> collectionModel = toCollectionModel(entities.getContent()).add(
+      HateoasUtils.withDefaultAffordance(Link.of(fromCurrentRequest().toUriString()).withSelfRel()));
+    if (entities.hasNext() && !entities.isEmpty()) {
+      String after = KeysetCursorUtils.encode(entities.positionAt(entities.size() - 1));
+      collectionModel.add(
+        Link.of(fromCurrentRequest().replaceQueryParam(AFTER_PARAM, after).toUriString()).withRel(IanaLinkRelations.NEXT));
+    }
+    return collectionModel;
+  }
+
   @Override
   public @NonNull CollectionModel<T> toCollectionModel(@NonNull Iterable<? extends T> entities) {
     return RepresentationModelAssembler.super.toCollectionModel(entities);
@@ -6,16 +6,17 @@ import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
 import static dev.kurama.api.core.hateoas.relations.HateoasRelations.WEBSOCKET_REL;
 import static dev.kurama.api.core.message.UserChangedMessageSender.USERS_CHANGED_CHANNEL;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
+import static dev.kurama.api.core.utility.LinkTemplateUtils.getLinkTemplate;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import dev.kurama.api.core.hateoas.model.UserModel;
 import dev.kurama.api.core.rest.UserController;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
@@ -32,9 +33,15 @@ public class UserModelAssembler extends DomainModelAssembler<UserModel> {
       .addIf(hasAuthority(USER_READ), this::getWebSocket);
   }
 
-  @SneakyThrows
+  @Override
+  public @NonNull CollectionModel<UserModel> toScrollModel(Window<UserModel> entities) {
+    return super.toScrollModel(entities)
+      .mapLinkIf(hasAuthority(USER_CREATE), LinkRelation.of(SELF), link -> link.andAffordance(getCreateAffordance()))
+      .addIf(hasAuthority(USER_READ), this::getWebSocket);
+  }
+
   private @NonNull Affordance getCreateAffordance() {
-    return afford(methodOn(UserController.class).create(null));
+    return getLinkTemplate(() -> methodOn(UserController.class).create(null)).toAffordance();
   }
 
   private @NonNull Link getWebSocket() {
@@ -0,0 +1,26 @@
+package dev.kurama.api.core.hateoas.input;
+
+import java.time.OffsetDateTime;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.lang.Nullable;
+
+@Data
+@Builder
+public class ServiceLogsSearchInput {
+
+  @Nullable
+  private String level;
+  @Nullable
+  private String logger;
+  @Nullable
+  private OffsetDateTime from;
+  @Nullable
+  private OffsetDateTime to;
+  @Nullable
+  private String query;
+  @Nullable
+  private Long after;
+  @Nullable
+  private Integer size;
+}
@@ -0,0 +1,19 @@
+package dev.kurama.api.core.hateoas.input;
+
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+@Builder
+public class TokenRotationInput {
+
+  @NonNull
+  @NotBlank
+  @Size(min = 64, max = 512)
+  private String secret;
+
+}
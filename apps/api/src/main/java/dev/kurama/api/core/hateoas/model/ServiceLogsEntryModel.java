@@ -0,0 +1,21 @@
+package dev.kurama.api.core.hateoas.model;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ServiceLogsEntryModel {
+
+  private Long offset;
+  private Date timestamp;
+  private String level;
+  private String logger;
+  private String message;
+
+}
@@ -17,5 +17,8 @@ public class ServiceLogsModel extends RepresentationModel<ServiceLogsModel> {
 
   private String logs;
   private Date timestamp;
+  private Long start;
+  private Long end;
+  private String segment;
 
 }
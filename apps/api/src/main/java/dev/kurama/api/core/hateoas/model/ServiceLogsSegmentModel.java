@@ -0,0 +1,20 @@
+package dev.kurama.api.core.hateoas.model;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ServiceLogsSegmentModel {
+
+  private String name;
+  private Long size;
+  private Date lastModified;
+  private Boolean compressed;
+
+}
@@ -0,0 +1,22 @@
+package dev.kurama.api.core.hateoas.model;
+
+import java.util.Date;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+@EqualsAndHashCode(callSuper = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ServiceLogsSegmentsModel extends RepresentationModel<ServiceLogsSegmentsModel> {
+
+  private List<ServiceLogsSegmentModel> segments;
+  private Date timestamp;
+
+}
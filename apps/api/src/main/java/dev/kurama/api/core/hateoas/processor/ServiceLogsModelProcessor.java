@@ -1,7 +1,11 @@
 package dev.kurama.api.core.hateoas.processor;
 
 import static dev.kurama.api.core.authority.ServiceLogsAuthority.SERVICE_LOGS_DELETE;
+import static dev.kurama.api.core.authority.ServiceLogsAuthority.SERVICE_LOGS_READ;
+import static dev.kurama.api.core.hateoas.relations.AdministrationRelations.SERVICE_LOGS_SEGMENTS_REL;
 import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
+import static dev.kurama.api.core.hateoas.relations.HateoasRelations.WEBSOCKET_REL;
+import static dev.kurama.api.core.message.ServiceLogsMessageSender.SERVICE_LOGS_CHANNEL;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
@@ -12,6 +16,7 @@ import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
 import dev.kurama.api.core.rest.ServiceLogsController;
 import lombok.NonNull;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
@@ -23,16 +28,40 @@ public class ServiceLogsModelProcessor implements RepresentationModelProcessor<S
   @Override
   public @NonNull ServiceLogsModel process(@NonNull ServiceLogsModel entity) {
     return entity.add(getSelfLink())
+      .addIf(entity.getEnd() != null, () -> getNextLink(entity.getSegment(), entity.getEnd()))
       .mapLinkIf(hasAuthority(SERVICE_LOGS_DELETE), LinkRelation.of(SELF),
-        link -> link.andAffordance(getDeleteAffordance()));
+        link -> link.andAffordance(getDeleteAffordance()))
+      .addIf(hasAuthority(SERVICE_LOGS_READ), this::getSearchLink)
+      .addIf(hasAuthority(SERVICE_LOGS_READ), this::getSegmentsLink)
+      .addIf(hasAuthority(SERVICE_LOGS_READ), this::getWebSocket);
   }
 
   protected Link getSelfLink() {
     return withDefaultAffordance(linkTo(methodOn(ServiceLogsController.class).getServiceLogs()).withSelfRel());
   }
 
+  private @NonNull Link getNextLink(String segment, long end) {
+    return segment == null
+      ? linkTo(methodOn(ServiceLogsController.class).getServiceLogsAfter(end)).withRel(IanaLinkRelations.NEXT)
+      : linkTo(methodOn(ServiceLogsController.class).getServiceLogsSegment(segment, end)).withRel(
+        IanaLinkRelations.NEXT);
+  }
+
+  private @NonNull Link getSearchLink() {
+    return linkTo(methodOn(ServiceLogsController.class).searchServiceLogs(null, null, null, null, null, null, null))
+      .withRel(IanaLinkRelations.SEARCH);
+  }
+
+  private @NonNull Link getSegmentsLink() {
+    return linkTo(methodOn(ServiceLogsController.class).getServiceLogsSegments()).withRel(SERVICE_LOGS_SEGMENTS_REL);
+  }
+
   private @NonNull Affordance getDeleteAffordance() {
     return afford(methodOn(ServiceLogsController.class).deleteServiceLogs());
   }
 
+  private @NonNull Link getWebSocket() {
+    return Link.of(SERVICE_LOGS_CHANNEL).withRel(WEBSOCKET_REL);
+  }
+
 }
@@ -0,0 +1,30 @@
+package dev.kurama.api.core.hateoas.processor;
+
+import static dev.kurama.api.core.utility.KeysetCursorUtils.AFTER_PARAM;
+import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import dev.kurama.api.core.utility.HateoasUtils;
+import lombok.NonNull;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ServiceLogsSearchModelProcessor implements RepresentationModelProcessor<ServiceLogsSearchModel> {
+
+  @Override
+  public @NonNull ServiceLogsSearchModel process(@NonNull ServiceLogsSearchModel entity) {
+    return entity.add(getSelfLink()).addIf(entity.getNext() != null, () -> getNextLink(entity.getNext()));
+  }
+
+  private @NonNull Link getSelfLink() {
+    return HateoasUtils.withDefaultAffordance(Link.of(fromCurrentRequest().toUriString()).withSelfRel());
+  }
+
+  private @NonNull Link getNextLink(long next) {
+    return Link.of(fromCurrentRequest().replaceQueryParam(AFTER_PARAM, next).toUriString())
+      .withRel(IanaLinkRelations.NEXT);
+  }
+}
@@ -0,0 +1,31 @@
+package dev.kurama.api.core.hateoas.processor;
+
+import static dev.kurama.api.core.hateoas.relations.AdministrationRelations.SERVICE_LOGS_SEGMENT_REL;
+import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
+import dev.kurama.api.core.rest.ServiceLogsController;
+import lombok.NonNull;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ServiceLogsSegmentsModelProcessor implements RepresentationModelProcessor<ServiceLogsSegmentsModel> {
+
+  @Override
+  public @NonNull ServiceLogsSegmentsModel process(@NonNull ServiceLogsSegmentsModel entity) {
+    return entity.add(getSelfLink()).add(getSegmentLink());
+  }
+
+  private @NonNull Link getSelfLink() {
+    return withDefaultAffordance(linkTo(methodOn(ServiceLogsController.class).getServiceLogsSegments()).withSelfRel());
+  }
+
+  private @NonNull Link getSegmentLink() {
+    return linkTo(methodOn(ServiceLogsController.class).getServiceLogsSegment(null, null)).withRel(
+      SERVICE_LOGS_SEGMENT_REL);
+  }
+}
@@ -17,9 +17,9 @@ import static dev.kurama.api.core.message.UserChangedMessageSender.USER_CHANGED_
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAnyAuthority;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static dev.kurama.api.core.utility.LinkTemplateUtils.TEMPLATE_ID;
+import static dev.kurama.api.core.utility.LinkTemplateUtils.getLinkTemplate;
 import static java.lang.String.format;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import dev.kurama.api.core.hateoas.model.UserModel;
@@ -29,8 +29,8 @@ import dev.kurama.api.core.rest.UserProfileController;
 import dev.kurama.api.core.utility.AuthorityUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
@@ -80,76 +80,77 @@ public class UserModelProcessor implements RepresentationModelProcessor<UserMode
     return entity;
   }
 
-  @SneakyThrows
   public Link getSelfLink(String id) {
-    return withDefaultAffordance(linkTo(methodOn(UserController.class).get(id)).withSelfRel());
+    return withDefaultAffordance(
+      getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID)).expand(id).toLink(IanaLinkRelations.SELF));
   }
 
   private @NonNull Link getParentLink() {
-    return linkTo(methodOn(UserController.class).getAll(null, null)).withRel(USERS_REL);
+    return getLinkTemplate(() -> methodOn(UserController.class).getAll(null, null)).toLink(USERS_REL);
   }
 
   private @NonNull Link getWebSocket(String id) {
     return Link.of(format(USER_CHANGED_CHANNEL, id)).withRel(WEBSOCKET_REL);
   }
 
-  @SneakyThrows
   private Link getCurrentUserSelfLink() {
-    return withDefaultAffordance(linkTo(methodOn(UserProfileController.class).get()).withSelfRel());
+    return withDefaultAffordance(
+      getLinkTemplate(() -> methodOn(UserProfileController.class).get()).toLink(IanaLinkRelations.SELF));
   }
 
-  @SneakyThrows
   private Link getPreferencesLink(String userPreferencesId) {
-    return linkTo(methodOn(UserPreferencesController.class).get(userPreferencesId)).withRel(USER_PREFERENCES_REL);
+    return getLinkTemplate(() -> methodOn(UserPreferencesController.class).get(TEMPLATE_ID))
+      .expand(userPreferencesId)
+      .toLink(USER_PREFERENCES_REL);
   }
 
-  @SneakyThrows
   public Link getCurrentUserPreferencesSelfLink() {
-    return linkTo(methodOn(UserProfileController.class).getPreferences()).withRel(USER_PREFERENCES_REL);
+    return getLinkTemplate(() -> methodOn(UserProfileController.class).getPreferences()).toLink(USER_PREFERENCES_REL);
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateAffordance(String username) {
-    return afford(methodOn(UserController.class).update(username, null));
+    return getLinkTemplate(() -> methodOn(UserController.class).update(TEMPLATE_ID, null))
+      .expand(username)
+      .toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateRoleAffordance(String username) {
-    return afford(methodOn(UserController.class).updateRole(username, null));
+    return getLinkTemplate(() -> methodOn(UserController.class).updateRole(TEMPLATE_ID, null))
+      .expand(username)
+      .toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateAuthoritiesAffordance(String username) {
-    return afford(methodOn(UserController.class).updateAuthorities(username, null));
+    return getLinkTemplate(() -> methodOn(UserController.class).updateAuthorities(TEMPLATE_ID, null))
+      .expand(username)
+      .toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getDeleteAffordance(String userId) {
-    return afford(methodOn(UserController.class).delete(userId));
+    return getLinkTemplate(() -> methodOn(UserController.class).delete(TEMPLATE_ID))
+      .expand(userId)
+      .toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getSendActivationTokenAffordance(String userId) {
-    return afford(methodOn(UserController.class).requestActivationToken(userId));
+    return getLinkTemplate(() -> methodOn(UserController.class).requestActivationToken(TEMPLATE_ID))
+      .expand(userId)
+      .toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateProfileAffordance() {
-    return afford(methodOn(UserProfileController.class).updateProfile(null));
+    return getLinkTemplate(() -> methodOn(UserProfileController.class).updateProfile(null)).toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getChangePasswordAffordance() {
-    return afford(methodOn(UserProfileController.class).changePassword(null));
+    return getLinkTemplate(() -> methodOn(UserProfileController.class).changePassword(null)).toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUploadAvatarAffordance() {
-    return afford(methodOn(UserProfileController.class).uploadAvatar(null));
+    return getLinkTemplate(() -> methodOn(UserProfileController.class).uploadAvatar(null)).toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getDeleteProfileAffordance() {
-    return afford(methodOn(UserProfileController.class).deleteProfile());
+    return getLinkTemplate(() -> methodOn(UserProfileController.class).deleteProfile()).toAffordance();
   }
 }
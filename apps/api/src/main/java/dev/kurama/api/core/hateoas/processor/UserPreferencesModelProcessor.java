@@ -14,24 +14,21 @@ import static dev.kurama.api.core.utility.AuthorityUtils.hasAnyAuthority;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.AuthorityUtils.isCurrentUserId;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static dev.kurama.api.core.utility.LinkTemplateUtils.TEMPLATE_ID;
+import static dev.kurama.api.core.utility.LinkTemplateUtils.getLinkTemplate;
 import static java.lang.String.format;
-import static org.springframework.hateoas.mediatype.Affordances.of;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import dev.kurama.api.core.hateoas.model.UserPreferencesModel;
-import dev.kurama.api.core.hateoas.relations.HateoasRelations;
 import dev.kurama.api.core.rest.UserController;
 import dev.kurama.api.core.rest.UserPreferencesController;
 import dev.kurama.api.core.rest.UserProfileController;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -55,36 +52,34 @@ public class UserPreferencesModelProcessor implements RepresentationModelProcess
     return entity;
   }
 
-  @SneakyThrows
   public Link getSelfLink(String id) {
-    return withDefaultAffordance(linkTo(methodOn(UserPreferencesController.class).get(id)).withSelfRel());
+    return withDefaultAffordance(getLinkTemplate(() -> methodOn(UserPreferencesController.class).get(TEMPLATE_ID))
+      .expand(id)
+      .toLink(IanaLinkRelations.SELF));
   }
 
-  @SneakyThrows
   private @NonNull Link getUserLink(String userId) {
-    return linkTo(methodOn(UserController.class).get(userId)).withRel(USER_REL);
+    return getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID)).expand(userId)
+      .toLink(USER_REL);
   }
 
-  @SneakyThrows
   private @NonNull Link getProfileLink() {
-    return linkTo(methodOn(UserProfileController.class).get()).withRel(CURRENT_USER_REL);
+    return getLinkTemplate(() -> methodOn(UserProfileController.class).get()).toLink(CURRENT_USER_REL);
   }
 
-  @SneakyThrows
   public Link getCurrentUserPreferencesSelfLink() {
-    return of(linkTo(methodOn(UserProfileController.class).getPreferences()).withSelfRel()).afford(HttpMethod.HEAD)
-      .withName(HateoasRelations.DEFAULT)
-      .toLink();
+    return withDefaultAffordance(
+      getLinkTemplate(() -> methodOn(UserProfileController.class).getPreferences()).toLink(IanaLinkRelations.SELF));
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateAffordance(String username) {
-    return afford(methodOn(UserPreferencesController.class).update(username, null));
+    return getLinkTemplate(() -> methodOn(UserPreferencesController.class).update(TEMPLATE_ID, null))
+      .expand(username)
+      .toAffordance();
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateCurrentUserPreferencesAffordance() {
-    return afford(methodOn(UserProfileController.class).updatePreferences(null));
+    return getLinkTemplate(() -> methodOn(UserProfileController.class).updatePreferences(null)).toAffordance();
   }
 
   private @NonNull Link getWebSocket(String id) {
@@ -10,5 +10,7 @@ public class AdministrationRelations {
   public static final String USER_MANAGEMENT_ROOT_REL = "user-management";
   public static final String ROLE_MANAGEMENT_ROOT_REL = "role-management";
   public static final String SERVICE_LOGS_REL = "service-logs";
+  public static final String SERVICE_LOGS_SEGMENTS_REL = "service-logs-segments";
+  public static final String SERVICE_LOGS_SEGMENT_REL = "service-logs-segment";
   public static final String GLOBAL_SETTINGS_REL = "global-settings";
 }
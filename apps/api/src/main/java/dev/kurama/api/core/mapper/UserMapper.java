@@ -8,6 +8,7 @@ import dev.kurama.api.core.hateoas.model.AuthenticatedUserModel;
 import dev.kurama.api.core.hateoas.model.UserModel;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 
 @Mapper(uses = {RoleMapper.class, AuthorityMapper.class, UserPreferencesMapper.class})
 public interface UserMapper {
@@ -24,5 +25,9 @@ public interface UserMapper {
   default Page<UserModel> userPageToUserModelPage(Page<User> users) {
     return users.map(this::userToUserModel);
   }
+
+  default Window<UserModel> userWindowToUserModelWindow(Window<User> users) {
+    return users.map(this::userToUserModel);
+  }
 }
 
@@ -3,7 +3,9 @@ package dev.kurama.api.core.message;
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
 import static java.lang.String.format;
 
+import dev.kurama.api.core.event.domain.ApplicationEventBatch;
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -24,4 +26,15 @@ public class RoleChangedMessageSender {
     template.convertAndSend(ROLES_CHANGED_CHANNEL, event);
   }
 
+  public void sendRoleChangedMessages(@NonNull List<RoleChangedEvent> events) {
+    if (events.size() == 1) {
+      sendRoleChangedMessage(events.get(0));
+      return;
+    }
+    events.forEach(event -> template.convertAndSend(format(ROLE_CHANGED_CHANNEL, event.getRoleId()), event));
+    if (!events.isEmpty()) {
+      template.convertAndSend(ROLES_CHANGED_CHANNEL, new ApplicationEventBatch<>(events));
+    }
+  }
+
 }
@@ -0,0 +1,33 @@
+package dev.kurama.api.core.message;
+
+import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ServiceLogsMessageSender {
+
+  public static final String SERVICE_LOGS_CHANNEL = ROOT_WEBSOCKET_CHANNEL + "/service-logs";
+
+  @NonNull
+  private final SimpMessagingTemplate template;
+
+  @NonNull
+  private final SimpUserRegistry userRegistry;
+
+  public boolean hasSubscribers() {
+    return !userRegistry.findSubscriptions(subscription -> SERVICE_LOGS_CHANNEL.equals(subscription.getDestination()))
+      .isEmpty();
+  }
+
+  public void sendServiceLogsMessage(@NonNull ServiceLogsModel logs) {
+    template.convertAndSend(SERVICE_LOGS_CHANNEL, logs);
+  }
+
+}
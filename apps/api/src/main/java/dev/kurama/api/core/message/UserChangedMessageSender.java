@@ -3,7 +3,9 @@ package dev.kurama.api.core.message;
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
 import static java.lang.String.format;
 
+import dev.kurama.api.core.event.domain.ApplicationEventBatch;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
+import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -24,4 +26,15 @@ public class UserChangedMessageSender {
     template.convertAndSend(USERS_CHANGED_CHANNEL, event);
   }
 
+  public void sendUserChangedMessages(@NonNull List<UserChangedEvent> events) {
+    if (events.size() == 1) {
+      sendUserChangedMessage(events.get(0));
+      return;
+    }
+    events.forEach(event -> template.convertAndSend(format(USER_CHANGED_CHANNEL, event.getUserId()), event));
+    if (!events.isEmpty()) {
+      template.convertAndSend(USERS_CHANGED_CHANNEL, new ApplicationEventBatch<>(events));
+    }
+  }
+
 }
@@ -0,0 +1,137 @@
+package dev.kurama.api.core.metrics;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LayerMetricsAspect {
+
+  public static final String LAYER_TIMER = "api.layer.calls";
+  public static final String EVENTS_COUNTER = "api.events.emitted";
+
+  public static final String FACADE_LAYER = "facade";
+  public static final String SERVICE_LAYER = "service";
+  public static final String REPOSITORY_LAYER = "repository";
+
+  public static final String SUCCESS_OUTCOME = "SUCCESS";
+  public static final String ERROR_OUTCOME = "ERROR";
+
+  @NonNull
+  private final MeterRegistry meterRegistry;
+
+  private final Map<MeterKey, Outcomes<Timer>> timers = new ConcurrentHashMap<>();
+
+  private final Map<MeterKey, Outcomes<Counter>> counters = new ConcurrentHashMap<>();
+
+  @Around("within(dev.kurama.api..*) && bean(*Facade)")
+  public Object timeFacade(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, FACADE_LAYER);
+  }
+
+  @Around("within(dev.kurama.api..*) && (bean(*Service) || bean(*Facility))")
+  public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, SERVICE_LAYER);
+  }
+
+  @Around("bean(*Repository) && this(org.springframework.data.repository.Repository)")
+  public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, REPOSITORY_LAYER);
+  }
+
+  @Around("within(dev.kurama.api..*) && bean(*EventEmitter) && execution(public * emit*(..))")
+  public Object countEvent(ProceedingJoinPoint joinPoint) throws Throwable {
+    Outcomes<Counter> eventCounters = counters.computeIfAbsent(getKey(joinPoint), key -> {
+      String type = getTypeName(joinPoint.getThis());
+      String method = joinPoint.getSignature().getName();
+      return new Outcomes<>(createCounter(type, method, SUCCESS_OUTCOME),
+        Suppliers.memoize(() -> createCounter(type, method, ERROR_OUTCOME)));
+    });
+    try {
+      Object result = joinPoint.proceed();
+      eventCounters.success().increment();
+      return result;
+    } catch (Throwable throwable) {
+      eventCounters.error().get().increment();
+      throw throwable;
+    }
+  }
+
+  private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+    Outcomes<Timer> layerTimers = timers.computeIfAbsent(getKey(joinPoint), key -> {
+      String type = getTypeName(joinPoint.getThis());
+      String method = joinPoint.getSignature().getName();
+      return new Outcomes<>(createTimer(layer, type, method, SUCCESS_OUTCOME),
+        Suppliers.memoize(() -> createTimer(layer, type, method, ERROR_OUTCOME)));
+    });
+    long start = System.nanoTime();
+    try {
+      Object result = joinPoint.proceed();
+      layerTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (Throwable throwable) {
+      layerTimers.error().get().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw throwable;
+    }
+  }
+
+  private Timer createTimer(String layer, String type, String method, String outcome) {
+    return Timer.builder(LAYER_TIMER)
+      .description("Time spent in facade, service and repository methods")
+      .tags("layer", layer, "class", type, "method", method, "outcome", outcome)
+      .publishPercentileHistogram()
+      .minimumExpectedValue(Duration.ofNanos(100_000))
+      .maximumExpectedValue(Duration.ofSeconds(10))
+      .register(meterRegistry);
+  }
+
+  private Counter createCounter(String type, String method, String outcome) {
+    return Counter.builder(EVENTS_COUNTER)
+      .description("Application events emitted")
+      .tags("class", type, "method", method, "outcome", outcome)
+      .register(meterRegistry);
+  }
+
+  private static MeterKey getKey(ProceedingJoinPoint joinPoint) {
+    return new MeterKey(joinPoint.getThis().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+  }
+
+  private static String getTypeName(Object proxy) {
+    if (Proxy.isProxyClass(proxy.getClass())) {
+      return Arrays.stream(AopProxyUtils.proxiedUserInterfaces(proxy))
+        .filter(type -> type.getName().startsWith("dev.kurama.api"))
+        .findFirst()
+        .map(Class::getSimpleName)
+        .orElseGet(() -> proxy.getClass().getSimpleName());
+    }
+    return ClassUtils.getUserClass(proxy).getSimpleName();
+  }
+
+  private record MeterKey(Class<?> type, Method method) {
+
+  }
+
+  private record Outcomes<T>(T success, Supplier<T> error) {
+
+  }
+}
@@ -0,0 +1,49 @@
+package dev.kurama.api.core.metrics;
+
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.ERROR_OUTCOME;
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.SUCCESS_OUTCOME;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StompMetricsInterceptor implements ChannelInterceptor {
+
+  public static final String STOMP_SENDS_COUNTER = "api.stomp.sends";
+
+  private static final Pattern ID_SEGMENT = Pattern.compile("/[^/]*\\d[^/]*");
+
+  @NonNull
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  @Override
+  public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent,
+    Exception ex) {
+    String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    if (destination == null) {
+      return;
+    }
+    String outcome = sent && ex == null ? SUCCESS_OUTCOME : ERROR_OUTCOME;
+    counters.computeIfAbsent(normalize(destination) + ' ' + outcome, key -> Counter.builder(STOMP_SENDS_COUNTER)
+      .description("Messages published to the STOMP broker")
+      .tags("destination", normalize(destination), "outcome", outcome)
+      .register(meterRegistry)).increment();
+  }
+
+  public static String normalize(@NonNull String destination) {
+    return ID_SEGMENT.matcher(destination).replaceAll("/{id}");
+  }
+}
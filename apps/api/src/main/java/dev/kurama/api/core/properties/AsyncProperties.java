@@ -0,0 +1,33 @@
+package dev.kurama.api.core.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.async")
+public class AsyncProperties {
+
+  private boolean virtualThreads;
+
+  private ExecutorProperties common = new ExecutorProperties(2, 4, 500);
+
+  private ExecutorProperties mail = new ExecutorProperties(1, 2, 100);
+
+  private ExecutorProperties websocket = new ExecutorProperties(2, 8, 1000);
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ExecutorProperties {
+
+    private int coreSize;
+
+    private int maxSize;
+
+    private int queueCapacity;
+  }
+}
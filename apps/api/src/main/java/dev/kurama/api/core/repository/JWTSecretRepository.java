@@ -0,0 +1,11 @@
+package dev.kurama.api.core.repository;
+
+import dev.kurama.api.core.domain.JWTSecret;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JWTSecretRepository extends JpaRepository<JWTSecret, String> {
+
+  List<JWTSecret> findAllByOrderByCreatedDesc(Limit limit);
+}
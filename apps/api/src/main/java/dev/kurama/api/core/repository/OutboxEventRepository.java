@@ -0,0 +1,32 @@
+package dev.kurama.api.core.repository;
+
+import dev.kurama.api.core.domain.OutboxEvent;
+import java.util.Date;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  long RELAY_LOCK = 0x6f7574626f78L;
+
+  @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean tryAdvisoryTransactionLock(@Param("key") long key);
+
+  List<OutboxEvent> findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit limit);
+
+  @Modifying
+  @Query("update OutboxEvent e set e.published = :published where e.id in :ids")
+  int markPublished(@Param("ids") List<Long> ids, @Param("published") Date published);
+
+  @Modifying
+  @Query("update OutboxEvent e set e.attempts = :attempts, e.failed = :failed where e.id = :id")
+  int markAttempted(@Param("id") Long id, @Param("attempts") int attempts, @Param("failed") Date failed);
+
+  @Modifying
+  @Query("delete from OutboxEvent e where e.published < :before")
+  int deletePublishedBefore(@Param("before") Date before);
+}
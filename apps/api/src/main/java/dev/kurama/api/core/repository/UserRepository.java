@@ -2,14 +2,33 @@ package dev.kurama.api.core.repository;
 
 import dev.kurama.api.core.domain.User;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, JpaSpecificationExecutor<User> {
 
   Optional<User> findUserByUsername(String username);
 
   Optional<User> findUserByEmail(String email);
 
+  @Query(value = """
+    select u from User u
+    where lower(u.username) like :pattern escape '\\' or lower(u.email) like :pattern escape '\\'
+       or lower(u.firstname) like :pattern escape '\\' or lower(u.lastname) like :pattern escape '\\'
+    order by greatest(function('word_similarity', :search, lower(u.username)),
+                      function('word_similarity', :search, lower(u.email)),
+                      function('word_similarity', :search, lower(u.firstname)),
+                      function('word_similarity', :search, lower(u.lastname))) desc, u.username
+    """, countQuery = """
+    select count(u) from User u
+    where lower(u.username) like :pattern escape '\\' or lower(u.email) like :pattern escape '\\'
+       or lower(u.firstname) like :pattern escape '\\' or lower(u.lastname) like :pattern escape '\\'
+    """)
+  Page<User> search(@Param("search") String search, @Param("pattern") String pattern, Pageable pageable);
 }
@@ -0,0 +1,26 @@
+package dev.kurama.api.core.repository;
+
+import dev.kurama.api.core.domain.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+public record UserSearchSpecification(String pattern) implements Specification<User> {
+
+  public static final char ESCAPE_CHARACTER = '\\';
+
+  @Nullable
+  @Override
+  public Predicate toPredicate(@NonNull Root<User> root,
+                               @NonNull CriteriaQuery<?> query,
+                               @NonNull CriteriaBuilder criteriaBuilder) {
+    return criteriaBuilder.or(Stream.of("username", "email", "firstname", "lastname")
+      .map(attribute -> criteriaBuilder.like(criteriaBuilder.lower(root.get(attribute)), pattern, ESCAPE_CHARACTER))
+      .toArray(Predicate[]::new));
+  }
+}
@@ -18,7 +18,9 @@ import dev.kurama.api.core.hateoas.input.AccountActivationInput;
 import dev.kurama.api.core.hateoas.input.LoginInput;
 import dev.kurama.api.core.hateoas.input.RequestActivationTokenInput;
 import dev.kurama.api.core.hateoas.input.SignupInput;
+import dev.kurama.api.core.hateoas.input.TokenRotationInput;
 import dev.kurama.api.core.hateoas.model.UserModel;
+import jakarta.validation.Valid;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -38,6 +40,7 @@ public class AuthenticationController {
   public static final String LOGIN_PATH = "/login";
   public static final String TOKEN_PATH = "/token";
   public static final String ACTIVATE_PATH = "/activate";
+  public static final String ROTATE_PATH = "/rotate";
 
   @NonNull
   private final AuthenticationFacade authenticationFacade;
@@ -64,6 +67,13 @@ public class AuthenticationController {
     return ok().headers(authenticatedUser.getHeaders()).body(authenticatedUser.getUserModel());
   }
 
+  @PreAuthorize("hasAuthority(@TokenAuthority.TOKEN_ROTATE)")
+  @PostMapping(TOKEN_PATH + ROTATE_PATH)
+  public ResponseEntity<?> rotateSecret(@Valid @RequestBody TokenRotationInput tokenRotationInput) {
+    authenticationFacade.rotateSecret(tokenRotationInput);
+    return noContent().build();
+  }
+
   @PreAuthorize("!isAuthenticated()")
   @PostMapping(TOKEN_PATH)
   public ResponseEntity<?> requestActivationToken(@RequestBody RequestActivationTokenInput requestActivationTokenInput)
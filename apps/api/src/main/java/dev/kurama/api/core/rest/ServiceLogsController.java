@@ -4,13 +4,21 @@ import static dev.kurama.api.core.constant.RestPathConstant.SERVICE_LOGS_PATH;
 import static org.springframework.http.ResponseEntity.ok;
 
 import dev.kurama.api.core.facade.ServiceLogsFacade;
+import dev.kurama.api.core.hateoas.input.ServiceLogsSearchInput;
 import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
+import java.time.OffsetDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -27,6 +35,52 @@ public class ServiceLogsController {
     return ok().body(serviceLogsFacade.getServiceLogs());
   }
 
+  @GetMapping(params = "lines")
+  @PreAuthorize("hasAuthority(@ServiceLogsAuthority.SERVICE_LOGS_READ)")
+  public ResponseEntity<ServiceLogsModel> getServiceLogsTail(@RequestParam("lines") int lines) {
+    return ok().body(serviceLogsFacade.getServiceLogsTail(lines));
+  }
+
+  @GetMapping(params = "after")
+  @PreAuthorize("hasAuthority(@ServiceLogsAuthority.SERVICE_LOGS_READ)")
+  public ResponseEntity<ServiceLogsModel> getServiceLogsAfter(@RequestParam("after") long after) {
+    return ok().body(serviceLogsFacade.getServiceLogsAfter(after));
+  }
+
+  @GetMapping("/search")
+  @PreAuthorize("hasAuthority(@ServiceLogsAuthority.SERVICE_LOGS_READ)")
+  public ResponseEntity<ServiceLogsSearchModel> searchServiceLogs(
+    @RequestParam(value = "level", required = false) String level,
+    @RequestParam(value = "logger", required = false) String logger,
+    @RequestParam(value = "from", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime from,
+    @RequestParam(value = "to", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime to,
+    @RequestParam(value = "query", required = false) String query,
+    @RequestParam(value = "after", required = false) Long after,
+    @RequestParam(value = "size", required = false) Integer size) {
+    return ok().body(serviceLogsFacade.searchServiceLogs(ServiceLogsSearchInput.builder()
+      .level(level)
+      .logger(logger)
+      .from(from)
+      .to(to)
+      .query(query)
+      .after(after)
+      .size(size)
+      .build()));
+  }
+
+  @GetMapping("/segments")
+  @PreAuthorize("hasAuthority(@ServiceLogsAuthority.SERVICE_LOGS_READ)")
+  public ResponseEntity<ServiceLogsSegmentsModel> getServiceLogsSegments() {
+    return ok().body(serviceLogsFacade.getServiceLogsSegments());
+  }
+
+  @GetMapping("/segments/{segment}")
+  @PreAuthorize("hasAuthority(@ServiceLogsAuthority.SERVICE_LOGS_READ)")
+  public ResponseEntity<ServiceLogsModel> getServiceLogsSegment(@PathVariable("segment") String segment,
+    @RequestParam(value = "after", required = false) Long after) {
+    return ok().body(serviceLogsFacade.getServiceLogsSegment(segment, after == null ? 0 : after));
+  }
+
   @DeleteMapping()
   @PreAuthorize("hasAuthority(@ServiceLogsAuthority.SERVICE_LOGS_DELETE)")
   public ResponseEntity<ServiceLogsModel> deleteServiceLogs() {
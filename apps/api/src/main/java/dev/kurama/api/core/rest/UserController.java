@@ -1,6 +1,7 @@
 package dev.kurama.api.core.rest;
 
 import static dev.kurama.api.core.constant.RestPathConstant.USER_PATH;
+import static dev.kurama.api.core.utility.KeysetCursorUtils.AFTER_PARAM;
 import static org.springframework.beans.support.PagedListHolder.DEFAULT_PAGE_SIZE;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.noContent;
@@ -20,6 +21,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -50,12 +52,22 @@ public class UserController {
 
   @GetMapping()
   @PreAuthorize("hasAuthority(@UserAuthority.USER_READ)")
-  public ResponseEntity<PagedModel<UserModel>> getAll(@PageableDefault(page = 0, size = DEFAULT_PAGE_SIZE, sort =
-    "username") Pageable pageable,
+  public ResponseEntity<PagedModel<UserModel>> getAll(@PageableDefault(page = 0, size = DEFAULT_PAGE_SIZE)
+                                                      Pageable pageable,
                                                       @RequestParam(value = "search", required = false) String search) {
     return ok().body(userFacade.getAll(pageable, search));
   }
 
+  @GetMapping(params = AFTER_PARAM)
+  @PreAuthorize("hasAuthority(@UserAuthority.USER_READ)")
+  public ResponseEntity<CollectionModel<UserModel>> scroll(@RequestParam(AFTER_PARAM) String after,
+                                                           @PageableDefault(size = DEFAULT_PAGE_SIZE, sort = "username")
+                                                           Pageable pageable,
+                                                           @RequestParam(value = "search", required = false)
+                                                           String search) {
+    return ok().body(userFacade.scroll(after, pageable, search));
+  }
+
   @PostMapping()
   @PreAuthorize("hasAuthority(@UserAuthority.USER_CREATE)")
   public ResponseEntity<UserModel> create(@RequestBody UserInput userInput) throws UserExistsException {
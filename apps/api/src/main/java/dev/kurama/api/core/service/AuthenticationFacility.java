@@ -1,12 +1,12 @@
 package dev.kurama.api.core.service;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
 import dev.kurama.api.core.authority.TokenAuthority;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPrincipal;
 import dev.kurama.api.core.domain.support.AuthenticatedUser;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
+import dev.kurama.api.core.filter.JWTAuthenticationCache;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.NonNull;
@@ -27,6 +27,9 @@ public class AuthenticationFacility {
   @NonNull
   private final JWTTokenProvider jwtTokenProvider;
 
+  @NonNull
+  private final JWTAuthenticationCache jwtAuthenticationCache;
+
   @NonNull
   private final AuthenticationManager authenticationManager;
 
@@ -44,6 +47,11 @@ public class AuthenticationFacility {
     return authenticateUser(userService.findUserById(userId).orElseThrow(() -> new UserNotFoundException(userId)));
   }
 
+  public void rotateSecret(@NonNull String secret) {
+    jwtTokenProvider.rotateSecret(secret);
+    jwtAuthenticationCache.invalidateAll();
+  }
+
   public void validateCredentials(String username, String password) {
     authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
   }
@@ -57,8 +65,7 @@ public class AuthenticationFacility {
     }
     UserPrincipal userPrincipal = new UserPrincipal(user);
     var token = jwtTokenProvider.generateToken(userPrincipal);
-    DecodedJWT decodedToken = jwtTokenProvider.getDecodedJWT(token);
-    SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(decodedToken, context));
+    SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(userPrincipal, context));
 
     user.getAuthorities().removeIf(authority -> !authority.getName().equals(TokenAuthority.TOKEN_REFRESH));
     var refreshToken = jwtTokenProvider.generateRefreshToken(new UserPrincipal(user));
@@ -1,5 +1,7 @@
 package dev.kurama.api.core.service;
 
+import static dev.kurama.api.core.configuration.AsyncConfiguration.MAIL_TASK_EXECUTOR;
+
 import dev.kurama.api.core.domain.EmailTemplate;
 import jakarta.mail.internet.MimeMessage;
 import lombok.NonNull;
@@ -18,7 +20,7 @@ public class EmailService {
   @NonNull
   private final JavaMailSender emailSender;
 
-  @Async
+  @Async(MAIL_TASK_EXECUTOR)
   public void sendEmail(EmailTemplate emailTemplate) {
     try {
       MimeMessage mimeMessage = emailSender.createMimeMessage();
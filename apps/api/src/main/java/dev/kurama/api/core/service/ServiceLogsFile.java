@@ -0,0 +1,148 @@
+package dev.kurama.api.core.service;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsEntryModel;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import lombok.Getter;
+import lombok.NonNull;
+
+public final class ServiceLogsFile implements AutoCloseable {
+
+  public static final int WINDOW_SIZE = 32 * 1024 * 1024;
+
+  private static final int MAX_HEADER_LENGTH = 512;
+
+  private static final String LOGGER_SEPARATOR = " : ";
+
+  private final FileChannel channel;
+
+  @Getter
+  private final long size;
+
+  @Getter
+  private final Object fileKey;
+
+  private MappedByteBuffer window;
+
+  private long windowStart;
+
+  private ServiceLogsFile(FileChannel channel, long size, Object fileKey) {
+    this.channel = channel;
+    this.size = size;
+    this.fileKey = fileKey;
+  }
+
+  public static @NonNull ServiceLogsFile open(@NonNull Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new ServiceLogsFile(channel, channel.size(),
+        Files.readAttributes(path, BasicFileAttributes.class).fileKey());
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public long nextEntry(long offset, long limit) throws IOException {
+    long position = offset <= 0 ? 0 : lineEnd(offset - 1) + 1;
+    long bound = Math.min(limit, size);
+    while (position < bound) {
+      if (isEntryStart(position)) {
+        return position;
+      }
+      position = lineEnd(position) + 1;
+    }
+    return -1;
+  }
+
+  public long entryEnd(long start) throws IOException {
+    long position = lineEnd(start) + 1;
+    while (position < size && !isEntryStart(position)) {
+      position = lineEnd(position) + 1;
+    }
+    return Math.min(position, size);
+  }
+
+  public long getTimestamp(long start) throws IOException {
+    int length = 0;
+    while (start + length < size && length < MAX_HEADER_LENGTH && get(start + length) != ' ') {
+      length++;
+    }
+    try {
+      return OffsetDateTime.parse(decode(start, start + length)).toInstant().toEpochMilli();
+    } catch (DateTimeParseException e) {
+      return -1;
+    }
+  }
+
+  public @NonNull ServiceLogsEntryModel getEntry(long start, long end) throws IOException {
+    String header = decode(start, Math.min(lineEnd(start), start + MAX_HEADER_LENGTH));
+    int timestampEnd = header.indexOf(' ');
+    String rest = header.substring(timestampEnd).stripLeading();
+    int levelEnd = rest.indexOf(' ');
+    int separator = header.indexOf(LOGGER_SEPARATOR);
+    String logger = separator < 0 ? "" : header.substring(0, separator).strip();
+    logger = logger.substring(logger.lastIndexOf(' ') + 1);
+    long messageStart = separator < 0 ? start : start + header.substring(0, separator + LOGGER_SEPARATOR.length())
+      .getBytes(StandardCharsets.UTF_8).length;
+    long messageEnd = end > messageStart && get(end - 1) == '\n' ? end - 1 : end;
+    long timestamp = getTimestamp(start);
+    return ServiceLogsEntryModel.builder()
+      .offset(start)
+      .timestamp(timestamp < 0 ? null : new Date(timestamp))
+      .level(levelEnd < 0 ? rest : rest.substring(0, levelEnd))
+      .logger(logger)
+      .message(decode(messageStart, messageEnd))
+      .build();
+  }
+
+  public @NonNull String decode(long from, long to) throws IOException {
+    byte[] bytes = new byte[(int) (to - from)];
+    for (int index = 0; index < bytes.length; index++) {
+      bytes[index] = get(from + index);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private boolean isEntryStart(long offset) throws IOException {
+    return offset + 11 <= size && isDigit(offset) && isDigit(offset + 1) && isDigit(offset + 2) && isDigit(offset + 3)
+      && get(offset + 4) == '-' && get(offset + 7) == '-' && get(offset + 10) == 'T';
+  }
+
+  private boolean isDigit(long offset) throws IOException {
+    byte value = get(offset);
+    return value >= '0' && value <= '9';
+  }
+
+  private long lineEnd(long offset) throws IOException {
+    long position = offset;
+    while (position < size && get(position) != '\n') {
+      position++;
+    }
+    return position;
+  }
+
+  private byte get(long offset) throws IOException {
+    if (window == null || offset < windowStart || offset >= windowStart + window.limit()) {
+      windowStart = offset;
+      window = channel.map(MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+    }
+    return window.get((int) (offset - windowStart));
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+}
@@ -0,0 +1,79 @@
+package dev.kurama.api.core.service;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ServiceLogsIndex {
+
+  public static final long INDEX_INTERVAL = 1024 * 1024;
+
+  private long[] timestamps = new long[64];
+
+  private long[] offsets = new long[64];
+
+  private int size;
+
+  private long indexedTo;
+
+  private long fileSize;
+
+  private Object fileKey;
+
+  public synchronized void refresh(@NonNull ServiceLogsFile file) throws IOException {
+    if (file.getSize() < fileSize || !Objects.equals(file.getFileKey(), fileKey)) {
+      size = 0;
+      indexedTo = 0;
+      fileKey = file.getFileKey();
+    }
+    fileSize = file.getSize();
+    while (indexedTo < fileSize) {
+      long entry = file.nextEntry(indexedTo, indexedTo + INDEX_INTERVAL);
+      if (entry < 0) {
+        if (indexedTo + INDEX_INTERVAL > fileSize) {
+          break;
+        }
+        indexedTo += INDEX_INTERVAL;
+        continue;
+      }
+      long timestamp = file.getTimestamp(entry);
+      if (timestamp >= 0 && (size == 0 || timestamp >= timestamps[size - 1])) {
+        append(timestamp, entry);
+      }
+      indexedTo = entry + INDEX_INTERVAL;
+    }
+  }
+
+  public synchronized long floor(long timestamp) {
+    int low = 0;
+    int high = size - 1;
+    long offset = 0;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (timestamps[middle] < timestamp) {
+        offset = offsets[middle];
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return offset;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  private void append(long timestamp, long offset) {
+    if (size == timestamps.length) {
+      timestamps = Arrays.copyOf(timestamps, size * 2);
+      offsets = Arrays.copyOf(offsets, size * 2);
+    }
+    timestamps[size] = timestamp;
+    offsets[size] = offset;
+    size++;
+  }
+}
@@ -1,46 +1,299 @@
 package dev.kurama.api.core.service;
 
+import dev.kurama.api.core.hateoas.input.ServiceLogsSearchInput;
+import dev.kurama.api.core.hateoas.model.ServiceLogsEntryModel;
 import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
-import dev.kurama.api.core.hateoas.model.ServiceLogsModel.ServiceLogsModelBuilder;
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
+import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ServiceLogsService {
 
-  public static final String LOGS_FILE = Paths.get("").toAbsolutePath() + "\\logs.log";
+  public static final int DEFAULT_TAIL_LINES = 500;
+
+  public static final int MAX_TAIL_LINES = 10000;
+
+  public static final int MAX_CHUNK_SIZE = 512 * 1024;
+
+  public static final int DEFAULT_SEARCH_SIZE = 50;
+
+  public static final int MAX_SEARCH_SIZE = 500;
+
+  public static final long MAX_SEARCH_SCAN = 64L * 1024 * 1024;
+
+  private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+  private static final long ROLLOVER_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
+
+  private static final String PENDING_SEGMENT_SUFFIX = ".tmp";
+
+  private final ServiceLogsIndex serviceLogsIndex;
+
+  private final Path logsFile;
+
+  public ServiceLogsService(@NonNull ServiceLogsIndex serviceLogsIndex,
+                            @NonNull @Value("${logging.file.name:logs.log}") String logsFile) {
+    this.serviceLogsIndex = serviceLogsIndex;
+    this.logsFile = Path.of(logsFile).toAbsolutePath().normalize();
+  }
 
   public ServiceLogsModel getServiceLogs() {
-    ServiceLogsModelBuilder serviceLogsModelBuilder = ServiceLogsModel.builder().timestamp(new Date());
-    File file = new File(LOGS_FILE);
-    try (BufferedReader bufferedReader = new BufferedReader(new FileReader(file))) {
+    return getServiceLogsTail(DEFAULT_TAIL_LINES);
+  }
 
-      StringBuilder serviceLogs = new StringBuilder();
-      String newLine;
-      while ((newLine = bufferedReader.readLine()) != null) {
-        serviceLogs.append(newLine);
-        serviceLogs.append("\n");
+  public ServiceLogsModel getServiceLogsTail(int lines) {
+    try (FileChannel channel = FileChannel.open(logsFile, StandardOpenOption.READ)) {
+      long end = channel.size();
+      long limit = Math.max(0, end - MAX_CHUNK_SIZE);
+      long start = end;
+      if (lines > 0 && end > 0) {
+        long last = endsWithLineBreak(channel, end) ? end - 1 : end;
+        start = findLineStart(channel, limit, last, Math.min(lines, MAX_TAIL_LINES));
+        if (start < 0) {
+          start = limit;
+        }
       }
-      serviceLogsModelBuilder.logs(serviceLogs.toString());
+      return read(channel, start, end);
     } catch (IOException e) {
-      serviceLogsModelBuilder.logs("");
+      return empty(0);
     }
-    return serviceLogsModelBuilder.build();
   }
 
-  public ServiceLogsModel deleteServiceLogs() {
-    File file = new File(LOGS_FILE);
-    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
-      writer.write("");
+  public ServiceLogsModel getServiceLogsAfter(long offset) {
+    try (FileChannel channel = FileChannel.open(logsFile, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long start = offset < 0 || offset > size ? 0 : offset;
+      long end = Math.min(size, start + MAX_CHUNK_SIZE);
+      if (end < size) {
+        long lineEnd = findLineStart(channel, start, end, 1);
+        end = lineEnd < 0 ? end : lineEnd;
+      }
+      return read(channel, start, end);
+    } catch (IOException e) {
+      return empty(Math.max(offset, 0));
+    }
+  }
+
+  public ServiceLogsSearchModel searchServiceLogs(@NonNull ServiceLogsSearchInput input) {
+    int size = input.getSize() == null ? DEFAULT_SEARCH_SIZE : Math.min(Math.max(input.getSize(), 1), MAX_SEARCH_SIZE);
+    int level = input.getLevel() == null ? Level.TRACE.toInt()
+      : Level.valueOf(input.getLevel().toUpperCase(Locale.ROOT)).toInt();
+    long from = input.getFrom() == null ? Long.MIN_VALUE : input.getFrom().toInstant().toEpochMilli();
+    long to = input.getTo() == null ? Long.MAX_VALUE : input.getTo().toInstant().toEpochMilli();
+    List<ServiceLogsEntryModel> entries = new ArrayList<>();
+    Long next = null;
+    try (ServiceLogsFile file = ServiceLogsFile.open(logsFile)) {
+      serviceLogsIndex.refresh(file);
+      long start = input.getAfter() != null ? Math.max(input.getAfter(), 0)
+        : input.getFrom() != null ? serviceLogsIndex.floor(from) : 0;
+      long position = start > file.getSize() ? -1 : file.nextEntry(start, file.getSize());
+      long limit = position + MAX_SEARCH_SCAN;
+      while (position >= 0 && position < file.getSize()) {
+        if (entries.size() == size || position >= limit) {
+          next = position;
+          break;
+        }
+        long end = file.entryEnd(position);
+        long timestamp = file.getTimestamp(position);
+        if (timestamp > to) {
+          break;
+        }
+        if (timestamp >= from) {
+          ServiceLogsEntryModel entry = file.getEntry(position, end);
+          if (matches(entry, level, input)) {
+            entries.add(entry);
+          }
+        }
+        position = end;
+      }
     } catch (IOException ignored) {
     }
+    return ServiceLogsSearchModel.builder().timestamp(new Date()).entries(entries).next(next).build();
+  }
+
+  public ServiceLogsSegmentsModel getServiceLogsSegments() {
+    return ServiceLogsSegmentsModel.builder()
+      .timestamp(new Date())
+      .segments(listSegments().stream().map(ServiceLogsService::toSegmentModel).toList())
+      .build();
+  }
+
+  public ServiceLogsModel getServiceLogsSegment(@NonNull String name, long offset) {
+    Path segment = listSegments().stream()
+      .filter(path -> path.getFileName().toString().equals(name))
+      .findFirst()
+      .orElseThrow(() -> new NoSuchElementException(name));
+    long start = Math.max(offset, 0);
+    ServiceLogsModel model;
+    try (InputStream input = openSegment(segment)) {
+      input.skipNBytes(start);
+      byte[] bytes = input.readNBytes(MAX_CHUNK_SIZE);
+      int length = bytes.length;
+      if (length == MAX_CHUNK_SIZE && input.read() >= 0) {
+        int lineEnd = length - 1;
+        while (lineEnd >= 0 && bytes[lineEnd] != '\n') {
+          lineEnd--;
+        }
+        length = lineEnd < 0 ? length : lineEnd + 1;
+      }
+      model = ServiceLogsModel.builder()
+        .timestamp(new Date())
+        .logs(new String(bytes, 0, length, StandardCharsets.UTF_8))
+        .start(start)
+        .end(start + length)
+        .build();
+    } catch (IOException e) {
+      model = empty(start);
+    }
+    model.setSegment(name);
+    return model;
+  }
+
+  public ServiceLogsModel deleteServiceLogs() {
+    for (Path segment : awaitSegments()) {
+      if (isPending(segment)) {
+        continue;
+      }
+      try {
+        Files.deleteIfExists(segment);
+      } catch (IOException ignored) {
+      }
+    }
     return getServiceLogs();
   }
+
+  private List<Path> awaitSegments() {
+    long deadline = System.nanoTime() + ROLLOVER_TIMEOUT;
+    List<Path> segments = listSegments();
+    while (segments.stream().anyMatch(ServiceLogsService::isPending) && System.nanoTime() < deadline) {
+      try {
+        TimeUnit.MILLISECONDS.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      segments = listSegments();
+    }
+    return segments;
+  }
+
+  private List<Path> listSegments() {
+    String prefix = logsFile.getFileName() + ".";
+    try (Stream<Path> paths = Files.list(logsFile.getParent())) {
+      return paths.filter(path -> path.getFileName().toString().startsWith(prefix) && Files.isRegularFile(path))
+        .sorted(Comparator.comparingLong((Path path) -> path.toFile().lastModified()).reversed())
+        .toList();
+    } catch (IOException e) {
+      return List.of();
+    }
+  }
+
+  private static boolean isPending(Path segment) {
+    return segment.getFileName().toString().endsWith(PENDING_SEGMENT_SUFFIX);
+  }
+
+  private static ServiceLogsSegmentModel toSegmentModel(Path segment) {
+    File file = segment.toFile();
+    return ServiceLogsSegmentModel.builder()
+      .name(file.getName())
+      .size(file.length())
+      .lastModified(new Date(file.lastModified()))
+      .compressed(isCompressed(segment))
+      .build();
+  }
+
+  private static boolean isCompressed(Path segment) {
+    return segment.getFileName().toString().endsWith(".gz");
+  }
+
+  private static InputStream openSegment(Path segment) throws IOException {
+    InputStream input = new BufferedInputStream(Files.newInputStream(segment));
+    return isCompressed(segment) ? new GZIPInputStream(input) : input;
+  }
+
+  private static boolean matches(ServiceLogsEntryModel entry, int level, ServiceLogsSearchInput input) {
+    return getLevel(entry.getLevel()) >= level
+      && (input.getLogger() == null || StringUtils.contains(entry.getLogger(), input.getLogger()))
+      && (input.getQuery() == null || StringUtils.containsIgnoreCase(entry.getMessage(), input.getQuery()));
+  }
+
+  private static int getLevel(String level) {
+    try {
+      return Level.valueOf(level).toInt();
+    } catch (IllegalArgumentException e) {
+      return Level.TRACE.toInt();
+    }
+  }
+
+  private static ServiceLogsModel read(FileChannel channel, long start, long end) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+    readFully(channel, buffer, start);
+    return ServiceLogsModel.builder()
+      .timestamp(new Date())
+      .logs(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8))
+      .start(start)
+      .end(start + buffer.position())
+      .build();
+  }
+
+  private static ServiceLogsModel empty(long offset) {
+    return ServiceLogsModel.builder().timestamp(new Date()).logs("").start(offset).end(offset).build();
+  }
+
+  private static boolean endsWithLineBreak(FileChannel channel, long end) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(1);
+    readFully(channel, buffer, end - 1);
+    return buffer.position() == 1 && buffer.get(0) == '\n';
+  }
+
+  private static long findLineStart(FileChannel channel, long from, long to, int lines) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(SCAN_BUFFER_SIZE, Math.max(to - from, 1)));
+    int found = 0;
+    long position = to;
+    while (position > from) {
+      int length = (int) Math.min(buffer.capacity(), position - from);
+      position -= length;
+      buffer.clear().limit(length);
+      readFully(channel, buffer, position);
+      for (int index = buffer.position() - 1; index >= 0; index--) {
+        if (buffer.get(index) == '\n' && ++found == lines) {
+          return position + index + 1;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        break;
+      }
+    }
+  }
 }
@@ -0,0 +1,38 @@
+package dev.kurama.api.core.service;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.message.ServiceLogsMessageSender;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ServiceLogsTailer {
+
+  @NonNull
+  private final ServiceLogsService serviceLogsService;
+
+  @NonNull
+  private final ServiceLogsMessageSender messageSender;
+
+  private long position = -1;
+
+  @Scheduled(fixedDelayString = "${application.service_logs.tail_interval:1000}")
+  public void tail() {
+    if (!messageSender.hasSubscribers()) {
+      position = -1;
+      return;
+    }
+    if (position < 0) {
+      position = serviceLogsService.getServiceLogsTail(0).getEnd();
+      return;
+    }
+    ServiceLogsModel logs = serviceLogsService.getServiceLogsAfter(position);
+    if (!logs.getLogs().isEmpty() || logs.getStart() != position) {
+      messageSender.sendServiceLogsMessage(logs);
+    }
+    position = logs.getEnd();
+  }
+}
@@ -26,6 +26,7 @@ import dev.kurama.api.core.hateoas.input.AccountActivationInput;
 import dev.kurama.api.core.hateoas.input.SignupInput;
 import dev.kurama.api.core.hateoas.input.UserInput;
 import dev.kurama.api.core.repository.UserRepository;
+import dev.kurama.api.core.repository.UserSearchSpecification;
 import jakarta.transaction.Transactional;
 import java.util.Collection;
 import java.util.Date;
@@ -36,11 +37,14 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.flogger.Flogger;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -49,6 +53,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserService {
 
+  private static final Sort DEFAULT_SORT = Sort.by("username");
+
   @NonNull
   private final UserRepository userRepository;
 
@@ -94,12 +100,21 @@ public class UserService {
 
   public Page<User> getAllUsers(Pageable pageable, String search) {
     if (isEmpty(search)) {
-      return userRepository.findAll(pageable);
+      return userRepository.findAll(pageable.getSort().isSorted() ? pageable
+        : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT));
+    } else if (pageable.getSort().isSorted()) {
+      return userRepository.findAll(new UserSearchSpecification(getSearchPattern(search)), pageable);
     } else {
-      return userRepository.findAll(getUserExample(search), pageable);
+      return userRepository.search(search.toLowerCase(), getSearchPattern(search), pageable);
     }
   }
 
+  public Window<User> scrollUsers(ScrollPosition scrollPosition, Sort sort, int limit, String search) {
+    Specification<User> specification =
+      isEmpty(search) ? Specification.where(null) : new UserSearchSpecification(getSearchPattern(search));
+    return userRepository.findBy(specification, query -> query.sortBy(sort).limit(limit).scroll(scrollPosition));
+  }
+
   public void deleteUserById(String id) throws UserNotFoundException {
     User user = userRepository.findById(id).orElseThrow(() -> new UserNotFoundException(id));
     if (user.getTicTacToePlayer() != null) {
@@ -168,6 +183,7 @@ public class UserService {
   public User updateUser(String id, UserInput userInput)
     throws UserExistsException, UserNotFoundException, RoleNotFoundException {
     var user = findUserById(id).orElseThrow(() -> new UserNotFoundException(UserConstant.NO_USER_FOUND_BY_ID + id));
+    var previousUsername = user.getUsername();
     var changed = false;
     if (ofNullable(userInput.getEmail()).isPresent() && !user.getEmail().equalsIgnoreCase(userInput.getEmail())) {
       if (findUserByEmail(userInput.getEmail()).isPresent()) {
@@ -232,7 +248,7 @@ public class UserService {
     }
     if (changed) {
       user = userRepository.save(user);
-      userChangedEventEmitter.emitUserUpdatedEvent(user);
+      userChangedEventEmitter.emitUserUpdatedEvent(user, previousUsername);
     }
     return user;
   }
@@ -308,13 +324,7 @@ public class UserService {
     user.setAuthorities(Sets.newHashSet(role.getAuthorities()));
   }
 
-  private Example<User> getUserExample(String search) {
-    return Example.of(User.builder().username(search).email(search).firstname(search).lastname(search).build(),
-      ExampleMatcher.matchingAny()
-        .withIgnorePaths("active", "locked", "expired", "credentialsExpired")
-        .withMatcher("username", GenericPropertyMatchers.contains().ignoreCase())
-        .withMatcher("email", GenericPropertyMatchers.contains().ignoreCase())
-        .withMatcher("firstname", GenericPropertyMatchers.contains().ignoreCase())
-        .withMatcher("lastname", GenericPropertyMatchers.contains().ignoreCase()));
+  private static String getSearchPattern(String search) {
+    return "%" + EscapeCharacter.DEFAULT.escape(search.toLowerCase()) + "%";
   }
 }
@@ -0,0 +1,78 @@
+package dev.kurama.api.core.utility;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import dev.kurama.api.core.authority.DefaultAuthority;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.springframework.security.core.GrantedAuthority;
+
+@EqualsAndHashCode
+public final class AuthoritySet implements Serializable {
+
+  private static final Map<String, Integer> KNOWN_AUTHORITIES = indexKnownAuthorities();
+
+  private static final int WORD_SIZE = Long.SIZE;
+
+  private final long[] words;
+
+  private final ImmutableSet<String> unknownAuthorities;
+
+  private AuthoritySet(long[] words, ImmutableSet<String> unknownAuthorities) {
+    this.words = words;
+    this.unknownAuthorities = unknownAuthorities;
+  }
+
+  public static AuthoritySet of(@NonNull Collection<? extends GrantedAuthority> authorities) {
+    long[] words = new long[(KNOWN_AUTHORITIES.size() + WORD_SIZE - 1) / WORD_SIZE];
+    ImmutableSet.Builder<String> unknownAuthorities = ImmutableSet.builder();
+    for (GrantedAuthority grantedAuthority : authorities) {
+      String authority = grantedAuthority.getAuthority();
+      Integer index = KNOWN_AUTHORITIES.get(authority);
+      if (index != null) {
+        words[index / WORD_SIZE] |= 1L << (index % WORD_SIZE);
+      } else if (authority != null) {
+        unknownAuthorities.add(authority);
+      }
+    }
+    return new AuthoritySet(words, unknownAuthorities.build());
+  }
+
+  public boolean contains(String authority) {
+    Integer index = KNOWN_AUTHORITIES.get(authority);
+    if (index != null) {
+      return (words[index / WORD_SIZE] & (1L << (index % WORD_SIZE))) != 0;
+    }
+    return authority != null && unknownAuthorities.contains(authority);
+  }
+
+  public boolean containsAll(String... authorities) {
+    for (String authority : authorities) {
+      if (!contains(authority)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public boolean containsAny(String... authorities) {
+    for (String authority : authorities) {
+      if (contains(authority)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Map<String, Integer> indexKnownAuthorities() {
+    ImmutableMap.Builder<String, Integer> index = ImmutableMap.builder();
+    var authorities = DefaultAuthority.AUTHORITIES.stream().distinct().toList();
+    for (int i = 0; i < authorities.size(); i++) {
+      index.put(authorities.get(i), i);
+    }
+    return index.build();
+  }
+}
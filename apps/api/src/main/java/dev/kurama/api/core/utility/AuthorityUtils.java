@@ -1,12 +1,12 @@
 package dev.kurama.api.core.utility;
 
 import com.google.common.collect.Lists;
+import dev.kurama.api.core.filter.ContextAuthenticationToken;
 import dev.kurama.api.core.filter.ContextUser;
 import java.util.Arrays;
 import java.util.Collection;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -16,6 +16,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class AuthorityUtils {
 
+  private static final String ANONYMOUS_AUTHORITY = "ROLE_ANONYMOUS";
+
   public static SecurityContext getContext() {
     return SecurityContextHolder.getContext();
   }
@@ -25,7 +27,7 @@ public class AuthorityUtils {
   }
 
   public static void setContextUser(ContextUser contextUser, String... authorities) {
-    setAuthenticationContext(new UsernamePasswordAuthenticationToken(contextUser, null,
+    setAuthenticationContext(new ContextAuthenticationToken(contextUser,
       Arrays.stream(authorities).map(SimpleGrantedAuthority::new).toList()));
   }
 
@@ -58,18 +60,51 @@ public class AuthorityUtils {
   }
 
   public static boolean hasAuthority(String authority) {
-    return getAuthorities().contains(new SimpleGrantedAuthority(authority));
+    return hasAuthority(getAuthentication(), authority);
   }
 
   public static boolean hasAllAuthorities(String... authorities) {
-    return Arrays.stream(authorities).allMatch(AuthorityUtils::hasAuthority);
+    Authentication authentication = getAuthentication();
+    if (authentication instanceof ContextAuthenticationToken contextAuthenticationToken) {
+      return contextAuthenticationToken.getAuthoritySet().containsAll(authorities);
+    }
+    for (String authority : authorities) {
+      if (!hasAuthority(authentication, authority)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   public static boolean hasAnyAuthority(String... authorities) {
-    return Arrays.stream(authorities).anyMatch(AuthorityUtils::hasAuthority);
+    Authentication authentication = getAuthentication();
+    if (authentication instanceof ContextAuthenticationToken contextAuthenticationToken) {
+      return contextAuthenticationToken.getAuthoritySet().containsAny(authorities);
+    }
+    for (String authority : authorities) {
+      if (hasAuthority(authentication, authority)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   public static boolean isAuthenticated() {
-    return !getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ANONYMOUS"));
+    return !hasAuthority(ANONYMOUS_AUTHORITY);
+  }
+
+  private static boolean hasAuthority(Authentication authentication, String authority) {
+    if (authentication == null) {
+      return false;
+    }
+    if (authentication instanceof ContextAuthenticationToken contextAuthenticationToken) {
+      return contextAuthenticationToken.getAuthoritySet().contains(authority);
+    }
+    for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+      if (authority.equals(grantedAuthority.getAuthority())) {
+        return true;
+      }
+    }
+    return false;
   }
 }
@@ -0,0 +1,90 @@
+package dev.kurama.api.core.utility;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import dev.kurama.api.core.constant.SecurityConstant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JWTKeyring {
+
+  public static final int MAXIMUM_VERIFICATION_KEYS = 4;
+
+  @Getter
+  private final String signingKeyId;
+
+  @Getter
+  private final Algorithm signingAlgorithm;
+
+  private final ImmutableMap<String, JWTVerifier> verifiers;
+
+  public static JWTKeyring of(@NonNull String secret, String... previousSecrets) {
+    Map<String, JWTVerifier> verifiers = new LinkedHashMap<>();
+    if (previousSecrets != null) {
+      Arrays.stream(previousSecrets)
+        .filter(Objects::nonNull)
+        .filter(previousSecret -> !previousSecret.isEmpty())
+        .forEach(previousSecret -> verifiers.put(getKeyId(previousSecret), buildVerifier(previousSecret)));
+    }
+    return build(secret, verifiers);
+  }
+
+  public JWTKeyring rotate(@NonNull String secret) {
+    return build(secret, new LinkedHashMap<>(verifiers));
+  }
+
+  public boolean hasKeyId(String keyId) {
+    return keyId == null || verifiers.containsKey(keyId);
+  }
+
+  public JWTVerifier getVerifier(String keyId) {
+    if (keyId == null) {
+      return verifiers.get(signingKeyId);
+    }
+    JWTVerifier verifier = verifiers.get(keyId);
+    if (verifier == null) {
+      throw new JWTVerificationException(SecurityConstant.TOKEN_CANNOT_BE_VERIFIED);
+    }
+    return verifier;
+  }
+
+  public static String getKeyId(@NonNull String secret) {
+    return Hashing.sha256().hashString(secret, UTF_8).toString().substring(0, 16);
+  }
+
+  private static JWTKeyring build(String secret, Map<String, JWTVerifier> previousVerifiers) {
+    String keyId = getKeyId(secret);
+    Algorithm algorithm = Algorithm.HMAC512(secret);
+    previousVerifiers.remove(keyId);
+    var retainedKeyIds = previousVerifiers.keySet()
+      .stream()
+      .skip(Math.max(0, previousVerifiers.size() - (MAXIMUM_VERIFICATION_KEYS - 1)))
+      .toList();
+
+    ImmutableMap.Builder<String, JWTVerifier> verifiers = ImmutableMap.builder();
+    retainedKeyIds.forEach(retainedKeyId -> verifiers.put(retainedKeyId, previousVerifiers.get(retainedKeyId)));
+    verifiers.put(keyId, buildVerifier(algorithm));
+    return new JWTKeyring(keyId, algorithm, verifiers.build());
+  }
+
+  private static JWTVerifier buildVerifier(String secret) {
+    return buildVerifier(Algorithm.HMAC512(secret));
+  }
+
+  private static JWTVerifier buildVerifier(Algorithm algorithm) {
+    return JWT.require(algorithm).withIssuer(SecurityConstant.AUTH_ISSUER).build();
+  }
+}
@@ -1,21 +1,28 @@
 package dev.kurama.api.core.utility;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.domain.JWTSecret;
 import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.filter.ContextAuthenticationToken;
 import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.repository.JWTSecretRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.flogger.Flogger;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -23,9 +30,16 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 
+@Flogger
+@RequiredArgsConstructor
 @Component
 public class JWTTokenProvider {
 
+  private static final long UNKNOWN_KEY_RELOAD_INTERVAL = 1000;
+
+  @NonNull
+  private final JWTSecretRepository jwtSecretRepository;
+
   @Value("${application.jwt.secret}")
   private String SECRET;
 
@@ -35,6 +49,37 @@ public class JWTTokenProvider {
   @Value("${application.jwt.refresh_life}")
   private long REFRESH_TOKEN_LIFE_SPAN;
 
+  @Value("${application.jwt.previous_secrets:}")
+  private String[] PREVIOUS_SECRETS;
+
+  private volatile JWTKeyring keyring;
+
+  private volatile long keyringLoaded;
+
+  @PostConstruct
+  public void initializeKeyring() {
+    reloadKeyring();
+  }
+
+  @Scheduled(fixedDelayString = "${application.jwt.keyring_refresh:60000}",
+    initialDelayString = "${application.jwt.keyring_refresh:60000}")
+  public void refreshKeyring() {
+    try {
+      reloadKeyring();
+    } catch (RuntimeException e) {
+      log.atWarning().withCause(e).log("Could not refresh the JWT keyring");
+    }
+  }
+
+  public void rotateSecret(@NonNull String secret) {
+    jwtSecretRepository.save(JWTSecret.builder()
+      .id(JWTKeyring.getKeyId(secret))
+      .secret(secret)
+      .created(new Date(getCurrentTimeMillis()))
+      .build());
+    reloadKeyring();
+  }
+
   public String generateToken(UserPrincipal userPrincipal) {
     return generateJwtToken(userPrincipal, TOKEN_LIFE_SPAN);
   }
@@ -48,7 +93,12 @@ public class JWTTokenProvider {
   }
 
   public DecodedJWT getDecodedJWT(String token) {
-    return getJWTVerifier().verify(token);
+    DecodedJWT decodedToken = JWT.decode(token);
+    JWTKeyring currentKeyring = keyring;
+    if (!currentKeyring.hasKeyId(decodedToken.getKeyId())) {
+      currentKeyring = reloadKeyringForUnknownKey();
+    }
+    return currentKeyring.getVerifier(decodedToken.getKeyId()).verify(decodedToken);
   }
 
   public Authentication getAuthentication(DecodedJWT token, HttpServletRequest request) {
@@ -59,17 +109,32 @@ public class JWTTokenProvider {
     return authenticationToken;
   }
 
+  public Authentication getAuthentication(UserPrincipal userPrincipal, HttpServletRequest request) {
+    ContextUser contextUser = ContextUser.builder()
+      .id(userPrincipal.getUser().getId())
+      .username(userPrincipal.getUser().getUsername())
+      .build();
+    UsernamePasswordAuthenticationToken authenticationToken = new ContextAuthenticationToken(contextUser,
+      userPrincipal.getAuthorities());
+    if (request != null) {
+      authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    }
+    return authenticationToken;
+  }
+
   public UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(DecodedJWT token) {
     List<GrantedAuthority> authorities = getAuthorities(token);
     ContextUser contextUser = getContextUser(token);
 
-    return new UsernamePasswordAuthenticationToken(contextUser, null, authorities);
+    return new ContextAuthenticationToken(contextUser, authorities);
   }
 
   private String generateJwtToken(UserPrincipal userPrincipal, long lifeSpan) {
     String[] authorities = getAuthoritiesFromUser(userPrincipal);
+    JWTKeyring currentKeyring = keyring;
 
     return JWT.create()
+      .withKeyId(currentKeyring.getSigningKeyId())
       .withIssuer(SecurityConstant.AUTH_ISSUER)
       .withAudience(SecurityConstant.AUTH_AUDIENCE)
       .withIssuedAt(new Date())
@@ -80,22 +145,30 @@ public class JWTTokenProvider {
         put("username", userPrincipal.getUser().getUsername());
       }})
       .withExpiresAt(new Date(getCurrentTimeMillis() + lifeSpan))
-      .sign(getAlgorithm());
+      .sign(currentKeyring.getSigningAlgorithm());
   }
 
-  private ContextUser getContextUser(DecodedJWT token) {
-    Map<String, Object> user = token.getClaim("user").asMap();
-    return ContextUser.builder().id((String) user.get("id")).username((String) user.get("username")).build();
+  private synchronized void reloadKeyring() {
+    JWTKeyring reloaded = JWTKeyring.of(SECRET, PREVIOUS_SECRETS);
+    List<JWTSecret> secrets = jwtSecretRepository.findAllByOrderByCreatedDesc(
+      Limit.of(JWTKeyring.MAXIMUM_VERIFICATION_KEYS));
+    for (JWTSecret secret : Lists.reverse(secrets)) {
+      reloaded = reloaded.rotate(secret.getSecret());
+    }
+    keyring = reloaded;
+    keyringLoaded = getCurrentTimeMillis();
   }
 
-  private JWTVerifier getJWTVerifier() {
-    JWTVerifier verifier;
-    try {
-      verifier = JWT.require(getAlgorithm()).withIssuer(SecurityConstant.AUTH_ISSUER).build();
-    } catch (JWTVerificationException exception) {
-      throw new JWTVerificationException(SecurityConstant.TOKEN_CANNOT_BE_VERIFIED);
+  private synchronized JWTKeyring reloadKeyringForUnknownKey() {
+    if (getCurrentTimeMillis() - keyringLoaded >= UNKNOWN_KEY_RELOAD_INTERVAL) {
+      refreshKeyring();
     }
-    return verifier;
+    return keyring;
+  }
+
+  private ContextUser getContextUser(DecodedJWT token) {
+    Map<String, Object> user = token.getClaim("user").asMap();
+    return ContextUser.builder().id((String) user.get("id")).username((String) user.get("username")).build();
   }
 
   private boolean isTokenExpired(DecodedJWT token) {
@@ -110,10 +183,6 @@ public class JWTTokenProvider {
       .collect(Collectors.toList());
   }
 
-  private Algorithm getAlgorithm() {
-    return Algorithm.HMAC512(SECRET);
-  }
-
   private String[] getAuthoritiesFromUser(UserPrincipal userPrincipal) {
     return userPrincipal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toArray(String[]::new);
   }
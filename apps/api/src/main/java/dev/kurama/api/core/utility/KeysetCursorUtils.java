@@ -0,0 +1,64 @@
+package dev.kurama.api.core.utility;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursorUtils {
+
+  public static final String AFTER_PARAM = "after";
+
+  private static final String INVALID_CURSOR = "Invalid cursor";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {
+  };
+
+  @SneakyThrows
+  public static @NonNull String encode(@NonNull ScrollPosition scrollPosition) {
+    if (!(scrollPosition instanceof KeysetScrollPosition keysetScrollPosition)) {
+      throw new IllegalArgumentException(INVALID_CURSOR);
+    }
+    return Base64.getUrlEncoder()
+      .withoutPadding()
+      .encodeToString(OBJECT_MAPPER.writeValueAsBytes(keysetScrollPosition.getKeys()));
+  }
+
+  public static @NonNull KeysetScrollPosition decode(String cursor, @NonNull Class<?> domainType, @NonNull Sort sort) {
+    if (isEmpty(cursor)) {
+      return ScrollPosition.keyset();
+    }
+    Map<String, Object> keys = readKeys(cursor, domainType);
+    if (!sort.stream().map(Sort.Order::getProperty).allMatch(keys::containsKey)) {
+      throw new IllegalArgumentException(INVALID_CURSOR);
+    }
+    return ScrollPosition.forward(keys);
+  }
+
+  private static Map<String, Object> readKeys(String cursor, Class<?> domainType) {
+    try {
+      Map<String, Object> keys = new LinkedHashMap<>();
+      OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE)
+        .forEach((property, value) -> keys.put(property, value == null ? null
+          : OBJECT_MAPPER.convertValue(value, PropertyPath.from(property, domainType).getLeafType())));
+      return keys;
+    } catch (IOException | RuntimeException exception) {
+      throw new IllegalArgumentException(INVALID_CURSOR, exception);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package dev.kurama.api.core.utility;
+
+import static org.springframework.hateoas.server.core.DummyInvocationUtils.getLastInvocationAware;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.core.MethodInvocation;
+import org.springframework.hateoas.server.core.SpringAffordanceBuilder;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriUtils;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LinkTemplateUtils {
+
+  public static final String TEMPLATE_ID = "link-template-id";
+
+  private static final String LINK_TEMPLATES_ATTRIBUTE = LinkTemplateUtils.class.getName() + ".LINK_TEMPLATES";
+
+  public static @NonNull LinkTemplate getLinkTemplate(@NonNull Invocation invocation) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return createLinkTemplate(invocation);
+    }
+    // non-capturing lambdas get one class per call site, so the class identifies the template without invoking it
+    Class<?> key = invocation.getClass();
+    Map<Class<?>, LinkTemplate> linkTemplates = getLinkTemplates(requestAttributes);
+    LinkTemplate linkTemplate = linkTemplates.get(key);
+    if (linkTemplate == null) {
+      linkTemplate = createLinkTemplate(invocation);
+      if (key.getDeclaredFields().length == 0) {
+        linkTemplates.putIfAbsent(key, linkTemplate);
+      }
+    }
+    return linkTemplate;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Class<?>, LinkTemplate> getLinkTemplates(RequestAttributes requestAttributes) {
+    var linkTemplates = (Map<Class<?>, LinkTemplate>) requestAttributes.getAttribute(LINK_TEMPLATES_ATTRIBUTE,
+      SCOPE_REQUEST);
+    if (linkTemplates == null) {
+      linkTemplates = new ConcurrentHashMap<>();
+      requestAttributes.setAttribute(LINK_TEMPLATES_ATTRIBUTE, linkTemplates, SCOPE_REQUEST);
+    }
+    return linkTemplates;
+  }
+
+  @SneakyThrows
+  private static LinkTemplate createLinkTemplate(Invocation invocation) {
+    Object invocationValue = invocation.invoke();
+    MethodInvocation methodInvocation = getLastInvocationAware(invocationValue).getLastInvocation();
+    WebMvcLinkBuilder linkBuilder = linkTo(invocationValue);
+    return new LinkTemplate(methodInvocation.getTargetType(), methodInvocation.getMethod(), linkBuilder.withSelfRel(),
+      linkBuilder.toUri().toString());
+  }
+
+  @FunctionalInterface
+  public interface Invocation {
+
+    Object invoke() throws Exception;
+  }
+
+  @RequiredArgsConstructor
+  @EqualsAndHashCode
+  @ToString
+  public static final class LinkTemplate {
+
+    @NonNull
+    private final Class<?> type;
+
+    @NonNull
+    private final Method method;
+
+    @NonNull
+    private final Link link;
+
+    @NonNull
+    private final String uri;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile List<Affordance> affordances;
+
+    public Class<?> type() {
+      return type;
+    }
+
+    public Method method() {
+      return method;
+    }
+
+    public Link link() {
+      return link;
+    }
+
+    public String uri() {
+      return uri;
+    }
+
+    public @NonNull LinkTemplate expand(@NonNull String id) {
+      String pathSegment = UriUtils.encodePathSegment(id, StandardCharsets.UTF_8);
+      return new LinkTemplate(type, method, Link.of(link.getHref().replace(TEMPLATE_ID, pathSegment)),
+        uri.replace(TEMPLATE_ID, pathSegment));
+    }
+
+    public @NonNull Link toLink(@NonNull LinkRelation relation) {
+      return link.withRel(relation).withAffordances(getAffordances());
+    }
+
+    public @NonNull Link toLink(@NonNull String relation) {
+      return toLink(LinkRelation.of(relation));
+    }
+
+    public @NonNull Affordance toAffordance() {
+      return getAffordances().get(0);
+    }
+
+    private List<Affordance> getAffordances() {
+      List<Affordance> result = affordances;
+      if (result == null) {
+        result = SpringAffordanceBuilder.getAffordances(type, method, uri);
+        affordances = result;
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package dev.kurama.api.ttt.core;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+@EqualsAndHashCode
+public final class TicTacToeBoard {
+
+  public static final int SIZE = 9;
+
+  public static final int FULL_MASK = (1 << SIZE) - 1;
+
+  public static final int HASH_SPACE = 19683;
+
+  public static final TicTacToeBoard EMPTY = new TicTacToeBoard(0, 0);
+
+  private static final char X_CHAR = 'X';
+  private static final char O_CHAR = 'O';
+  private static final char EMPTY_CHAR = '_';
+
+  private static final String[] CELLS = {"A1", "A2", "A3", "B1", "B2", "B3", "C1", "C2", "C3"};
+
+  private static final int[] WIN_MASKS = {
+    0b000_000_111, 0b000_111_000, 0b111_000_000,
+    0b001_001_001, 0b010_010_010, 0b100_100_100,
+    0b100_010_001, 0b001_010_100};
+
+  private static final boolean[] WINNING = new boolean[FULL_MASK + 1];
+
+  private static final int[] TERNARY = new int[FULL_MASK + 1];
+
+  static {
+    for (int mask = 0; mask <= FULL_MASK; mask++) {
+      for (int index = SIZE - 1; index >= 0; index--) {
+        TERNARY[mask] = TERNARY[mask] * 3 + (mask >> index & 1);
+      }
+      for (int winMask : WIN_MASKS) {
+        if ((mask & winMask) == winMask) {
+          WINNING[mask] = true;
+          break;
+        }
+      }
+    }
+  }
+
+  private final int x;
+
+  private final int o;
+
+  private TicTacToeBoard(int x, int o) {
+    this.x = x;
+    this.o = o;
+  }
+
+  public static @NonNull TicTacToeBoard of(int x, int o) {
+    if ((x & ~FULL_MASK) != 0 || (o & ~FULL_MASK) != 0 || (x & o) != 0) {
+      throw new IllegalArgumentException("Invalid board");
+    }
+    return new TicTacToeBoard(x, o);
+  }
+
+  public static @NonNull TicTacToeBoard of(@NonNull String board) {
+    if (board.length() != SIZE) {
+      throw new IllegalArgumentException("Invalid board " + board);
+    }
+    int x = 0;
+    int o = 0;
+    for (int index = 0; index < SIZE; index++) {
+      switch (board.charAt(index)) {
+        case X_CHAR -> x |= 1 << index;
+        case O_CHAR -> o |= 1 << index;
+        case EMPTY_CHAR -> {
+        }
+        default -> throw new IllegalArgumentException("Invalid board " + board);
+      }
+    }
+    return new TicTacToeBoard(x, o);
+  }
+
+  public static int getIndex(String cell) {
+    if (cell == null || cell.length() != 2) {
+      return -1;
+    }
+    int row = cell.charAt(0) - 'A';
+    int column = cell.charAt(1) - '1';
+    if (row < 0 || row > 2 || column < 0 || column > 2) {
+      return -1;
+    }
+    return row * 3 + column;
+  }
+
+  public static @NonNull String getCell(int index) {
+    return CELLS[index];
+  }
+
+  public static boolean isWinning(int mask) {
+    return WINNING[mask];
+  }
+
+  public int getX() {
+    return x;
+  }
+
+  public int getO() {
+    return o;
+  }
+
+  public int hash() {
+    return TERNARY[x] + 2 * TERNARY[o];
+  }
+
+  public @NonNull Token getTurn() {
+    return Integer.bitCount(x) > Integer.bitCount(o) ? Token.O : Token.X;
+  }
+
+  public int getEmpty() {
+    return ~(x | o) & FULL_MASK;
+  }
+
+  public int getPossibleMoves() {
+    return isWon() ? 0 : getEmpty();
+  }
+
+  public int getMoveCount() {
+    return Integer.bitCount(x | o);
+  }
+
+  public boolean isLegalMove(int index) {
+    return index >= 0 && index < SIZE && (getEmpty() & (1 << index)) != 0;
+  }
+
+  public @NonNull TicTacToeBoard move(int index, @NonNull Token token) {
+    if (!isLegalMove(index)) {
+      throw new IllegalArgumentException("Illegal move " + index);
+    }
+    return switch (token) {
+      case X -> new TicTacToeBoard(x | 1 << index, o);
+      case O -> new TicTacToeBoard(x, o | 1 << index);
+      case NONE -> throw new IllegalArgumentException("Illegal token " + token);
+    };
+  }
+
+  public @NonNull Token getToken(int index) {
+    int bit = 1 << index;
+    if ((x & bit) != 0) {
+      return Token.X;
+    }
+    return (o & bit) != 0 ? Token.O : Token.NONE;
+  }
+
+  public @NonNull Token getWinner() {
+    if (WINNING[x]) {
+      return Token.X;
+    }
+    return WINNING[o] ? Token.O : Token.NONE;
+  }
+
+  public boolean isWon() {
+    return WINNING[x] || WINNING[o];
+  }
+
+  public boolean isFull() {
+    return (x | o) == FULL_MASK;
+  }
+
+  public boolean isTied() {
+    return isFull() && !isWon();
+  }
+
+  public boolean isOver() {
+    return isFull() || isWon();
+  }
+
+  @Override
+  public String toString() {
+    char[] board = new char[SIZE];
+    for (int index = 0; index < SIZE; index++) {
+      int bit = 1 << index;
+      board[index] = (x & bit) != 0 ? X_CHAR : (o & bit) != 0 ? O_CHAR : EMPTY_CHAR;
+    }
+    return new String(board);
+  }
+}
@@ -13,4 +13,9 @@ public class TicTacToeConstant {
   public static final String TIC_TAC_TOE_GAME_PATH = TIC_TAC_TOE_GAMES_PATH + "/{gameId}";
   public static final String TIC_TAC_TOE_GAME_MOVE_PATH = TIC_TAC_TOE_GAME_PATH + "/move";
   public static final String TIC_TAC_TOE_PLAYER_PATH = TIC_TAC_TOE_BASE_PATH + "/player";
+  public static final String TIC_TAC_TOE_LEADERBOARD_PATH = TIC_TAC_TOE_BASE_PATH + "/leaderboard";
+  public static final String TIC_TAC_TOE_MATCHMAKING_PATH = TIC_TAC_TOE_BASE_PATH + "/matchmaking";
+
+  public static final String TIC_TAC_TOE_BOT_ID = "tic-tac-toe-bot";
+  public static final String TIC_TAC_TOE_BOT_USERNAME = "tic-tac-toe-bot";
 }
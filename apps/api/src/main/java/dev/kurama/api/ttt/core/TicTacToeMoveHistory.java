@@ -0,0 +1,96 @@
+package dev.kurama.api.ttt.core;
+
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+@EqualsAndHashCode
+public final class TicTacToeMoveHistory {
+
+  public static final int MOVE_BYTES = Integer.BYTES;
+
+  public static final long MAX_MOVE_TIME = (1L << 28) - 1;
+
+  public static final TicTacToeMoveHistory EMPTY = new TicTacToeMoveHistory(new byte[0]);
+
+  private static final int INDEX_SHIFT = 28;
+
+  private final byte[] packed;
+
+  private TicTacToeMoveHistory(byte[] packed) {
+    this.packed = packed;
+  }
+
+  public static @NonNull TicTacToeMoveHistory of(byte[] packed) {
+    if (packed == null || packed.length == 0) {
+      return EMPTY;
+    }
+    if (packed.length % MOVE_BYTES != 0 || packed.length > TicTacToeBoard.SIZE * MOVE_BYTES) {
+      throw new IllegalArgumentException("Invalid move history of " + packed.length + " bytes");
+    }
+    TicTacToeMoveHistory history = new TicTacToeMoveHistory(packed.clone());
+    for (int number = 0; number < history.size(); number++) {
+      if (history.getIndex(number) >= TicTacToeBoard.SIZE) {
+        throw new IllegalArgumentException("Invalid move history cell at move " + (number + 1));
+      }
+    }
+    return history;
+  }
+
+  public @NonNull TicTacToeMoveHistory append(int index, long moveTime) {
+    if (index < 0 || index >= TicTacToeBoard.SIZE) {
+      throw new IllegalArgumentException("Invalid cell index " + index);
+    }
+    if (size() >= TicTacToeBoard.SIZE) {
+      throw new IllegalStateException("Move history is full");
+    }
+    int word = index << INDEX_SHIFT | (int) Math.min(Math.max(moveTime, 0), MAX_MOVE_TIME);
+    byte[] next = Arrays.copyOf(packed, packed.length + MOVE_BYTES);
+    next[packed.length] = (byte) (word >>> 24);
+    next[packed.length + 1] = (byte) (word >>> 16);
+    next[packed.length + 2] = (byte) (word >>> 8);
+    next[packed.length + 3] = (byte) word;
+    return new TicTacToeMoveHistory(next);
+  }
+
+  public int size() {
+    return packed.length / MOVE_BYTES;
+  }
+
+  public boolean isEmpty() {
+    return packed.length == 0;
+  }
+
+  public int getIndex(int number) {
+    return getWord(number) >>> INDEX_SHIFT;
+  }
+
+  public long getMoveTime(int number) {
+    return getWord(number) & MAX_MOVE_TIME;
+  }
+
+  public byte[] toBytes() {
+    return packed.clone();
+  }
+
+  private int getWord(int number) {
+    if (number < 0 || number >= size()) {
+      throw new IndexOutOfBoundsException("Move " + number + " out of " + size());
+    }
+    int offset = number * MOVE_BYTES;
+    return (packed[offset] & 0xFF) << 24 | (packed[offset + 1] & 0xFF) << 16 | (packed[offset + 2] & 0xFF) << 8
+      | packed[offset + 3] & 0xFF;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    for (int number = 0; number < size(); number++) {
+      if (number > 0) {
+        builder.append(", ");
+      }
+      builder.append(TicTacToeBoard.getCell(getIndex(number))).append('+').append(getMoveTime(number));
+    }
+    return builder.append(']').toString();
+  }
+}
@@ -0,0 +1,27 @@
+package dev.kurama.api.ttt.core;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TicTacToeRating {
+
+  public static final int DEFAULT_RATING = 1200;
+  public static final int MIN_RATING = 0;
+  public static final int MAX_RATING = 4000;
+  public static final int K_FACTOR = 32;
+
+  public static int rate(int rating, int opponentRating, double score) {
+    double expected = 1 / (1 + Math.pow(10, (opponentRating - rating) / 400.0));
+    long next = Math.round(rating + K_FACTOR * (score - expected));
+    return (int) Math.max(MIN_RATING, Math.min(MAX_RATING, next));
+  }
+
+  public static double score(Token token, Token winner) {
+    if (winner == Token.NONE) {
+      return 0.5;
+    }
+    return token == winner ? 1 : 0;
+  }
+}
@@ -18,6 +18,8 @@ public class TicTacToeRelations {
   public static final String TIC_TAC_TOE_MOVES_REL = "moves";
   public static final String TIC_TAC_TOE_PLAYER_REL = "player";
   public static final String TIC_TAC_TOE_PLAYERS_REL = "players";
+  public static final String TIC_TAC_TOE_LEADERBOARD_REL = "leaderboard";
+  public static final String TIC_TAC_TOE_MATCHMAKING_REL = "matchmaking";
 
   public static final String TIC_TAC_TOE_WS_GAMES = WEBSOCKET_REL + ":" + TIC_TAC_TOE_GAMES_REL;
   public static final String TIC_TAC_TOE_WS_GAME = WEBSOCKET_REL + ":" + TIC_TAC_TOE_GAME_REL;
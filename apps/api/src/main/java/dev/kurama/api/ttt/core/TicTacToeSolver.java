@@ -0,0 +1,85 @@
+package dev.kurama.api.ttt.core;
+
+import java.util.Arrays;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.stereotype.Component;
+
+@Flogger
+@Component
+public class TicTacToeSolver {
+
+  public static final int NO_MOVE = -1;
+
+  private static final byte UNSOLVED = -2;
+
+  private final byte[] moves = new byte[TicTacToeBoard.HASH_SPACE];
+
+  private final byte[] scores = new byte[TicTacToeBoard.HASH_SPACE];
+
+  private final int positionCount;
+
+  public TicTacToeSolver() {
+    long start = System.nanoTime();
+    Arrays.fill(moves, UNSOLVED);
+    solve(TicTacToeBoard.EMPTY);
+    positionCount = (int) countPositions();
+    log.atInfo().log("Solved %d TicTacToe positions in %dms", positionCount, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  public int getBestMove(@NonNull TicTacToeBoard board) {
+    byte move = moves[board.hash()];
+    if (move == UNSOLVED) {
+      throw new IllegalArgumentException("Unreachable board " + board);
+    }
+    return move;
+  }
+
+  public int getScore(@NonNull TicTacToeBoard board) {
+    if (moves[board.hash()] == UNSOLVED) {
+      throw new IllegalArgumentException("Unreachable board " + board);
+    }
+    return scores[board.hash()];
+  }
+
+  public int getPositionCount() {
+    return positionCount;
+  }
+
+  private int solve(TicTacToeBoard board) {
+    int hash = board.hash();
+    if (moves[hash] != UNSOLVED) {
+      return scores[hash];
+    }
+    int bestMove = NO_MOVE;
+    int bestScore;
+    if (board.isWon()) {
+      bestScore = board.getMoveCount() - TicTacToeBoard.SIZE - 1;
+    } else if (board.isFull()) {
+      bestScore = 0;
+    } else {
+      bestScore = Integer.MIN_VALUE;
+      for (int empty = board.getEmpty(); empty != 0; empty &= empty - 1) {
+        int move = Integer.numberOfTrailingZeros(empty);
+        int score = -solve(board.move(move, board.getTurn()));
+        if (score > bestScore) {
+          bestScore = score;
+          bestMove = move;
+        }
+      }
+    }
+    moves[hash] = (byte) bestMove;
+    scores[hash] = (byte) bestScore;
+    return bestScore;
+  }
+
+  private long countPositions() {
+    long count = 0;
+    for (byte move : moves) {
+      if (move != UNSOLVED) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
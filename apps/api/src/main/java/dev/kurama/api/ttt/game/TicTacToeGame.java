@@ -1,18 +1,15 @@
 package dev.kurama.api.ttt.game;
 
-import com.google.common.collect.Sets;
 import dev.kurama.api.core.domain.AbstractEntity;
-import dev.kurama.api.ttt.move.TicTacToeGameMove;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
 import java.io.Serializable;
 import java.time.LocalDateTime;
-import java.util.Set;
-import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -40,6 +37,9 @@ public class TicTacToeGame extends AbstractEntity implements Serializable {
 
   private String board;
 
+  @ToString.Exclude
+  private byte[] moveHistory;
+
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
   @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
@@ -50,6 +50,12 @@ public class TicTacToeGame extends AbstractEntity implements Serializable {
   @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
   private TicTacToePlayer playerO;
 
+  @Column(name = "playerx_username")
+  private String playerXUsername;
+
+  @Column(name = "playero_username")
+  private String playerOUsername;
+
   private LocalDateTime lastActivityAt;
 
   private LocalDateTime requestedAt;
@@ -58,12 +64,15 @@ public class TicTacToeGame extends AbstractEntity implements Serializable {
 
   private LocalDateTime finishedAt;
 
-  @ToString.Exclude
-  @EqualsAndHashCode.Exclude
-  @Builder.Default
-  @OneToMany(mappedBy = "game", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
-  private Set<TicTacToeGameMove> moves = Sets.newHashSet();
-
+  @PrePersist
+  void copyPlayerUsernames() {
+    if (playerX != null) {
+      playerXUsername = playerX.getUsername();
+    }
+    if (playerO != null) {
+      playerOUsername = playerO.getUsername();
+    }
+  }
 
   public enum Status {
     PENDING, IN_PROGRESS, REJECTED, FINISHED
@@ -15,6 +15,9 @@ public class TicTacToeGameChangedEvent implements ApplicationEvent {
   private TicTacToeGameChangedEventPlayer playerX;
   private TicTacToeGame.Status status;
   private TicTacToePlayer.Token turn;
+  private String board;
+  private Integer sequence;
+  private TicTacToeGameChangedEventMove move;
 
   public enum Action {
     CREATED, UPDATED
@@ -28,4 +31,16 @@ public class TicTacToeGameChangedEvent implements ApplicationEvent {
     private String id;
     private String username;
   }
+
+  @Data
+  @Builder
+  public static class TicTacToeGameChangedEventMove {
+
+    private String id;
+    private String cell;
+    private TicTacToePlayer.Token token;
+    private Integer number;
+    private String board;
+    private Long moveTime;
+  }
 }
@@ -1,6 +1,8 @@
 package dev.kurama.api.ttt.game;
 
+import dev.kurama.api.ttt.game.TicTacToeGameChangedEvent.TicTacToeGameChangedEventMove;
 import dev.kurama.api.ttt.game.TicTacToeGameChangedEvent.TicTacToeGameChangedEventPlayer;
+import dev.kurama.api.ttt.move.TicTacToeGameMove;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,10 +28,34 @@ public class TicTacToeGameChangedEventEmitter {
         .build())
       .turn(game.getTurn())
       .status(game.getStatus())
+      .board(game.getBoard())
       .action(action)
       .build());
   }
 
+  public void emitTicTacToeGameMovedEvent(TicTacToeGameState state, TicTacToeGameMove move) {
+    applicationEventPublisher.publishEvent(TicTacToeGameChangedEvent.builder()
+      .gameId(state.id())
+      .playerX(
+        TicTacToeGameChangedEventPlayer.builder().id(state.playerXId()).username(state.playerXUsername()).build())
+      .playerO(
+        TicTacToeGameChangedEventPlayer.builder().id(state.playerOId()).username(state.playerOUsername()).build())
+      .turn(state.turn())
+      .status(state.status())
+      .board(state.board().toString())
+      .sequence(state.moveCount())
+      .move(TicTacToeGameChangedEventMove.builder()
+        .id(move.getId())
+        .cell(move.getCell())
+        .token(move.getToken())
+        .number(move.getNumber())
+        .board(move.getBoard())
+        .moveTime(move.getMoveTime())
+        .build())
+      .action(TicTacToeGameChangedEvent.Action.UPDATED)
+      .build());
+  }
+
   public void emitTicTacToeGameCreatedEvent(TicTacToeGame game) {
     emitTicTacToeGameChangedEvent(game, TicTacToeGameChangedEvent.Action.CREATED);
   }
@@ -1,9 +1,9 @@
 package dev.kurama.api.ttt.game;
 
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,10 +13,9 @@ public class TicTacToeGameChangedEventListener {
   @NonNull
   private final TicTacToeGameChangedMessageSender sender;
 
-  @Async
   @EventListener
-  public void ticTacToeGameChangedEvent(@NonNull TicTacToeGameChangedEvent event) {
-    sender.sendTicTacToeGameChangedMessage(event);
+  public void ticTacToeGameChangedEvent(@NonNull RelayedEvent<TicTacToeGameChangedEvent> event) {
+    sender.sendTicTacToeGameChangedMessage(event.getEvent());
   }
 
 }
@@ -34,7 +34,7 @@ public class TicTacToeGameFacade {
   }
 
   public TicTacToeGameModel updateStatus(String gameId, TicTacToeGameStatusInput input) {
-    return mapper.ticTacToeGameToTicTacToeGameModel(service.updateStatus(gameId, input));
+    return mapper.ticTacToeGameToTicTacToeGameModel(facility.updateStatus(gameId, input));
   }
 
   public PagedModel<TicTacToeGameModel> getAll(Pageable pageable, TicTacToeGameFilterInput filter) {
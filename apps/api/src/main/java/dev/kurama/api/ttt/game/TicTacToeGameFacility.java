@@ -6,9 +6,20 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import dev.kurama.api.core.exception.domain.not.found.EntityNotFoundException;
 import dev.kurama.api.ttt.core.TicTacToeAuthority;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.input.TicTacToeGameInput;
+import dev.kurama.api.ttt.game.input.TicTacToeGameStatusInput;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatch;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatchResult;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatchmakingTicket;
+import dev.kurama.api.ttt.move.TicTacToeGameMoveFacility;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayerService;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +34,10 @@ public class TicTacToeGameFacility {
   @NonNull
   private final TicTacToePlayerService playerService;
 
+  @NonNull
+  private final TicTacToeGameMoveFacility moveFacility;
+
+  @Transactional
   public TicTacToeGame create(TicTacToeGameInput ticTacToeGameInput) {
     if (isEmpty(ticTacToeGameInput.getPlayerXUsername()) || !hasAuthority(TicTacToeAuthority.TIC_TAC_TOE_GAME_CREATE)) {
       ticTacToeGameInput.setPlayerXUsername(getCurrentUsername());
@@ -36,7 +51,44 @@ public class TicTacToeGameFacility {
     TicTacToePlayer oPlayer = playerService.getPlayerByUsername(ticTacToeGameInput.getPlayerOUsername())
       .orElseThrow(() -> new EntityNotFoundException(ticTacToeGameInput.getPlayerOUsername(), TicTacToePlayer.class));
 
-    return gameService.create(ticTacToeGameInput, xPlayer, oPlayer);
+    TicTacToeGame game = gameService.create(ticTacToeGameInput, xPlayer, oPlayer);
+    if (oPlayer.isBot()) {
+      game = gameService.start(game);
+      moveFacility.moveBot(game);
+    }
+    return game;
+  }
+
+  @Transactional
+  public TicTacToeGame updateStatus(String gameId, TicTacToeGameStatusInput input) {
+    TicTacToeGame game = gameService.updateStatus(gameId, input);
+    moveFacility.moveBot(game);
+    return game;
+  }
+
+  @Transactional
+  public TicTacToeMatchResult createMatches(List<TicTacToeMatch> matches) {
+    List<String> playerIds = matches.stream()
+      .flatMap(match -> Stream.of(match.playerX().playerId(), match.playerO().playerId()))
+      .toList();
+    Map<String, TicTacToePlayer> players = playerService.getPlayersById(playerIds);
+    List<TicTacToeMatchmakingTicket> unmatched = matches.stream()
+      .filter(match -> !players.containsKey(match.playerX().playerId())
+        || !players.containsKey(match.playerO().playerId()))
+      .flatMap(match -> Stream.of(match.playerX(), match.playerO()))
+      .filter(ticket -> players.containsKey(ticket.playerId()))
+      .toList();
+    return new TicTacToeMatchResult(gameService.createMatches(matches, players), unmatched);
+  }
+
+  @Transactional
+  public List<TicTacToeGame> expireStale(List<TicTacToeGame> games) {
+    List<TicTacToeGame> expired = gameService.expireStale(games, LocalDateTime.now());
+    expired.stream()
+      .filter(game -> game.getStatus() == Status.FINISHED)
+      .forEach(game -> playerService.registerGameResult(game.getPlayerX().getId(), game.getPlayerO().getId(),
+        game.getTurn()));
+    return expired;
   }
 
 }
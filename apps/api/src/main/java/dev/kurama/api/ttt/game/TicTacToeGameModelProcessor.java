@@ -56,8 +56,9 @@ public class TicTacToeGameModelProcessor implements RepresentationModelProcessor
   }
 
   private Link getMovesLink(String gameId) {
-    return withDefaultAffordance(linkTo(methodOn(TicTacToeGameMoveController.class).getAllGameMoves(gameId)).withRel(
-      TicTacToeRelations.TIC_TAC_TOE_MOVES_REL));
+    return withDefaultAffordance(
+      linkTo(methodOn(TicTacToeGameMoveController.class).getAllGameMoves(gameId, null)).withRel(
+        TicTacToeRelations.TIC_TAC_TOE_MOVES_REL));
   }
 
   private Affordance getUpdateAffordance(String gameId) {
@@ -0,0 +1,65 @@
+package dev.kurama.api.ttt.game;
+
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Flogger
+@Component
+public class TicTacToeGameReaper {
+
+  private final TicTacToeGameService gameService;
+
+  private final TicTacToeGameFacility gameFacility;
+
+  private final long pendingTimeout;
+
+  private final long inProgressTimeout;
+
+  private final int chunkSize;
+
+  public TicTacToeGameReaper(@NonNull TicTacToeGameService gameService,
+                             @NonNull TicTacToeGameFacility gameFacility,
+                             @Value("${application.tic_tac_toe.pending_timeout:86400000}") long pendingTimeout,
+                             @Value("${application.tic_tac_toe.in_progress_timeout:3600000}") long inProgressTimeout,
+                             @Value("${application.tic_tac_toe.reaper_chunk_size:100}") int chunkSize) {
+    this.gameService = gameService;
+    this.gameFacility = gameFacility;
+    this.pendingTimeout = pendingTimeout;
+    this.inProgressTimeout = inProgressTimeout;
+    this.chunkSize = chunkSize;
+  }
+
+  @Scheduled(fixedDelayString = "${application.tic_tac_toe.reaper_interval:60000}",
+             initialDelayString = "${application.tic_tac_toe.reaper_interval:60000}")
+  public void reap() {
+    LocalDateTime now = LocalDateTime.now();
+    int expired = reap(Status.PENDING, now.minusNanos(pendingTimeout * 1_000_000));
+    int forfeited = reap(Status.IN_PROGRESS, now.minusNanos(inProgressTimeout * 1_000_000));
+    if (expired + forfeited > 0) {
+      log.atInfo().log("Reaped %d stale pending and %d stale in progress TicTacToe games", expired, forfeited);
+    }
+  }
+
+  private int reap(Status status, LocalDateTime before) {
+    int reaped = 0;
+    List<TicTacToeGame> chunk;
+    do {
+      chunk = gameService.findStale(status, before, chunkSize);
+      if (chunk.isEmpty()) {
+        break;
+      }
+      int expired = gameFacility.expireStale(chunk).size();
+      if (expired == 0) {
+        break;
+      }
+      reaped += expired;
+    } while (chunk.size() == chunkSize);
+    return reaped;
+  }
+}
@@ -1,16 +1,65 @@
 package dev.kurama.api.ttt.game;
 
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import lombok.NonNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TicTacToeGameRepository extends JpaRepository<TicTacToeGame, String>,
                                                  JpaSpecificationExecutor<TicTacToeGame> {
 
+  @Override
+  @EntityGraph(attributePaths = {"playerX", "playerO"})
+  @NonNull
+  Page<TicTacToeGame> findAll(Specification<TicTacToeGame> spec, @NonNull Pageable pageable);
+
   boolean existsTicTacToeGameByPlayerXIdInAndPlayerOIdInAndStatus(Collection<String> playerX,
                                                                   Collection<String> playerO,
                                                                   @NonNull TicTacToeGame.Status status);
+
+  @Modifying
+  @Query("update TicTacToeGame g set g.board = :board, g.moveHistory = :moveHistory, g.turn = :turn, "
+    + "g.status = :status, g.lastActivityAt = :lastActivityAt, g.finishedAt = :finishedAt "
+    + "where g.id = :id and g.board = :previousBoard and g.status = :previousStatus")
+  int updateProgress(@Param("id") String id, @Param("previousBoard") String previousBoard,
+                     @Param("previousStatus") TicTacToeGame.Status previousStatus,
+                     @Param("board") String board, @Param("moveHistory") byte[] moveHistory,
+                     @Param("turn") Token turn,
+                     @Param("status") TicTacToeGame.Status status,
+                     @Param("lastActivityAt") LocalDateTime lastActivityAt,
+                     @Param("finishedAt") LocalDateTime finishedAt);
+
+  List<TicTacToeGame> findAllByStatusAndLastActivityAtBeforeOrderByLastActivityAtAsc(TicTacToeGame.Status status,
+                                                                                     LocalDateTime before,
+                                                                                     Pageable pageable);
+
+  @Modifying
+  @Query("update TicTacToeGame g set g.turn = :turn, g.status = :status, g.lastActivityAt = :lastActivityAt, "
+    + "g.finishedAt = :finishedAt "
+    + "where g.id = :id and g.status = :previousStatus and g.lastActivityAt = :previousActivityAt")
+  int updateStale(@Param("id") String id, @Param("previousStatus") TicTacToeGame.Status previousStatus,
+                  @Param("previousActivityAt") LocalDateTime previousActivityAt, @Param("turn") Token turn,
+                  @Param("status") TicTacToeGame.Status status,
+                  @Param("lastActivityAt") LocalDateTime lastActivityAt,
+                  @Param("finishedAt") LocalDateTime finishedAt);
+
+  @Modifying
+  @Query("update TicTacToeGame g set g.playerXUsername = :username where g.playerX.id = :playerId")
+  int updatePlayerXUsername(@Param("playerId") String playerId, @Param("username") String username);
+
+  @Modifying
+  @Query("update TicTacToeGame g set g.playerOUsername = :username where g.playerO.id = :playerId")
+  int updatePlayerOUsername(@Param("playerId") String playerId, @Param("username") String username);
 }
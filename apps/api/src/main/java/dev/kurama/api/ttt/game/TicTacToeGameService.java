@@ -2,26 +2,31 @@ package dev.kurama.api.ttt.game;
 
 import static dev.kurama.api.core.utility.AuthorityUtils.getCurrentUserId;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
-import static dev.kurama.api.ttt.core.TicTacToeUtils.isGameOver;
-import static dev.kurama.api.ttt.core.TicTacToeUtils.isGameTied;
+import static dev.kurama.api.ttt.core.TicTacToeUtils.getIndexInBoard;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import com.google.common.collect.Lists;
 import dev.kurama.api.core.exception.domain.ForbiddenException;
 import dev.kurama.api.ttt.core.TicTacToeAuthority;
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.TicTacToeGameSpecification.MyGamesOrPublic;
 import dev.kurama.api.ttt.game.input.TicTacToeGameFilterInput;
 import dev.kurama.api.ttt.game.input.TicTacToeGameInput;
 import dev.kurama.api.ttt.game.input.TicTacToeGameStatusInput;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatch;
 import dev.kurama.api.ttt.move.TicTacToeGameMove;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -36,6 +41,9 @@ public class TicTacToeGameService {
   @NonNull
   private final TicTacToeGameChangedEventEmitter eventEmitter;
 
+  @NonNull
+  private final TicTacToeGameStateCache stateCache;
+
   public static final String CHANGE_STATUS_REGEX = "^(REJECTED|IN_PROGRESS)$";
 
   public TicTacToeGame findById(String gameId) {
@@ -62,6 +70,20 @@ public class TicTacToeGameService {
     return save;
   }
 
+  public List<TicTacToeGame> createMatches(List<TicTacToeMatch> matches, Map<String, TicTacToePlayer> players) {
+    LocalDateTime now = LocalDateTime.now();
+    List<TicTacToeGame> games = matches.stream()
+      .filter(match -> players.containsKey(match.playerX().playerId()) && players.containsKey(match.playerO().playerId()))
+      .map(match -> newMatch(players.get(match.playerX().playerId()), players.get(match.playerO().playerId()), now))
+      .toList();
+    List<TicTacToeGame> saved = repository.saveAll(games);
+    saved.forEach(game -> {
+      stateCache.put(TicTacToeGameState.of(game, 0));
+      eventEmitter.emitTicTacToeGameCreatedEvent(game);
+    });
+    return saved;
+  }
+
   public TicTacToeGame updateStatus(String gameId, TicTacToeGameStatusInput input) {
     if (!input.getStatus().matches(CHANGE_STATUS_REGEX)) {
       throw new IllegalArgumentException("Invalid status " + input.getStatus());
@@ -74,36 +96,83 @@ public class TicTacToeGameService {
     if (game.getStatus() != Status.PENDING) {
       throw new ForbiddenException("Game is not pending");
     }
+    if (Status.valueOf(input.getStatus()) == Status.IN_PROGRESS) {
+      return start(game);
+    }
     game.setStatus(Status.valueOf(input.getStatus()));
     game.setLastActivityAt(LocalDateTime.now());
-    if (game.getStatus() == Status.IN_PROGRESS) {
-      game.setStartedAt(LocalDateTime.now());
-      game.setBoard("_________");
-      game.setTurn(Token.X);
-    }
     TicTacToeGame save = repository.save(game);
     eventEmitter.emitTicTacToeGameUpdatedEvent(save);
     return save;
   }
 
-  public TicTacToeGame applyMove(TicTacToeGame game, TicTacToeGameMove move) {
-    game.setBoard(move.getBoard());
-    game.setLastActivityAt(LocalDateTime.now());
-    game.getMoves().add(move);
+  public TicTacToeGame start(TicTacToeGame game) {
+    LocalDateTime now = LocalDateTime.now();
+    game.setStatus(Status.IN_PROGRESS);
+    game.setLastActivityAt(now);
+    game.setStartedAt(now);
+    game.setBoard(TicTacToeBoard.EMPTY.toString());
+    game.setTurn(Token.X);
+    TicTacToeGame save = repository.save(game);
+    stateCache.put(TicTacToeGameState.of(save, 0));
+    eventEmitter.emitTicTacToeGameUpdatedEvent(save);
+    return save;
+  }
+
+  public List<TicTacToeGame> findStale(Status status, LocalDateTime before, int limit) {
+    return repository.findAllByStatusAndLastActivityAtBeforeOrderByLastActivityAtAsc(status, before,
+      PageRequest.of(0, limit));
+  }
+
+  public List<TicTacToeGame> expireStale(List<TicTacToeGame> games, LocalDateTime now) {
+    List<TicTacToeGame> expired = games.stream().filter(game -> expire(game, now)).toList();
+    expired.forEach(eventEmitter::emitTicTacToeGameUpdatedEvent);
+    return expired;
+  }
+
+  public void updatePlayerUsername(String playerId, String username) {
+    repository.updatePlayerXUsername(playerId, username);
+    repository.updatePlayerOUsername(playerId, username);
+    stateCache.invalidatePlayer(playerId);
+  }
+
+  public TicTacToeGameState getState(String gameId) {
+    return stateCache.get(gameId).orElseGet(() -> {
+      TicTacToeGame game = findById(gameId);
+      TicTacToeGameState state = TicTacToeGameState.of(game, TicTacToeMoveHistory.of(game.getMoveHistory()).size());
+      stateCache.put(state);
+      return state;
+    });
+  }
 
-    if (isGameOver(game.getBoard())) {
-      game.setStatus(Status.FINISHED);
-      game.setFinishedAt(LocalDateTime.now());
-      if (isGameTied(game.getBoard())) {
-        game.setTurn(Token.NONE);
+  public TicTacToeGameState applyMove(TicTacToeGameState state, TicTacToeGameMove move) {
+    TicTacToeBoard board = TicTacToeBoard.of(move.getBoard());
+    TicTacToeGameState.TicTacToeGameStateBuilder next = state.toBuilder()
+      .board(board)
+      .moveCount(state.moveCount() + 1)
+      .history(state.history().append(getIndexInBoard(move.getCell()), move.getMoveTime()))
+      .lastActivityAt(move.getMovedAt());
+    LocalDateTime finishedAt = null;
+    if (board.isOver()) {
+      next.status(Status.FINISHED);
+      finishedAt = move.getMovedAt();
+      if (board.isTied()) {
+        next.turn(Token.NONE);
       }
     } else {
-      game.setTurn(game.getTurn() == Token.X ? Token.O : Token.X);
+      next.turn(state.turn() == Token.X ? Token.O : Token.X);
     }
+    TicTacToeGameState nextState = next.build();
 
-    TicTacToeGame save = repository.save(game);
-    eventEmitter.emitTicTacToeGameUpdatedEvent(save);
-    return save;
+    if (repository.updateProgress(nextState.id(), state.board().toString(), state.status(), board.toString(),
+      nextState.history().toBytes(), nextState.turn(), nextState.status(), nextState.lastActivityAt(),
+      finishedAt) == 0) {
+      stateCache.invalidate(state.id());
+      throw new OptimisticLockingFailureException("Game " + state.id() + " was modified concurrently");
+    }
+    stateCache.put(nextState);
+    eventEmitter.emitTicTacToeGameMovedEvent(nextState, move);
+    return nextState;
   }
 
   public Page<TicTacToeGame> getAll(Pageable pageable, TicTacToeGameFilterInput filter) {
@@ -112,4 +181,36 @@ public class TicTacToeGameService {
         : Specification.where(new TicTacToeGameSpecification(filter).and(new MyGamesOrPublic()));
     return repository.findAll(spec, pageable);
   }
+
+  private TicTacToeGame newMatch(TicTacToePlayer xPlayer, TicTacToePlayer oPlayer, LocalDateTime now) {
+    return TicTacToeGame.builder()
+      .setRandomUUID()
+      .playerX(xPlayer)
+      .playerO(oPlayer)
+      .isPrivate(false)
+      .status(Status.IN_PROGRESS)
+      .board(TicTacToeBoard.EMPTY.toString())
+      .turn(Token.X)
+      .requestedAt(now)
+      .startedAt(now)
+      .lastActivityAt(now)
+      .build();
+  }
+
+  private boolean expire(TicTacToeGame game, LocalDateTime now) {
+    boolean forfeit = game.getStatus() == Status.IN_PROGRESS;
+    Status status = forfeit ? Status.FINISHED : Status.REJECTED;
+    Token turn = forfeit ? (game.getTurn() == Token.X ? Token.O : Token.X) : game.getTurn();
+    LocalDateTime finishedAt = forfeit ? now : null;
+    if (repository.updateStale(game.getId(), game.getStatus(), game.getLastActivityAt(), turn, status, now,
+      finishedAt) == 0) {
+      return false;
+    }
+    stateCache.invalidate(game.getId());
+    game.setStatus(status);
+    game.setTurn(turn);
+    game.setLastActivityAt(now);
+    game.setFinishedAt(finishedAt);
+    return true;
+  }
 }
@@ -29,9 +29,9 @@ public record TicTacToeGameSpecification(TicTacToeGameFilterInput filter) implem
 
     if (filter.getPlayer() != null && !filter.getPlayer().isEmpty()) {
       predicates.add(criteriaBuilder.or(
-        criteriaBuilder.like(criteriaBuilder.lower(root.get("playerX").get("user").get("username")),
+        criteriaBuilder.like(criteriaBuilder.lower(root.get("playerXUsername")),
           "%" + filter.getPlayer().toLowerCase() + "%"),
-        criteriaBuilder.like(criteriaBuilder.lower(root.get("playerO").get("user").get("username")),
+        criteriaBuilder.like(criteriaBuilder.lower(root.get("playerOUsername")),
           "%" + filter.getPlayer().toLowerCase() + "%")));
     }
 
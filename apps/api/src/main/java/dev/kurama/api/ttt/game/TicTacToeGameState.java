@@ -0,0 +1,59 @@
+package dev.kurama.api.ttt.game;
+
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.NonNull;
+
+@Builder(toBuilder = true)
+public record TicTacToeGameState(@NonNull String id,
+                                 @NonNull Status status,
+                                 @NonNull TicTacToeBoard board,
+                                 Token turn,
+                                 int moveCount,
+                                 TicTacToeMoveHistory history,
+                                 @NonNull String playerXId,
+                                 @NonNull String playerXUsername,
+                                 @NonNull String playerOId,
+                                 @NonNull String playerOUsername,
+                                 LocalDateTime lastActivityAt) {
+
+  public TicTacToeGameState {
+    history = history == null ? TicTacToeMoveHistory.EMPTY : history;
+  }
+
+  public static TicTacToeGameState of(@NonNull TicTacToeGame game, int moveCount) {
+    return TicTacToeGameState.builder()
+      .id(game.getId())
+      .status(game.getStatus())
+      .board(game.getBoard() == null ? TicTacToeBoard.EMPTY : TicTacToeBoard.of(game.getBoard()))
+      .turn(game.getTurn())
+      .moveCount(moveCount)
+      .history(TicTacToeMoveHistory.of(game.getMoveHistory()))
+      .playerXId(game.getPlayerX().getId())
+      .playerXUsername(game.getPlayerX().getUsername())
+      .playerOId(game.getPlayerO().getId())
+      .playerOUsername(game.getPlayerO().getUsername())
+      .lastActivityAt(game.getLastActivityAt())
+      .build();
+  }
+
+  public String getCurrentPlayerId() {
+    if (turn == Token.X) {
+      return playerXId;
+    } else if (turn == Token.O) {
+      return playerOId;
+    } else {
+      return null;
+    }
+  }
+
+  public boolean isBotTurn() {
+    return status == Status.IN_PROGRESS && TIC_TAC_TOE_BOT_ID.equals(getCurrentPlayerId());
+  }
+}
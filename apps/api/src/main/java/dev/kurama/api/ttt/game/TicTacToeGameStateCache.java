@@ -0,0 +1,90 @@
+package dev.kurama.api.ttt.game;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TicTacToeGameStateCache implements MeterBinder {
+
+  public static final String CACHE_NAME = "tic_tac_toe.game.state";
+
+  private final Cache<String, TicTacToeGameState> cache;
+
+  public TicTacToeGameStateCache(@Value("${application.tic_tac_toe.game_cache_size:10000}") long maximumSize,
+                                 @Value("${application.tic_tac_toe.game_cache_ttl:3600000}") long expireAfterAccess) {
+    this.cache = CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterAccess(expireAfterAccess, MILLISECONDS)
+      .recordStats()
+      .build();
+  }
+
+  public Optional<TicTacToeGameState> get(@NonNull String gameId) {
+    return Optional.ofNullable(cache.getIfPresent(gameId));
+  }
+
+  public void put(@NonNull TicTacToeGameState state) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      write(state);
+      return;
+    }
+    cache.invalidate(state.id());
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        write(state);
+      }
+    });
+  }
+
+  public void invalidate(@NonNull String gameId) {
+    cache.invalidate(gameId);
+  }
+
+  public void invalidatePlayer(@NonNull String playerId) {
+    evictPlayer(playerId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictPlayer(playerId);
+        }
+      });
+    }
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  private void evictPlayer(String playerId) {
+    cache.asMap()
+      .values()
+      .removeIf(state -> playerId.equals(state.playerXId()) || playerId.equals(state.playerOId()));
+  }
+
+  private void write(TicTacToeGameState state) {
+    if (state.status() == Status.IN_PROGRESS) {
+      cache.put(state.id(), state);
+    } else {
+      cache.invalidate(state.id());
+    }
+  }
+}
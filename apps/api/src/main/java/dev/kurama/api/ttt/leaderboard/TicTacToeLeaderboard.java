@@ -0,0 +1,261 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static dev.kurama.api.ttt.core.TicTacToeRating.MAX_RATING;
+import static dev.kurama.api.ttt.core.TicTacToeRating.MIN_RATING;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository.RatingCount;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Flogger
+@Component
+public class TicTacToeLeaderboard {
+
+  private static final Comparator<Standing> ORDER = Comparator.comparingInt(Standing::rating)
+    .reversed()
+    .thenComparing(Standing::playerId);
+
+  private final TicTacToePlayerRepository repository;
+
+  private final int size;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final NavigableSet<Standing> top = new TreeSet<>(ORDER);
+
+  private final Map<String, Standing> topById = new HashMap<>();
+
+  private final int[] ratingCounts = new int[MAX_RATING - MIN_RATING + 2];
+
+  private int total;
+
+  private volatile boolean loaded;
+
+  public TicTacToeLeaderboard(@NonNull TicTacToePlayerRepository repository,
+                              @Value("${application.tic_tac_toe.leaderboard_size:1000}") int size) {
+    this.repository = repository;
+    this.size = size;
+  }
+
+  public Page<TicTacToeLeaderboardEntry> getPage(@NonNull Pageable pageable) {
+    ensureLoaded();
+    lock.readLock().lock();
+    try {
+      if (pageable.getOffset() + pageable.getPageSize() <= top.size() || top.size() == total) {
+        List<TicTacToeLeaderboardEntry> content = top.stream()
+          .skip(pageable.getOffset())
+          .limit(pageable.getPageSize())
+          .map(this::toEntry)
+          .toList();
+        return new PageImpl<>(content, pageable, total);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    List<Standing> standings = repository.findAllByIdNotOrderByRatingDescIdAsc(TIC_TAC_TOE_BOT_ID,
+      PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())).stream().map(Standing::of).toList();
+    lock.readLock().lock();
+    try {
+      return new PageImpl<>(standings.stream().map(this::toEntry).toList(), pageable, total);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public TicTacToeLeaderboardEntry getEntry(@NonNull String playerId) {
+    ensureLoaded();
+    lock.readLock().lock();
+    try {
+      Standing standing = topById.get(playerId);
+      if (standing != null) {
+        return toEntry(standing);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    Standing standing = Standing.of(repository.findById(playerId).filter(player -> !player.isBot()).orElseThrow());
+    lock.readLock().lock();
+    try {
+      return toEntry(standing);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void add(@NonNull TicTacToePlayer player) {
+    if (player.isBot()) {
+      return;
+    }
+    Standing standing = Standing.of(player);
+    afterCommit(() -> apply(null, standing));
+  }
+
+  public void update(@NonNull TicTacToePlayer player, int previousRating) {
+    if (player.isBot()) {
+      return;
+    }
+    Standing standing = Standing.of(player);
+    afterCommit(() -> {
+      apply(previousRating, standing);
+      backfill();
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${application.tic_tac_toe.leaderboard_refresh:300000}",
+             initialDelayString = "${application.tic_tac_toe.leaderboard_refresh:300000}")
+  public void reload() {
+    lock.writeLock().lock();
+    try {
+      top.clear();
+      topById.clear();
+      Arrays.fill(ratingCounts, 0);
+      total = 0;
+      for (RatingCount ratingCount : repository.countByRating(TIC_TAC_TOE_BOT_ID)) {
+        addRatingCount(ratingCount.getRating(), (int) ratingCount.getCount());
+      }
+      repository.findAllByIdNotOrderByRatingDescIdAsc(TIC_TAC_TOE_BOT_ID, PageRequest.of(0, size))
+        .stream()
+        .map(Standing::of)
+        .forEach(this::put);
+      loaded = true;
+      log.atFine().log("Loaded TicTacToe leaderboard with %d players", total);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureLoaded() {
+    if (!loaded) {
+      reload();
+    }
+  }
+
+  private void apply(Integer previousRating, Standing standing) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      boolean complete = top.size() == total;
+      if (previousRating != null) {
+        addRatingCount(previousRating, -1);
+      }
+      addRatingCount(standing.rating(), 1);
+      Standing current = topById.remove(standing.playerId());
+      if (current != null) {
+        top.remove(current);
+      }
+      if (complete || (!top.isEmpty() && ORDER.compare(standing, top.last()) < 0)) {
+        put(standing);
+      }
+      if (top.size() > size) {
+        topById.remove(top.pollLast().playerId());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void backfill() {
+    Standing last;
+    int missing;
+    lock.readLock().lock();
+    try {
+      if (!loaded || top.isEmpty()) {
+        return;
+      }
+      last = top.last();
+      missing = Math.min(size, total) - top.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+    if (missing <= 0) {
+      return;
+    }
+    List<Standing> standings = repository.findAllRankedAfter(last.rating(), last.playerId(), TIC_TAC_TOE_BOT_ID,
+      PageRequest.of(0, missing)).stream().map(Standing::of).toList();
+    lock.writeLock().lock();
+    try {
+      standings.stream().filter(standing -> !topById.containsKey(standing.playerId())).forEach(this::put);
+      while (top.size() > size) {
+        topById.remove(top.pollLast().playerId());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void put(Standing standing) {
+    top.add(standing);
+    topById.put(standing.playerId(), standing);
+  }
+
+  private void addRatingCount(int rating, int count) {
+    total += count;
+    for (int index = rating - MIN_RATING + 1; index < ratingCounts.length; index += index & -index) {
+      ratingCounts[index] += count;
+    }
+  }
+
+  private int countAbove(int rating) {
+    int atOrBelow = 0;
+    for (int index = rating - MIN_RATING + 1; index > 0; index -= index & -index) {
+      atOrBelow += ratingCounts[index];
+    }
+    return total - atOrBelow;
+  }
+
+  private TicTacToeLeaderboardEntry toEntry(Standing standing) {
+    return TicTacToeLeaderboardEntry.builder()
+      .rank(countAbove(standing.rating()) + 1)
+      .playerId(standing.playerId())
+      .username(standing.username())
+      .rating(standing.rating())
+      .wins(standing.wins())
+      .losses(standing.losses())
+      .draws(standing.draws())
+      .build();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private record Standing(String playerId, String username, int rating, int wins, int losses, int draws) {
+
+    static Standing of(TicTacToePlayer player) {
+      return new Standing(player.getId(), player.getUsername(), player.getRating(), player.getWins(),
+        player.getLosses(), player.getDraws());
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_LEADERBOARD_PATH;
+import static org.springframework.beans.support.PagedListHolder.DEFAULT_PAGE_SIZE;
+import static org.springframework.http.ResponseEntity.ok;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(TIC_TAC_TOE_LEADERBOARD_PATH)
+@PreAuthorize("hasAuthority(@TicTacToeAuthority.TIC_TAC_TOE_ROOT)")
+@RequiredArgsConstructor
+public class TicTacToeLeaderboardController {
+
+  @NonNull
+  private final TicTacToeLeaderboardFacade facade;
+
+  @GetMapping()
+  public ResponseEntity<PagedModel<TicTacToeLeaderboardModel>> getLeaderboard(
+    @PageableDefault(page = 0, size = DEFAULT_PAGE_SIZE) Pageable pageable) {
+    return ok().body(facade.getLeaderboard(pageable));
+  }
+
+  @GetMapping("/{playerId}")
+  public ResponseEntity<TicTacToeLeaderboardModel> getPlayerRank(@PathVariable("playerId") String playerId) {
+    return ok().body(facade.getPlayerRank(playerId));
+  }
+}
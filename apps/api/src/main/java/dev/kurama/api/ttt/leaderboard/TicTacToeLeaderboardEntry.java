@@ -0,0 +1,15 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+@Builder
+public record TicTacToeLeaderboardEntry(int rank,
+                                        @NonNull String playerId,
+                                        @NonNull String username,
+                                        int rating,
+                                        int wins,
+                                        int losses,
+                                        int draws) {
+
+}
@@ -0,0 +1,30 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TicTacToeLeaderboardFacade {
+
+  @NonNull
+  private final TicTacToeLeaderboard leaderboard;
+
+  @NonNull
+  private final TicTacToeLeaderboardMapper mapper;
+
+  @NonNull
+  private final TicTacToeLeaderboardModelAssembler assembler;
+
+  public PagedModel<TicTacToeLeaderboardModel> getLeaderboard(Pageable pageable) {
+    return assembler.toPagedModel(
+      mapper.ticTacToeLeaderboardEntryPageToTicTacToeLeaderboardModelPage(leaderboard.getPage(pageable)));
+  }
+
+  public TicTacToeLeaderboardModel getPlayerRank(String playerId) {
+    return mapper.ticTacToeLeaderboardEntryToTicTacToeLeaderboardModel(leaderboard.getEntry(playerId));
+  }
+}
@@ -0,0 +1,15 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import org.mapstruct.Mapper;
+import org.springframework.data.domain.Page;
+
+@Mapper
+public interface TicTacToeLeaderboardMapper {
+
+  TicTacToeLeaderboardModel ticTacToeLeaderboardEntryToTicTacToeLeaderboardModel(TicTacToeLeaderboardEntry entry);
+
+  default Page<TicTacToeLeaderboardModel> ticTacToeLeaderboardEntryPageToTicTacToeLeaderboardModelPage(
+    Page<TicTacToeLeaderboardEntry> entries) {
+    return entries.map(this::ticTacToeLeaderboardEntryToTicTacToeLeaderboardModel);
+  }
+}
@@ -0,0 +1,25 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+@EqualsAndHashCode(callSuper = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TicTacToeLeaderboardModel extends RepresentationModel<TicTacToeLeaderboardModel> {
+
+  private int rank;
+  private String playerId;
+  private String username;
+  private int rating;
+  private int wins;
+  private int losses;
+  private int draws;
+
+}
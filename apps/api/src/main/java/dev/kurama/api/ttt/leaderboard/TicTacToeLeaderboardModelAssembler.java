@@ -0,0 +1,9 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import dev.kurama.api.core.hateoas.assembler.DomainModelAssembler;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TicTacToeLeaderboardModelAssembler extends DomainModelAssembler<TicTacToeLeaderboardModel> {
+
+}
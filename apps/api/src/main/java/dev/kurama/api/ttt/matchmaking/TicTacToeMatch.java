@@ -0,0 +1,7 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import lombok.NonNull;
+
+public record TicTacToeMatch(@NonNull TicTacToeMatchmakingTicket playerX, @NonNull TicTacToeMatchmakingTicket playerO) {
+
+}
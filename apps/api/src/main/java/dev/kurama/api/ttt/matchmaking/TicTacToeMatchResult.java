@@ -0,0 +1,10 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import dev.kurama.api.ttt.game.TicTacToeGame;
+import java.util.List;
+import lombok.NonNull;
+
+public record TicTacToeMatchResult(@NonNull List<TicTacToeGame> games,
+                                   @NonNull List<TicTacToeMatchmakingTicket> unmatched) {
+
+}
@@ -0,0 +1,58 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import com.google.common.collect.Lists;
+import dev.kurama.api.ttt.game.TicTacToeGameFacility;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Flogger
+@Component
+public class TicTacToeMatchmaker {
+
+  private final TicTacToeMatchmakingQueue queue;
+
+  private final TicTacToeGameFacility gameFacility;
+
+  private final int batchSize;
+
+  public TicTacToeMatchmaker(@NonNull TicTacToeMatchmakingQueue queue,
+                             @NonNull TicTacToeGameFacility gameFacility,
+                             @Value("${application.tic_tac_toe.matchmaking_batch_size:100}") int batchSize) {
+    this.queue = queue;
+    this.gameFacility = gameFacility;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${application.tic_tac_toe.matchmaking_interval:1000}")
+  public void match() {
+    List<TicTacToeMatch> matches = queue.pair(LocalDateTime.now(), Integer.MAX_VALUE);
+    Lists.partition(matches, batchSize).forEach(this::createMatches);
+    if (!matches.isEmpty()) {
+      log.atFine().log("Paired %d TicTacToe matches, %d players waiting", matches.size(), queue.size());
+    }
+  }
+
+  private void createMatches(List<TicTacToeMatch> batch) {
+    try {
+      List<TicTacToeMatchmakingTicket> unmatched = gameFacility.createMatches(batch).unmatched();
+      if (!unmatched.isEmpty()) {
+        log.atFine().log("Re-enqueuing %d TicTacToe players whose opponent is no longer available", unmatched.size());
+        unmatched.forEach(queue::release);
+      }
+    } catch (RuntimeException e) {
+      if (batch.size() > 1) {
+        log.atWarning().withCause(e).log("Could not create %d TicTacToe matchmaking games, retrying one by one",
+          batch.size());
+        batch.forEach(match -> createMatches(List.of(match)));
+      } else {
+        log.atWarning().withCause(e).log("Could not create TicTacToe matchmaking game, re-enqueuing its players");
+        queue.release(batch.get(0));
+      }
+    }
+  }
+}
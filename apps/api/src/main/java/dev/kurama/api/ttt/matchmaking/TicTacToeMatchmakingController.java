@@ -0,0 +1,41 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_MATCHMAKING_PATH;
+import static org.springframework.http.ResponseEntity.noContent;
+import static org.springframework.http.ResponseEntity.ok;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(TIC_TAC_TOE_MATCHMAKING_PATH)
+@PreAuthorize("hasAuthority(@TicTacToeAuthority.TIC_TAC_TOE_ROOT)")
+@RequiredArgsConstructor
+public class TicTacToeMatchmakingController {
+
+  @NonNull
+  private final TicTacToeMatchmakingFacade facade;
+
+  @GetMapping()
+  public ResponseEntity<TicTacToeMatchmakingModel> getTicket() {
+    return ok().body(facade.getTicket());
+  }
+
+  @PutMapping()
+  public ResponseEntity<TicTacToeMatchmakingModel> enqueue() {
+    return ok().body(facade.enqueue());
+  }
+
+  @DeleteMapping()
+  public ResponseEntity<Void> dequeue() {
+    facade.dequeue();
+    return noContent().build();
+  }
+}
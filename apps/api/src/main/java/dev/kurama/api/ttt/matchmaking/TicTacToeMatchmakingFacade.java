@@ -0,0 +1,41 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import static dev.kurama.api.core.utility.AuthorityUtils.getCurrentUserId;
+import static dev.kurama.api.core.utility.AuthorityUtils.getCurrentUsername;
+
+import dev.kurama.api.core.exception.domain.not.found.EntityNotFoundException;
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayerService;
+import java.time.LocalDateTime;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TicTacToeMatchmakingFacade {
+
+  @NonNull
+  private final TicTacToeMatchmakingQueue queue;
+
+  @NonNull
+  private final TicTacToePlayerService playerService;
+
+  @NonNull
+  private final TicTacToeMatchmakingMapper mapper;
+
+  public TicTacToeMatchmakingModel getTicket() {
+    return mapper.ticTacToeMatchmakingTicketToTicTacToeMatchmakingModel(queue.find(getCurrentUserId()).orElseThrow());
+  }
+
+  public TicTacToeMatchmakingModel enqueue() {
+    String username = getCurrentUsername();
+    TicTacToePlayer player = playerService.getPlayerByUsername(username)
+      .orElseThrow(() -> new EntityNotFoundException(username, TicTacToePlayer.class));
+    return mapper.ticTacToeMatchmakingTicketToTicTacToeMatchmakingModel(queue.enqueue(player, LocalDateTime.now()));
+  }
+
+  public void dequeue() {
+    queue.dequeue(getCurrentUserId());
+  }
+}
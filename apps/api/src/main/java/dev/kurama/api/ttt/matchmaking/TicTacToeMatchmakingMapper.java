@@ -0,0 +1,9 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface TicTacToeMatchmakingMapper {
+
+  TicTacToeMatchmakingModel ticTacToeMatchmakingTicketToTicTacToeMatchmakingModel(TicTacToeMatchmakingTicket ticket);
+}
@@ -0,0 +1,23 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+@EqualsAndHashCode(callSuper = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TicTacToeMatchmakingModel extends RepresentationModel<TicTacToeMatchmakingModel> {
+
+  private String playerId;
+  private String username;
+  private int rating;
+  private LocalDateTime enqueuedAt;
+
+}
@@ -0,0 +1,122 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TicTacToeMatchmakingQueue {
+
+  private static final Comparator<TicTacToeMatchmakingTicket> ORDER = Comparator.comparingInt(
+      TicTacToeMatchmakingTicket::rating)
+    .thenComparing(TicTacToeMatchmakingTicket::enqueuedAt)
+    .thenComparing(TicTacToeMatchmakingTicket::playerId);
+
+  private final NavigableSet<TicTacToeMatchmakingTicket> tickets = new ConcurrentSkipListSet<>(ORDER);
+
+  private final Map<String, TicTacToeMatchmakingTicket> ticketsByPlayer = new ConcurrentHashMap<>();
+
+  private final int window;
+
+  private final int windowGrowth;
+
+  private final int maxWindow;
+
+  public TicTacToeMatchmakingQueue(@Value("${application.tic_tac_toe.matchmaking_window:50}") int window,
+                                   @Value("${application.tic_tac_toe.matchmaking_window_growth:25}") int windowGrowth,
+                                   @Value("${application.tic_tac_toe.matchmaking_max_window:400}") int maxWindow) {
+    this.window = window;
+    this.windowGrowth = windowGrowth;
+    this.maxWindow = maxWindow;
+  }
+
+  public TicTacToeMatchmakingTicket enqueue(@NonNull TicTacToePlayer player, @NonNull LocalDateTime now) {
+    return ticketsByPlayer.computeIfAbsent(player.getId(), playerId -> {
+      TicTacToeMatchmakingTicket ticket = TicTacToeMatchmakingTicket.builder()
+        .playerId(playerId)
+        .username(player.getUsername())
+        .rating(player.getRating())
+        .enqueuedAt(now)
+        .build();
+      tickets.add(ticket);
+      return ticket;
+    });
+  }
+
+  public boolean dequeue(@NonNull String playerId) {
+    TicTacToeMatchmakingTicket ticket = ticketsByPlayer.remove(playerId);
+    return ticket != null && tickets.remove(ticket);
+  }
+
+  public Optional<TicTacToeMatchmakingTicket> find(@NonNull String playerId) {
+    return Optional.ofNullable(ticketsByPlayer.get(playerId));
+  }
+
+  public int size() {
+    return tickets.size();
+  }
+
+  public List<TicTacToeMatch> pair(@NonNull LocalDateTime now, int limit) {
+    List<TicTacToeMatch> matches = new ArrayList<>();
+    TicTacToeMatchmakingTicket current = tickets.isEmpty() ? null : tickets.first();
+    while (current != null && matches.size() < limit) {
+      TicTacToeMatchmakingTicket next = tickets.higher(current);
+      if (next == null) {
+        break;
+      }
+      if (next.rating() - current.rating() > Math.max(getWindow(current, now), getWindow(next, now))) {
+        current = next;
+        continue;
+      }
+      if (!claim(current)) {
+        current = next;
+        continue;
+      }
+      if (!claim(next)) {
+        release(current);
+        current = tickets.higher(next);
+        continue;
+      }
+      matches.add(current.enqueuedAt().isAfter(next.enqueuedAt())
+        ? new TicTacToeMatch(next, current)
+        : new TicTacToeMatch(current, next));
+      current = tickets.higher(next);
+    }
+    return matches;
+  }
+
+  public void release(@NonNull TicTacToeMatch match) {
+    release(match.playerX());
+    release(match.playerO());
+  }
+
+  public void release(@NonNull TicTacToeMatchmakingTicket ticket) {
+    if (ticketsByPlayer.putIfAbsent(ticket.playerId(), ticket) == null) {
+      tickets.add(ticket);
+    }
+  }
+
+  public int getWindow(@NonNull TicTacToeMatchmakingTicket ticket, @NonNull LocalDateTime now) {
+    long waited = Math.max(0, Duration.between(ticket.enqueuedAt(), now).toSeconds());
+    return (int) Math.min(maxWindow, window + waited * windowGrowth);
+  }
+
+  private boolean claim(TicTacToeMatchmakingTicket ticket) {
+    if (!tickets.remove(ticket)) {
+      return false;
+    }
+    ticketsByPlayer.remove(ticket.playerId(), ticket);
+    return true;
+  }
+}
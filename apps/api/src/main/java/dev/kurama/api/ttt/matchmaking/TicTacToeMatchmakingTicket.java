@@ -0,0 +1,13 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.NonNull;
+
+@Builder
+public record TicTacToeMatchmakingTicket(@NonNull String playerId,
+                                         @NonNull String username,
+                                         int rating,
+                                         @NonNull LocalDateTime enqueuedAt) {
+
+}
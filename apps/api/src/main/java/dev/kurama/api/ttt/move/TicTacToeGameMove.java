@@ -1,29 +1,29 @@
 package dev.kurama.api.ttt.move;
 
-import dev.kurama.api.core.domain.AbstractEntity;
 import dev.kurama.api.ttt.game.TicTacToeGame;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
-import jakarta.persistence.CascadeType;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.ManyToOne;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
-import lombok.experimental.SuperBuilder;
 
-@SuperBuilder
+@Builder
 @Getter
 @Setter
 @ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(force = true)
-@Entity
-public class TicTacToeGameMove extends AbstractEntity implements Serializable {
+@AllArgsConstructor
+public class TicTacToeGameMove implements Serializable {
+
+  @EqualsAndHashCode.Include
+  private String id;
 
   @NonNull
   private String cell;
@@ -44,12 +44,8 @@ public class TicTacToeGameMove extends AbstractEntity implements Serializable {
   private Long moveTime;
 
   @ToString.Exclude
-  @EqualsAndHashCode.Exclude
-  @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
   private TicTacToeGame game;
 
   @ToString.Exclude
-  @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
   private TicTacToePlayer player;
-
 }
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -27,8 +28,10 @@ public class TicTacToeGameMoveController {
   private final TicTacToeGameMoveFacade facade;
 
   @GetMapping()
-  public ResponseEntity<CollectionModel<TicTacToeGameMoveModel>> getAllGameMoves(@PathVariable String gameId) {
-    return ok().body(facade.getAllGameMoves(gameId));
+  public ResponseEntity<CollectionModel<TicTacToeGameMoveModel>> getAllGameMoves(@PathVariable String gameId,
+                                                                                 @RequestParam(required = false)
+                                                                                 Integer after) {
+    return ok().body(after == null ? facade.getAllGameMoves(gameId) : facade.getGameMovesAfter(gameId, after));
   }
 
   @PostMapping()
@@ -23,8 +23,18 @@ public class TicTacToeGameMoveFacade {
     return mapper.ticTacToeGameMoveToTicTacToeGameMoveModel(facility.move(gameId, input));
   }
 
+  public TicTacToeGameMoveResultModel submitMove(String gameId, TicTacToeGameMoveInput input) {
+    return mapper.ticTacToeGameMoveResultToTicTacToeGameMoveResultModel(facility.submitMove(gameId, input));
+  }
+
   public CollectionModel<TicTacToeGameMoveModel> getAllGameMoves(String gameId) {
     return assembler.toCollectionModel(
       mapper.ticTacToeGameMoveCollectionToTicTacToeGameMoveCollectionModel(facility.getAllGameMoves(gameId)), gameId);
   }
+
+  public CollectionModel<TicTacToeGameMoveModel> getGameMovesAfter(String gameId, int number) {
+    return assembler.toCollectionModel(
+      mapper.ticTacToeGameMoveCollectionToTicTacToeGameMoveCollectionModel(facility.getGameMovesAfter(gameId, number)),
+      gameId);
+  }
 }
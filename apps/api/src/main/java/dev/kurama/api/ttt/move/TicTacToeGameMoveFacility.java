@@ -2,28 +2,35 @@ package dev.kurama.api.ttt.move;
 
 import static dev.kurama.api.core.utility.AuthorityUtils.getCurrentUserId;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
-import static dev.kurama.api.ttt.core.TicTacToeUtils.isLegalMove;
+import static dev.kurama.api.ttt.core.TicTacToeUtils.getIndexInBoard;
 
 import com.google.common.collect.Lists;
 import dev.kurama.api.core.exception.domain.ForbiddenException;
 import dev.kurama.api.ttt.core.TicTacToeAuthority;
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.core.TicTacToeSolver;
 import dev.kurama.api.ttt.game.TicTacToeGame;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.TicTacToeGameService;
-import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.game.TicTacToeGameState;
 import dev.kurama.api.ttt.player.TicTacToePlayerService;
 import jakarta.transaction.Transactional;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.flogger.Flogger;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Flogger
 @Service
 @RequiredArgsConstructor
 public class TicTacToeGameMoveFacility {
 
+  private static final int MOVE_ATTEMPTS = 3;
+
   @NonNull
   private final TicTacToeGameService gameService;
 
@@ -33,40 +40,91 @@ public class TicTacToeGameMoveFacility {
   @NonNull
   private final TicTacToePlayerService playerService;
 
-  @Transactional
+  @NonNull
+  private final TicTacToeSolver solver;
+
+  @NonNull
+  private final TransactionTemplate transactionTemplate;
+
   public TicTacToeGameMove move(String gameId, TicTacToeGameMoveInput input) {
-    TicTacToeGame game = gameService.findById(gameId);
+    return submitMove(gameId, input).move();
+  }
+
+  public TicTacToeGameMoveResult submitMove(String gameId, TicTacToeGameMoveInput input) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> tryMove(gameId, input));
+      } catch (OptimisticLockingFailureException exception) {
+        if (attempt >= MOVE_ATTEMPTS) {
+          throw exception;
+        }
+        log.atFine().log("Retrying move on game %s after concurrent update (attempt %d)", gameId, attempt);
+      }
+    }
+  }
+
+  private TicTacToeGameMoveResult tryMove(String gameId, TicTacToeGameMoveInput input) {
+    TicTacToeGameState state = gameService.getState(gameId);
 
-    if (game.getStatus() != TicTacToeGame.Status.IN_PROGRESS) {
+    if (state.status() != TicTacToeGame.Status.IN_PROGRESS) {
       throw new ForbiddenException("Game is not in progress");
     }
-    TicTacToePlayer player = game.getCurrentPlayer();
-    if (!player.getId().equals(getCurrentUserId()) && !hasAuthority(TicTacToeAuthority.TIC_TAC_TOE_GAME_MOVE)) {
+    if (!state.getCurrentPlayerId().equals(getCurrentUserId()) && !hasAuthority(
+      TicTacToeAuthority.TIC_TAC_TOE_GAME_MOVE)) {
       throw new ForbiddenException("It is not your turn");
     }
-    if (!isLegalMove(game.getBoard(), input.getCell())) {
+    if (!state.board().isLegalMove(getIndexInBoard(input.getCell()))) {
       throw new IllegalArgumentException("Illegal move " + input.getCell());
     }
 
-    TicTacToeGameMove move = gameMoveService.createMove(game, input.getCell());
-
-    game = gameService.applyMove(game, move);
+    TicTacToeGameMove move = gameMoveService.createMove(state, input.getCell());
+    TicTacToeGameState next = applyMove(state, move);
+    if (!next.isBotTurn()) {
+      return new TicTacToeGameMoveResult(move, null, next);
+    }
+    TicTacToeGameMove reply = createBotMove(next);
+    return new TicTacToeGameMoveResult(move, reply, applyMove(next, reply));
+  }
 
-    if (game.getStatus() == Status.FINISHED) {
-      playerService.registerGameResult(game.getPlayerX(), game.getPlayerO(), game.getTurn());
+  @Transactional
+  public void moveBot(TicTacToeGame game) {
+    if (game.getStatus() == Status.IN_PROGRESS && game.getCurrentPlayer().isBot()) {
+      TicTacToeGameState state = gameService.getState(game.getId());
+      if (state.isBotTurn()) {
+        applyMove(state, createBotMove(state));
+      }
     }
+  }
 
-    return move;
+  private TicTacToeGameMove createBotMove(TicTacToeGameState state) {
+    int index = solver.getBestMove(state.board());
+    return gameMoveService.createMove(state, TicTacToeBoard.getCell(index));
+  }
+
+  private TicTacToeGameState applyMove(TicTacToeGameState state, TicTacToeGameMove move) {
+    TicTacToeGameState next = gameService.applyMove(state, move);
+
+    if (next.status() == Status.FINISHED) {
+      playerService.registerGameResult(next.playerXId(), next.playerOId(), next.turn());
+    }
+    return next;
   }
 
   public Collection<TicTacToeGameMove> getAllGameMoves(String gameId) {
+    return gameMoveService.getMoves(getReadableGame(gameId));
+  }
+
+  public Collection<TicTacToeGameMove> getGameMovesAfter(String gameId, int number) {
+    return gameMoveService.getMovesAfter(getReadableGame(gameId), number);
+  }
+
+  private TicTacToeGame getReadableGame(String gameId) {
     TicTacToeGame game = gameService.findById(gameId);
     List<String> players = Lists.newArrayList(game.getPlayerX().getId(), game.getPlayerO().getId());
     if (game.isPrivate() && (!hasAuthority(TicTacToeAuthority.TIC_TAC_TOE_GAME_READ) && !players.contains(
       getCurrentUserId()))) {
       throw new ForbiddenException("You are not allowed to view this game's moves");
     }
-
-    return game.getMoves().stream().sorted(Comparator.comparingInt(TicTacToeGameMove::getNumber)).toList();
+    return game;
   }
 }
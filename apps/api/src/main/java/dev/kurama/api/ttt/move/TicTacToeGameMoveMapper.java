@@ -1,5 +1,6 @@
 package dev.kurama.api.ttt.move;
 
+import dev.kurama.api.ttt.core.TicTacToeBoard;
 import dev.kurama.api.ttt.player.TicTacToePlayerMapper;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -15,8 +16,19 @@ public interface TicTacToeGameMoveMapper {
 
   Collection<TicTacToeGameMoveModel> ticTacToeGameMoveCollectionToTicTacToeGameMoveCollectionModel(Collection<TicTacToeGameMove> ticTacToeGameMoves);
 
+  @Mapping(target = "gameId", source = "state.id")
+  @Mapping(target = "board", source = "state.board")
+  @Mapping(target = "turn", source = "state.turn")
+  @Mapping(target = "status", source = "state.status")
+  @Mapping(target = "moveCount", source = "state.moveCount")
+  TicTacToeGameMoveResultModel ticTacToeGameMoveResultToTicTacToeGameMoveResultModel(TicTacToeGameMoveResult ticTacToeGameMoveResult);
+
   default Long map(LocalDateTime value) {
     return value == null ? null : value.toInstant(ZoneOffset.UTC).toEpochMilli();
   }
 
+  default String map(TicTacToeBoard value) {
+    return value == null ? null : value.toString();
+  }
+
 }
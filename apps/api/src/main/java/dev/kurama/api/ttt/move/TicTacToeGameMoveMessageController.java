@@ -0,0 +1,76 @@
+package dev.kurama.api.ttt.move;
+
+import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+import dev.kurama.api.core.domain.DomainResponse;
+import dev.kurama.api.core.exception.domain.ForbiddenException;
+import java.util.NoSuchElementException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@PreAuthorize("hasAuthority(@TicTacToeAuthority.TIC_TAC_TOE_ROOT)")
+@RequiredArgsConstructor
+public class TicTacToeGameMoveMessageController {
+
+  public static final String TIC_TAC_TOE_GAME_MOVE_DESTINATION = "/tic-tac-toe/game/{gameId}/move";
+  public static final String TIC_TAC_TOE_GAME_MOVE_RESULT_CHANNEL = ROOT_WEBSOCKET_CHANNEL + "/tic-tac-toe/move";
+  public static final String TIC_TAC_TOE_GAME_MOVE_ERROR_CHANNEL = TIC_TAC_TOE_GAME_MOVE_RESULT_CHANNEL + "/error";
+
+  @NonNull
+  private final TicTacToeGameMoveFacade facade;
+
+  @MessageMapping(TIC_TAC_TOE_GAME_MOVE_DESTINATION)
+  @SendToUser(destinations = TIC_TAC_TOE_GAME_MOVE_RESULT_CHANNEL, broadcast = false)
+  public TicTacToeGameMoveResultModel move(@DestinationVariable String gameId,
+                                           @NonNull @Payload TicTacToeGameMoveInput input) {
+    return facade.submitMove(gameId, input);
+  }
+
+  @MessageExceptionHandler({ForbiddenException.class, AccessDeniedException.class})
+  @SendToUser(destinations = TIC_TAC_TOE_GAME_MOVE_ERROR_CHANNEL, broadcast = false)
+  public DomainResponse forbiddenException(Exception exception) {
+    return createDomainResponse(FORBIDDEN, exception);
+  }
+
+  @MessageExceptionHandler(NoSuchElementException.class)
+  @SendToUser(destinations = TIC_TAC_TOE_GAME_MOVE_ERROR_CHANNEL, broadcast = false)
+  public DomainResponse notFoundException(NoSuchElementException exception) {
+    return createDomainResponse(NOT_FOUND, exception);
+  }
+
+  @MessageExceptionHandler(ConcurrencyFailureException.class)
+  @SendToUser(destinations = TIC_TAC_TOE_GAME_MOVE_ERROR_CHANNEL, broadcast = false)
+  public DomainResponse concurrencyFailureException(ConcurrencyFailureException exception) {
+    return createDomainResponse(CONFLICT, exception);
+  }
+
+  @MessageExceptionHandler({IllegalArgumentException.class, NullPointerException.class})
+  @SendToUser(destinations = TIC_TAC_TOE_GAME_MOVE_ERROR_CHANNEL, broadcast = false)
+  public DomainResponse badRequestException(RuntimeException exception) {
+    return createDomainResponse(BAD_REQUEST, exception);
+  }
+
+  private DomainResponse createDomainResponse(HttpStatus status, Exception exception) {
+    return DomainResponse.builder()
+      .status(status.value())
+      .reason(status.getReasonPhrase())
+      .title(status.getReasonPhrase())
+      .message(exception.getMessage())
+      .build();
+  }
+}
@@ -23,7 +23,7 @@ public class TicTacToeGameMoveModelAssembler extends DomainModelAssembler<TicTac
 
   @NonNull
   private static Link getSelfLink(String gameId) {
-    return linkTo(methodOn(TicTacToeGameMoveController.class).getAllGameMoves(gameId)).withRel(SELF);
+    return linkTo(methodOn(TicTacToeGameMoveController.class).getAllGameMoves(gameId, null)).withRel(SELF);
   }
 
   @NonNull
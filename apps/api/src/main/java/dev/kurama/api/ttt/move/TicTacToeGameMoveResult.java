@@ -0,0 +1,10 @@
+package dev.kurama.api.ttt.move;
+
+import dev.kurama.api.ttt.game.TicTacToeGameState;
+import lombok.NonNull;
+
+public record TicTacToeGameMoveResult(@NonNull TicTacToeGameMove move,
+                                      TicTacToeGameMove reply,
+                                      @NonNull TicTacToeGameState state) {
+
+}
@@ -0,0 +1,24 @@
+package dev.kurama.api.ttt.move;
+
+import dev.kurama.api.ttt.game.TicTacToeGame;
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TicTacToeGameMoveResultModel {
+
+  private String gameId;
+  private TicTacToeGameMoveModel move;
+  private TicTacToeGameMoveModel reply;
+  private String board;
+  private TicTacToePlayer.Token turn;
+  private TicTacToeGame.Status status;
+  private Integer moveCount;
+
+}
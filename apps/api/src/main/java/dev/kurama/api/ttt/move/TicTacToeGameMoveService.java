@@ -2,12 +2,22 @@ package dev.kurama.api.ttt.move;
 
 import static dev.kurama.api.ttt.core.TicTacToeUtils.getIndexInBoard;
 
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
 import dev.kurama.api.ttt.game.TicTacToeGame;
+import dev.kurama.api.ttt.game.TicTacToeGameRepository;
+import dev.kurama.api.ttt.game.TicTacToeGameState;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,25 +25,62 @@ import org.springframework.stereotype.Service;
 public class TicTacToeGameMoveService {
 
   @NonNull
-  private final TicTacToeGameMoveRepository repository;
+  private final TicTacToeGameRepository gameRepository;
 
-  public TicTacToeGameMove createMove(TicTacToeGame game, String cell) {
-    int indexInBoard = getIndexInBoard(cell);
-    String newBoard = StringUtils.overlay(game.getBoard(), String.valueOf(game.getTurn()), indexInBoard,
-      indexInBoard + 1);
+  @NonNull
+  private final TicTacToePlayerRepository playerRepository;
+
+  public TicTacToeGameMove createMove(TicTacToeGameState state, String cell) {
+    String newBoard = state.board().move(getIndexInBoard(cell), state.turn()).toString();
     LocalDateTime movedAt = LocalDateTime.now();
-    TicTacToeGameMove move = TicTacToeGameMove.builder()
-      .setRandomUUID()
+    return TicTacToeGameMove.builder()
+      .id(getMoveId(state.id(), state.moveCount() + 1))
       .cell(cell)
-      .token(game.getTurn())
+      .token(state.turn())
       .board(newBoard)
-      .number(game.getMoves().size() + 1)
-      .game(game)
-      .player(game.getCurrentPlayer())
+      .number(state.moveCount() + 1)
+      .game(gameRepository.getReferenceById(state.id()))
+      .player(playerRepository.getReferenceById(state.getCurrentPlayerId()))
       .movedAt(movedAt)
-      .moveTime(Duration.between(game.getLastActivityAt(), movedAt).toMillis())
+      .moveTime(Duration.between(state.lastActivityAt(), movedAt).toMillis())
       .build();
+  }
+
+  public List<TicTacToeGameMove> getMoves(TicTacToeGame game) {
+    return getMovesAfter(game, 0);
+  }
+
+  public List<TicTacToeGameMove> getMovesAfter(TicTacToeGame game, int number) {
+    TicTacToeMoveHistory history = TicTacToeMoveHistory.of(game.getMoveHistory());
+    if (history.size() <= number) {
+      return List.of();
+    }
+    List<TicTacToeGameMove> moves = new ArrayList<>(history.size() - Math.max(number, 0));
+    TicTacToeBoard board = TicTacToeBoard.EMPTY;
+    LocalDateTime movedAt = Objects.requireNonNullElse(game.getStartedAt(), game.getRequestedAt());
+    for (int index = 0; index < history.size(); index++) {
+      Token token = index % 2 == 0 ? Token.X : Token.O;
+      long moveTime = history.getMoveTime(index);
+      board = board.move(history.getIndex(index), token);
+      movedAt = movedAt.plus(Duration.ofMillis(moveTime));
+      if (index >= number) {
+        moves.add(TicTacToeGameMove.builder()
+          .id(getMoveId(game.getId(), index + 1))
+          .cell(TicTacToeBoard.getCell(history.getIndex(index)))
+          .token(token)
+          .board(board.toString())
+          .number(index + 1)
+          .game(game)
+          .player(token == Token.X ? game.getPlayerX() : game.getPlayerO())
+          .movedAt(movedAt)
+          .moveTime(moveTime)
+          .build());
+      }
+    }
+    return moves;
+  }
 
-    return repository.save(move);
+  private static String getMoveId(String gameId, int number) {
+    return UUID.nameUUIDFromBytes((gameId + "/" + number).getBytes(StandardCharsets.UTF_8)).toString();
   }
 }
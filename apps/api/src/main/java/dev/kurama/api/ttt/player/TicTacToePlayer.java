@@ -1,5 +1,8 @@
 package dev.kurama.api.ttt.player;
 
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static dev.kurama.api.ttt.core.TicTacToeRating.DEFAULT_RATING;
+
 import com.google.common.collect.Sets;
 import dev.kurama.api.core.domain.AbstractEntity;
 import dev.kurama.api.core.domain.User;
@@ -19,6 +22,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 @SuperBuilder
 @Getter
@@ -34,6 +38,9 @@ public class TicTacToePlayer extends AbstractEntity implements Serializable {
   private int losses = 0;
   @Builder.Default
   private int draws = 0;
+  @Builder.Default
+  @ColumnDefault("" + DEFAULT_RATING)
+  private int rating = DEFAULT_RATING;
 
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
@@ -55,6 +62,10 @@ public class TicTacToePlayer extends AbstractEntity implements Serializable {
   @NonNull
   private String username;
 
+  public boolean isBot() {
+    return TIC_TAC_TOE_BOT_ID.equals(getId());
+  }
+
   public enum Token {
     X, O, NONE
   }
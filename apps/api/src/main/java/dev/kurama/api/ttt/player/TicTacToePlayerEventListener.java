@@ -1,11 +1,16 @@
 package dev.kurama.api.ttt.player;
 
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.ttt.game.TicTacToeGameService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -15,6 +20,9 @@ public class TicTacToePlayerEventListener {
   @NonNull
   private final TicTacToePlayerService ticTacToePlayerService;
 
+  @NonNull
+  private final TicTacToeGameService ticTacToeGameService;
+
   @EventListener
   public void userChangedEvent(@NonNull UserChangedEvent event) {
     if (event.getAction() != UserChangedEventAction.CREATED) {
@@ -26,4 +34,23 @@ public class TicTacToePlayerEventListener {
     ticTacToePlayerService.create(event.getUserId(), event.getUsername());
   }
 
+  @Transactional
+  @EventListener
+  public void userUpdatedEvent(@NonNull UserChangedEvent event) {
+    if (event.getAction() != UserChangedEventAction.UPDATED || event.getUsername() == null
+      || event.getPreviousUsername() == null || event.getUsername().equals(event.getPreviousUsername())) {
+      return;
+    }
+    if (ticTacToePlayerService.updateUsername(event.getUserId(), event.getUsername())) {
+      ticTacToeGameService.updatePlayerUsername(event.getUserId(), event.getUsername());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void applicationReadyEvent() {
+    if (!ticTacToePlayerService.existsById(TIC_TAC_TOE_BOT_ID)) {
+      ticTacToePlayerService.createBot();
+    }
+  }
+
 }
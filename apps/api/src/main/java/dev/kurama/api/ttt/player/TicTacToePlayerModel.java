@@ -19,5 +19,6 @@ public class TicTacToePlayerModel extends RepresentationModel<TicTacToePlayerMod
   private int wins;
   private int losses;
   private int draws;
+  private int rating;
 
 }
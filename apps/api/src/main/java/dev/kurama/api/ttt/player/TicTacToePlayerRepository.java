@@ -1,8 +1,13 @@
 package dev.kurama.api.ttt.player;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,5 +15,29 @@ public interface TicTacToePlayerRepository extends JpaRepository<TicTacToePlayer
 
   Optional<TicTacToePlayer> findByUserUsername(String username);
 
+  Optional<TicTacToePlayer> findByUsernameAndUserIsNull(String username);
+
   List<TicTacToePlayer> findAllByUserUsernameLike(String like);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select p from TicTacToePlayer p where p.id in :ids order by p.id")
+  List<TicTacToePlayer> findAllForUpdateByIdIn(@Param("ids") List<String> ids);
+
+  List<TicTacToePlayer> findAllByIdNotOrderByRatingDescIdAsc(String excludedId, Pageable pageable);
+
+  @Query("select p from TicTacToePlayer p where p.id <> :excludedId "
+    + "and (p.rating < :rating or (p.rating = :rating and p.id > :id)) order by p.rating desc, p.id asc")
+  List<TicTacToePlayer> findAllRankedAfter(@Param("rating") int rating, @Param("id") String id,
+                                           @Param("excludedId") String excludedId, Pageable pageable);
+
+  @Query("select p.rating as rating, count(p) as count from TicTacToePlayer p where p.id <> :excludedId "
+    + "group by p.rating")
+  List<RatingCount> countByRating(@Param("excludedId") String excludedId);
+
+  interface RatingCount {
+
+    int getRating();
+
+    long getCount();
+  }
 }
@@ -1,9 +1,18 @@
 package dev.kurama.api.ttt.player;
 
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_USERNAME;
+
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.ttt.core.TicTacToeRating;
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboard;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,12 +24,21 @@ public class TicTacToePlayerService {
   @NonNull
   private final TicTacToePlayerRepository repository;
 
+  @NonNull
+  private final TicTacToeLeaderboard leaderboard;
+
   public boolean existsById(String userId) {
     return repository.existsById(userId);
   }
 
   public Optional<TicTacToePlayer> getPlayerByUsername(String username) {
-    return repository.findByUserUsername(username);
+    return repository.findByUserUsername(username).or(() -> repository.findByUsernameAndUserIsNull(username));
+  }
+
+  public Map<String, TicTacToePlayer> getPlayersById(Collection<String> playerIds) {
+    return repository.findAllById(playerIds)
+      .stream()
+      .collect(Collectors.toMap(TicTacToePlayer::getId, Function.identity()));
   }
 
   public List<TicTacToePlayer> findPlayers(String username) {
@@ -36,10 +54,41 @@ public class TicTacToePlayerService {
       .losses(0)
       .wins(0)
       .build();
-    return repository.save(ticTacToePlayer);
+    TicTacToePlayer player = repository.save(ticTacToePlayer);
+    leaderboard.add(player);
+    return player;
+  }
+
+  public boolean updateUsername(String playerId, String username) {
+    Optional<TicTacToePlayer> player = repository.findById(playerId)
+      .filter(ticTacToePlayer -> !username.equals(ticTacToePlayer.getUsername()));
+    player.ifPresent(ticTacToePlayer -> {
+      ticTacToePlayer.setUsername(username);
+      leaderboard.update(repository.save(ticTacToePlayer), ticTacToePlayer.getRating());
+    });
+    return player.isPresent();
+  }
+
+  public TicTacToePlayer createBot() {
+    TicTacToePlayer bot = repository.save(
+      TicTacToePlayer.builder().id(TIC_TAC_TOE_BOT_ID).username(TIC_TAC_TOE_BOT_USERNAME).build());
+    leaderboard.add(bot);
+    return bot;
+  }
+
+  public void registerGameResult(String playerXId, String playerOId, Token turn) {
+    Map<String, TicTacToePlayer> players = repository.findAllForUpdateByIdIn(List.of(playerXId, playerOId))
+      .stream()
+      .collect(Collectors.toMap(TicTacToePlayer::getId, Function.identity()));
+    registerGameResult(Optional.ofNullable(players.get(playerXId)).orElseThrow(),
+      Optional.ofNullable(players.get(playerOId)).orElseThrow(), turn);
   }
 
   public void registerGameResult(TicTacToePlayer playerX, TicTacToePlayer playerO, Token turn) {
+    int ratingX = playerX.getRating();
+    int ratingO = playerO.getRating();
+    playerX.setRating(TicTacToeRating.rate(ratingX, ratingO, TicTacToeRating.score(Token.X, turn)));
+    playerO.setRating(TicTacToeRating.rate(ratingO, ratingX, TicTacToeRating.score(Token.O, turn)));
     switch (turn) {
       case X -> {
         playerX.setWins(playerX.getWins() + 1);
@@ -55,5 +104,7 @@ public class TicTacToePlayerService {
       }
     }
     repository.saveAll(List.of(playerX, playerO));
+    leaderboard.update(playerX, ratingX);
+    leaderboard.update(playerO, ratingO);
   }
 }
@@ -5,6 +5,8 @@ import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_GAMES_REL;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_GAME_REL;
+import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_LEADERBOARD_REL;
+import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_MATCHMAKING_REL;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_PLAYERS_REL;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_WS_GAMES;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_WS_GAME_PLAYER;
@@ -24,6 +26,8 @@ import dev.kurama.api.core.hateoas.root.rest.RootController;
 import dev.kurama.api.ttt.core.TicTacToeAuthority;
 import dev.kurama.api.ttt.core.TicTacToeRelations;
 import dev.kurama.api.ttt.game.TicTacToeGameController;
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboardController;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatchmakingController;
 import dev.kurama.api.ttt.player.TicTacToePlayerController;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -51,6 +55,8 @@ public class TicTacToeRootResourceAssembler implements RootAssembler<RootResourc
       .link(getAllGamesLink())
       .link(getOneGameLink())
       .link(getFindPlayersLink())
+      .link(getLeaderboardLink())
+      .link(getMatchmakingLink())
       .link(getCreateAffordance())
       .link(getGamesWebsocketLink())
       .link(getGamePlayerWebsocketLink());
@@ -79,6 +85,15 @@ public class TicTacToeRootResourceAssembler implements RootAssembler<RootResourc
     return linkTo(methodOn(TicTacToePlayerController.class).findPlayers(null)).withRel(TIC_TAC_TOE_PLAYERS_REL);
   }
 
+  private @NonNull Link getLeaderboardLink() {
+    return getExpandedLink(
+      linkTo(methodOn(TicTacToeLeaderboardController.class).getLeaderboard(null)).withRel(TIC_TAC_TOE_LEADERBOARD_REL));
+  }
+
+  private @NonNull Link getMatchmakingLink() {
+    return linkTo(methodOn(TicTacToeMatchmakingController.class).getTicket()).withRel(TIC_TAC_TOE_MATCHMAKING_REL);
+  }
+
   private @NonNull Link getExpandedLink(Link link) {
     UriComponentsBuilder builder = fromUri(link.getTemplate().expand());
     TemplateVariables templateVariables = pageableResolver.getPaginationTemplateVariables(null, builder.build());
@@ -13,7 +13,6 @@ import dev.kurama.api.ttt.game.input.TicTacToeGameInput;
 import dev.kurama.api.ttt.game.input.TicTacToeGameStatusInput;
 import dev.kurama.api.ttt.move.TicTacToeGameMoveFacility;
 import dev.kurama.api.ttt.move.TicTacToeGameMoveInput;
-import dev.kurama.api.ttt.move.TicTacToeGameMoveRepository;
 import dev.kurama.api.ttt.player.TicTacToePlayerRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -37,14 +36,10 @@ public class CypressTicTacToeService {
   @NonNull
   private final TicTacToeGameRepository gameRepository;
 
-  @NonNull
-  private final TicTacToeGameMoveRepository gameMoveRepository;
-
   @NonNull
   private final TicTacToePlayerRepository playerRepository;
 
   public void clearStateTicTacToe() {
-    gameMoveRepository.deleteAll();
     gameRepository.deleteAll();
     playerRepository.deleteAll();
   }
@@ -0,0 +1,129 @@
+-- tables were historically created by hibernate's schema update, existing databases already have them
+CREATE TABLE IF NOT EXISTS application.activation_token
+(
+    id       varchar(255) NOT NULL PRIMARY KEY,
+    attempts integer,
+    created  timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS application.authority
+(
+    id   varchar(255) NOT NULL PRIMARY KEY,
+    name varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS application.role
+(
+    id         varchar(255) NOT NULL PRIMARY KEY,
+    name       varchar(255),
+    can_login  boolean      NOT NULL,
+    core_role  boolean      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS application.role_authorities
+(
+    role_id      varchar(255) NOT NULL,
+    authority_id varchar(255) NOT NULL,
+    PRIMARY KEY (authority_id, role_id),
+    CONSTRAINT fkn8dif8lobyoe1juv6v5b1fag1 FOREIGN KEY (authority_id) REFERENCES application.authority,
+    CONSTRAINT fk8dv2uo3imjpm4dmk7pge9v2vo FOREIGN KEY (role_id) REFERENCES application.role
+);
+
+CREATE TABLE IF NOT EXISTS application.global_settings
+(
+    id              varchar(255) NOT NULL PRIMARY KEY,
+    signup_open     boolean      NOT NULL,
+    default_role_id varchar(255) NOT NULL UNIQUE,
+    CONSTRAINT fkdci5q8o3n6a227wu7ei4awd3x FOREIGN KEY (default_role_id) REFERENCES application.role
+);
+
+CREATE TABLE IF NOT EXISTS application.theme
+(
+    id            varchar(255) NOT NULL PRIMARY KEY,
+    primary_color varchar(255),
+    accent_color  varchar(255),
+    warn_color    varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS application.user_preferences
+(
+    id               varchar(255) NOT NULL PRIMARY KEY,
+    dark_mode        boolean      NOT NULL,
+    content_language varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS application."user"
+(
+    id                      varchar(255) NOT NULL PRIMARY KEY,
+    username                varchar(255),
+    email                   varchar(255),
+    password                varchar(255),
+    firstname               varchar(255),
+    lastname                varchar(255),
+    profile_image_url       varchar(32768),
+    join_date               timestamp(6),
+    last_login_date         timestamp(6),
+    last_login_date_display timestamp(6),
+    active                  boolean      NOT NULL,
+    locked                  boolean      NOT NULL,
+    expired                 boolean      NOT NULL,
+    credentials_expired     boolean      NOT NULL,
+    role_id                 varchar(255) NOT NULL,
+    user_preferences_id     varchar(255) UNIQUE,
+    activation_token_id     varchar(255) UNIQUE,
+    CONSTRAINT fkn82ha3ccdebhokx3a8fgdqeyy FOREIGN KEY (role_id) REFERENCES application.role,
+    CONSTRAINT fkecat1eytxs2whm2jkyr869u07 FOREIGN KEY (user_preferences_id) REFERENCES application.user_preferences,
+    CONSTRAINT fkfyuf7glidvqjxh3t38nwto35s FOREIGN KEY (activation_token_id) REFERENCES application.activation_token
+);
+
+CREATE TABLE IF NOT EXISTS application.user_authorities
+(
+    user_id      varchar(255) NOT NULL,
+    authority_id varchar(255) NOT NULL,
+    PRIMARY KEY (authority_id, user_id),
+    CONSTRAINT fk2n9bab2v62l3y2jgu3qup4etw FOREIGN KEY (authority_id) REFERENCES application.authority,
+    CONSTRAINT fkmj13d0mnuj4cd8b6htotbf9mm FOREIGN KEY (user_id) REFERENCES application."user"
+);
+
+CREATE TABLE IF NOT EXISTS application.tic_tac_toe_player
+(
+    id       varchar(255) NOT NULL PRIMARY KEY,
+    username varchar(255),
+    wins     integer      NOT NULL,
+    losses   integer      NOT NULL,
+    draws    integer      NOT NULL,
+    user_id  varchar(255) UNIQUE,
+    CONSTRAINT fknjyplgfcn2ar436fgj3h2bs2s FOREIGN KEY (user_id) REFERENCES application."user"
+);
+
+CREATE TABLE IF NOT EXISTS application.tic_tac_toe_game
+(
+    id               varchar(255) NOT NULL PRIMARY KEY,
+    board            varchar(255),
+    status           smallint CHECK (status BETWEEN 0 AND 3),
+    turn             smallint CHECK (turn BETWEEN 0 AND 2),
+    is_private       boolean      NOT NULL,
+    playerx_id       varchar(255),
+    playero_id       varchar(255),
+    last_activity_at timestamp(6),
+    requested_at     timestamp(6),
+    started_at       timestamp(6),
+    finished_at      timestamp(6),
+    CONSTRAINT fkmrnx9cvw1qfsv60rdf3j30c0x FOREIGN KEY (playerx_id) REFERENCES application.tic_tac_toe_player,
+    CONSTRAINT fkg549blke5jknpxa5vjfuehvlj FOREIGN KEY (playero_id) REFERENCES application.tic_tac_toe_player
+);
+
+CREATE TABLE IF NOT EXISTS application.tic_tac_toe_game_move
+(
+    id        varchar(255) NOT NULL PRIMARY KEY,
+    cell      varchar(255),
+    token     smallint CHECK (token BETWEEN 0 AND 2),
+    board     varchar(255),
+    number    integer,
+    moved_at  timestamp(6),
+    move_time bigint,
+    game_id   varchar(255),
+    player_id varchar(255),
+    CONSTRAINT fk3ffq2eg7kw32hn1cht50d6mnn FOREIGN KEY (game_id) REFERENCES application.tic_tac_toe_game,
+    CONSTRAINT fk2vmg3bcy0rxookw2ri5y7ptb1 FOREIGN KEY (player_id) REFERENCES application.tic_tac_toe_player
+);
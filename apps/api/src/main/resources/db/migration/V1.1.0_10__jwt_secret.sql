@@ -0,0 +1,8 @@
+CREATE TABLE application.jwt_secret
+(
+    id      varchar(16)  NOT NULL PRIMARY KEY,
+    secret  varchar(512) NOT NULL,
+    created timestamp(6) NOT NULL
+);
+
+CREATE INDEX jwt_secret_created_idx ON application.jwt_secret (created);
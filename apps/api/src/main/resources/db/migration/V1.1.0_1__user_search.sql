@@ -0,0 +1,6 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX user_username_trgm_idx ON application."user" USING gin (lower(username) public.gin_trgm_ops);
+CREATE INDEX user_email_trgm_idx ON application."user" USING gin (lower(email) public.gin_trgm_ops);
+CREATE INDEX user_firstname_trgm_idx ON application."user" USING gin (lower(firstname) public.gin_trgm_ops);
+CREATE INDEX user_lastname_trgm_idx ON application."user" USING gin (lower(lastname) public.gin_trgm_ops);
@@ -0,0 +1,12 @@
+CREATE TABLE application.outbox_event
+(
+    id        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type      varchar(255) NOT NULL,
+    payload   text         NOT NULL,
+    created   timestamp(6) NOT NULL,
+    published timestamp(6)
+);
+
+CREATE INDEX outbox_event_unpublished_idx ON application.outbox_event (id) WHERE published IS NULL;
+
+CREATE INDEX outbox_event_published_idx ON application.outbox_event (published);
@@ -0,0 +1 @@
+CREATE INDEX tic_tac_toe_game_move_game_id_number_idx ON application.tic_tac_toe_game_move (game_id, number);
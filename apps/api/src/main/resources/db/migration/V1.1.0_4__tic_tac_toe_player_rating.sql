@@ -0,0 +1,3 @@
+ALTER TABLE application.tic_tac_toe_player ADD COLUMN rating integer NOT NULL DEFAULT 1200;
+
+CREATE INDEX tic_tac_toe_player_rating_idx ON application.tic_tac_toe_player (rating DESC, id);
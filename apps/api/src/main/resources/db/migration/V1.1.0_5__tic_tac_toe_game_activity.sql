@@ -0,0 +1 @@
+CREATE INDEX tic_tac_toe_game_status_last_activity_at_idx ON application.tic_tac_toe_game (status, last_activity_at);
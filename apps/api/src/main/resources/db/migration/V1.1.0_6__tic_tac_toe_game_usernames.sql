@@ -0,0 +1,18 @@
+ALTER TABLE application.tic_tac_toe_game ADD COLUMN playerx_username varchar(255);
+ALTER TABLE application.tic_tac_toe_game ADD COLUMN playero_username varchar(255);
+
+UPDATE application.tic_tac_toe_player p SET username = u.username
+FROM application."user" u
+WHERE u.id = p.user_id AND p.username <> u.username;
+
+UPDATE application.tic_tac_toe_game g SET playerx_username = p.username
+FROM application.tic_tac_toe_player p
+WHERE p.id = g.playerx_id;
+UPDATE application.tic_tac_toe_game g SET playero_username = p.username
+FROM application.tic_tac_toe_player p
+WHERE p.id = g.playero_id;
+
+CREATE INDEX tic_tac_toe_game_playerx_username_trgm_idx ON application.tic_tac_toe_game USING gin (lower(playerx_username) public.gin_trgm_ops);
+CREATE INDEX tic_tac_toe_game_playero_username_trgm_idx ON application.tic_tac_toe_game USING gin (lower(playero_username) public.gin_trgm_ops);
+CREATE INDEX tic_tac_toe_game_playerx_id_idx ON application.tic_tac_toe_game (playerx_id);
+CREATE INDEX tic_tac_toe_game_playero_id_idx ON application.tic_tac_toe_game (playero_id);
@@ -0,0 +1,10 @@
+ALTER TABLE application.tic_tac_toe_game ADD COLUMN move_history bytea;
+
+UPDATE application.tic_tac_toe_game g SET move_history = h.move_history
+FROM (SELECT m.game_id,
+             string_agg(int4send(((((ascii(substr(m.cell, 1, 1)) - 65) * 3 + substr(m.cell, 2, 1)::int - 1)::bigint << 28)
+                                    | least(greatest(coalesce(m.move_time, 0), 0), 268435455))::bit(32)::int),
+                        ''::bytea ORDER BY m.number) AS move_history
+      FROM application.tic_tac_toe_game_move m
+      GROUP BY m.game_id) h
+WHERE h.game_id = g.id;
@@ -0,0 +1,5 @@
+ALTER TABLE application.outbox_event ADD COLUMN attempts integer NOT NULL DEFAULT 0;
+ALTER TABLE application.outbox_event ADD COLUMN failed timestamp(6);
+
+DROP INDEX application.outbox_event_unpublished_idx;
+CREATE INDEX outbox_event_unpublished_idx ON application.outbox_event (id) WHERE published IS NULL AND failed IS NULL;
@@ -0,0 +1,2 @@
+DROP INDEX application.tic_tac_toe_game_move_game_id_number_idx;
+DROP TABLE application.tic_tac_toe_game_move;
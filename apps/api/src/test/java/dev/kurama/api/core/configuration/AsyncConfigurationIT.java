@@ -0,0 +1,30 @@
+package dev.kurama.api.core.configuration;
+
+import static dev.kurama.api.core.configuration.AsyncConfiguration.COMMON_TASK_EXECUTOR;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.MAIL_TASK_EXECUTOR;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.REJECTED_METRIC;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.WEBSOCKET_TASK_EXECUTOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles(value = "integration-test")
+@SpringBootTest
+class AsyncConfigurationIT {
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @ParameterizedTest
+  @ValueSource(strings = {COMMON_TASK_EXECUTOR, MAIL_TASK_EXECUTOR, WEBSOCKET_TASK_EXECUTOR})
+  void should_publish_executor_metrics(String name) {
+    assertThat(meterRegistry.find("executor.queued").tag("name", name).gauge()).isNotNull();
+    assertThat(meterRegistry.find("executor.active").tag("name", name).gauge()).isNotNull();
+    assertThat(meterRegistry.find(REJECTED_METRIC).tag("name", name).functionCounter()).isNotNull();
+  }
+}
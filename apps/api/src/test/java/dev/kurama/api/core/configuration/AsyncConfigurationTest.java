@@ -0,0 +1,127 @@
+package dev.kurama.api.core.configuration;
+
+import static dev.kurama.api.core.configuration.AsyncConfiguration.MAIL_TASK_EXECUTOR;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.REJECTED_METRIC;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.WEBSOCKET_TASK_EXECUTOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.properties.AsyncProperties;
+import dev.kurama.api.core.properties.AsyncProperties.ExecutorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class AsyncConfigurationTest {
+
+  private AsyncProperties asyncProperties;
+
+  private AsyncConfiguration asyncConfiguration;
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    asyncProperties = new AsyncProperties();
+    asyncProperties.setMail(new ExecutorProperties(1, 1, 1));
+    asyncProperties.setWebsocket(new ExecutorProperties(1, 1, 1));
+    asyncConfiguration = new AsyncConfiguration(asyncProperties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+  }
+
+  @Test
+  void should_create_named_bounded_executors() {
+    ThreadPoolTaskExecutor websocketTaskExecutor = (ThreadPoolTaskExecutor) asyncConfiguration.websocketTaskExecutor();
+
+    assertThat(websocketTaskExecutor.getThreadNamePrefix()).isEqualTo("websocket-");
+    assertThat(websocketTaskExecutor.getCorePoolSize()).isEqualTo(asyncProperties.getWebsocket().getCoreSize());
+    assertThat(websocketTaskExecutor.getMaxPoolSize()).isEqualTo(asyncProperties.getWebsocket().getMaxSize());
+    assertThat(websocketTaskExecutor.getQueueCapacity()).isEqualTo(asyncProperties.getWebsocket().getQueueCapacity());
+  }
+
+  @Test
+  void should_discard_and_count_tasks_rejected_by_saturated_websocket_executor() {
+    ThreadPoolTaskExecutor websocketTaskExecutor = initialize(asyncConfiguration.websocketTaskExecutor());
+
+    websocketTaskExecutor.execute(this::awaitRelease);
+    websocketTaskExecutor.execute(this::awaitRelease);
+    websocketTaskExecutor.execute(this::awaitRelease);
+
+    assertThat(websocketTaskExecutor.getQueueSize()).isEqualTo(1);
+    assertThat(asyncConfiguration.getRejectedTaskCount(WEBSOCKET_TASK_EXECUTOR)).isEqualTo(1);
+    assertThat(asyncConfiguration.getRejectedTaskCount(MAIL_TASK_EXECUTOR)).isZero();
+    websocketTaskExecutor.shutdown();
+  }
+
+  @Test
+  void should_run_tasks_rejected_by_saturated_mail_executor_on_caller() {
+    ThreadPoolTaskExecutor mailTaskExecutor = initialize(asyncConfiguration.mailTaskExecutor());
+    AtomicReference<Thread> thread = new AtomicReference<>();
+
+    mailTaskExecutor.execute(this::awaitRelease);
+    mailTaskExecutor.execute(this::awaitRelease);
+    mailTaskExecutor.execute(() -> thread.set(Thread.currentThread()));
+
+    assertThat(thread.get()).isEqualTo(Thread.currentThread());
+    assertThat(asyncConfiguration.getRejectedTaskCount(MAIL_TASK_EXECUTOR)).isEqualTo(1);
+    mailTaskExecutor.shutdown();
+  }
+
+  @Test
+  void should_publish_rejected_task_counters() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    asyncConfiguration.taskExecutorRejectionMetrics().bindTo(registry);
+    ThreadPoolTaskExecutor websocketTaskExecutor = initialize(asyncConfiguration.websocketTaskExecutor());
+
+    websocketTaskExecutor.execute(this::awaitRelease);
+    websocketTaskExecutor.execute(this::awaitRelease);
+    websocketTaskExecutor.execute(this::awaitRelease);
+
+    assertThat(registry.get(REJECTED_METRIC).tag("name", WEBSOCKET_TASK_EXECUTOR).functionCounter().count()).isEqualTo(1);
+    assertThat(registry.get(REJECTED_METRIC).tag("name", MAIL_TASK_EXECUTOR).functionCounter().count()).isZero();
+    websocketTaskExecutor.shutdown();
+  }
+
+  @Test
+  void should_use_common_executor_for_unqualified_async_methods() {
+    assertThat(asyncConfiguration.getAsyncExecutor()).isInstanceOf(ThreadPoolTaskExecutor.class)
+      .extracting("threadNamePrefix")
+      .isEqualTo("common-");
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  void should_bound_virtual_thread_executors_by_concurrency_limit() {
+    asyncProperties.setVirtualThreads(true);
+
+    AsyncTaskExecutor websocketTaskExecutor = asyncConfiguration.websocketTaskExecutor();
+
+    assertThat(websocketTaskExecutor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+    assertThat(((SimpleAsyncTaskExecutor) websocketTaskExecutor).getConcurrencyLimit()).isEqualTo(2);
+  }
+
+  private ThreadPoolTaskExecutor initialize(AsyncTaskExecutor taskExecutor) {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = (ThreadPoolTaskExecutor) taskExecutor;
+    threadPoolTaskExecutor.initialize();
+    return threadPoolTaskExecutor;
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package dev.kurama.api.core.configuration;
+
+import static dev.kurama.api.core.authority.MetricsAuthority.METRICS_READ;
+import static dev.kurama.api.core.authority.ServiceLogsAuthority.SERVICE_LOGS_READ;
+import static dev.kurama.support.TestUtils.getAuthorizationHeader;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.kurama.api.core.utility.JWTTokenProvider;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ActiveProfiles(value = "integration-test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class SecurityConfigurationIT {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JWTTokenProvider jwtTokenProvider;
+
+  @ParameterizedTest
+  @ValueSource(strings = {"/actuator/metrics", "/actuator/prometheus"})
+  void should_expose_metrics_with_metrics_read_authority(String path) throws Exception {
+    mockMvc.perform(get(path).headers(getAuthorizationHeader(jwtTokenProvider, METRICS_READ)))
+      .andExpect(status().isOk());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"/actuator/metrics", "/actuator/prometheus"})
+  void should_return_unauthorized_without_metrics_read_authority(String path) throws Exception {
+    mockMvc.perform(get(path).headers(getAuthorizationHeader(jwtTokenProvider, SERVICE_LOGS_READ)))
+      .andExpect(status().isUnauthorized());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"/actuator/metrics", "/actuator/prometheus"})
+  void should_return_forbidden_when_not_authenticated(String path) throws Exception {
+    mockMvc.perform(get(path)).andExpect(status().isForbidden());
+  }
+}
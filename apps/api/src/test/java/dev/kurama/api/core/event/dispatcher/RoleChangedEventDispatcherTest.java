@@ -0,0 +1,74 @@
+package dev.kurama.api.core.event.dispatcher;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import dev.kurama.api.core.message.RoleChangedMessageSender;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class RoleChangedEventDispatcherTest {
+
+  private RoleChangedMessageSender roleChangedMessageSender;
+
+  private RoleChangedEventDispatcher roleChangedEventDispatcher;
+
+  private ThreadPoolTaskScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    roleChangedMessageSender = mock(RoleChangedMessageSender.class);
+    scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setThreadNamePrefix("dispatcher-");
+    scheduler.initialize();
+    roleChangedEventDispatcher = new RoleChangedEventDispatcher(roleChangedMessageSender, scheduler, 60_000, 1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    roleChangedEventDispatcher.destroy();
+    scheduler.shutdown();
+  }
+
+  @Test
+  void should_coalesce_events_per_role_within_window() {
+    RoleChangedEvent created = newEvent(randomUUID(), RoleChangedEventAction.CREATED);
+    RoleChangedEvent updated = newEvent(created.getRoleId(), RoleChangedEventAction.UPDATED);
+    RoleChangedEvent other = newEvent(randomUUID(), RoleChangedEventAction.UPDATED);
+    RoleChangedEvent otherDeleted = newEvent(other.getRoleId(), RoleChangedEventAction.DELETED);
+
+    roleChangedEventDispatcher.dispatch(created);
+    roleChangedEventDispatcher.dispatch(other);
+    roleChangedEventDispatcher.dispatch(updated);
+    roleChangedEventDispatcher.dispatch(otherDeleted);
+    verifyNoInteractions(roleChangedMessageSender);
+
+    roleChangedEventDispatcher.flush();
+
+    verify(roleChangedMessageSender).sendRoleChangedMessages(List.of(created, otherDeleted));
+  }
+
+  @Test
+  void should_flush_after_window() {
+    RoleChangedEventDispatcher windowedDispatcher = new RoleChangedEventDispatcher(roleChangedMessageSender, scheduler,
+      10, 1000);
+    RoleChangedEvent event = newEvent(randomUUID(), RoleChangedEventAction.UPDATED);
+
+    windowedDispatcher.dispatch(event);
+
+    verify(roleChangedMessageSender, timeout(1000)).sendRoleChangedMessages(List.of(event));
+    windowedDispatcher.destroy();
+  }
+
+  private static RoleChangedEvent newEvent(String roleId, RoleChangedEventAction action) {
+    return RoleChangedEvent.builder().roleId(roleId).action(action).build();
+  }
+}
@@ -0,0 +1,179 @@
+package dev.kurama.api.core.event.dispatcher;
+
+import static dev.kurama.api.core.event.dispatcher.CoalescingEventDispatcher.METRIC_PREFIX;
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.message.UserChangedMessageSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class UserChangedEventDispatcherTest {
+
+  private UserChangedMessageSender userChangedMessageSender;
+
+  private UserChangedEventDispatcher userChangedEventDispatcher;
+
+  private ThreadPoolTaskScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    userChangedMessageSender = mock(UserChangedMessageSender.class);
+    scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setThreadNamePrefix("dispatcher-");
+    scheduler.initialize();
+    userChangedEventDispatcher = new UserChangedEventDispatcher(userChangedMessageSender, scheduler, 60_000, 3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    userChangedEventDispatcher.destroy();
+    scheduler.shutdown();
+  }
+
+  @Test
+  void should_coalesce_events_per_user_within_window() {
+    UserChangedEvent user1 = newEvent(randomUUID(), UserChangedEventAction.UPDATED);
+    UserChangedEvent user2 = newEvent(randomUUID(), UserChangedEventAction.UPDATED);
+    UserChangedEvent user1Again = newEvent(user1.getUserId(), UserChangedEventAction.UPDATED);
+
+    userChangedEventDispatcher.dispatch(user1);
+    userChangedEventDispatcher.dispatch(user2);
+    userChangedEventDispatcher.dispatch(user1Again);
+    verifyNoInteractions(userChangedMessageSender);
+
+    userChangedEventDispatcher.flush();
+
+    verify(userChangedMessageSender).sendUserChangedMessages(List.of(user1Again, user2));
+    verifyNoMoreInteractions(userChangedMessageSender);
+  }
+
+  @Test
+  void should_keep_created_action_of_user_updated_within_window() {
+    UserChangedEvent created = newEvent(randomUUID(), UserChangedEventAction.CREATED);
+    UserChangedEvent updated = newEvent(created.getUserId(), UserChangedEventAction.UPDATED);
+
+    userChangedEventDispatcher.dispatch(created);
+    userChangedEventDispatcher.dispatch(updated);
+    userChangedEventDispatcher.flush();
+
+    verify(userChangedMessageSender).sendUserChangedMessages(List.of(UserChangedEvent.builder()
+      .userId(created.getUserId())
+      .username(updated.getUsername())
+      .action(UserChangedEventAction.CREATED)
+      .build()));
+  }
+
+  @Test
+  void should_keep_deleted_action_of_user_within_window() {
+    UserChangedEvent updated = newEvent(randomUUID(), UserChangedEventAction.UPDATED);
+    UserChangedEvent deleted = newEvent(updated.getUserId(), UserChangedEventAction.DELETED);
+
+    userChangedEventDispatcher.dispatch(updated);
+    userChangedEventDispatcher.dispatch(deleted);
+    userChangedEventDispatcher.flush();
+
+    verify(userChangedMessageSender).sendUserChangedMessages(List.of(deleted));
+  }
+
+  @Test
+  void should_flush_when_batch_is_full() {
+    List<UserChangedEvent> events = List.of(newEvent(randomUUID(), UserChangedEventAction.UPDATED),
+      newEvent(randomUUID(), UserChangedEventAction.UPDATED), newEvent(randomUUID(), UserChangedEventAction.UPDATED));
+
+    AtomicReference<String> thread = new AtomicReference<>();
+    doAnswer(invocation -> {
+      thread.set(Thread.currentThread().getName());
+      return null;
+    }).when(userChangedMessageSender).sendUserChangedMessages(events);
+
+    events.forEach(userChangedEventDispatcher::dispatch);
+
+    verify(userChangedMessageSender, timeout(1000)).sendUserChangedMessages(events);
+    assertThat(thread.get()).startsWith("dispatcher-");
+  }
+
+  @Test
+  void should_flush_after_window() {
+    UserChangedEventDispatcher windowedDispatcher = new UserChangedEventDispatcher(userChangedMessageSender, scheduler,
+      10, 1000);
+    UserChangedEvent event = newEvent(randomUUID(), UserChangedEventAction.UPDATED);
+
+    windowedDispatcher.dispatch(event);
+
+    verify(userChangedMessageSender, timeout(1000)).sendUserChangedMessages(List.of(event));
+    windowedDispatcher.destroy();
+  }
+
+  @Test
+  void should_flush_pending_events_on_destroy() {
+    UserChangedEvent event = newEvent(randomUUID(), UserChangedEventAction.UPDATED);
+
+    userChangedEventDispatcher.dispatch(event);
+    userChangedEventDispatcher.destroy();
+
+    verify(userChangedMessageSender).sendUserChangedMessages(List.of(event));
+  }
+
+  @Test
+  void should_keep_events_when_delivery_fails() {
+    UserChangedEvent event = newEvent(randomUUID(), UserChangedEventAction.UPDATED);
+    UserChangedEvent next = newEvent(randomUUID(), UserChangedEventAction.UPDATED);
+    doThrow(new IllegalStateException()).doNothing().when(userChangedMessageSender)
+      .sendUserChangedMessages(List.of(event));
+
+    userChangedEventDispatcher.dispatch(event);
+    assertThatThrownBy(() -> userChangedEventDispatcher.flush()).isInstanceOf(IllegalStateException.class);
+    userChangedEventDispatcher.dispatch(next);
+    userChangedEventDispatcher.flush();
+
+    verify(userChangedMessageSender).sendUserChangedMessages(List.of(event, next));
+  }
+
+  @Test
+  void should_not_deliver_without_events() {
+    userChangedEventDispatcher.flush();
+
+    verifyNoInteractions(userChangedMessageSender);
+  }
+
+  @Test
+  void should_report_coalesce_metrics() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    userChangedEventDispatcher.bindTo(registry);
+    String userId = randomUUID();
+
+    for (int i = 0; i < 4; i++) {
+      userChangedEventDispatcher.dispatch(newEvent(userId, UserChangedEventAction.UPDATED));
+    }
+    userChangedEventDispatcher.flush();
+
+    assertThat(registry.get(METRIC_PREFIX + ".received").tag("dispatcher", "user").functionCounter().count())
+      .isEqualTo(4);
+    assertThat(registry.get(METRIC_PREFIX + ".dispatched").tag("dispatcher", "user").functionCounter().count())
+      .isEqualTo(1);
+    assertThat(registry.get(METRIC_PREFIX + ".batches").tag("dispatcher", "user").functionCounter().count())
+      .isEqualTo(1);
+    assertThat(registry.get(METRIC_PREFIX + ".coalesce.ratio").tag("dispatcher", "user").gauge().value())
+      .isEqualTo(0.75);
+  }
+
+  private static UserChangedEvent newEvent(String userId, UserChangedEventAction action) {
+    return UserChangedEvent.builder().userId(userId).username(randomUUID()).action(action).build();
+  }
+}
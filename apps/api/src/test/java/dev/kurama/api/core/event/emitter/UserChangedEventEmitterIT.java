@@ -7,8 +7,10 @@ import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.event.domain.ApplicationEventBatch;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
 import dev.kurama.api.ttt.player.TicTacToePlayerEventListener;
@@ -24,6 +26,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.AbstractSubscribableChannel;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ActiveProfiles(value = "integration-test")
 @SpringBootTest
@@ -32,6 +35,9 @@ class UserChangedEventEmitterIT {
   @Autowired
   private UserChangedEventEmitter userChangedEventEmitter;
 
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
   @Autowired
   @Qualifier("brokerChannel")
   private AbstractSubscribableChannel abstractSubscribableChannel;
@@ -151,4 +157,41 @@ class UserChangedEventEmitterIT {
     message = testChannelInterceptor.awaitMessage(1);
     assertThat(message).isNull();
   }
+
+  @Test
+  void should_send_coalesced_user_messages_in_one_batch() throws InterruptedException, IOException {
+    User user1 = User.builder().setRandomUUID().username(randomUUID()).build();
+    User user2 = User.builder().setRandomUUID().username(randomUUID()).build();
+    transactionTemplate.executeWithoutResult(status -> {
+      userChangedEventEmitter.emitUserUpdatedEvent(user1);
+      userChangedEventEmitter.emitUserUpdatedEvent(user2);
+      userChangedEventEmitter.emitUserUpdatedEvent(user1);
+    });
+
+    Message<?> message = testChannelInterceptor.awaitMessage(2);
+    assertThat(message).isNotNull();
+    assertThat(StompHeaderAccessor.wrap(message).getDestination()).isEqualTo(
+      format(USER_CHANGED_CHANNEL, user1.getId()));
+
+    message = testChannelInterceptor.awaitMessage(2);
+    assertThat(message).isNotNull();
+    assertThat(StompHeaderAccessor.wrap(message).getDestination()).isEqualTo(
+      format(USER_CHANGED_CHANNEL, user2.getId()));
+
+    message = testChannelInterceptor.awaitMessage(2);
+    assertThat(message).isNotNull();
+
+    StompHeaderAccessor messageHeaders = StompHeaderAccessor.wrap(message);
+    assertThat(messageHeaders.getContentType()).isEqualTo(APPLICATION_JSON);
+    assertThat(messageHeaders.getDestination()).isEqualTo(USERS_CHANGED_CHANNEL);
+
+    ApplicationEventBatch<UserChangedEvent> payload = new ObjectMapper().readValue((byte[]) message.getPayload(),
+      new TypeReference<>() {
+      });
+    assertThat(payload.getEvents()).extracting(UserChangedEvent::getUserId)
+      .containsExactly(user1.getId(), user2.getId());
+
+    message = testChannelInterceptor.awaitMessage(1);
+    assertThat(message).isNull();
+  }
 }
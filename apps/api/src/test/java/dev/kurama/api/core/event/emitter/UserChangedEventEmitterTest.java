@@ -48,6 +48,20 @@ class UserChangedEventEmitterTest {
       .build());
   }
 
+  @Test
+  void should_emit_user_updated_event_with_previous_username() {
+    User user = User.builder().setRandomUUID().username(randomUUID()).build();
+
+    userChangedEventEmitter.emitUserUpdatedEvent(user, "previous");
+
+    verify(applicationEventPublisher).publishEvent(UserChangedEvent.builder()
+      .userId(user.getId())
+      .username(user.getUsername())
+      .previousUsername("previous")
+      .action(UserChangedEventAction.UPDATED)
+      .build());
+  }
+
   @Test
   void should_emit_user_deleted_event() {
     User user = User.builder().setRandomUUID().username(randomUUID()).build();
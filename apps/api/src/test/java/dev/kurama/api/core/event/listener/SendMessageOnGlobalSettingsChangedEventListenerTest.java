@@ -3,6 +3,7 @@ package dev.kurama.api.core.event.listener;
 import static org.mockito.Mockito.verify;
 
 import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent;
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.message.GlobalSettingsChangedMessageSender;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,7 +24,7 @@ class SendMessageOnGlobalSettingsChangedEventListenerTest {
   void global_settings_changed_event_should_send_global_settings_changed_message() {
     GlobalSettingsChangedEvent event = GlobalSettingsChangedEvent.builder().build();
 
-    sendMessageOnGlobalSettingsChangedEventListener.globalSettingsChangedEvent(event);
+    sendMessageOnGlobalSettingsChangedEventListener.globalSettingsChangedEvent(new RelayedEvent<>(event));
 
     verify(globalSettingsChangedMessageSender).sendGlobalSettingsChangedMessage(event);
   }
@@ -3,9 +3,10 @@ package dev.kurama.api.core.event.listener;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.mockito.Mockito.verify;
 
+import dev.kurama.api.core.event.dispatcher.RoleChangedEventDispatcher;
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
 import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
-import dev.kurama.api.core.message.RoleChangedMessageSender;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,7 +20,7 @@ class SendMessageOnRoleChangedEventListenerTest {
   private SendMessageOnRoleChangedEventListener sendMessageOnRoleChangedEventListener;
 
   @Mock
-  private RoleChangedMessageSender roleChangedMessageSender;
+  private RoleChangedEventDispatcher roleChangedEventDispatcher;
 
   @Test
   void role_changed_event_should_send_role_changed_message() {
@@ -28,9 +29,9 @@ class SendMessageOnRoleChangedEventListenerTest {
       .roleId(randomUUID())
       .build();
 
-    sendMessageOnRoleChangedEventListener.roleChangedEvent(event);
+    sendMessageOnRoleChangedEventListener.roleChangedEvent(new RelayedEvent<>(event));
 
-    verify(roleChangedMessageSender).sendRoleChangedMessage(event);
+    verify(roleChangedEventDispatcher).dispatch(event);
   }
 
 }
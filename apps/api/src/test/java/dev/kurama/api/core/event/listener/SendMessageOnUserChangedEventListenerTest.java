@@ -3,9 +3,10 @@ package dev.kurama.api.core.event.listener;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.mockito.Mockito.verify;
 
+import dev.kurama.api.core.event.dispatcher.UserChangedEventDispatcher;
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
-import dev.kurama.api.core.message.UserChangedMessageSender;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,7 +20,7 @@ class SendMessageOnUserChangedEventListenerTest {
   private SendMessageOnUserChangedEventListener sendMessageOnUserChangedEventListener;
 
   @Mock
-  private UserChangedMessageSender userChangedMessageSender;
+  private UserChangedEventDispatcher userChangedEventDispatcher;
 
   @Test
   void user_changed_event_should_send_user_changed_message() {
@@ -28,8 +29,8 @@ class SendMessageOnUserChangedEventListenerTest {
       .userId(randomUUID())
       .build();
 
-    sendMessageOnUserChangedEventListener.userChangedEvent(event);
+    sendMessageOnUserChangedEventListener.userChangedEvent(new RelayedEvent<>(event));
 
-    verify(userChangedMessageSender).sendUserChangedMessage(event);
+    verify(userChangedEventDispatcher).dispatch(event);
   }
 }
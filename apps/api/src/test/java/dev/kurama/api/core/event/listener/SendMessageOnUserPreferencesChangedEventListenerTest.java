@@ -3,6 +3,7 @@ package dev.kurama.api.core.event.listener;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.mockito.Mockito.verify;
 
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent;
 import dev.kurama.api.core.message.UserPreferencesChangedMessageSender;
 import org.junit.jupiter.api.Test;
@@ -24,7 +25,7 @@ class SendMessageOnUserPreferencesChangedEventListenerTest {
   void user_preferences_changed_event_should_send_user_preferences_changed_message() {
     UserPreferencesChangedEvent event = UserPreferencesChangedEvent.builder().userPreferencesId(randomUUID()).build();
 
-    sendMessageOnUserPreferencesChangedEventListener.userPreferencesChangedEvent(event);
+    sendMessageOnUserPreferencesChangedEventListener.userPreferencesChangedEvent(new RelayedEvent<>(event));
 
     verify(userPreferencesChangedMessageSender).sendUserPreferencesChangedMessage(event);
   }
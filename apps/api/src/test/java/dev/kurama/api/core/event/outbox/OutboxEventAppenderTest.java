@@ -0,0 +1,78 @@
+package dev.kurama.api.core.event.outbox;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.domain.OutboxEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(SpringExtension.class)
+class OutboxEventAppenderTest {
+
+  private OutboxEventAppender outboxEventAppender;
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private OutboxEventRelay outboxEventRelay;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeEach
+  void setUp() {
+    outboxEventAppender = new OutboxEventAppender(outboxEventRepository, outboxEventRelay, objectMapper);
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+
+  @Test
+  void should_append_event_to_outbox() throws JsonProcessingException {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId(randomUUID())
+      .username(randomUUID())
+      .action(UserChangedEventAction.UPDATED)
+      .build();
+
+    outboxEventAppender.append(event);
+
+    ArgumentCaptor<OutboxEvent> outboxEvent = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(outboxEvent.capture());
+    assertThat(outboxEvent.getValue().getType()).isEqualTo(UserChangedEvent.class.getName());
+    assertThat(outboxEvent.getValue().getCreated()).isNotNull();
+    assertThat(outboxEvent.getValue().getPublished()).isNull();
+    assertThat(objectMapper.readValue(outboxEvent.getValue().getPayload(), UserChangedEvent.class)).isEqualTo(event);
+  }
+
+  @Test
+  void should_request_relay_only_after_commit() throws JsonProcessingException {
+    outboxEventAppender.append(UserChangedEvent.builder().userId(randomUUID()).build());
+
+    verify(outboxEventRepository).save(any(OutboxEvent.class));
+    verifyNoInteractions(outboxEventRelay);
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+    verify(outboxEventRelay).requestRelay();
+  }
+}
@@ -0,0 +1,153 @@
+package dev.kurama.api.core.event.outbox;
+
+import static dev.kurama.api.core.message.UserChangedMessageSender.USER_CHANGED_CHANNEL;
+import static dev.kurama.api.core.repository.OutboxEventRepository.RELAY_LOCK;
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.domain.OutboxEvent;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.event.emitter.UserChangedEventEmitter;
+import dev.kurama.api.core.repository.OutboxEventRepository;
+import dev.kurama.api.ttt.player.TicTacToePlayerEventListener;
+import dev.kurama.support.TestChannelInterceptor;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles(value = "integration-test")
+@SpringBootTest
+class OutboxEventRelayIT {
+
+  @Autowired
+  private UserChangedEventEmitter userChangedEventEmitter;
+
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @Autowired
+  private OutboxEventRelay outboxEventRelay;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  @Qualifier("brokerChannel")
+  private AbstractSubscribableChannel abstractSubscribableChannel;
+
+  @MockBean
+  private TicTacToePlayerEventListener ticTacToePlayerEventListener;
+
+  private TestChannelInterceptor testChannelInterceptor;
+
+  @BeforeEach
+  void setUp() {
+    testChannelInterceptor = new TestChannelInterceptor();
+    testChannelInterceptor.setIncludedDestinations(format(USER_CHANGED_CHANNEL, "*"));
+    abstractSubscribableChannel.addInterceptor(testChannelInterceptor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    abstractSubscribableChannel.removeInterceptor(testChannelInterceptor);
+  }
+
+  @Test
+  void should_send_message_after_commit() throws InterruptedException {
+    User user = User.builder().setRandomUUID().username(randomUUID()).build();
+
+    transactionTemplate.executeWithoutResult(status -> userChangedEventEmitter.emitUserUpdatedEvent(user));
+
+    Message<?> message = testChannelInterceptor.awaitMessage(2);
+    assertThat(message).isNotNull();
+    assertThat(StompHeaderAccessor.wrap(message).getDestination()).isEqualTo(
+      format(USER_CHANGED_CHANNEL, user.getId()));
+    assertThat(awaitPublished(user.getId())).isNotNull();
+  }
+
+  @Test
+  void should_not_send_message_of_rolled_back_transaction() throws InterruptedException {
+    User user = User.builder().setRandomUUID().username(randomUUID()).build();
+
+    transactionTemplate.executeWithoutResult(status -> {
+      userChangedEventEmitter.emitUserUpdatedEvent(user);
+      status.setRollbackOnly();
+    });
+
+    assertThat(testChannelInterceptor.awaitMessage(2)).isNull();
+    assertThat(outboxEventRepository.findAll()).noneMatch(event -> event.getPayload().contains(user.getId()));
+  }
+
+  @Test
+  void should_not_relay_while_another_relay_holds_the_lock() throws InterruptedException {
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread otherRelay = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+      outboxEventRepository.tryAdvisoryTransactionLock(RELAY_LOCK);
+      locked.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }));
+    otherRelay.start();
+    assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+    User user = User.builder().setRandomUUID().username(randomUUID()).build();
+
+    transactionTemplate.executeWithoutResult(status -> userChangedEventEmitter.emitUserUpdatedEvent(user));
+    outboxEventRelay.relay();
+
+    assertThat(testChannelInterceptor.awaitMessage(1)).isNull();
+    release.countDown();
+    otherRelay.join();
+    outboxEventRelay.relay();
+    assertThat(awaitPublished(user.getId())).isNotNull();
+  }
+
+  @Test
+  void should_keep_failed_outbox_event_unpublished() {
+    OutboxEvent outboxEvent = outboxEventRepository.save(
+      OutboxEvent.builder().type(String.class.getName()).payload("\"x\"").created(new Date()).build());
+    try {
+      outboxEventRelay.relay();
+
+      assertThat(outboxEventRepository.findById(outboxEvent.getId())).get()
+        .satisfies(actual -> assertThat(actual.getAttempts()).isPositive())
+        .extracting(OutboxEvent::getPublished)
+        .isNull();
+    } finally {
+      outboxEventRepository.deleteById(outboxEvent.getId());
+    }
+  }
+
+  private Date awaitPublished(String userId) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 2000;
+    Date published;
+    do {
+      published = outboxEventRepository.findAll()
+        .stream()
+        .filter(event -> event.getPayload().contains(userId) && event.getPublished() != null)
+        .map(OutboxEvent::getPublished)
+        .findFirst()
+        .orElse(null);
+      if (published == null) {
+        Thread.sleep(50);
+      }
+    } while (published == null && System.currentTimeMillis() < deadline);
+    return published;
+  }
+}
@@ -0,0 +1,207 @@
+package dev.kurama.api.core.event.outbox;
+
+import static dev.kurama.api.core.repository.OutboxEventRepository.RELAY_LOCK;
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.domain.OutboxEvent;
+import dev.kurama.api.core.event.dispatcher.CoalescingEventDispatcher;
+import dev.kurama.api.core.event.domain.ApplicationEvent;
+import dev.kurama.api.core.event.domain.RelayedEvent;
+import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.repository.OutboxEventRepository;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OutboxEventRelayTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final AtomicLong ids = new AtomicLong();
+
+  private OutboxEventRepository outboxEventRepository;
+
+  private ApplicationEventPublisher applicationEventPublisher;
+
+  private CoalescingEventDispatcher<?> dispatcher;
+
+  private OutboxEventRelay outboxEventRelay;
+
+  @BeforeEach
+  void setUp() {
+    outboxEventRepository = mock(OutboxEventRepository.class);
+    applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    dispatcher = mock(CoalescingEventDispatcher.class);
+    when(outboxEventRepository.tryAdvisoryTransactionLock(RELAY_LOCK)).thenReturn(true);
+    outboxEventRelay = new OutboxEventRelay(outboxEventRepository, applicationEventPublisher, objectMapper,
+      new TransactionTemplate(mock(PlatformTransactionManager.class)), new SyncTaskExecutor(), List.of(dispatcher),
+      BATCH_SIZE, 1000, MAX_ATTEMPTS);
+  }
+
+  @Test
+  void should_relay_outbox_events_in_order_and_batches() throws JsonProcessingException {
+    UserChangedEvent event1 = UserChangedEvent.builder().userId(randomUUID()).action(UserChangedEventAction.UPDATED)
+      .build();
+    RoleChangedEvent event2 = RoleChangedEvent.builder().roleId(randomUUID()).action(RoleChangedEventAction.CREATED)
+      .build();
+    UserChangedEvent event3 = UserChangedEvent.builder().userId(randomUUID()).action(UserChangedEventAction.DELETED)
+      .build();
+    List<OutboxEvent> batch1 = List.of(newOutboxEvent(event1), newOutboxEvent(event2));
+    List<OutboxEvent> batch2 = List.of(newOutboxEvent(event3));
+    when(outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(batch1, batch2);
+
+    outboxEventRelay.relay();
+
+    InOrder inOrder = inOrder(applicationEventPublisher, outboxEventRepository);
+    inOrder.verify(applicationEventPublisher).publishEvent(new RelayedEvent<>(event1));
+    inOrder.verify(applicationEventPublisher).publishEvent(new RelayedEvent<>(event2));
+    inOrder.verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any(Date.class));
+    inOrder.verify(applicationEventPublisher).publishEvent(new RelayedEvent<>(event3));
+    inOrder.verify(outboxEventRepository).markPublished(eq(List.of(3L)), any(Date.class));
+    verify(outboxEventRepository, times(2)).findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE));
+  }
+
+  @Test
+  void should_not_relay_while_another_node_holds_the_relay_lock() {
+    when(outboxEventRepository.tryAdvisoryTransactionLock(RELAY_LOCK)).thenReturn(false);
+
+    outboxEventRelay.relay();
+
+    verify(outboxEventRepository, never()).findByPublishedIsNullAndFailedIsNullOrderByIdAsc(any());
+    verify(outboxEventRepository, never()).markPublished(any(), any());
+  }
+
+  @Test
+  void should_flush_dispatchers_before_marking_batch_published() throws JsonProcessingException {
+    UserChangedEvent event = UserChangedEvent.builder().userId(randomUUID()).action(UserChangedEventAction.UPDATED)
+      .build();
+    when(outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(
+      List.of(newOutboxEvent(event)));
+
+    outboxEventRelay.relay();
+
+    InOrder inOrder = inOrder(applicationEventPublisher, dispatcher, outboxEventRepository);
+    inOrder.verify(applicationEventPublisher).publishEvent(new RelayedEvent<>(event));
+    inOrder.verify(dispatcher).flush();
+    inOrder.verify(outboxEventRepository).markPublished(eq(List.of(1L)), any(Date.class));
+  }
+
+  @Test
+  void should_leave_batch_unpublished_when_dispatcher_delivery_fails() throws JsonProcessingException {
+    UserChangedEvent event = UserChangedEvent.builder().userId(randomUUID()).action(UserChangedEventAction.UPDATED)
+      .build();
+    when(outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(
+      List.of(newOutboxEvent(event)));
+    doThrow(new IllegalStateException()).when(dispatcher).flush();
+
+    outboxEventRelay.relay();
+
+    verify(outboxEventRepository, never()).markPublished(any(), any());
+  }
+
+  @Test
+  void should_leave_failed_outbox_events_unpublished_and_stop_the_batch() throws JsonProcessingException {
+    OutboxEvent invalidPayload = OutboxEvent.builder().id(100L).type(UserChangedEvent.class.getName()).payload("{")
+      .attempts(1)
+      .build();
+    OutboxEvent next = newOutboxEvent(
+      UserChangedEvent.builder().userId(randomUUID()).action(UserChangedEventAction.UPDATED).build());
+    when(outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(
+      List.of(invalidPayload, next));
+
+    outboxEventRelay.relay();
+
+    verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    verify(outboxEventRepository).markAttempted(100L, 2, null);
+    verify(outboxEventRepository, never()).markPublished(any(), any());
+    verify(outboxEventRepository).findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE));
+  }
+
+  @Test
+  void should_leave_outbox_event_unpublished_when_a_listener_fails() throws JsonProcessingException {
+    UserChangedEvent event = UserChangedEvent.builder().userId(randomUUID()).action(UserChangedEventAction.UPDATED)
+      .build();
+    when(outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(
+      List.of(newOutboxEvent(event)));
+    doThrow(new IllegalStateException()).when(applicationEventPublisher).publishEvent(new RelayedEvent<>(event));
+
+    outboxEventRelay.relay();
+
+    verify(outboxEventRepository).markAttempted(1L, 1, null);
+    verify(outboxEventRepository, never()).markPublished(any(), any());
+  }
+
+  @Test
+  void should_dead_letter_outbox_events_after_max_attempts() throws JsonProcessingException {
+    OutboxEvent invalidType = OutboxEvent.builder().id(100L).type(String.class.getName()).payload("\"x\"")
+      .attempts(MAX_ATTEMPTS - 1)
+      .build();
+    UserChangedEvent event = UserChangedEvent.builder().userId(randomUUID()).action(UserChangedEventAction.UPDATED)
+      .build();
+    OutboxEvent next = newOutboxEvent(event);
+    when(outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(
+      List.of(invalidType, next), List.of());
+
+    outboxEventRelay.relay();
+
+    verify(outboxEventRepository).markAttempted(eq(100L), eq(MAX_ATTEMPTS), any(Date.class));
+    verify(applicationEventPublisher).publishEvent(new RelayedEvent<>(event));
+    verify(outboxEventRepository).markPublished(eq(List.of(next.getId())), any(Date.class));
+  }
+
+  @Test
+  void should_relay_on_request() {
+    when(outboxEventRepository.findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(List.of());
+
+    outboxEventRelay.requestRelay();
+
+    verify(outboxEventRepository).findByPublishedIsNullAndFailedIsNullOrderByIdAsc(Limit.of(BATCH_SIZE));
+  }
+
+  @Test
+  void should_purge_published_outbox_events_after_retention() {
+    long start = System.currentTimeMillis();
+
+    outboxEventRelay.purge();
+
+    verify(outboxEventRepository).deletePublishedBefore(
+      argThat(before -> before.getTime() <= start && before.getTime() >= start - 2000));
+  }
+
+  private OutboxEvent newOutboxEvent(ApplicationEvent event) throws JsonProcessingException {
+    return OutboxEvent.builder()
+      .id(ids.incrementAndGet())
+      .type(event.getClass().getName())
+      .payload(objectMapper.writeValueAsString(event))
+      .created(new Date())
+      .build();
+  }
+}
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.util.NoSuchElementException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -100,6 +101,11 @@ class ExceptionHandlersTest {
     mockMvc.perform(get("/entityExistsException")).andExpect(status().isConflict());
   }
 
+  @Test
+  void concurrency_failure_exception_should_return_conflict() throws Exception {
+    mockMvc.perform(get("/concurrencyFailureException")).andExpect(status().isConflict());
+  }
+
   @Test
   void entity_not_found_exception_should_return_not_found() throws Exception {
     mockMvc.perform(get("/entityNotFoundException")).andExpect(status().isNotFound());
@@ -199,6 +205,12 @@ class ExceptionHandlersTest {
       throw new EntityExistsException("id", User.class);
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/concurrencyFailureException")
+    public void concurrencyFailureException() {
+      throw new OptimisticLockingFailureException("id");
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/entityNotFoundException")
     public void entityNotFoundException() throws EntityNotFoundException {
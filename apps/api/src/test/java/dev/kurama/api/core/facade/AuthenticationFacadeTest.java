@@ -22,6 +22,7 @@ import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
 import dev.kurama.api.core.hateoas.input.AccountActivationInput;
 import dev.kurama.api.core.hateoas.input.LoginInput;
 import dev.kurama.api.core.hateoas.input.SignupInput;
+import dev.kurama.api.core.hateoas.input.TokenRotationInput;
 import dev.kurama.api.core.hateoas.model.AuthenticatedUserModel;
 import dev.kurama.api.core.hateoas.model.UserModel;
 import dev.kurama.api.core.mapper.UserMapper;
@@ -123,6 +124,15 @@ class AuthenticationFacadeTest {
       refreshToken);
   }
 
+  @Test
+  void rotate_secret_should_call_facility() {
+    TokenRotationInput input = TokenRotationInput.builder().secret(randomAlphanumeric(64)).build();
+
+    facade.rotateSecret(input);
+
+    verify(authenticationFacility).rotateSecret(input.getSecret());
+  }
+
   @Test
   void request_activation_token_should_call_service() throws ActivationTokenRecentException, UserNotFoundException {
     String email = randomAlphanumeric(8);
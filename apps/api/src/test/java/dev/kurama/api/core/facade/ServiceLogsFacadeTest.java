@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.kurama.api.core.hateoas.input.ServiceLogsSearchInput;
 import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
 import dev.kurama.api.core.service.ServiceLogsService;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -33,6 +37,62 @@ class ServiceLogsFacadeTest {
     assertEquals(actual, expected);
   }
 
+  @Test
+  void should_get_service_logs_tail() {
+    ServiceLogsModel expected = ServiceLogsModel.builder().logs(randomAlphanumeric(8)).build();
+    when(serviceLogsService.getServiceLogsTail(10)).thenReturn(expected);
+
+    ServiceLogsModel actual = serviceLogsFacade.getServiceLogsTail(10);
+
+    verify(serviceLogsService).getServiceLogsTail(10);
+    assertEquals(actual, expected);
+  }
+
+  @Test
+  void should_get_service_logs_after() {
+    ServiceLogsModel expected = ServiceLogsModel.builder().logs(randomAlphanumeric(8)).build();
+    when(serviceLogsService.getServiceLogsAfter(100)).thenReturn(expected);
+
+    ServiceLogsModel actual = serviceLogsFacade.getServiceLogsAfter(100);
+
+    verify(serviceLogsService).getServiceLogsAfter(100);
+    assertEquals(actual, expected);
+  }
+
+  @Test
+  void should_search_service_logs() {
+    ServiceLogsSearchInput input = ServiceLogsSearchInput.builder().query(randomAlphanumeric(8)).build();
+    ServiceLogsSearchModel expected = ServiceLogsSearchModel.builder().next(100L).build();
+    when(serviceLogsService.searchServiceLogs(input)).thenReturn(expected);
+
+    ServiceLogsSearchModel actual = serviceLogsFacade.searchServiceLogs(input);
+
+    verify(serviceLogsService).searchServiceLogs(input);
+    assertEquals(actual, expected);
+  }
+
+  @Test
+  void should_get_service_logs_segments() {
+    ServiceLogsSegmentsModel expected = ServiceLogsSegmentsModel.builder().segments(List.of()).build();
+    when(serviceLogsService.getServiceLogsSegments()).thenReturn(expected);
+
+    ServiceLogsSegmentsModel actual = serviceLogsFacade.getServiceLogsSegments();
+
+    verify(serviceLogsService).getServiceLogsSegments();
+    assertEquals(actual, expected);
+  }
+
+  @Test
+  void should_get_service_logs_segment() {
+    ServiceLogsModel expected = ServiceLogsModel.builder().logs(randomAlphanumeric(8)).segment("logs.log.0").build();
+    when(serviceLogsService.getServiceLogsSegment("logs.log.0", 64)).thenReturn(expected);
+
+    ServiceLogsModel actual = serviceLogsFacade.getServiceLogsSegment("logs.log.0", 64);
+
+    verify(serviceLogsService).getServiceLogsSegment("logs.log.0", 64);
+    assertEquals(actual, expected);
+  }
+
   @Test
   void should_delete_service_logs() {
     ServiceLogsModel expected = ServiceLogsModel.builder().logs("").build();
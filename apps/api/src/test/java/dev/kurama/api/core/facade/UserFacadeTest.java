@@ -31,6 +31,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -100,6 +104,24 @@ class UserFacadeTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void should_scroll_users() {
+    PageRequest pageable = PageRequest.of(0, 2, Sort.by("username"));
+    Window<User> users = Window.from(newArrayList(User.builder().build()), ScrollPosition::offset);
+    Window<UserModel> userModels = Window.from(newArrayList(UserModel.builder().build()), ScrollPosition::offset);
+    CollectionModel<UserModel> expected = CollectionModel.of(userModels.getContent());
+    when(userService.scrollUsers(ScrollPosition.keyset(), pageable.getSort(), 2, "")).thenReturn(users);
+    when(userMapper.userWindowToUserModelWindow(users)).thenReturn(userModels);
+    when(userModelAssembler.toScrollModel(userModels)).thenReturn(expected);
+
+    CollectionModel<UserModel> actual = userFacade.scroll("", pageable, "");
+
+    verify(userService).scrollUsers(ScrollPosition.keyset(), pageable.getSort(), 2, "");
+    verify(userMapper).userWindowToUserModelWindow(users);
+    verify(userModelAssembler).toScrollModel(userModels);
+    assertEquals(expected, actual);
+  }
+
   @Test
   void should_delete_by_id() throws UserNotFoundException {
     String id = randomUUID();
@@ -0,0 +1,80 @@
+package dev.kurama.api.core.filter;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class JWTAuthenticationCacheTest {
+
+  private JWTAuthenticationCache jwtAuthenticationCache;
+
+  private UsernamePasswordAuthenticationToken authentication;
+
+  @BeforeEach
+  void setUp() {
+    jwtAuthenticationCache = spy(new JWTAuthenticationCache(10, 3_600_000));
+    ContextUser contextUser = ContextUser.builder().id(randomUUID()).username(randomAlphanumeric(8)).build();
+    authentication = new UsernamePasswordAuthenticationToken(contextUser, null,
+      List.of(new SimpleGrantedAuthority(randomAlphanumeric(8))));
+  }
+
+  @Test
+  void should_return_empty_for_unknown_token() {
+    assertThat(jwtAuthenticationCache.getAuthentication(randomAlphanumeric(32), null)).isEmpty();
+  }
+
+  @Test
+  void should_return_cached_authentication_for_known_token() {
+    String token = randomAlphanumeric(32);
+    jwtAuthenticationCache.putAuthentication(token, new Date(System.currentTimeMillis() + 60_000), authentication);
+
+    Optional<Authentication> actual = jwtAuthenticationCache.getAuthentication(token, mock(HttpServletRequest.class));
+
+    assertThat(actual).isPresent();
+    assertThat(actual.get()).isNotSameAs(authentication);
+    assertThat(actual.get().getPrincipal()).isEqualTo(authentication.getPrincipal());
+    assertThat(actual.get().getAuthorities()).isEqualTo(authentication.getAuthorities());
+    assertThat(actual.get().isAuthenticated()).isTrue();
+    assertThat(actual.get().getDetails()).isNotNull();
+  }
+
+  @Test
+  void should_evict_expired_token() {
+    String token = randomAlphanumeric(32);
+    long now = System.currentTimeMillis();
+    jwtAuthenticationCache.putAuthentication(token, new Date(now + 60_000), authentication);
+    doReturn(now + 60_000).when(jwtAuthenticationCache).getCurrentTimeMillis();
+
+    assertThat(jwtAuthenticationCache.getAuthentication(token, null)).isEmpty();
+    assertThat(jwtAuthenticationCache.size()).isZero();
+  }
+
+  @Test
+  void should_record_hits_and_misses() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    jwtAuthenticationCache.bindTo(registry);
+    String token = randomAlphanumeric(32);
+    jwtAuthenticationCache.putAuthentication(token, new Date(System.currentTimeMillis() + 60_000), authentication);
+
+    jwtAuthenticationCache.getAuthentication(token, null);
+    jwtAuthenticationCache.getAuthentication(token, null);
+    jwtAuthenticationCache.getAuthentication(randomAlphanumeric(32), null);
+
+    assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+    assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+  }
+}
@@ -20,6 +20,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -38,6 +39,8 @@ class JWTAuthorizationFilterTest {
   private JWTAuthorizationFilter filter;
   @Mock
   private JWTTokenProvider jwtTokenProvider;
+  @Mock
+  private JWTAuthenticationCache jwtAuthenticationCache;
 
   @Test
   void should_set_status_ok_on_options_method() throws ServletException, IOException {
@@ -90,6 +93,27 @@ class JWTAuthorizationFilterTest {
     filter.doFilterInternal(request, response, filterChain);
 
     verify(securityContext).setAuthentication(authentication);
+    verify(jwtAuthenticationCache).putAuthentication(token, decodedToken.getExpiresAt(), authentication);
+  }
+
+  @Test
+  void should_set_context_from_cache_without_verifying_token() throws ServletException, IOException {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    FilterChain filterChain = mock(FilterChain.class);
+    doReturn(GET.toString()).when(request).getMethod();
+    String token = randomUUID();
+    doReturn(SecurityConstant.TOKEN_PREFIX + token).when(request).getHeader(HttpHeaders.AUTHORIZATION);
+    Authentication authentication = mock(Authentication.class);
+    doReturn(Optional.of(authentication)).when(jwtAuthenticationCache).getAuthentication(token, request);
+    SecurityContext securityContext = Mockito.mock(SecurityContext.class);
+    SecurityContextHolder.setContext(securityContext);
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    verify(securityContext).setAuthentication(authentication);
+    verify(filterChain).doFilter(request, response);
+    verifyNoInteractions(jwtTokenProvider);
   }
 
   @Test
@@ -17,16 +17,26 @@ import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
 import dev.kurama.api.core.hateoas.model.UserModel;
 import dev.kurama.api.core.utility.AuthorityUtils;
+import dev.kurama.api.core.utility.KeysetCursorUtils;
+import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.UriComponents;
 
 class UserModelAssemblerTest {
@@ -113,4 +123,67 @@ class UserModelAssemblerTest {
       .anySatisfy(reqs -> assertThat(reqs.toList()).contains(DEFAULT, HttpMethod.HEAD))
       .anySatisfy(reqs -> assertThat(reqs.toList()).contains("create", HttpMethod.POST));
   }
+
+  @Nested
+  class ScrollModelTests {
+
+    @BeforeEach
+    void setUp() {
+      MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.GET.name(), USER_PATH);
+      request.setQueryString("after=&size=2&search=user");
+      request.setParameter("after", "");
+      request.setParameter("size", "2");
+      request.setParameter("search", "user");
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void should_map_to_scroll_model_with_next_link() {
+      UserModel admin = UserModel.builder().id(randomUUID()).username(randomAlphanumeric(8)).build();
+      UserModel mod = UserModel.builder().id(randomUUID()).username(randomAlphanumeric(8)).build();
+      Window<UserModel> users = Window.from(newArrayList(admin, mod),
+        index -> ScrollPosition.forward(Map.of("username", index == 0 ? admin.getUsername() : mod.getUsername())),
+        true);
+
+      CollectionModel<UserModel> actual = assembler.toScrollModel(users);
+
+      assertThat(actual.getContent()).containsExactly(admin, mod);
+      assertThat(actual.getLinks()).hasSize(2);
+      assertThat(actual.getRequiredLink(SELF).getHref()).endsWith(USER_PATH + "?after=&size=2&search=user");
+      assertThat(actual.getRequiredLink(IanaLinkRelations.NEXT).getHref()).endsWith(
+        USER_PATH + "?size=2&search=user&after=" + KeysetCursorUtils.encode(users.positionAt(1)));
+    }
+
+    @Test
+    void should_not_add_next_link_on_last_window() {
+      Window<UserModel> users = Window.from(newArrayList(UserModel.builder().id(randomUUID()).build()),
+        ScrollPosition::offset, false);
+
+      CollectionModel<UserModel> actual = assembler.toScrollModel(users);
+
+      assertThat(actual.getLinks()).hasSize(1);
+      assertThat(actual.getLink(IanaLinkRelations.NEXT)).isEmpty();
+    }
+
+    @Test
+    void should_add_create_affordance_and_websocket_link() {
+      authorityUtils.when(() -> AuthorityUtils.hasAuthority(USER_CREATE)).thenReturn(true);
+      authorityUtils.when(() -> AuthorityUtils.hasAuthority(USER_READ)).thenReturn(true);
+
+      CollectionModel<UserModel> actual = assembler.toScrollModel(Window.from(newArrayList(), ScrollPosition::offset));
+
+      assertThat(actual.getLink(WEBSOCKET_REL)).isPresent()
+        .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(USERS_CHANGED_CHANNEL));
+      assertThat(actual.getRequiredLink(SELF).getAffordances()).hasSize(2)
+        .extracting(affordance -> affordance.getAffordanceModel(HAL_FORMS_JSON))
+        .extracting("name", "httpMethod")
+        .anySatisfy(reqs -> assertThat(reqs.toList()).contains(DEFAULT, HttpMethod.HEAD))
+        .anySatisfy(reqs -> assertThat(reqs.toList()).contains("create", HttpMethod.POST));
+    }
+  }
 }
@@ -1,9 +1,13 @@
 package dev.kurama.api.core.hateoas.processor;
 
 import static dev.kurama.api.core.authority.ServiceLogsAuthority.SERVICE_LOGS_DELETE;
+import static dev.kurama.api.core.authority.ServiceLogsAuthority.SERVICE_LOGS_READ;
 import static dev.kurama.api.core.constant.RestPathConstant.SERVICE_LOGS_PATH;
+import static dev.kurama.api.core.hateoas.relations.AdministrationRelations.SERVICE_LOGS_SEGMENTS_REL;
 import static dev.kurama.api.core.hateoas.relations.HateoasRelations.DEFAULT;
 import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
+import static dev.kurama.api.core.hateoas.relations.HateoasRelations.WEBSOCKET_REL;
+import static dev.kurama.api.core.message.ServiceLogsMessageSender.SERVICE_LOGS_CHANNEL;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.http.HttpMethod;
 
 class ServiceLogsModelProcessorTest {
@@ -49,6 +54,58 @@ class ServiceLogsModelProcessorTest {
 
   }
 
+  @Test
+  void should_have_next_link_after_end_offset() {
+    model.setEnd(128L);
+
+    ServiceLogsModel actual = processor.process(model);
+
+    assertThat(actual.getLink(IanaLinkRelations.NEXT)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(SERVICE_LOGS_PATH + "?after=128"));
+  }
+
+  @Test
+  void should_have_next_link_within_segment() {
+    model.setSegment("logs.log.2026-10-16.0.gz");
+    model.setEnd(128L);
+
+    ServiceLogsModel actual = processor.process(model);
+
+    assertThat(actual.getLink(IanaLinkRelations.NEXT)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(
+        SERVICE_LOGS_PATH + "/segments/logs.log.2026-10-16.0.gz?after=128"));
+  }
+
+  @Test
+  void should_have_segments_link_if_user_has_service_logs_read_authority() {
+    authorityUtils.when(() -> AuthorityUtils.hasAuthority(SERVICE_LOGS_READ)).thenReturn(true);
+
+    ServiceLogsModel actual = processor.process(model);
+
+    assertThat(actual.getLink(SERVICE_LOGS_SEGMENTS_REL)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(SERVICE_LOGS_PATH + "/segments"));
+  }
+
+  @Test
+  void should_have_websocket_link_if_user_has_service_logs_read_authority() {
+    authorityUtils.when(() -> AuthorityUtils.hasAuthority(SERVICE_LOGS_READ)).thenReturn(true);
+
+    ServiceLogsModel actual = processor.process(model);
+
+    assertThat(actual.getLink(WEBSOCKET_REL)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(SERVICE_LOGS_CHANNEL));
+  }
+
+  @Test
+  void should_have_search_link_if_user_has_service_logs_read_authority() {
+    authorityUtils.when(() -> AuthorityUtils.hasAuthority(SERVICE_LOGS_READ)).thenReturn(true);
+
+    ServiceLogsModel actual = processor.process(model);
+
+    assertThat(actual.getLink(IanaLinkRelations.SEARCH)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).startsWith(SERVICE_LOGS_PATH + "/search"));
+  }
+
   @Test
   void should_have_default_affordance() {
     ServiceLogsModel actual = processor.process(model);
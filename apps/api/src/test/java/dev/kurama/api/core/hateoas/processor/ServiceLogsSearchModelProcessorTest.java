@@ -0,0 +1,53 @@
+package dev.kurama.api.core.hateoas.processor;
+
+import static dev.kurama.api.core.constant.RestPathConstant.SERVICE_LOGS_PATH;
+import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ServiceLogsSearchModelProcessorTest {
+
+  private ServiceLogsSearchModelProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    processor = new ServiceLogsSearchModelProcessor();
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", SERVICE_LOGS_PATH + "/search");
+    request.setQueryString("level=WARN&after=64");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void should_have_self_link() {
+    ServiceLogsSearchModel actual = processor.process(ServiceLogsSearchModel.builder().entries(List.of()).build());
+
+    assertThat(actual.getLinks()).hasSize(1);
+    assertThat(actual.getLink(SELF)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).endsWith(SERVICE_LOGS_PATH + "/search?level=WARN&after=64"));
+  }
+
+  @Test
+  void should_have_next_link_keeping_filters() {
+    ServiceLogsSearchModel actual = processor.process(
+      ServiceLogsSearchModel.builder().entries(List.of()).next(128L).build());
+
+    assertThat(actual.getLink(IanaLinkRelations.NEXT)).isPresent()
+      .hasValueSatisfying(
+        link -> assertThat(link.getHref()).endsWith(SERVICE_LOGS_PATH + "/search?level=WARN&after=128"));
+  }
+}
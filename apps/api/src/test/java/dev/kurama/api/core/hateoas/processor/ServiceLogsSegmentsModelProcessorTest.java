@@ -0,0 +1,35 @@
+package dev.kurama.api.core.hateoas.processor;
+
+import static dev.kurama.api.core.constant.RestPathConstant.SERVICE_LOGS_PATH;
+import static dev.kurama.api.core.hateoas.relations.AdministrationRelations.SERVICE_LOGS_SEGMENT_REL;
+import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ServiceLogsSegmentsModelProcessorTest {
+
+  private ServiceLogsSegmentsModelProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    processor = new ServiceLogsSegmentsModelProcessor();
+  }
+
+  @Test
+  void should_have_self_and_segment_links() {
+    ServiceLogsSegmentsModel actual = processor.process(ServiceLogsSegmentsModel.builder().segments(List.of()).build());
+
+    assertThat(actual.getLinks()).hasSize(2);
+    assertThat(actual.getLink(SELF)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(SERVICE_LOGS_PATH + "/segments"));
+    assertThat(actual.getLink(SERVICE_LOGS_SEGMENT_REL)).isPresent()
+      .hasValueSatisfying(link -> {
+        assertThat(link.isTemplated()).isTrue();
+        assertThat(link.getHref()).startsWith(SERVICE_LOGS_PATH + "/segments/{segment}");
+      });
+  }
+}
@@ -5,9 +5,13 @@ import static dev.kurama.api.core.message.RoleChangedMessageSender.ROLE_CHANGED_
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static java.lang.String.format;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import dev.kurama.api.core.event.domain.ApplicationEventBatch;
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
 import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,4 +40,44 @@ class RoleChangedMessageSenderTest {
     verify(template).convertAndSend(format(ROLE_CHANGED_CHANNEL, event.getRoleId()), event);
     verify(template).convertAndSend(ROLES_CHANGED_CHANNEL, event);
   }
+
+  @Test
+  void should_send_single_role_changed_message_unbatched() {
+    RoleChangedEvent event = RoleChangedEvent.builder()
+      .action(RoleChangedEventAction.UPDATED)
+      .roleId(randomUUID())
+      .build();
+
+    roleChangedMessageSender.sendRoleChangedMessages(List.of(event));
+
+    verify(template).convertAndSend(format(ROLE_CHANGED_CHANNEL, event.getRoleId()), event);
+    verify(template).convertAndSend(ROLES_CHANGED_CHANNEL, event);
+    verifyNoMoreInteractions(template);
+  }
+
+  @Test
+  void should_send_role_changed_messages_batched_on_collection_channel() {
+    RoleChangedEvent event1 = RoleChangedEvent.builder()
+      .action(RoleChangedEventAction.UPDATED)
+      .roleId(randomUUID())
+      .build();
+    RoleChangedEvent event2 = RoleChangedEvent.builder()
+      .action(RoleChangedEventAction.DELETED)
+      .roleId(randomUUID())
+      .build();
+
+    roleChangedMessageSender.sendRoleChangedMessages(List.of(event1, event2));
+
+    verify(template).convertAndSend(format(ROLE_CHANGED_CHANNEL, event1.getRoleId()), event1);
+    verify(template).convertAndSend(format(ROLE_CHANGED_CHANNEL, event2.getRoleId()), event2);
+    verify(template).convertAndSend(ROLES_CHANGED_CHANNEL, new ApplicationEventBatch<>(List.of(event1, event2)));
+    verifyNoMoreInteractions(template);
+  }
+
+  @Test
+  void should_not_send_empty_role_changed_messages() {
+    roleChangedMessageSender.sendRoleChangedMessages(List.of());
+
+    verifyNoInteractions(template);
+  }
 }
@@ -0,0 +1,55 @@
+package dev.kurama.api.core.message;
+
+import static dev.kurama.api.core.message.ServiceLogsMessageSender.SERVICE_LOGS_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ServiceLogsMessageSenderTest {
+
+  @InjectMocks
+  private ServiceLogsMessageSender serviceLogsMessageSender;
+
+  @Mock
+  private SimpMessagingTemplate template;
+
+  @Mock
+  private SimpUserRegistry userRegistry;
+
+  @Test
+  void should_send_service_logs_message() {
+    ServiceLogsModel logs = ServiceLogsModel.builder().logs("line\n").start(0L).end(5L).build();
+
+    serviceLogsMessageSender.sendServiceLogsMessage(logs);
+
+    verify(template).convertAndSend(SERVICE_LOGS_CHANNEL, logs);
+  }
+
+  @Test
+  void should_have_subscribers() {
+    when(userRegistry.findSubscriptions(any())).thenReturn(Set.of(mock(SimpSubscription.class)));
+
+    assertThat(serviceLogsMessageSender.hasSubscribers()).isTrue();
+  }
+
+  @Test
+  void should_not_have_subscribers() {
+    when(userRegistry.findSubscriptions(any())).thenReturn(Set.of());
+
+    assertThat(serviceLogsMessageSender.hasSubscribers()).isFalse();
+  }
+}
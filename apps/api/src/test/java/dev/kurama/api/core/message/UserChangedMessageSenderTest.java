@@ -5,9 +5,13 @@ import static dev.kurama.api.core.message.UserChangedMessageSender.USER_CHANGED_
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static java.lang.String.format;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import dev.kurama.api.core.event.domain.ApplicationEventBatch;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,4 +40,44 @@ class UserChangedMessageSenderTest {
     verify(template).convertAndSend(format(USER_CHANGED_CHANNEL, event.getUserId()), event);
     verify(template).convertAndSend(USERS_CHANGED_CHANNEL, event);
   }
+
+  @Test
+  void should_send_single_user_changed_message_unbatched() {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .action(UserChangedEventAction.UPDATED)
+      .userId(randomUUID())
+      .build();
+
+    userChangedMessageSender.sendUserChangedMessages(List.of(event));
+
+    verify(template).convertAndSend(format(USER_CHANGED_CHANNEL, event.getUserId()), event);
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, event);
+    verifyNoMoreInteractions(template);
+  }
+
+  @Test
+  void should_send_user_changed_messages_batched_on_collection_channel() {
+    UserChangedEvent event1 = UserChangedEvent.builder()
+      .action(UserChangedEventAction.UPDATED)
+      .userId(randomUUID())
+      .build();
+    UserChangedEvent event2 = UserChangedEvent.builder()
+      .action(UserChangedEventAction.DELETED)
+      .userId(randomUUID())
+      .build();
+
+    userChangedMessageSender.sendUserChangedMessages(List.of(event1, event2));
+
+    verify(template).convertAndSend(format(USER_CHANGED_CHANNEL, event1.getUserId()), event1);
+    verify(template).convertAndSend(format(USER_CHANGED_CHANNEL, event2.getUserId()), event2);
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, new ApplicationEventBatch<>(List.of(event1, event2)));
+    verifyNoMoreInteractions(template);
+  }
+
+  @Test
+  void should_not_send_empty_user_changed_messages() {
+    userChangedMessageSender.sendUserChangedMessages(List.of());
+
+    verifyNoInteractions(template);
+  }
 }
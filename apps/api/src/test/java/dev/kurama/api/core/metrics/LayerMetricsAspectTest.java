@@ -0,0 +1,154 @@
+package dev.kurama.api.core.metrics;
+
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.ERROR_OUTCOME;
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.EVENTS_COUNTER;
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.LAYER_TIMER;
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.SUCCESS_OUTCOME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.kurama.api.core.metrics.LayerMetricsAspectTest.LayerMetricsAspectConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {LayerMetricsAspect.class})
+@Import(LayerMetricsAspectConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class LayerMetricsAspectTest {
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private SampleFacade sampleFacade;
+
+  @Autowired
+  private SampleService sampleService;
+
+  @Autowired
+  private SampleEventEmitter sampleEventEmitter;
+
+  @Autowired
+  private SampleHelper sampleHelper;
+
+  @Test
+  void should_time_facade_calls_by_class_method_and_outcome() {
+    sampleFacade.getAll();
+    sampleFacade.getAll();
+
+    Timer timer = meterRegistry.get(LAYER_TIMER)
+      .tags("layer", "facade", "class", "SampleFacade", "method", "getAll", "outcome", SUCCESS_OUTCOME)
+      .timer();
+    assertThat(timer.count()).isEqualTo(2);
+    assertThat(((PrometheusMeterRegistry) meterRegistry).scrape()).contains(
+      "api_layer_calls_seconds_bucket{class=\"SampleFacade\",layer=\"facade\",method=\"getAll\"");
+  }
+
+  @Test
+  void should_time_failed_service_calls_as_errors() {
+    assertThatThrownBy(() -> sampleService.fail()).isInstanceOf(IllegalStateException.class);
+
+    assertThat(meterRegistry.get(LAYER_TIMER)
+      .tags("layer", "service", "class", "SampleService", "method", "fail", "outcome", ERROR_OUTCOME)
+      .timer()
+      .count()).isEqualTo(1);
+  }
+
+  @Test
+  void should_not_register_error_timers_until_a_call_fails() {
+    sampleFacade.getAll();
+
+    assertThat(meterRegistry.find(LAYER_TIMER).tag("class", "SampleFacade").tag("outcome", ERROR_OUTCOME).timers())
+      .isEmpty();
+    assertThat(meterRegistry.find(LAYER_TIMER).tag("class", "SampleFacade").tag("outcome", SUCCESS_OUTCOME).timers())
+      .hasSize(1);
+  }
+
+  @Test
+  void should_count_event_emissions() {
+    sampleEventEmitter.emitSampleEvent();
+    sampleEventEmitter.emitSampleEvent();
+
+    assertThat(meterRegistry.get(EVENTS_COUNTER)
+      .tags("class", "SampleEventEmitter", "method", "emitSampleEvent", "outcome", SUCCESS_OUTCOME)
+      .counter()
+      .count()).isEqualTo(2);
+  }
+
+  @Test
+  void should_not_instrument_other_beans() {
+    sampleHelper.help();
+
+    assertThat(meterRegistry.find(LAYER_TIMER).tag("class", "SampleHelper").timers()).isEmpty();
+  }
+
+  @TestConfiguration
+  @EnableAspectJAutoProxy
+  protected static class LayerMetricsAspectConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+      return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    }
+
+    @Bean
+    public SampleFacade sampleFacade() {
+      return new SampleFacade();
+    }
+
+    @Bean
+    public SampleService sampleService() {
+      return new SampleService();
+    }
+
+    @Bean
+    public SampleEventEmitter sampleEventEmitter() {
+      return new SampleEventEmitter();
+    }
+
+    @Bean
+    public SampleHelper sampleHelper() {
+      return new SampleHelper();
+    }
+  }
+
+  static class SampleFacade {
+
+    public String getAll() {
+      return "all";
+    }
+  }
+
+  static class SampleService {
+
+    public void fail() {
+      throw new IllegalStateException("fail");
+    }
+  }
+
+  static class SampleEventEmitter {
+
+    public void emitSampleEvent() {
+    }
+  }
+
+  static class SampleHelper {
+
+    public String help() {
+      return "help";
+    }
+  }
+}
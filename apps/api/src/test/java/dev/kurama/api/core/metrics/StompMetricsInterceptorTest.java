@@ -0,0 +1,65 @@
+package dev.kurama.api.core.metrics;
+
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.ERROR_OUTCOME;
+import static dev.kurama.api.core.metrics.LayerMetricsAspect.SUCCESS_OUTCOME;
+import static dev.kurama.api.core.metrics.StompMetricsInterceptor.STOMP_SENDS_COUNTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+class StompMetricsInterceptorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private StompMetricsInterceptor interceptor;
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    interceptor = new StompMetricsInterceptor(meterRegistry);
+  }
+
+  @Test
+  void should_count_sends_by_normalized_destination() {
+    interceptor.afterSendCompletion(message("/ami/user/6f1c2a3e-0000-4000-8000-000000000001"), channel, true, null);
+    interceptor.afterSendCompletion(message("/ami/user/6f1c2a3e-0000-4000-8000-000000000002"), channel, true, null);
+    interceptor.afterSendCompletion(message("/ami/user"), channel, false, null);
+
+    assertThat(meterRegistry.get(STOMP_SENDS_COUNTER)
+      .tags("destination", "/ami/user/{id}", "outcome", SUCCESS_OUTCOME)
+      .counter()
+      .count()).isEqualTo(2);
+    assertThat(meterRegistry.get(STOMP_SENDS_COUNTER)
+      .tags("destination", "/ami/user", "outcome", ERROR_OUTCOME)
+      .counter()
+      .count()).isEqualTo(1);
+  }
+
+  @Test
+  void should_ignore_messages_without_destination() {
+    interceptor.afterSendCompletion(MessageBuilder.withPayload("payload").build(), channel, true, null);
+
+    assertThat(meterRegistry.find(STOMP_SENDS_COUNTER).counters()).isEmpty();
+  }
+
+  @Test
+  void should_normalize_identifier_segments() {
+    assertThat(StompMetricsInterceptor.normalize("/ami/ttt/game/abc123/move")).isEqualTo("/ami/ttt/game/{id}/move");
+    assertThat(StompMetricsInterceptor.normalize("/ami/service-logs")).isEqualTo("/ami/service-logs");
+  }
+
+  private static Message<String> message(String destination) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage("payload", accessor.getMessageHeaders());
+  }
+}
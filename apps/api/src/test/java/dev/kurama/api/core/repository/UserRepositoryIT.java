@@ -1,7 +1,7 @@
 package dev.kurama.api.core.repository;
 
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
 
 import dev.kurama.api.core.domain.Role;
@@ -13,6 +13,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest(showSql = false)
@@ -75,4 +80,57 @@ class UserRepositoryIT {
       .hasFieldOrPropertyWithValue("username", user2.getUsername())
       .hasFieldOrPropertyWithValue("email", user2.getEmail());
   }
+
+  @Test
+  void should_search_users_ranked_by_similarity() {
+    User partial = entityManager.persist(
+      User.builder().setRandomUUID().username("xsearchablex").email("partial@kurama.dev").role(role).build());
+    User exact = entityManager.persist(
+      User.builder().setRandomUUID().username("searchable").email("exact@kurama.dev").role(role).build());
+    User lastname = entityManager.persist(
+      User.builder().setRandomUUID().username(randomAlphanumeric(8)).lastname("Searchable").role(role).build());
+    entityManager.persist(User.builder().setRandomUUID().username(randomAlphanumeric(8)).role(role).build());
+    entityManager.flush();
+
+    Page<User> actual = userRepository.search("searchable", "%searchable%", PageRequest.of(0, 10));
+
+    assertThat(actual.getTotalElements()).isEqualTo(3);
+    assertThat(actual.getContent()).extracting(User::getId)
+      .containsExactlyInAnyOrder(partial.getId(), exact.getId(), lastname.getId());
+    assertThat(actual.getContent().get(2).getId()).isEqualTo(partial.getId());
+  }
+
+  @Test
+  void should_search_users_with_escaped_pattern() {
+    User underscore = entityManager.persist(
+      User.builder().setRandomUUID().username("under_score").role(role).build());
+    entityManager.persist(User.builder().setRandomUUID().username("underXscore").role(role).build());
+    entityManager.flush();
+
+    Page<User> actual = userRepository.search("under_score", "%under\\_score%", PageRequest.of(0, 10));
+
+    assertThat(actual.getContent()).extracting(User::getId).containsExactly(underscore.getId());
+  }
+
+  @Test
+  void should_scroll_users_matching_search_specification() {
+    String prefix = randomAlphanumeric(8).toLowerCase();
+    User first = entityManager.persist(User.builder().setRandomUUID().username(prefix + "a").role(role).build());
+    User second = entityManager.persist(User.builder().setRandomUUID().username(prefix + "b").role(role).build());
+    User third = entityManager.persist(
+      User.builder().setRandomUUID().username("zzz" + prefix).email(prefix + "@kurama.dev").role(role).build());
+    entityManager.persist(User.builder().setRandomUUID().username(randomAlphanumeric(8)).role(role).build());
+    entityManager.flush();
+    UserSearchSpecification specification = new UserSearchSpecification("%" + prefix + "%");
+
+    Window<User> firstWindow = userRepository.findBy(specification,
+      query -> query.sortBy(Sort.by("username")).limit(2).scroll(ScrollPosition.keyset()));
+    Window<User> secondWindow = userRepository.findBy(specification,
+      query -> query.sortBy(Sort.by("username")).limit(2).scroll(firstWindow.positionAt(1)));
+
+    assertThat(firstWindow.getContent()).extracting(User::getId).containsExactly(first.getId(), second.getId());
+    assertThat(firstWindow.hasNext()).isTrue();
+    assertThat(secondWindow.getContent()).extracting(User::getId).containsExactly(third.getId());
+    assertThat(secondWindow.hasNext()).isFalse();
+  }
 }
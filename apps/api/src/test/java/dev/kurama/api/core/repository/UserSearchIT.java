@@ -0,0 +1,82 @@
+package dev.kurama.api.core.repository;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.User;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles(value = "integration-test")
+class UserSearchIT {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private User exact;
+
+  private User partial;
+
+  private User lastname;
+
+  @BeforeEach
+  void setUp() {
+    Role role = entityManager.persist(Role.builder().setRandomUUID().name(randomAlphanumeric(8)).build());
+    partial = entityManager.persist(
+      User.builder().setRandomUUID().username("aneedlehaystack").email("partial@kurama.dev").role(role).build());
+    exact = entityManager.persist(
+      User.builder().setRandomUUID().username("needle").email("exact@kurama.dev").role(role).build());
+    lastname = entityManager.persist(
+      User.builder().setRandomUUID().username("b-" + randomAlphanumeric(8)).lastname("Needles").role(role).build());
+    entityManager.persist(User.builder().setRandomUUID().username(randomAlphanumeric(8)).role(role).build());
+    entityManager.flush();
+  }
+
+  @Test
+  void should_answer_search_with_trigram_indexes() {
+    entityManager.getEntityManager().createNativeQuery("set local enable_seqscan = off").executeUpdate();
+
+    @SuppressWarnings("unchecked") List<String> plan = entityManager.getEntityManager().createNativeQuery("""
+        explain select * from application."user" u
+        where lower(u.username) like '%needle%' or lower(u.email) like '%needle%'
+           or lower(u.firstname) like '%needle%' or lower(u.lastname) like '%needle%'
+        """).getResultList();
+
+    assertThat(String.join("\n", plan)).doesNotContain("Seq Scan")
+      .contains("user_username_trgm_idx", "user_email_trgm_idx", "user_firstname_trgm_idx",
+        "user_lastname_trgm_idx");
+  }
+
+  @Test
+  void should_rank_search_by_similarity_without_sort() {
+    Page<User> actual = userRepository.search("needle", "%needle%", PageRequest.of(0, 10));
+
+    assertThat(actual.getTotalElements()).isEqualTo(3);
+    assertThat(actual.getContent()).extracting(User::getId).first().isEqualTo(exact.getId());
+  }
+
+  @Test
+  void should_search_in_requested_order() {
+    Page<User> actual = userRepository.findAll(new UserSearchSpecification("%needle%"),
+      PageRequest.of(0, 10, Sort.by("username")));
+
+    assertThat(actual.getContent()).extracting(User::getId)
+      .containsExactly(partial.getId(), lastname.getId(), exact.getId());
+  }
+}
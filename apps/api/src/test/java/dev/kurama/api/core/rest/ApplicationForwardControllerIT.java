@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import dev.kurama.api.core.configuration.SecurityConfiguration;
 import dev.kurama.api.core.filter.JWTAccessDeniedHandler;
+import dev.kurama.api.core.filter.JWTAuthenticationCache;
 import dev.kurama.api.core.filter.JWTAuthenticationEntryPoint;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import java.nio.file.Files;
@@ -155,6 +156,11 @@ class ApplicationForwardControllerIT {
       return Mockito.mock(JWTTokenProvider.class);
     }
 
+    @Bean
+    public JWTAuthenticationCache JWTAuthenticationCache() {
+      return Mockito.mock(JWTAuthenticationCache.class);
+    }
+
     @Bean
     public JWTAuthenticationEntryPoint JWTAuthenticationEntryPoint() {
       return Mockito.mock(JWTAuthenticationEntryPoint.class);
@@ -3,6 +3,7 @@ package dev.kurama.api.core.rest;
 import static dev.kurama.api.core.constant.RestPathConstant.AUTHENTICATION_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.ACTIVATE_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.LOGIN_PATH;
+import static dev.kurama.api.core.rest.AuthenticationController.ROTATE_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.SIGNUP_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.TOKEN_PATH;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
@@ -27,6 +28,7 @@ import dev.kurama.api.core.hateoas.input.AccountActivationInput;
 import dev.kurama.api.core.hateoas.input.LoginInput;
 import dev.kurama.api.core.hateoas.input.RequestActivationTokenInput;
 import dev.kurama.api.core.hateoas.input.SignupInput;
+import dev.kurama.api.core.hateoas.input.TokenRotationInput;
 import dev.kurama.api.core.service.AuthenticationFacility;
 import dev.kurama.api.core.service.UserService;
 import dev.kurama.api.core.utility.JWTTokenProvider;
@@ -120,6 +122,54 @@ class AuthenticationControllerIT {
       .andExpect(jsonPath("$.username", equalTo(expected.getUsername())));
   }
 
+  @Test
+  void should_rotate_secret() throws Exception {
+    TokenRotationInput input = TokenRotationInput.builder().secret(randomAlphanumeric(64)).build();
+
+    mockMvc.perform(post(AUTHENTICATION_PATH + TOKEN_PATH + ROTATE_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+      .contentType(MediaType.APPLICATION_JSON)
+      .content(asJsonString(input))
+      .headers(MockAuthorizedUser.builder()
+        .username(randomAlphanumeric(8))
+        .id(randomUUID())
+        .authorities(TokenAuthority.TOKEN_ROTATE)
+        .buildAuthorizationHeader(jwtTokenProvider))).andExpect(status().isNoContent());
+
+    verify(authenticationFacility, times(1)).rotateSecret(input.getSecret());
+  }
+
+  @Test
+  void should_return_bad_request_when_rotating_to_a_short_secret() throws Exception {
+    TokenRotationInput input = TokenRotationInput.builder().secret(randomAlphanumeric(32)).build();
+
+    mockMvc.perform(post(AUTHENTICATION_PATH + TOKEN_PATH + ROTATE_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+      .contentType(MediaType.APPLICATION_JSON)
+      .content(asJsonString(input))
+      .headers(MockAuthorizedUser.builder()
+        .username(randomAlphanumeric(8))
+        .id(randomUUID())
+        .authorities(TokenAuthority.TOKEN_ROTATE)
+        .buildAuthorizationHeader(jwtTokenProvider))).andExpect(status().isBadRequest());
+
+    verify(authenticationFacility, times(0)).rotateSecret(input.getSecret());
+  }
+
+  @Test
+  void should_return_unauthorized_without_token_rotate_authority() throws Exception {
+    TokenRotationInput input = TokenRotationInput.builder().secret(randomAlphanumeric(64)).build();
+
+    mockMvc.perform(post(AUTHENTICATION_PATH + TOKEN_PATH + ROTATE_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+      .contentType(MediaType.APPLICATION_JSON)
+      .content(asJsonString(input))
+      .headers(MockAuthorizedUser.builder()
+        .username(randomAlphanumeric(8))
+        .id(randomUUID())
+        .authorities(TokenAuthority.TOKEN_REFRESH)
+        .buildAuthorizationHeader(jwtTokenProvider))).andExpect(status().isUnauthorized());
+
+    verify(authenticationFacility, times(0)).rotateSecret(input.getSecret());
+  }
+
   @Test
   void should_request_activation_token() throws Exception {
     RequestActivationTokenInput input = RequestActivationTokenInput.builder().email(randomAlphanumeric(8)).build();
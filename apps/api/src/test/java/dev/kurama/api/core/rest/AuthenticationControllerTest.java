@@ -3,6 +3,7 @@ package dev.kurama.api.core.rest;
 import static dev.kurama.api.core.constant.RestPathConstant.AUTHENTICATION_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.ACTIVATE_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.LOGIN_PATH;
+import static dev.kurama.api.core.rest.AuthenticationController.ROTATE_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.SIGNUP_PATH;
 import static dev.kurama.api.core.rest.AuthenticationController.TOKEN_PATH;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
@@ -24,6 +25,7 @@ import dev.kurama.api.core.hateoas.input.AccountActivationInput;
 import dev.kurama.api.core.hateoas.input.LoginInput;
 import dev.kurama.api.core.hateoas.input.RequestActivationTokenInput;
 import dev.kurama.api.core.hateoas.input.SignupInput;
+import dev.kurama.api.core.hateoas.input.TokenRotationInput;
 import dev.kurama.api.core.hateoas.model.AuthenticatedUserModel;
 import dev.kurama.api.core.hateoas.model.UserModel;
 import dev.kurama.api.core.rest.AuthenticationControllerTest.AuthenticationControllerConfig;
@@ -123,6 +125,17 @@ class AuthenticationControllerTest {
     }
   }
 
+  @Test
+  void should_rotate_secret() throws Exception {
+    TokenRotationInput input = TokenRotationInput.builder().secret(randomAlphanumeric(64)).build();
+
+    mockMvc.perform(post(AUTHENTICATION_PATH + TOKEN_PATH + ROTATE_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+      .contentType(MediaType.APPLICATION_JSON)
+      .content(asJsonString(input))).andExpect(status().isNoContent());
+
+    verify(facade).rotateSecret(input);
+  }
+
   @Test
   void should_request_activation_token() throws Exception {
     RequestActivationTokenInput input = RequestActivationTokenInput.builder().email(randomAlphanumeric(8)).build();
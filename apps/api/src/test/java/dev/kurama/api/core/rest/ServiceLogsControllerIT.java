@@ -3,6 +3,7 @@ package dev.kurama.api.core.rest;
 import static dev.kurama.api.core.authority.ServiceLogsAuthority.SERVICE_LOGS_DELETE;
 import static dev.kurama.api.core.authority.ServiceLogsAuthority.SERVICE_LOGS_READ;
 import static dev.kurama.api.core.constant.RestPathConstant.SERVICE_LOGS_PATH;
+import static dev.kurama.support.TestConstant.MOCK_MVC_HOST;
 import static dev.kurama.support.TestUtils.getAuthorizationHeader;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.hamcrest.Matchers.equalTo;
@@ -13,13 +14,18 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import dev.kurama.api.core.facade.ServiceLogsFacade;
+import dev.kurama.api.core.hateoas.input.ServiceLogsSearchInput;
+import dev.kurama.api.core.hateoas.model.ServiceLogsEntryModel;
 import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
 import dev.kurama.api.core.hateoas.processor.ServiceLogsModelProcessor;
+import dev.kurama.api.core.hateoas.processor.ServiceLogsSearchModelProcessor;
 import dev.kurama.api.core.service.ServiceLogsService;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import dev.kurama.support.ImportMappers;
 import dev.kurama.support.ImportTestSecurityConfiguration;
 import java.util.Date;
+import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,7 +37,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 @ImportTestSecurityConfiguration
 @WebMvcTest(controllers = ServiceLogsController.class)
-@Import({ServiceLogsFacade.class, ServiceLogsModelProcessor.class})
+@Import({ServiceLogsFacade.class, ServiceLogsModelProcessor.class, ServiceLogsSearchModelProcessor.class})
 @ImportMappers
 class ServiceLogsControllerIT {
 
@@ -67,6 +73,58 @@ class ServiceLogsControllerIT {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.logs", equalTo(expected.getLogs())));
     }
+
+    @Test
+    void should_get_service_logs_after_offset() throws Exception {
+      ServiceLogsModel expected = ServiceLogsModel.builder()
+        .logs(randomAlphanumeric(8))
+        .timestamp(new Date())
+        .start(64L)
+        .end(72L)
+        .build();
+      doReturn(expected).when(serviceLogsService).getServiceLogsAfter(64);
+
+      mockMvc.perform(get(SERVICE_LOGS_PATH).param("after", "64")
+          .headers(getAuthorizationHeader(jwtTokenProvider, SERVICE_LOGS_READ)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.logs", equalTo(expected.getLogs())))
+        .andExpect(jsonPath("$._links.next.href", equalTo(MOCK_MVC_HOST + SERVICE_LOGS_PATH + "?after=72")));
+    }
+
+    @Test
+    void should_return_unauthorized_tailing_without_service_logs_read_authorization() throws Exception {
+      mockMvc.perform(get(SERVICE_LOGS_PATH).param("lines", "10")
+          .headers(getAuthorizationHeader(jwtTokenProvider, "MOCK:AUTH")))
+        .andExpect(status().isUnauthorized());
+    }
+  }
+
+  @Nested
+  class SearchServiceLogsITs {
+
+    @Test
+    void should_return_unauthorized_without_service_logs_read_authorization() throws Exception {
+      mockMvc.perform(get(SERVICE_LOGS_PATH + "/search").headers(getAuthorizationHeader(jwtTokenProvider, "MOCK:AUTH")))
+        .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void should_search_service_logs() throws Exception {
+      ServiceLogsSearchModel expected = ServiceLogsSearchModel.builder()
+        .entries(List.of(ServiceLogsEntryModel.builder().offset(0L).level("ERROR").message("boom").build()))
+        .timestamp(new Date())
+        .next(96L)
+        .build();
+      doReturn(expected).when(serviceLogsService)
+        .searchServiceLogs(ServiceLogsSearchInput.builder().level("ERROR").query("boom").build());
+
+      mockMvc.perform(get(SERVICE_LOGS_PATH + "/search?level=ERROR&query=boom")
+          .headers(getAuthorizationHeader(jwtTokenProvider, SERVICE_LOGS_READ)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.entries[0].message", equalTo("boom")))
+        .andExpect(jsonPath("$._links.next.href",
+          equalTo(MOCK_MVC_HOST + SERVICE_LOGS_PATH + "/search?level=ERROR&query=boom&after=96")));
+    }
   }
 
   @Nested
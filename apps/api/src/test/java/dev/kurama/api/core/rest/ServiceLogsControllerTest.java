@@ -11,8 +11,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import dev.kurama.api.core.exception.ExceptionHandlers;
 import dev.kurama.api.core.facade.ServiceLogsFacade;
+import dev.kurama.api.core.hateoas.input.ServiceLogsSearchInput;
+import dev.kurama.api.core.hateoas.model.ServiceLogsEntryModel;
 import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
 import dev.kurama.api.core.rest.ServiceLogsControllerTest.ServiceLogsControllerConfig;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +62,92 @@ class ServiceLogsControllerTest {
       .andExpect(jsonPath("$.logs", equalTo(expected.getLogs())));
   }
 
+  @Test
+  void should_get_service_logs_tail() throws Exception {
+    ServiceLogsModel expected = ServiceLogsModel.builder().logs(randomAlphanumeric(8)).start(0L).end(8L).build();
+    when(facade.getServiceLogsTail(20)).thenReturn(expected);
+
+    mockMvc.perform(get(SERVICE_LOGS_PATH).param("lines", "20"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.logs", equalTo(expected.getLogs())))
+      .andExpect(jsonPath("$.end", equalTo(8)));
+  }
+
+  @Test
+  void should_get_service_logs_after() throws Exception {
+    ServiceLogsModel expected = ServiceLogsModel.builder().logs(randomAlphanumeric(8)).start(100L).end(108L).build();
+    when(facade.getServiceLogsAfter(100)).thenReturn(expected);
+
+    mockMvc.perform(get(SERVICE_LOGS_PATH).param("after", "100"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.logs", equalTo(expected.getLogs())))
+      .andExpect(jsonPath("$.start", equalTo(100)));
+  }
+
+  @Test
+  void should_search_service_logs() throws Exception {
+    ServiceLogsSearchInput input = ServiceLogsSearchInput.builder()
+      .level("WARN")
+      .logger("hibernate")
+      .from(OffsetDateTime.parse("2026-10-17T10:00:00Z"))
+      .query("dialect")
+      .after(64L)
+      .size(10)
+      .build();
+    ServiceLogsSearchModel expected = ServiceLogsSearchModel.builder()
+      .entries(List.of(ServiceLogsEntryModel.builder().offset(64L).level("WARN").message("Deprecated dialect").build()))
+      .next(128L)
+      .build();
+    when(facade.searchServiceLogs(input)).thenReturn(expected);
+
+    mockMvc.perform(get(SERVICE_LOGS_PATH + "/search")
+        .param("level", "WARN")
+        .param("logger", "hibernate")
+        .param("from", "2026-10-17T10:00:00Z")
+        .param("query", "dialect")
+        .param("after", "64")
+        .param("size", "10"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.entries[0].message", equalTo("Deprecated dialect")))
+      .andExpect(jsonPath("$.next", equalTo(128)));
+  }
+
+  @Test
+  void should_get_service_logs_segments() throws Exception {
+    ServiceLogsSegmentsModel expected = ServiceLogsSegmentsModel.builder()
+      .segments(List.of(ServiceLogsSegmentModel.builder().name("logs.log.2026-10-16.0.gz").compressed(true).build()))
+      .build();
+    when(facade.getServiceLogsSegments()).thenReturn(expected);
+
+    mockMvc.perform(get(SERVICE_LOGS_PATH + "/segments"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.segments[0].name", equalTo("logs.log.2026-10-16.0.gz")))
+      .andExpect(jsonPath("$.segments[0].compressed", equalTo(true)));
+  }
+
+  @Test
+  void should_get_service_logs_segment() throws Exception {
+    ServiceLogsModel expected = ServiceLogsModel.builder()
+      .logs(randomAlphanumeric(8))
+      .start(64L)
+      .end(72L)
+      .segment("logs.log.2026-10-16.0.gz")
+      .build();
+    when(facade.getServiceLogsSegment("logs.log.2026-10-16.0.gz", 64)).thenReturn(expected);
+
+    mockMvc.perform(get(SERVICE_LOGS_PATH + "/segments/logs.log.2026-10-16.0.gz").param("after", "64"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.logs", equalTo(expected.getLogs())))
+      .andExpect(jsonPath("$.segment", equalTo("logs.log.2026-10-16.0.gz")));
+  }
+
+  @Test
+  void should_return_not_found_for_unknown_segment() throws Exception {
+    when(facade.getServiceLogsSegment("unknown", 0)).thenThrow(new NoSuchElementException("unknown"));
+
+    mockMvc.perform(get(SERVICE_LOGS_PATH + "/segments/unknown")).andExpect(status().isNotFound());
+  }
+
   @Test
   void should_delete_service_logs() throws Exception {
     ServiceLogsModel expected = ServiceLogsModel.builder().logs("").build();
@@ -11,6 +11,7 @@ import static dev.kurama.api.core.constant.RestPathConstant.USER_PATH;
 import static dev.kurama.api.core.constant.RestPathConstant.USER_PREFERENCES_PATH;
 import static dev.kurama.api.core.message.UserChangedMessageSender.USERS_CHANGED_CHANNEL;
 import static dev.kurama.api.core.message.UserChangedMessageSender.USER_CHANGED_CHANNEL;
+import static dev.kurama.api.core.utility.KeysetCursorUtils.AFTER_PARAM;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static dev.kurama.support.JsonUtils.asJsonString;
 import static dev.kurama.support.TestConstant.MOCK_MVC_HOST;
@@ -25,9 +26,11 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.springframework.beans.support.PagedListHolder.DEFAULT_PAGE_SIZE;
 import static org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -48,9 +51,11 @@ import dev.kurama.api.core.hateoas.processor.UserPreferencesModelProcessor;
 import dev.kurama.api.core.service.AuthenticationFacility;
 import dev.kurama.api.core.service.UserService;
 import dev.kurama.api.core.utility.JWTTokenProvider;
+import dev.kurama.api.core.utility.KeysetCursorUtils;
 import dev.kurama.support.ImportMappers;
 import dev.kurama.support.ImportTestSecurityConfiguration;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -62,6 +67,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -239,6 +247,72 @@ class UserControllerIT {
     }
   }
 
+  @Nested
+  class ScrollUsersITs {
+
+    @Test
+    void should_return_forbidden_without_authentication() throws Exception {
+      mockMvc.perform(get(USER_PATH).param(AFTER_PARAM, "")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void should_return_unauthorized_without_user_read_authority() throws Exception {
+      mockMvc.perform(
+          get(USER_PATH).param(AFTER_PARAM, "").headers(getAuthorizationHeader(jwtTokenProvider, "MOCK:AUTH")))
+        .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void should_scroll_users_with_next_link() throws Exception {
+      ArrayList<User> users = newArrayList(getMockUser(), getMockUser());
+      Window<User> window = Window.from(users,
+        index -> ScrollPosition.forward(Map.of("username", users.get(index).getUsername(), "id", users.get(index).getId())),
+        true);
+      doReturn(window).when(userService).scrollUsers(eq(ScrollPosition.keyset()), any(), eq(2), any());
+
+      mockMvc.perform(get(USER_PATH + "?after=&size=2").accept(HAL_FORMS_JSON_VALUE)
+          .headers(getAuthorizationHeader(jwtTokenProvider, USER_READ)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._links.*", hasSize(3)))
+        .andExpect(jsonPath("$._links.self.href", startsWith(MOCK_MVC_HOST + USER_PATH)))
+        .andExpect(jsonPath("$._links.next.href",
+          equalTo(MOCK_MVC_HOST + USER_PATH + "?size=2&after=" + KeysetCursorUtils.encode(window.positionAt(1)))))
+        .andExpect(jsonPath("$._links.ws.href", equalTo(USERS_CHANGED_CHANNEL)))
+        .andExpect(jsonPath("$.page").doesNotExist())
+        .andExpect(jsonPath("$._embedded.userModels", hasSize(2)))
+        .andExpect(
+          jsonPath("$._embedded.userModels[*].id", allOf(contains(users.get(0).getId(), users.get(1).getId()))));
+    }
+
+    @Test
+    void should_scroll_users_after_cursor() throws Exception {
+      User user = getMockUser();
+      String after = KeysetCursorUtils.encode(
+        ScrollPosition.forward(Map.of("username", user.getUsername(), "id", user.getId())));
+      doReturn(Window.from(newArrayList(), ScrollPosition::offset)).when(userService)
+        .scrollUsers(any(), any(), anyInt(), any());
+
+      mockMvc.perform(get(USER_PATH).param(AFTER_PARAM, after)
+          .param("search", "search")
+          .accept(HAL_FORMS_JSON_VALUE)
+          .headers(getAuthorizationHeader(jwtTokenProvider, USER_READ)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._links.next").doesNotExist());
+
+      verify(userService).scrollUsers(
+        eq(ScrollPosition.forward(Map.of("username", user.getUsername(), "id", user.getId()))),
+        eq(Sort.by("username")), eq(DEFAULT_PAGE_SIZE), eq("search"));
+    }
+
+    @Test
+    void should_return_bad_request_given_invalid_cursor() throws Exception {
+      mockMvc.perform(get(USER_PATH).param(AFTER_PARAM, "invalid")
+          .accept(HAL_FORMS_JSON_VALUE)
+          .headers(getAuthorizationHeader(jwtTokenProvider, USER_READ)))
+        .andExpect(status().isBadRequest());
+    }
+  }
+
   private final UserInput userInput = UserInput.builder()
     .username(randomAlphanumeric(8))
     .email(randomAlphanumeric(8))
@@ -8,6 +8,7 @@ import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.support.AuthenticatedUser;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
+import dev.kurama.api.core.filter.JWTAuthenticationCache;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import dev.kurama.support.ServiceLayerIntegrationTestConfig;
 import dev.kurama.support.TestEmailConfiguration;
@@ -20,9 +21,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.AuthenticationManager;
 
 @ServiceLayerIntegrationTestConfig
-@Import({AuthenticationFacility.class, UserService.class, JWTTokenProvider.class, AuthorityService.class,
-  ActivationTokenService.class, EmailService.class, TestEmailConfiguration.class, RoleService.class,
-  GlobalSettingsService.class,})
+@Import({AuthenticationFacility.class, UserService.class, JWTTokenProvider.class, JWTAuthenticationCache.class,
+  AuthorityService.class, ActivationTokenService.class, EmailService.class, TestEmailConfiguration.class,
+  RoleService.class, GlobalSettingsService.class,})
 class AuthenticationFacilityIT {
 
   @Autowired
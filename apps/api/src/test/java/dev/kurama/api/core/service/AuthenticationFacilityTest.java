@@ -5,7 +5,9 @@ import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,6 +18,7 @@ import dev.kurama.api.core.domain.UserPrincipal;
 import dev.kurama.api.core.domain.support.AuthenticatedUser;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
+import dev.kurama.api.core.filter.JWTAuthenticationCache;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Optional;
@@ -41,6 +44,9 @@ class AuthenticationFacilityTest {
   @Mock
   private JWTTokenProvider jwtTokenProvider;
 
+  @Mock
+  private JWTAuthenticationCache jwtAuthenticationCache;
+
   @Mock
   private AuthenticationManager authenticationManager;
 
@@ -70,7 +76,8 @@ class AuthenticationFacilityTest {
       verify(authenticationManager).authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), password));
       verify(jwtTokenProvider, times(1)).generateToken(any(UserPrincipal.class));
       verify(jwtTokenProvider, times(1)).generateRefreshToken(any(UserPrincipal.class));
-      verify(jwtTokenProvider).getDecodedJWT(anyString());
+      verify(jwtTokenProvider).getAuthentication(any(UserPrincipal.class), eq(httpServletRequest));
+      verify(jwtTokenProvider, never()).getDecodedJWT(anyString());
       assertThat(authenticatedUser).isNotNull()
         .hasFieldOrPropertyWithValue("user", user)
         .hasFieldOrPropertyWithValue("token", token)
@@ -129,7 +136,8 @@ class AuthenticationFacilityTest {
 
       verify(jwtTokenProvider, times(1)).generateToken(any(UserPrincipal.class));
       verify(jwtTokenProvider, times(1)).generateRefreshToken(any(UserPrincipal.class));
-      verify(jwtTokenProvider).getDecodedJWT(anyString());
+      verify(jwtTokenProvider).getAuthentication(any(UserPrincipal.class), eq(httpServletRequest));
+      verify(jwtTokenProvider, never()).getDecodedJWT(anyString());
       assertThat(authenticatedUser).isNotNull()
         .hasFieldOrPropertyWithValue("user", user)
         .hasFieldOrPropertyWithValue("token", token)
@@ -171,6 +179,16 @@ class AuthenticationFacilityTest {
     }
   }
 
+  @Test
+  void should_rotate_secret() {
+    String secret = randomAlphanumeric(32);
+
+    facility.rotateSecret(secret);
+
+    verify(jwtTokenProvider).rotateSecret(secret);
+    verify(jwtAuthenticationCache).invalidateAll();
+  }
+
   @Test
   void should_validate_user_credentials() {
     String username = randomAlphanumeric(8);
@@ -0,0 +1,101 @@
+package dev.kurama.api.core.service;
+
+import static dev.kurama.api.core.service.ServiceLogsIndex.INDEX_INTERVAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ServiceLogsIndexTest {
+
+  private static final Instant START = Instant.parse("2026-10-17T10:00:00Z");
+
+  @TempDir
+  Path directory;
+
+  private Path path;
+
+  private ServiceLogsIndex index;
+
+  @BeforeEach
+  void setUp() {
+    path = directory.resolve("logs.log");
+    index = new ServiceLogsIndex();
+  }
+
+  @Test
+  void should_index_one_entry_per_interval() throws IOException {
+    long lines = writeLines(0, 5 * INDEX_INTERVAL / 2);
+
+    refresh();
+
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.floor(START.toEpochMilli())).isZero();
+    assertThat(index.floor(START.plusSeconds(lines).toEpochMilli())).isGreaterThanOrEqualTo(2 * INDEX_INTERVAL);
+  }
+
+  @Test
+  void should_return_offset_of_an_entry_before_the_timestamp() throws IOException {
+    long lines = writeLines(0, 4 * INDEX_INTERVAL);
+    refresh();
+
+    try (ServiceLogsFile file = ServiceLogsFile.open(path)) {
+      for (long second = 0; second < lines; second += lines / 7) {
+        long timestamp = START.plusSeconds(second).toEpochMilli();
+        long offset = index.floor(timestamp);
+
+        assertThat(file.nextEntry(offset, file.getSize())).isEqualTo(offset);
+        assertThat(file.getTimestamp(offset)).isLessThan(Math.max(timestamp, START.toEpochMilli() + 1));
+      }
+    }
+  }
+
+  @Test
+  void should_extend_index_as_file_grows() throws IOException {
+    long lines = writeLines(0, INDEX_INTERVAL / 2);
+    refresh();
+    assertThat(index.size()).isEqualTo(1);
+
+    writeLines(lines, 2 * INDEX_INTERVAL);
+    refresh();
+
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  void should_reset_index_when_file_is_truncated() throws IOException {
+    writeLines(0, 3 * INDEX_INTERVAL);
+    refresh();
+
+    Files.writeString(path, "");
+    writeLines(1000, 100);
+    refresh();
+
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.floor(START.plusSeconds(5000).toEpochMilli())).isZero();
+  }
+
+  private void refresh() throws IOException {
+    try (ServiceLogsFile file = ServiceLogsFile.open(path)) {
+      index.refresh(file);
+    }
+  }
+
+  private long writeLines(long first, long bytes) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    long line = first;
+    while (builder.length() < bytes) {
+      builder.append(START.plusSeconds(line++))
+        .append("  INFO 1 --- [main] dev.kurama.api.Foo : line\n\tcontinuation\n");
+    }
+    Files.writeString(path, builder, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    return line;
+  }
+}
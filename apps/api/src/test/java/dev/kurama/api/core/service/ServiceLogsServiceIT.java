@@ -1,6 +1,5 @@
 package dev.kurama.api.core.service;
 
-import static dev.kurama.api.core.service.ServiceLogsService.LOGS_FILE;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -9,22 +8,30 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
 class ServiceLogsServiceIT {
 
-  @InjectMocks
+  @TempDir
+  Path directory;
+
   private ServiceLogsService serviceLogsService;
 
+  @Spy
+  private ServiceLogsIndex serviceLogsIndex = new ServiceLogsIndex();
+
   String log = randomUUID();
 
   @BeforeEach
   void setUp() {
+    serviceLogsService = new ServiceLogsService(serviceLogsIndex, directory.resolve("logs.log").toString());
     writeTextToLogsFile(log);
   }
 
@@ -32,18 +39,19 @@ class ServiceLogsServiceIT {
   void get_service_logs() {
     ServiceLogsModel serviceLogs = serviceLogsService.getServiceLogs();
 
-    assertThat(serviceLogs.getLogs()).isEqualTo(log + "\n");
+    assertThat(serviceLogs.getLogs()).isEqualTo(log);
   }
 
   @Test
-  void delete_service_logs() {
+  void delete_service_logs_keeps_the_live_file() {
     ServiceLogsModel serviceLogs = serviceLogsService.deleteServiceLogs();
 
-    assertThat(serviceLogs.getLogs()).isEmpty();
+    assertThat(serviceLogs.getLogs()).isEqualTo(log);
+    assertThat(directory.resolve("logs.log").toFile().length()).isEqualTo(log.length());
   }
 
   private void writeTextToLogsFile(String text) {
-    File file = new File(LOGS_FILE);
+    File file = directory.resolve("logs.log").toFile();
     try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
       writer.write(text);
       writer.flush();
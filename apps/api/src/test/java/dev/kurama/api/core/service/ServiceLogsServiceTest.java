@@ -1,30 +1,68 @@
 package dev.kurama.api.core.service;
 
-import static dev.kurama.api.core.service.ServiceLogsService.LOGS_FILE;
+import static dev.kurama.api.core.service.ServiceLogsService.MAX_CHUNK_SIZE;
+import static dev.kurama.api.core.service.ServiceLogsService.MAX_SEARCH_SIZE;
+import static dev.kurama.api.core.service.ServiceLogsService.MAX_TAIL_LINES;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import dev.kurama.api.core.hateoas.input.ServiceLogsSearchInput;
+import dev.kurama.api.core.hateoas.model.ServiceLogsEntryModel;
 import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSearchModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentModel;
+import dev.kurama.api.core.hateoas.model.ServiceLogsSegmentsModel;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
 class ServiceLogsServiceTest {
 
-  @InjectMocks
+  @TempDir
+  Path directory;
+
   private ServiceLogsService serviceLogsService;
 
+  @Spy
+  private ServiceLogsIndex serviceLogsIndex = new ServiceLogsIndex();
+
+  private static final String SEARCH_LOGS = """
+    2026-10-17T10:00:00.000Z  INFO 1 --- [main] dev.kurama.api.BackendApplication        : Started application
+    2026-10-17T11:00:00.000Z  WARN 1 --- [main] org.hibernate.orm.deprecation            : Deprecated dialect
+    2026-10-17T11:00:01.000Z ERROR 1 --- [nio-1] d.k.api.core.exception.ExceptionHandlers : Request failed
+    java.lang.IllegalStateException: boom
+    \tat dev.kurama.api.Foo.bar(Foo.java:1)
+    2026-10-17T12:00:00.000Z DEBUG 1 --- [main] dev.kurama.api.Foo                       : Bye
+    """;
+
   String log = randomUUID();
 
   @BeforeEach
   void setUp() {
+    serviceLogsService = new ServiceLogsService(serviceLogsIndex, directory.resolve("logs.log").toString());
     writeTextToLogsFile(log);
   }
 
@@ -32,18 +70,249 @@ class ServiceLogsServiceTest {
   void get_service_logs() {
     ServiceLogsModel serviceLogs = serviceLogsService.getServiceLogs();
 
-    assertThat(serviceLogs.getLogs()).isEqualTo(log + "\n");
+    assertThat(serviceLogs.getLogs()).isEqualTo(log);
+  }
+
+  @Test
+  void get_service_logs_tail() {
+    writeTextToLogsFile("first\nsecond\nthird\n");
+
+    ServiceLogsModel serviceLogs = serviceLogsService.getServiceLogsTail(2);
+
+    assertThat(serviceLogs.getLogs()).isEqualTo("second\nthird\n");
+    assertThat(serviceLogs.getStart()).isEqualTo(6);
+    assertThat(serviceLogs.getEnd()).isEqualTo(19);
+  }
+
+  @Test
+  void get_service_logs_tail_with_partial_last_line() {
+    writeTextToLogsFile("first\nsecond\nthi");
+
+    assertThat(serviceLogsService.getServiceLogsTail(1).getLogs()).isEqualTo("thi");
+    assertThat(serviceLogsService.getServiceLogsTail(2).getLogs()).isEqualTo("second\nthi");
+    assertThat(serviceLogsService.getServiceLogsTail(5).getLogs()).isEqualTo("first\nsecond\nthi");
+    assertThat(serviceLogsService.getServiceLogsTail(0).getLogs()).isEmpty();
+    assertThat(serviceLogsService.getServiceLogsTail(0).getEnd()).isEqualTo(16);
+  }
+
+  @Test
+  void get_service_logs_tail_bounded_by_chunk_size() {
+    writeTextToLogsFile("x".repeat(MAX_CHUNK_SIZE) + "\nlast\n");
+
+    ServiceLogsModel serviceLogs = serviceLogsService.getServiceLogsTail(MAX_TAIL_LINES);
+
+    assertThat(serviceLogs.getLogs()).hasSize(MAX_CHUNK_SIZE).endsWith("\nlast\n");
+    assertThat(serviceLogs.getStart()).isEqualTo(6);
+  }
+
+  @Test
+  void get_service_logs_after_offset() {
+    writeTextToLogsFile("first\nsecond\n");
+
+    ServiceLogsModel serviceLogs = serviceLogsService.getServiceLogsAfter(6);
+
+    assertThat(serviceLogs.getLogs()).isEqualTo("second\n");
+    assertThat(serviceLogs.getStart()).isEqualTo(6);
+    assertThat(serviceLogs.getEnd()).isEqualTo(13);
+    assertThat(serviceLogsService.getServiceLogsAfter(13).getLogs()).isEmpty();
+  }
+
+  @Test
+  void get_service_logs_after_offset_restarts_when_truncated() {
+    writeTextToLogsFile("first\n");
+
+    ServiceLogsModel serviceLogs = serviceLogsService.getServiceLogsAfter(100);
+
+    assertThat(serviceLogs.getLogs()).isEqualTo("first\n");
+    assertThat(serviceLogs.getStart()).isZero();
+  }
+
+  @Test
+  void get_service_logs_after_offset_in_line_aligned_chunks() {
+    String line = "y".repeat(1023) + "\n";
+    writeTextToLogsFile(line.repeat(MAX_CHUNK_SIZE / line.length() + 1));
+
+    ServiceLogsModel first = serviceLogsService.getServiceLogsAfter(0);
+    ServiceLogsModel second = serviceLogsService.getServiceLogsAfter(first.getEnd());
+
+    assertThat(first.getLogs()).hasSize(MAX_CHUNK_SIZE).endsWith("\n");
+    assertThat(second.getLogs()).isEqualTo(line);
+  }
+
+  @Test
+  void search_service_logs_parses_entries() {
+    writeTextToLogsFile(SEARCH_LOGS);
+
+    ServiceLogsSearchModel result = serviceLogsService.searchServiceLogs(ServiceLogsSearchInput.builder().build());
+
+    assertThat(result.getNext()).isNull();
+    assertThat(result.getEntries()).hasSize(4).first().satisfies(entry -> {
+      assertThat(entry.getOffset()).isZero();
+      assertThat(entry.getTimestamp()).isEqualTo(
+        Date.from(OffsetDateTime.parse("2026-10-17T10:00:00.000Z").toInstant()));
+      assertThat(entry.getLevel()).isEqualTo("INFO");
+      assertThat(entry.getLogger()).isEqualTo("dev.kurama.api.BackendApplication");
+      assertThat(entry.getMessage()).isEqualTo("Started application");
+    });
+    assertThat(result.getEntries().get(2).getMessage()).isEqualTo(
+      "Request failed\njava.lang.IllegalStateException: boom\n\tat dev.kurama.api.Foo.bar(Foo.java:1)");
+  }
+
+  @Test
+  void search_service_logs_by_level_logger_and_query() {
+    writeTextToLogsFile(SEARCH_LOGS);
+
+    assertThat(search(ServiceLogsSearchInput.builder().level("warn").build())).extracting(
+      ServiceLogsEntryModel::getLevel).containsExactly("WARN", "ERROR");
+    assertThat(search(ServiceLogsSearchInput.builder().logger("hibernate").build())).extracting(
+      ServiceLogsEntryModel::getLevel).containsExactly("WARN");
+    assertThat(search(ServiceLogsSearchInput.builder().query("ILLEGALSTATE").build())).extracting(
+      ServiceLogsEntryModel::getLevel).containsExactly("ERROR");
+    assertThatThrownBy(() -> search(ServiceLogsSearchInput.builder().level("loud").build())).isInstanceOf(
+      IllegalArgumentException.class);
+  }
+
+  @Test
+  void search_service_logs_by_time_range() {
+    writeTextToLogsFile(SEARCH_LOGS);
+
+    assertThat(search(ServiceLogsSearchInput.builder()
+      .from(OffsetDateTime.parse("2026-10-17T10:00:01Z"))
+      .to(OffsetDateTime.parse("2026-10-17T11:00:02Z"))
+      .build())).extracting(ServiceLogsEntryModel::getLevel).containsExactly("WARN", "ERROR");
   }
 
   @Test
-  void delete_service_logs() {
+  void search_service_logs_in_pages() {
+    writeTextToLogsFile(SEARCH_LOGS);
+
+    ServiceLogsSearchModel first = serviceLogsService.searchServiceLogs(
+      ServiceLogsSearchInput.builder().size(3).build());
+    ServiceLogsSearchModel second = serviceLogsService.searchServiceLogs(
+      ServiceLogsSearchInput.builder().size(3).after(first.getNext()).build());
+
+    assertThat(first.getEntries()).hasSize(3);
+    assertThat(first.getNext()).isEqualTo(second.getEntries().get(0).getOffset());
+    assertThat(second.getEntries()).extracting(ServiceLogsEntryModel::getLevel).containsExactly("DEBUG");
+    assertThat(second.getNext()).isNull();
+  }
+
+  @Test
+  void search_service_logs_caps_page_size() {
+    StringBuilder logs = new StringBuilder();
+    for (int index = 0; index <= MAX_SEARCH_SIZE; index++) {
+      logs.append("2026-10-17T10:00:00.000Z  INFO 1 --- [main] dev.kurama.api.Foo : line ").append(index).append('\n');
+    }
+    writeTextToLogsFile(logs.toString());
+
+    ServiceLogsSearchModel result = serviceLogsService.searchServiceLogs(
+      ServiceLogsSearchInput.builder().size(Integer.MAX_VALUE).build());
+
+    assertThat(result.getEntries()).hasSize(MAX_SEARCH_SIZE);
+    assertThat(result.getNext()).isNotNull();
+  }
+
+  @Test
+  void get_service_logs_segments() throws IOException {
+    writeSegment(".2026-10-16.0", "plain\n");
+    writeSegment(".2026-10-16.1.gz", "compressed\n");
+
+    ServiceLogsSegmentsModel segments = serviceLogsService.getServiceLogsSegments();
+
+    assertThat(segments.getSegments())
+      .extracting(ServiceLogsSegmentModel::getName, ServiceLogsSegmentModel::getCompressed)
+      .contains(tuple(segment(".2026-10-16.0").getFileName().toString(), false),
+        tuple(segment(".2026-10-16.1.gz").getFileName().toString(), true));
+  }
+
+  @Test
+  void get_service_logs_segment() throws IOException {
+    writeSegment(".2026-10-16.0", "first\nsecond\n");
+    writeSegment(".2026-10-16.1.gz", "compressed\nsegment\n");
+
+    ServiceLogsModel plain = serviceLogsService.getServiceLogsSegment(
+      segment(".2026-10-16.0").getFileName().toString(), 6);
+    ServiceLogsModel compressed = serviceLogsService.getServiceLogsSegment(
+      segment(".2026-10-16.1.gz").getFileName().toString(), 0);
+
+    assertThat(plain.getLogs()).isEqualTo("second\n");
+    assertThat(plain.getSegment()).isEqualTo(segment(".2026-10-16.0").getFileName().toString());
+    assertThat(compressed.getLogs()).isEqualTo("compressed\nsegment\n");
+    assertThat(compressed.getEnd()).isEqualTo(19);
+  }
+
+  @Test
+  void get_service_logs_segment_in_line_aligned_chunks() throws IOException {
+    String line = "z".repeat(1023) + "\n";
+    writeSegment(".2026-10-16.1.gz", line.repeat(MAX_CHUNK_SIZE / line.length() + 1));
+    String name = segment(".2026-10-16.1.gz").getFileName().toString();
+
+    ServiceLogsModel first = serviceLogsService.getServiceLogsSegment(name, 0);
+    ServiceLogsModel second = serviceLogsService.getServiceLogsSegment(name, first.getEnd());
+
+    assertThat(first.getLogs()).hasSize(MAX_CHUNK_SIZE).endsWith("\n");
+    assertThat(second.getLogs()).isEqualTo(line);
+    assertThat(serviceLogsService.getServiceLogsSegment(name, second.getEnd() + 10).getLogs()).isEmpty();
+  }
+
+  @Test
+  void get_service_logs_segment_rejects_unknown_segments() {
+    assertThatThrownBy(() -> serviceLogsService.getServiceLogsSegment("../application.yml", 0)).isInstanceOf(
+      NoSuchElementException.class);
+  }
+
+  @Test
+  void delete_service_logs() throws IOException {
+    writeSegment(".2026-10-16.1.gz", "compressed\n");
+
+    String live = serviceLogsService.getServiceLogs().getLogs();
+
+    ServiceLogsModel serviceLogs = serviceLogsService.deleteServiceLogs();
+
+    assertThat(serviceLogs.getLogs()).isEqualTo(live);
+    assertThat(segment(".2026-10-16.1.gz")).doesNotExist();
+  }
+
+  @Test
+  void delete_service_logs_waits_for_pending_segment() throws IOException {
+    writeSegment(".2026-10-16.2" + System.nanoTime() + ".tmp", "rolled\n");
+    CompletableFuture<Void> compression = CompletableFuture.runAsync(() -> {
+      try {
+        writeSegment(".2026-10-16.2.gz", "rolled\n");
+        try (Stream<Path> paths = Files.list(directory)) {
+          for (Path path : paths.filter(path -> path.toString().endsWith(".tmp")).toList()) {
+            Files.delete(path);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+
     ServiceLogsModel serviceLogs = serviceLogsService.deleteServiceLogs();
 
-    assertThat(serviceLogs.getLogs()).isEmpty();
+    compression.join();
+    assertThat(serviceLogs.getLogs()).isNotEmpty();
+    assertThat(serviceLogsService.getServiceLogsSegments().getSegments()).isEmpty();
+  }
+
+  private List<ServiceLogsEntryModel> search(ServiceLogsSearchInput input) {
+    return serviceLogsService.searchServiceLogs(input).getEntries();
+  }
+
+  private Path segment(String suffix) {
+    return directory.resolve("logs.log" + suffix);
+  }
+
+  private void writeSegment(String suffix, String text) throws IOException {
+    try (OutputStream output = suffix.endsWith(".gz") ? new GZIPOutputStream(Files.newOutputStream(segment(suffix)))
+      : Files.newOutputStream(segment(suffix))) {
+      output.write(text.getBytes(StandardCharsets.UTF_8));
+    }
   }
 
   private void writeTextToLogsFile(String text) {
-    File file = new File(LOGS_FILE);
+    File file = directory.resolve("logs.log").toFile();
     try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
       writer.write(text);
       writer.flush();
@@ -0,0 +1,97 @@
+package dev.kurama.api.core.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.hateoas.model.ServiceLogsModel;
+import dev.kurama.api.core.message.ServiceLogsMessageSender;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ServiceLogsTailerTest {
+
+  @InjectMocks
+  private ServiceLogsTailer tailer;
+
+  @Mock
+  private ServiceLogsService serviceLogsService;
+
+  @Mock
+  private ServiceLogsMessageSender messageSender;
+
+  @Test
+  void should_not_read_logs_without_subscribers() {
+    when(messageSender.hasSubscribers()).thenReturn(false);
+
+    tailer.tail();
+
+    verifyNoInteractions(serviceLogsService);
+  }
+
+  @Test
+  void should_start_tailing_from_end_of_file() {
+    when(messageSender.hasSubscribers()).thenReturn(true);
+    when(serviceLogsService.getServiceLogsTail(0)).thenReturn(logs("", 100, 100));
+
+    tailer.tail();
+
+    verify(serviceLogsService, never()).getServiceLogsAfter(anyLong());
+    verify(messageSender, never()).sendServiceLogsMessage(any());
+  }
+
+  @Test
+  void should_push_appended_logs() {
+    ServiceLogsModel appended = logs("line\n", 100, 105);
+    when(messageSender.hasSubscribers()).thenReturn(true);
+    when(serviceLogsService.getServiceLogsTail(0)).thenReturn(logs("", 100, 100));
+    when(serviceLogsService.getServiceLogsAfter(100)).thenReturn(appended);
+    when(serviceLogsService.getServiceLogsAfter(105)).thenReturn(logs("", 105, 105));
+
+    tailer.tail();
+    tailer.tail();
+    tailer.tail();
+
+    verify(messageSender).sendServiceLogsMessage(appended);
+    verify(messageSender, never()).sendServiceLogsMessage(logs("", 105, 105));
+  }
+
+  @Test
+  void should_push_truncation() {
+    ServiceLogsModel truncated = logs("", 0, 0);
+    when(messageSender.hasSubscribers()).thenReturn(true);
+    when(serviceLogsService.getServiceLogsTail(0)).thenReturn(logs("", 100, 100));
+    when(serviceLogsService.getServiceLogsAfter(100)).thenReturn(truncated);
+
+    tailer.tail();
+    tailer.tail();
+
+    verify(messageSender).sendServiceLogsMessage(truncated);
+  }
+
+  @Test
+  void should_restart_from_end_after_subscribers_leave() {
+    when(messageSender.hasSubscribers()).thenReturn(true, false, true);
+    when(serviceLogsService.getServiceLogsTail(0)).thenReturn(logs("", 100, 100), logs("", 200, 200));
+
+    tailer.tail();
+    tailer.tail();
+    tailer.tail();
+
+    verify(serviceLogsService, never()).getServiceLogsAfter(anyLong());
+    verify(serviceLogsService, times(2)).getServiceLogsTail(anyInt());
+  }
+
+  private static ServiceLogsModel logs(String logs, long start, long end) {
+    return ServiceLogsModel.builder().logs(logs).start(start).end(end).build();
+  }
+}
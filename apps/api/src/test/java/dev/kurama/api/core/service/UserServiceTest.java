@@ -40,6 +40,7 @@ import dev.kurama.api.core.hateoas.input.AccountActivationInput;
 import dev.kurama.api.core.hateoas.input.SignupInput;
 import dev.kurama.api.core.hateoas.input.UserInput;
 import dev.kurama.api.core.repository.UserRepository;
+import dev.kurama.api.core.repository.UserSearchSpecification;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
@@ -47,15 +48,19 @@ import java.util.Optional;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -140,16 +145,80 @@ class UserServiceTest {
     }
 
     @Test
-    void should_get_users_filtered() {
-      String search = randomAlphanumeric(8);
+    void should_get_all_users_sorted_by_username_by_default() {
+      Page<User> expected = new PageImpl<User>(newArrayList(User.builder().setRandomUUID().build()));
+      when(userRepository.findAll(any(Pageable.class))).thenReturn(expected);
+
+      Page<User> actual = userService.getAllUsers(PageRequest.of(1, 2), "");
+
+      verify(userRepository).findAll(PageRequest.of(1, 2, Sort.by("username")));
+      verifyNoMoreInteractions(userRepository);
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_get_users_filtered_in_requested_order() {
+      String search = "Us_r%" + randomAlphanumeric(8);
       PageRequest pageable = PageRequest.of(1, 2, Sort.by(ASC, "id"));
       Page<User> expected = new PageImpl<User>(newArrayList(User.builder().setRandomUUID().username(search).build()));
-      when(userRepository.findAll(any(Example.class), eq(pageable))).thenReturn(expected);
+      when(userRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(expected);
+
+      Page<User> actual = userService.getAllUsers(pageable, search);
+
+      verify(userRepository).findAll(new UserSearchSpecification(
+        "%" + search.toLowerCase().replace("_", "\\_").replace("%", "\\%") + "%"), pageable);
+      verifyNoMoreInteractions(userRepository);
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_get_users_filtered() {
+      String search = "Us_r%" + randomAlphanumeric(8);
+      PageRequest pageable = PageRequest.of(1, 2);
+      Page<User> expected = new PageImpl<User>(newArrayList(User.builder().setRandomUUID().username(search).build()));
+      when(userRepository.search(anyString(), anyString(), eq(pageable))).thenReturn(expected);
 
       Page<User> actual = userService.getAllUsers(pageable, search);
 
-      verify(userRepository).findAll(any(Example.class), eq(pageable));
+      verify(userRepository).search(search.toLowerCase(), "%" + search.toLowerCase().replace("_", "\\_")
+        .replace("%", "\\%") + "%", pageable);
+      verifyNoMoreInteractions(userRepository);
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Nested
+  class ScrollUsersTests {
+
+    @Test
+    void should_scroll_all_users() {
+      Window<User> expected = Window.from(newArrayList(User.builder().setRandomUUID().build()),
+        ScrollPosition::offset);
+      when(userRepository.findBy(any(Specification.class), any())).thenReturn(expected);
+
+      Window<User> actual = userService.scrollUsers(ScrollPosition.keyset(), Sort.by(ASC, "username"), 2, "");
+
+      ArgumentCaptor<Specification<User>> specification = ArgumentCaptor.forClass(Specification.class);
+      verify(userRepository).findBy(specification.capture(), any());
+      verifyNoMoreInteractions(userRepository);
+      assertThat(specification.getValue()).isNotInstanceOf(UserSearchSpecification.class);
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_scroll_users_filtered() {
+      String search = "Us_r%" + randomAlphanumeric(8);
+      Window<User> expected = Window.from(newArrayList(User.builder().setRandomUUID().username(search).build()),
+        ScrollPosition::offset);
+      when(userRepository.findBy(any(Specification.class), any())).thenReturn(expected);
+
+      Window<User> actual = userService.scrollUsers(ScrollPosition.keyset(), Sort.by(ASC, "username"), 2, search);
+
+      ArgumentCaptor<Specification<User>> specification = ArgumentCaptor.forClass(Specification.class);
+      verify(userRepository).findBy(specification.capture(), any());
       verifyNoMoreInteractions(userRepository);
+      assertThat(specification.getValue()).isEqualTo(new UserSearchSpecification(
+        "%" + search.toLowerCase().replace("_", "\\_").replace("%", "\\%") + "%"));
       assertEquals(expected, actual);
     }
   }
@@ -320,6 +389,7 @@ class UserServiceTest {
         .expired(true)
         .credentialsExpired(false)
         .build();
+      String previousUsername = expected.getUsername();
       String encodedPassword = randomUUID();
       when(userRepository.findById(expected.getId())).thenReturn(Optional.of(expected));
       when(passwordEncode.encode(input.getPassword())).thenReturn(encodedPassword);
@@ -331,7 +401,7 @@ class UserServiceTest {
       verify(passwordEncode).encode(input.getPassword());
       verifyNoInteractions(roleService, authorityService);
       verify(userRepository).save(expected);
-      verify(userChangedEventEmitter).emitUserUpdatedEvent(expected);
+      verify(userChangedEventEmitter).emitUserUpdatedEvent(expected, previousUsername);
       assertEquals(expected, actual);
       assertEquals(input.getFirstname(), actual.getFirstname());
       assertEquals(input.getEmail(), actual.getEmail());
@@ -365,7 +435,7 @@ class UserServiceTest {
       verify(userRepository).findById(expected.getId());
       verify(roleService).findRoleById(targetRole.getId());
       verify(userRepository).save(expected);
-      verify(userChangedEventEmitter).emitUserUpdatedEvent(expected);
+      verify(userChangedEventEmitter).emitUserUpdatedEvent(expected, expected.getUsername());
       assertEquals(targetRole, actual.getRole());
       assertEquals(targetRole.getAuthorities(), actual.getAuthorities());
     }
@@ -393,7 +463,7 @@ class UserServiceTest {
       verifyNoInteractions(passwordEncode, roleService);
       verify(userRepository).findById(expected.getId());
       verify(userRepository).save(expected);
-      verify(userChangedEventEmitter).emitUserUpdatedEvent(expected);
+      verify(userChangedEventEmitter).emitUserUpdatedEvent(expected, expected.getUsername());
       assertEquals(authorities, actual.getAuthorities());
     }
 
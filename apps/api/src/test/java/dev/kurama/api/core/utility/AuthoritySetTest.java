@@ -0,0 +1,71 @@
+package dev.kurama.api.core.utility;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static dev.kurama.api.core.authority.ProfileAuthority.PROFILE_READ;
+import static dev.kurama.api.core.authority.UserAuthority.USER_DELETE;
+import static dev.kurama.api.core.authority.UserAuthority.USER_READ;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class AuthoritySetTest {
+
+  @Test
+  void should_contain_known_authorities() {
+    AuthoritySet authoritySet = AuthoritySet.of(
+      newArrayList(new SimpleGrantedAuthority(USER_READ), new SimpleGrantedAuthority(PROFILE_READ)));
+
+    assertThat(authoritySet.contains(USER_READ)).isTrue();
+    assertThat(authoritySet.contains(PROFILE_READ)).isTrue();
+    assertThat(authoritySet.contains(USER_DELETE)).isFalse();
+  }
+
+  @Test
+  void should_contain_unknown_authorities() {
+    AuthoritySet authoritySet = AuthoritySet.of(
+      newArrayList(new SimpleGrantedAuthority("custom:authority"), new SimpleGrantedAuthority(USER_READ)));
+
+    assertThat(authoritySet.contains("custom:authority")).isTrue();
+    assertThat(authoritySet.contains("custom:other")).isFalse();
+    assertThat(authoritySet.contains(null)).isFalse();
+  }
+
+  @Test
+  void should_contain_all_default_authorities() {
+    AuthoritySet authoritySet = AuthoritySet.of(
+      DefaultAuthority.AUTHORITIES.stream().map(SimpleGrantedAuthority::new).toList());
+
+    assertThat(DefaultAuthority.AUTHORITIES).allMatch(authoritySet::contains);
+    assertThat(authoritySet.containsAll(DefaultAuthority.AUTHORITIES.toArray(String[]::new))).isTrue();
+  }
+
+  @Test
+  void should_check_all_and_any_authorities() {
+    AuthoritySet authoritySet = AuthoritySet.of(
+      newArrayList(new SimpleGrantedAuthority(USER_READ), new SimpleGrantedAuthority("custom:authority")));
+
+    assertThat(authoritySet.containsAll(USER_READ, "custom:authority")).isTrue();
+    assertThat(authoritySet.containsAll(USER_READ, USER_DELETE)).isFalse();
+    assertThat(authoritySet.containsAny(USER_DELETE, "custom:authority")).isTrue();
+    assertThat(authoritySet.containsAny(USER_DELETE, PROFILE_READ)).isFalse();
+  }
+
+  @Test
+  void should_be_empty_without_authorities() {
+    AuthoritySet authoritySet = AuthoritySet.of(List.of());
+
+    assertThat(authoritySet.contains(USER_READ)).isFalse();
+    assertThat(authoritySet.containsAny(USER_READ, PROFILE_READ)).isFalse();
+    assertThat(authoritySet.containsAll()).isTrue();
+  }
+
+  @Test
+  void should_be_equal_for_same_authorities_in_any_order() {
+    assertThat(AuthoritySet.of(newArrayList(new SimpleGrantedAuthority(USER_READ), new SimpleGrantedAuthority("x"))))
+      .isEqualTo(
+        AuthoritySet.of(newArrayList(new SimpleGrantedAuthority("x"), new SimpleGrantedAuthority(USER_READ))));
+  }
+}
@@ -8,13 +8,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.kurama.api.core.filter.ContextAuthenticationToken;
 import dev.kurama.api.core.filter.ContextUser;
 import java.util.Collection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -150,4 +153,30 @@ class AuthorityUtilsTest {
 
     assertFalse(AuthorityUtils.isAuthenticated());
   }
+
+  @Test
+  void should_check_authorities_of_context_authentication_token() {
+    AuthorityUtils.setContextUser(contextUser, "auth:a", "auth:b");
+    ArgumentCaptor<Authentication> captor = ArgumentCaptor.forClass(Authentication.class);
+    verify(securityContext).setAuthentication(captor.capture());
+    when(securityContext.getAuthentication()).thenReturn(captor.getValue());
+
+    assertThat(captor.getValue()).isInstanceOf(ContextAuthenticationToken.class);
+    assertTrue(AuthorityUtils.hasAuthority("auth:a"));
+    assertFalse(AuthorityUtils.hasAuthority("auth:c"));
+    assertTrue(AuthorityUtils.hasAllAuthorities("auth:a", "auth:b"));
+    assertFalse(AuthorityUtils.hasAllAuthorities("auth:a", "auth:c"));
+    assertTrue(AuthorityUtils.hasAnyAuthority("auth:c", "auth:b"));
+    assertFalse(AuthorityUtils.hasAnyAuthority("auth:c", "auth:d"));
+    assertTrue(AuthorityUtils.isAuthenticated());
+  }
+
+  @Test
+  void should_not_have_authorities_without_authentication() {
+    when(securityContext.getAuthentication()).thenReturn(null);
+
+    assertFalse(AuthorityUtils.hasAuthority("auth:a"));
+    assertFalse(AuthorityUtils.hasAnyAuthority("auth:a"));
+    assertTrue(AuthorityUtils.isAuthenticated());
+  }
 }
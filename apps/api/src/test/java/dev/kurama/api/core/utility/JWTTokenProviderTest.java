@@ -6,26 +6,38 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import dev.kurama.api.core.constant.SecurityConstant;
+import com.google.common.collect.Lists;
 import dev.kurama.api.core.domain.Authority;
+import dev.kurama.api.core.domain.JWTSecret;
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPrincipal;
 import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.repository.JWTSecretRepository;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -39,15 +51,29 @@ class JWTTokenProviderTest {
 
   private final long REFRESH_TOKEN_LIFE_SPAN = 3_600_000;
 
+  private final List<JWTSecret> persistedSecrets = new ArrayList<>();
+
+  @Mock
+  private JWTSecretRepository jwtSecretRepository;
+
   @Spy
   @InjectMocks
   private JWTTokenProvider jwtTokenProvider;
 
   @BeforeEach
   void setUp() {
+    doAnswer(invocation -> {
+      persistedSecrets.add(invocation.getArgument(0));
+      return invocation.getArgument(0);
+    }).when(jwtSecretRepository).save(any(JWTSecret.class));
+    doAnswer(invocation -> Lists.reverse(persistedSecrets)
+      .stream()
+      .limit(invocation.<Limit>getArgument(0).max())
+      .toList()).when(jwtSecretRepository).findAllByOrderByCreatedDesc(any(Limit.class));
     ReflectionTestUtils.setField(jwtTokenProvider, "SECRET", "secret");
     ReflectionTestUtils.setField(jwtTokenProvider, "TOKEN_LIFE_SPAN", TOKEN_LIFE_SPAN);
     ReflectionTestUtils.setField(jwtTokenProvider, "REFRESH_TOKEN_LIFE_SPAN", REFRESH_TOKEN_LIFE_SPAN);
+    jwtTokenProvider.initializeKeyring();
   }
 
   @Test
@@ -177,4 +203,130 @@ class JWTTokenProviderTest {
       .collect(Collectors.toUnmodifiableList())
       .containsAll(newHashSet(authority1.getName(), authority2.getName()))).isTrue();
   }
+
+  @Test
+  void should_sign_with_current_key_id() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    String token = jwtTokenProvider.generateToken(UserPrincipal.builder().user(user).build());
+
+    assertEquals(JWTKeyring.getKeyId("secret"), jwtTokenProvider.getDecodedJWT(token).getKeyId());
+  }
+
+  @Test
+  void should_verify_tokens_signed_before_secret_rotation() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    UserPrincipal userPrincipal = UserPrincipal.builder().user(user).build();
+    String previousToken = jwtTokenProvider.generateToken(userPrincipal);
+
+    jwtTokenProvider.rotateSecret("rotated");
+    String token = jwtTokenProvider.generateToken(userPrincipal);
+
+    assertEquals(JWTKeyring.getKeyId("secret"), jwtTokenProvider.getDecodedJWT(previousToken).getKeyId());
+    assertEquals(JWTKeyring.getKeyId("rotated"), jwtTokenProvider.getDecodedJWT(token).getKeyId());
+  }
+
+  @Test
+  void should_verify_tokens_signed_with_previous_secrets() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    UserPrincipal userPrincipal = UserPrincipal.builder().user(user).build();
+    String previousToken = jwtTokenProvider.generateToken(userPrincipal);
+    ReflectionTestUtils.setField(jwtTokenProvider, "SECRET", "current");
+    ReflectionTestUtils.setField(jwtTokenProvider, "PREVIOUS_SECRETS", new String[]{"secret"});
+    jwtTokenProvider.initializeKeyring();
+
+    assertTrue(jwtTokenProvider.isTokenValid(jwtTokenProvider.getDecodedJWT(previousToken)));
+  }
+
+  @Test
+  void should_not_verify_tokens_with_unknown_key_id() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    String token = jwtTokenProvider.generateToken(UserPrincipal.builder().user(user).build());
+    ReflectionTestUtils.setField(jwtTokenProvider, "SECRET", "current");
+    jwtTokenProvider.initializeKeyring();
+
+    assertThrows(JWTVerificationException.class, () -> jwtTokenProvider.getDecodedJWT(token));
+  }
+
+  @Test
+  void should_retain_a_bounded_number_of_verification_keys() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    UserPrincipal userPrincipal = UserPrincipal.builder().user(user).build();
+    String firstToken = jwtTokenProvider.generateToken(userPrincipal);
+
+    for (int rotation = 0; rotation < JWTKeyring.MAXIMUM_VERIFICATION_KEYS; rotation++) {
+      jwtTokenProvider.rotateSecret(randomAlphanumeric(16));
+    }
+
+    assertThrows(JWTVerificationException.class, () -> jwtTokenProvider.getDecodedJWT(firstToken));
+  }
+
+  @Test
+  void should_persist_rotated_secrets() {
+    jwtTokenProvider.rotateSecret("rotated");
+
+    verify(jwtSecretRepository, times(1)).save(any(JWTSecret.class));
+    assertEquals(JWTKeyring.getKeyId("rotated"), persistedSecrets.get(0).getId());
+    assertEquals("rotated", persistedSecrets.get(0).getSecret());
+  }
+
+  @Test
+  void should_load_secrets_rotated_by_other_nodes_on_refresh() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    UserPrincipal userPrincipal = UserPrincipal.builder().user(user).build();
+    persistedSecrets.add(JWTSecret.builder().id(JWTKeyring.getKeyId("rotated")).secret("rotated").build());
+
+    jwtTokenProvider.refreshKeyring();
+    String token = jwtTokenProvider.generateToken(userPrincipal);
+
+    assertEquals(JWTKeyring.getKeyId("rotated"), jwtTokenProvider.getDecodedJWT(token).getKeyId());
+  }
+
+  @Test
+  void should_reload_keyring_when_verifying_an_unknown_key_id() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    JWTTokenProvider otherNode = new JWTTokenProvider(jwtSecretRepository);
+    ReflectionTestUtils.setField(otherNode, "SECRET", "secret");
+    ReflectionTestUtils.setField(otherNode, "TOKEN_LIFE_SPAN", TOKEN_LIFE_SPAN);
+    otherNode.initializeKeyring();
+    otherNode.rotateSecret("rotated");
+    String token = otherNode.generateToken(UserPrincipal.builder().user(user).build());
+    doReturn(System.currentTimeMillis() + 60_000).when(jwtTokenProvider).getCurrentTimeMillis();
+
+    assertEquals(JWTKeyring.getKeyId("rotated"), jwtTokenProvider.getDecodedJWT(token).getKeyId());
+  }
+
+  @Test
+  void should_throttle_keyring_reloads_for_unknown_key_ids() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    JWTTokenProvider otherNode = new JWTTokenProvider(mock(JWTSecretRepository.class));
+    ReflectionTestUtils.setField(otherNode, "SECRET", "unknown");
+    ReflectionTestUtils.setField(otherNode, "TOKEN_LIFE_SPAN", TOKEN_LIFE_SPAN);
+    otherNode.initializeKeyring();
+    String token = otherNode.generateToken(UserPrincipal.builder().user(user).build());
+    doReturn(System.currentTimeMillis() + 60_000).when(jwtTokenProvider).getCurrentTimeMillis();
+
+    for (int attempt = 0; attempt < 3; attempt++) {
+      assertThrows(JWTVerificationException.class, () -> jwtTokenProvider.getDecodedJWT(token));
+    }
+    verify(jwtSecretRepository, times(2)).findAllByOrderByCreatedDesc(any(Limit.class));
+  }
+
+  @Test
+  void getAuthenticationFromUserPrincipal() {
+    Authority authority = Authority.builder().setRandomUUID().name(randomAlphanumeric(8)).build();
+    User user = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .authorities(newHashSet(authority))
+      .build();
+
+    Authentication authentication = jwtTokenProvider.getAuthentication(new UserPrincipal(user),
+      mock(HttpServletRequest.class));
+
+    assertThat(authentication.getPrincipal()).isOfAnyClassIn(ContextUser.class)
+      .hasFieldOrPropertyWithValue("username", user.getUsername())
+      .hasFieldOrPropertyWithValue("id", user.getId());
+    assertThat(authentication.isAuthenticated()).isTrue();
+    assertEquals(authority.getName(), authentication.getAuthorities().iterator().next().getAuthority());
+  }
 }
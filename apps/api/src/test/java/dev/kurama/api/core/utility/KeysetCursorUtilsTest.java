@@ -0,0 +1,76 @@
+package dev.kurama.api.core.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.kurama.api.core.domain.User;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+class KeysetCursorUtilsTest {
+
+  @Test
+  void should_decode_empty_cursor_as_initial_position() {
+    assertThat(KeysetCursorUtils.decode(null, User.class, Sort.by("username")).isInitial()).isTrue();
+    assertThat(KeysetCursorUtils.decode("", User.class, Sort.by("username")).isInitial()).isTrue();
+  }
+
+  @Test
+  void should_encode_and_decode_keys() {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("username", "username");
+    keys.put("id", "id");
+
+    String cursor = KeysetCursorUtils.encode(ScrollPosition.forward(keys));
+    KeysetScrollPosition actual = KeysetCursorUtils.decode(cursor, User.class, Sort.by("username"));
+
+    assertThat(cursor).doesNotContain("username", "=", "+", "/");
+    assertThat(actual.getDirection()).isEqualTo(ScrollPosition.Direction.FORWARD);
+    assertThat(actual.getKeys()).containsExactlyEntriesOf(keys);
+  }
+
+  @Test
+  void should_decode_keys_with_property_types() {
+    Date joinDate = new Date();
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("joinDate", joinDate);
+    keys.put("id", "id");
+
+    KeysetScrollPosition actual = KeysetCursorUtils.decode(KeysetCursorUtils.encode(ScrollPosition.forward(keys)),
+      User.class, Sort.by("joinDate"));
+
+    assertThat(actual.getKeys()).containsEntry("joinDate", joinDate).containsEntry("id", "id");
+  }
+
+  @Test
+  void should_not_encode_offset_positions() {
+    assertThatThrownBy(() -> KeysetCursorUtils.encode(ScrollPosition.offset(10))).isInstanceOf(
+      IllegalArgumentException.class);
+  }
+
+  @Test
+  void should_reject_cursor_without_sort_keys() {
+    String cursor = KeysetCursorUtils.encode(ScrollPosition.forward(Map.of("id", "id")));
+
+    assertThatThrownBy(() -> KeysetCursorUtils.decode(cursor, User.class, Sort.by("username"))).isInstanceOf(
+      IllegalArgumentException.class);
+  }
+
+  @Test
+  void should_reject_malformed_cursor() {
+    String unknownProperty = Base64.getUrlEncoder()
+      .encodeToString("{\"password\":\"x\",\"unknown\":\"x\"}".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> KeysetCursorUtils.decode("not-a-cursor", User.class, Sort.unsorted())).isInstanceOf(
+      IllegalArgumentException.class);
+    assertThatThrownBy(() -> KeysetCursorUtils.decode(unknownProperty, User.class, Sort.unsorted())).isInstanceOf(
+      IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,163 @@
+package dev.kurama.api.core.utility;
+
+import static dev.kurama.api.core.utility.LinkTemplateUtils.TEMPLATE_ID;
+import static dev.kurama.api.core.utility.LinkTemplateUtils.getLinkTemplate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import dev.kurama.api.core.rest.UserController;
+import dev.kurama.api.core.rest.UserProfileController;
+import dev.kurama.api.core.utility.LinkTemplateUtils.Invocation;
+import dev.kurama.api.core.utility.LinkTemplateUtils.LinkTemplate;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class LinkTemplateUtilsTest {
+
+  private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+  @Nested
+  class WithRequestTests {
+
+    @BeforeEach
+    void setUp() {
+      MockHttpServletRequest request = new MockHttpServletRequest();
+      request.setServerName("api.kurama.dev");
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void should_expand_link_equal_to_link_builder() throws Exception {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID));
+
+      assertThat(linkTemplate.expand("user-id").toLink("user")).isEqualTo(
+        linkTo(methodOn(UserController.class).get("user-id")).withRel("user"));
+    }
+
+    @Test
+    void should_expand_affordance_equal_to_affordance_builder() throws Exception {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserController.class).update(TEMPLATE_ID, null));
+
+      assertThat(linkTemplate.expand("user-id").toAffordance()).isEqualTo(
+        afford(methodOn(UserController.class).update("user-id", null)));
+    }
+
+    @Test
+    void should_keep_template_variables_of_links_without_id() {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserController.class).getAll(null, null));
+
+      assertThat(linkTemplate.toLink("users")).isEqualTo(
+        linkTo(methodOn(UserController.class).getAll(null, null)).withRel("users"));
+      assertThat(linkTemplate.toLink("users").isTemplated()).isTrue();
+    }
+
+    @Test
+    void should_build_affordances_without_id() throws Exception {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserProfileController.class).changePassword(null));
+
+      assertThat(linkTemplate.toAffordance()).isEqualTo(
+        afford(methodOn(UserProfileController.class).changePassword(null)));
+    }
+
+    @Test
+    void should_encode_expanded_id_as_path_segment() throws Exception {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID));
+
+      assertThat(linkTemplate.expand("a b/c").toLink("user").getHref()).isEqualTo(
+          linkTo(methodOn(UserController.class).get("a b/c")).withRel("user").getHref())
+        .endsWith("/a%20b%2Fc");
+    }
+
+    @Test
+    void should_resolve_template_once_per_request() {
+      LinkTemplate linkTemplate = getUserLinkTemplate();
+
+      assertThat(getUserLinkTemplate()).isSameAs(linkTemplate);
+
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+      assertThat(getUserLinkTemplate())
+        .isNotSameAs(linkTemplate)
+        .extracting(LinkTemplate::uri)
+        .isEqualTo(linkTemplate.uri().replace("api.kurama.dev", "localhost"));
+    }
+
+    @Test
+    void should_resolve_template_per_method_and_arguments() throws Exception {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID));
+
+      assertThat(getLinkTemplate(() -> methodOn(UserController.class).get("user-id")))
+        .isNotSameAs(linkTemplate)
+        .extracting(LinkTemplate::uri)
+        .isEqualTo(linkTemplate.expand("user-id").uri());
+      assertThat(getLinkTemplate(() -> methodOn(UserController.class).delete(TEMPLATE_ID)))
+        .isNotSameAs(linkTemplate)
+        .extracting(LinkTemplate::method)
+        .isNotEqualTo(linkTemplate.method());
+    }
+
+    @Test
+    void should_invoke_controller_method_once_per_request() {
+      INVOCATIONS.set(0);
+      Invocation invocation = () -> {
+        INVOCATIONS.incrementAndGet();
+        return methodOn(UserController.class).get(TEMPLATE_ID);
+      };
+
+      getLinkTemplate(invocation);
+      getLinkTemplate(invocation);
+
+      assertThat(INVOCATIONS).hasValue(1);
+    }
+
+    @Test
+    void should_not_cache_capturing_invocations() {
+      assertThat(getUserLinkTemplate("user-a").uri()).endsWith("/user-a");
+      assertThat(getUserLinkTemplate("user-b").uri()).endsWith("/user-b");
+    }
+
+    @Test
+    void should_memoize_affordances() throws Exception {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserController.class).update(TEMPLATE_ID, null));
+
+      assertThat(linkTemplate.toAffordance()).isSameAs(linkTemplate.toAffordance());
+      assertThat(linkTemplate.toLink("user").getAffordances()).containsExactly(linkTemplate.toAffordance());
+    }
+
+    private LinkTemplate getUserLinkTemplate() {
+      return getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID));
+    }
+
+    private LinkTemplate getUserLinkTemplate(String id) {
+      return getLinkTemplate(() -> methodOn(UserController.class).get(id));
+    }
+  }
+
+  @Nested
+  class WithoutRequestTests {
+
+    @Test
+    void should_resolve_template_on_every_call() throws Exception {
+      LinkTemplate linkTemplate = getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID));
+
+      assertThat(getLinkTemplate(() -> methodOn(UserController.class).get(TEMPLATE_ID)))
+        .isNotSameAs(linkTemplate)
+        .isEqualTo(linkTemplate);
+      assertThat(linkTemplate.expand("user-id").toLink("user")).isEqualTo(
+        linkTo(methodOn(UserController.class).get("user-id")).withRel("user"));
+    }
+  }
+}
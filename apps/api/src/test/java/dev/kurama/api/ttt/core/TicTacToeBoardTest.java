@@ -0,0 +1,98 @@
+package dev.kurama.api.ttt.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import org.junit.jupiter.api.Test;
+
+class TicTacToeBoardTest {
+
+  @Test
+  void should_parse_and_print_board() {
+    TicTacToeBoard board = TicTacToeBoard.of("XO_OX___X");
+
+    assertThat(board.getX()).isEqualTo(0b100_010_001);
+    assertThat(board.getO()).isEqualTo(0b000_001_010);
+    assertThat(board).hasToString("XO_OX___X").isEqualTo(TicTacToeBoard.of(0b100_010_001, 0b000_001_010));
+    assertThat(TicTacToeBoard.EMPTY).hasToString("_________");
+  }
+
+  @Test
+  void should_reject_invalid_boards() {
+    assertThatThrownBy(() -> TicTacToeBoard.of("XO")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TicTacToeBoard.of("XO_OX___Z")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TicTacToeBoard.of(1, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TicTacToeBoard.of(1 << 9, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void should_apply_moves_without_mutating_board() {
+    TicTacToeBoard board = TicTacToeBoard.EMPTY.move(4, Token.X).move(0, Token.O);
+
+    assertThat(board).hasToString("O___X____");
+    assertThat(board.getToken(4)).isEqualTo(Token.X);
+    assertThat(board.getToken(0)).isEqualTo(Token.O);
+    assertThat(board.getToken(8)).isEqualTo(Token.NONE);
+    assertThat(board.getMoveCount()).isEqualTo(2);
+    assertThat(TicTacToeBoard.EMPTY.getMoveCount()).isZero();
+  }
+
+  @Test
+  void should_reject_illegal_moves() {
+    TicTacToeBoard board = TicTacToeBoard.of("X________");
+
+    assertThat(board.isLegalMove(0)).isFalse();
+    assertThat(board.isLegalMove(-1)).isFalse();
+    assertThat(board.isLegalMove(9)).isFalse();
+    assertThatThrownBy(() -> board.move(0, Token.O)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> board.move(1, Token.NONE)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void should_detect_every_winning_line() {
+    String[] lines = {"XXX______", "___XXX___", "______XXX", "X__X__X__", "_X__X__X_", "__X__X__X", "X___X___X",
+      "__X_X_X__"};
+
+    for (String line : lines) {
+      assertThat(TicTacToeBoard.of(line).getWinner()).as(line).isEqualTo(Token.X);
+      assertThat(TicTacToeBoard.of(line.replace('X', 'O')).getWinner()).as(line).isEqualTo(Token.O);
+    }
+  }
+
+  @Test
+  void should_detect_game_state() {
+    TicTacToeBoard won = TicTacToeBoard.of("XO_XO_X__");
+    TicTacToeBoard tied = TicTacToeBoard.of("XXOOOXXXO");
+    TicTacToeBoard open = TicTacToeBoard.of("XOXO_OXOX");
+
+    assertThat(won.isWon()).isTrue();
+    assertThat(won.isOver()).isTrue();
+    assertThat(won.isTied()).isFalse();
+    assertThat(tied.isTied()).isTrue();
+    assertThat(tied.isOver()).isTrue();
+    assertThat(tied.getWinner()).isEqualTo(Token.NONE);
+    assertThat(open.isOver()).isFalse();
+    assertThat(open.isFull()).isFalse();
+  }
+
+  @Test
+  void should_generate_possible_moves_as_mask() {
+    assertThat(TicTacToeBoard.of("XOXO_OXOX").getPossibleMoves()).isEqualTo(1 << 4);
+    assertThat(TicTacToeBoard.EMPTY.getPossibleMoves()).isEqualTo(TicTacToeBoard.FULL_MASK);
+    assertThat(TicTacToeBoard.of("XO_XO_X__").getEmpty()).isEqualTo(0b110_100_100);
+    assertThat(TicTacToeBoard.of("XO_XO_X__").getPossibleMoves()).isZero();
+  }
+
+  @Test
+  void should_map_cells_to_indexes() {
+    for (int index = 0; index < TicTacToeBoard.SIZE; index++) {
+      assertThat(TicTacToeBoard.getIndex(TicTacToeBoard.getCell(index))).isEqualTo(index);
+    }
+    assertThat(TicTacToeBoard.getIndex(null)).isEqualTo(-1);
+    assertThat(TicTacToeBoard.getIndex("B")).isEqualTo(-1);
+    assertThat(TicTacToeBoard.getIndex("B22")).isEqualTo(-1);
+    assertThat(TicTacToeBoard.getIndex("D1")).isEqualTo(-1);
+    assertThat(TicTacToeBoard.getIndex("A0")).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,71 @@
+package dev.kurama.api.ttt.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class TicTacToeMoveHistoryTest {
+
+  @Test
+  void should_pack_each_move_into_four_bytes() {
+    TicTacToeMoveHistory history = TicTacToeMoveHistory.EMPTY.append(4, 1500).append(0, 0).append(8, 123456);
+
+    assertThat(history.size()).isEqualTo(3);
+    assertThat(history.toBytes()).hasSize(3 * TicTacToeMoveHistory.MOVE_BYTES);
+    assertThat(history.getIndex(0)).isEqualTo(4);
+    assertThat(history.getMoveTime(0)).isEqualTo(1500);
+    assertThat(history.getIndex(2)).isEqualTo(8);
+    assertThat(history.getMoveTime(2)).isEqualTo(123456);
+    assertThat(history).hasToString("[B2+1500, A1+0, C3+123456]");
+  }
+
+  @Test
+  void should_round_trip_through_bytes() {
+    TicTacToeMoveHistory history = TicTacToeMoveHistory.EMPTY.append(8, 42).append(7, 1);
+
+    assertThat(TicTacToeMoveHistory.of(history.toBytes())).isEqualTo(history);
+    assertThat(TicTacToeMoveHistory.of(null)).isSameAs(TicTacToeMoveHistory.EMPTY);
+    assertThat(TicTacToeMoveHistory.of(new byte[0]).isEmpty()).isTrue();
+  }
+
+  @Test
+  void should_not_mutate_on_append() {
+    TicTacToeMoveHistory history = TicTacToeMoveHistory.EMPTY.append(0, 1);
+
+    history.append(1, 1);
+
+    assertThat(history.size()).isEqualTo(1);
+    assertThat(TicTacToeMoveHistory.EMPTY.size()).isZero();
+  }
+
+  @Test
+  void should_clamp_move_time() {
+    TicTacToeMoveHistory history = TicTacToeMoveHistory.EMPTY.append(8, Long.MAX_VALUE).append(0, -5);
+
+    assertThat(history.getIndex(0)).isEqualTo(8);
+    assertThat(history.getMoveTime(0)).isEqualTo(TicTacToeMoveHistory.MAX_MOVE_TIME);
+    assertThat(history.getMoveTime(1)).isZero();
+  }
+
+  @Test
+  void should_reject_invalid_histories() {
+    assertThatThrownBy(() -> TicTacToeMoveHistory.of(new byte[3])).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TicTacToeMoveHistory.of(new byte[40])).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TicTacToeMoveHistory.of(new byte[]{(byte) 0xF0, 0, 0, 0})).isInstanceOf(
+      IllegalArgumentException.class);
+    assertThatThrownBy(() -> TicTacToeMoveHistory.EMPTY.append(9, 0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TicTacToeMoveHistory.EMPTY.getIndex(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void should_reject_more_moves_than_cells() {
+    TicTacToeMoveHistory history = TicTacToeMoveHistory.EMPTY;
+    for (int index = 0; index < TicTacToeBoard.SIZE; index++) {
+      history = history.append(index, index);
+    }
+    TicTacToeMoveHistory full = history;
+
+    assertThatThrownBy(() -> full.append(0, 0)).isInstanceOf(IllegalStateException.class);
+  }
+}
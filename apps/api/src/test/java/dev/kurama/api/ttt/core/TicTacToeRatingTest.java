@@ -0,0 +1,44 @@
+package dev.kurama.api.ttt.core;
+
+import static dev.kurama.api.ttt.core.TicTacToeRating.DEFAULT_RATING;
+import static dev.kurama.api.ttt.core.TicTacToeRating.K_FACTOR;
+import static dev.kurama.api.ttt.core.TicTacToeRating.MAX_RATING;
+import static dev.kurama.api.ttt.core.TicTacToeRating.MIN_RATING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import org.junit.jupiter.api.Test;
+
+class TicTacToeRatingTest {
+
+  @Test
+  void should_move_equal_ratings_by_half_k_factor() {
+    assertEquals(DEFAULT_RATING + K_FACTOR / 2, TicTacToeRating.rate(DEFAULT_RATING, DEFAULT_RATING, 1));
+    assertEquals(DEFAULT_RATING - K_FACTOR / 2, TicTacToeRating.rate(DEFAULT_RATING, DEFAULT_RATING, 0));
+    assertEquals(DEFAULT_RATING, TicTacToeRating.rate(DEFAULT_RATING, DEFAULT_RATING, 0.5));
+  }
+
+  @Test
+  void should_reward_upsets_more_than_expected_wins() {
+    int upset = TicTacToeRating.rate(1000, 1400, 1) - 1000;
+    int expected = TicTacToeRating.rate(1400, 1000, 1) - 1400;
+
+    assertTrue(upset > expected);
+    assertEquals(K_FACTOR, upset + expected);
+  }
+
+  @Test
+  void should_clamp_ratings() {
+    assertEquals(MIN_RATING, TicTacToeRating.rate(MIN_RATING, MIN_RATING, 0));
+    assertEquals(MAX_RATING, TicTacToeRating.rate(MAX_RATING, MAX_RATING, 1));
+  }
+
+  @Test
+  void should_score_game_result() {
+    assertEquals(1, TicTacToeRating.score(Token.X, Token.X));
+    assertEquals(0, TicTacToeRating.score(Token.O, Token.X));
+    assertEquals(0.5, TicTacToeRating.score(Token.X, Token.NONE));
+    assertEquals(0.5, TicTacToeRating.score(Token.O, Token.NONE));
+  }
+}
@@ -0,0 +1,86 @@
+package dev.kurama.api.ttt.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TicTacToeSolverTest {
+
+  private static TicTacToeSolver solver;
+
+  @BeforeAll
+  static void setUp() {
+    solver = new TicTacToeSolver();
+  }
+
+  @Test
+  void should_solve_every_reachable_position() {
+    assertThat(solver.getPositionCount()).isEqualTo(5478);
+    assertThat(solver.getScore(TicTacToeBoard.EMPTY)).isZero();
+  }
+
+  @Test
+  void should_not_move_on_finished_boards() {
+    assertThat(solver.getBestMove(TicTacToeBoard.of("XO_XO_X__"))).isEqualTo(TicTacToeSolver.NO_MOVE);
+    assertThat(solver.getBestMove(TicTacToeBoard.of("XXOOOXXXO"))).isEqualTo(TicTacToeSolver.NO_MOVE);
+  }
+
+  @Test
+  void should_reject_unreachable_boards() {
+    assertThatThrownBy(() -> solver.getBestMove(TicTacToeBoard.of("XXX______"))).isInstanceOf(
+      IllegalArgumentException.class);
+    assertThatThrownBy(() -> solver.getBestMove(TicTacToeBoard.of("OO_______"))).isInstanceOf(
+      IllegalArgumentException.class);
+  }
+
+  @Test
+  void should_take_winning_move() {
+    assertThat(solver.getBestMove(TicTacToeBoard.of("XX_OO____"))).isEqualTo(2);
+    assertThat(solver.getBestMove(TicTacToeBoard.of("XX_OO___X"))).isEqualTo(5);
+  }
+
+  @Test
+  void should_block_losing_move() {
+    assertThat(solver.getBestMove(TicTacToeBoard.of("XX__O____"))).isEqualTo(2);
+  }
+
+  @Test
+  void should_never_lose_against_any_opponent() {
+    assertThat(countBotLosses(TicTacToeBoard.EMPTY, Token.X)).isZero();
+    assertThat(countBotLosses(TicTacToeBoard.EMPTY, Token.O)).isZero();
+  }
+
+  @Test
+  void should_reply_within_latency_budget() {
+    TicTacToeBoard board = TicTacToeBoard.of("O___X____");
+    int lookups = 1_000_000;
+    int checksum = 0;
+
+    long start = System.nanoTime();
+    for (int i = 0; i < lookups; i++) {
+      checksum += solver.getBestMove(board);
+    }
+    long elapsed = System.nanoTime() - start;
+
+    assertThat(checksum).isPositive();
+    assertThat(elapsed / lookups).isLessThan(TimeUnit.MICROSECONDS.toNanos(1));
+  }
+
+  private int countBotLosses(TicTacToeBoard board, Token bot) {
+    if (board.isOver()) {
+      return board.getWinner() != bot && board.getWinner() != Token.NONE ? 1 : 0;
+    }
+    if (board.getTurn() == bot) {
+      return countBotLosses(board.move(solver.getBestMove(board), bot), bot);
+    }
+    int losses = 0;
+    for (int empty = board.getEmpty(); empty != 0; empty &= empty - 1) {
+      losses += countBotLosses(board.move(Integer.numberOfTrailingZeros(empty), board.getTurn()), bot);
+    }
+    return losses;
+  }
+}
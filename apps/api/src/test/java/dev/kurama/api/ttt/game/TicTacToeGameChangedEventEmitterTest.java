@@ -1,9 +1,12 @@
 package dev.kurama.api.ttt.game;
 
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 
+import dev.kurama.api.ttt.core.TicTacToeBoard;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.move.TicTacToeGameMove;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import java.time.LocalDateTime;
@@ -61,6 +64,42 @@ class TicTacToeGameChangedEventEmitterTest {
     assertTicTacToeGameChangedEvent(capturedEvent, TicTacToeGameChangedEvent.Action.UPDATED);
   }
 
+  @Test
+  void tic_tac_toe_game_moved_event_should_send_tic_tac_toe_game_move_delta() {
+    TicTacToeGameMove move = TicTacToeGameMove.builder()
+      .id(randomUUID())
+      .cell("A1")
+      .token(Token.X)
+      .board("X________")
+      .number(1)
+      .movedAt(LocalDateTime.now())
+      .moveTime(1000L)
+      .build();
+    TicTacToeGameState state = TicTacToeGameState.of(game, 1)
+      .toBuilder()
+      .board(TicTacToeBoard.of(move.getBoard()))
+      .turn(Token.O)
+      .build();
+
+    ticTacToeGameChangedEventEmitter.emitTicTacToeGameMovedEvent(state, move);
+
+    ArgumentCaptor<TicTacToeGameChangedEvent> argument = ArgumentCaptor.forClass(TicTacToeGameChangedEvent.class);
+    verify(applicationEventPublisher).publishEvent(argument.capture());
+
+    TicTacToeGameChangedEvent capturedEvent = argument.getValue();
+    assertEquals(game.getId(), capturedEvent.getGameId());
+    assertEquals(TicTacToeGameChangedEvent.Action.UPDATED, capturedEvent.getAction());
+    assertEquals(Token.O, capturedEvent.getTurn());
+    assertEquals("X________", capturedEvent.getBoard());
+    assertEquals(1, capturedEvent.getSequence());
+    assertEquals(move.getId(), capturedEvent.getMove().getId());
+    assertEquals("A1", capturedEvent.getMove().getCell());
+    assertEquals(Token.X, capturedEvent.getMove().getToken());
+    assertEquals(1, capturedEvent.getMove().getNumber());
+    assertEquals("X________", capturedEvent.getMove().getBoard());
+    assertEquals(1000L, capturedEvent.getMove().getMoveTime());
+  }
+
   private void assertTicTacToeGameChangedEvent(TicTacToeGameChangedEvent capturedEvent,
                                                TicTacToeGameChangedEvent.Action action) {
     assertEquals(game.getId(), capturedEvent.getGameId());
@@ -3,6 +3,7 @@ package dev.kurama.api.ttt.game;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.mockito.Mockito.verify;
 
+import dev.kurama.api.core.event.domain.RelayedEvent;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import org.junit.jupiter.api.Test;
@@ -37,7 +38,7 @@ class TicTacToeGameChangedEventListenerTest {
       .turn(Token.X)
       .build();
 
-    ticTacToeGameChangedEventListener.ticTacToeGameChangedEvent(event);
+    ticTacToeGameChangedEventListener.ticTacToeGameChangedEvent(new RelayedEvent<>(event));
 
     verify(sender).sendTicTacToeGameChangedMessage(event);
   }
@@ -111,7 +111,7 @@ class TicTacToeGameControllerIT {
         .andExpect(jsonPath("$._links.self.href",
           equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_PATH.replace("{gameId}", game.getId()))))
         .andExpect(jsonPath("$._links.moves.href",
-          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()))))
+          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()) + "{?after}")))
         .andExpect(jsonPath("$._links.ws.href", equalTo(TIC_TAC_TOE_GAME_CHANGED_CHANNEL.formatted(game.getId()))));
     }
   }
@@ -150,7 +150,7 @@ class TicTacToeGameControllerIT {
         .andExpect(jsonPath("$._links.self.href",
           equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_PATH.replace("{gameId}", game.getId()))))
         .andExpect(jsonPath("$._links.moves.href",
-          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()))))
+          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()) + "{?after}")))
         .andExpect(jsonPath("$._links.ws.href", equalTo(TIC_TAC_TOE_GAME_CHANGED_CHANNEL.formatted(game.getId()))));
     }
   }
@@ -177,7 +177,7 @@ class TicTacToeGameControllerIT {
 
     @Test
     void should_return_ok_when_user_is_authorized() throws Exception {
-      when(service.updateStatus(game.getId(), input)).thenReturn(game);
+      when(facility.updateStatus(game.getId(), input)).thenReturn(game);
 
       mockMvc.perform(patch(TIC_TAC_TOE_GAME_PATH, game.getId()).contentType(MediaType.APPLICATION_JSON)
           .content(asJsonString(input))
@@ -195,7 +195,7 @@ class TicTacToeGameControllerIT {
         .andExpect(jsonPath("$._links.self.href",
           equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_PATH.replace("{gameId}", game.getId()))))
         .andExpect(jsonPath("$._links.moves.href",
-          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()))))
+          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()) + "{?after}")))
         .andExpect(jsonPath("$._links.ws.href", equalTo(TIC_TAC_TOE_GAME_CHANGED_CHANNEL.formatted(game.getId()))));
     }
   }
@@ -241,7 +241,7 @@ class TicTacToeGameControllerIT {
         .andExpect(jsonPath("$._embedded.ticTacToeGameModels[0]._links.self.href",
           equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_PATH.replace("{gameId}", game.getId()))))
         .andExpect(jsonPath("$._embedded.ticTacToeGameModels[0]._links.moves.href",
-          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()))))
+          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", game.getId()) + "{?after}")))
         .andExpect(jsonPath("$._embedded.ticTacToeGameModels[0]._links.ws.href",
           equalTo(TIC_TAC_TOE_GAME_CHANGED_CHANNEL.formatted(game.getId()))))
         .andExpect(jsonPath("$._links.*", hasSize(1)))
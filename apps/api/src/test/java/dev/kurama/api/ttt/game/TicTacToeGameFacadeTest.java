@@ -73,7 +73,7 @@ class TicTacToeGameFacadeTest {
   void should_update_game_status() {
     TicTacToeGameStatusInput input = TicTacToeGameStatusInput.builder().status(Status.IN_PROGRESS.toString()).build();
 
-    when(service.updateStatus(game.getId(), input)).thenReturn(game);
+    when(facility.updateStatus(game.getId(), input)).thenReturn(game);
     when(mapper.ticTacToeGameToTicTacToeGameModel(game)).thenReturn(model);
 
     assertEquals(facade.updateStatus(game.getId(), input), model);
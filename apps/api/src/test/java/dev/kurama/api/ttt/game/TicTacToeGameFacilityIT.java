@@ -8,17 +8,27 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.ttt.core.TicTacToeSolver;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.input.TicTacToeGameInput;
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboard;
+import dev.kurama.api.ttt.move.TicTacToeGameMoveFacility;
+import dev.kurama.api.ttt.move.TicTacToeGameMoveService;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import dev.kurama.api.ttt.player.TicTacToePlayerService;
 import dev.kurama.support.ServiceLayerIntegrationTestConfig;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 @ServiceLayerIntegrationTestConfig
-@Import({TicTacToeGameFacility.class, TicTacToeGameService.class, TicTacToePlayerService.class,})
+@Import({TicTacToeGameFacility.class, TicTacToeGameService.class, TicTacToePlayerService.class,
+  TicTacToeGameMoveFacility.class, TicTacToeGameMoveService.class, TicTacToeSolver.class,
+  TicTacToeGameStateCache.class, TicTacToeLeaderboard.class})
 class TicTacToeGameFacilityIT {
 
   @Autowired
@@ -53,5 +63,33 @@ class TicTacToeGameFacilityIT {
 
   }
 
+  @Test
+  void should_forfeit_stale_game_and_rate_players() {
+    TicTacToePlayer playerX = entityManager.persist(
+      TicTacToePlayer.builder().setRandomUUID().username(randomAlphanumeric(8)).build());
+    TicTacToePlayer playerO = entityManager.persist(
+      TicTacToePlayer.builder().setRandomUUID().username(randomAlphanumeric(8)).build());
+    TicTacToeGame game = entityManager.persistAndFlush(TicTacToeGame.builder()
+      .setRandomUUID()
+      .playerX(playerX)
+      .playerO(playerO)
+      .status(Status.IN_PROGRESS)
+      .turn(Token.X)
+      .board("X___O____")
+      .lastActivityAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+      .build());
+    entityManager.clear();
+
+    List<TicTacToeGame> actual = facility.expireStale(List.of(game));
+    entityManager.flush();
+    entityManager.clear();
 
+    assertEquals(1, actual.size());
+    TicTacToeGame reaped = entityManager.find(TicTacToeGame.class, game.getId());
+    assertEquals(Status.FINISHED, reaped.getStatus());
+    assertEquals(Token.O, reaped.getTurn());
+    assertNotNull(reaped.getFinishedAt());
+    assertEquals(1, entityManager.find(TicTacToePlayer.class, playerO.getId()).getWins());
+    assertEquals(1, entityManager.find(TicTacToePlayer.class, playerX.getId()).getLosses());
+  }
 }
@@ -1,10 +1,15 @@
 package dev.kurama.api.ttt.game;
 
 import static dev.kurama.api.core.utility.AuthorityUtils.setContextUser;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,9 +18,17 @@ import dev.kurama.api.core.filter.ContextUser;
 import dev.kurama.api.ttt.core.TicTacToeAuthority;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.input.TicTacToeGameInput;
+import dev.kurama.api.ttt.game.input.TicTacToeGameStatusInput;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatch;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatchResult;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatchmakingTicket;
+import dev.kurama.api.ttt.move.TicTacToeGameMoveFacility;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import dev.kurama.api.ttt.player.TicTacToePlayerService;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -37,6 +50,9 @@ class TicTacToeGameFacilityTest {
   @Mock
   private TicTacToePlayerService playerService;
 
+  @Mock
+  private TicTacToeGameMoveFacility moveFacility;
+
   @Nested
   class CreateGameTests {
 
@@ -117,5 +133,131 @@ class TicTacToeGameFacilityTest {
 
       verify(gameService, never()).create(any(), any(), any());
     }
+
+    @Test
+    void should_start_game_against_bot() {
+      setContextUser(ContextUser.builder().username(playerX.getUsername()).build());
+      TicTacToePlayer bot = TicTacToePlayer.builder().id(TIC_TAC_TOE_BOT_ID).username(TIC_TAC_TOE_BOT_USERNAME).build();
+      TicTacToeGameInput input = TicTacToeGameInput.builder().playerOUsername(bot.getUsername()).build();
+      TicTacToeGame started = TicTacToeGame.builder().id(expected.getId()).status(Status.IN_PROGRESS).build();
+
+      when(playerService.getPlayerByUsername(playerX.getUsername())).thenReturn(Optional.of(playerX));
+      when(playerService.getPlayerByUsername(bot.getUsername())).thenReturn(Optional.of(bot));
+      when(gameService.create(input, playerX, bot)).thenReturn(expected);
+      when(gameService.start(expected)).thenReturn(started);
+
+      TicTacToeGame actual = facility.create(input);
+
+      assertEquals(started, actual);
+      verify(moveFacility).moveBot(started);
+    }
+
+    @Test
+    void should_not_start_game_against_player() {
+      setContextUser(ContextUser.builder().username(playerX.getUsername()).build());
+      TicTacToeGameInput input = TicTacToeGameInput.builder().playerOUsername(playerO.getUsername()).build();
+
+      when(playerService.getPlayerByUsername(playerX.getUsername())).thenReturn(Optional.of(playerX));
+      when(playerService.getPlayerByUsername(playerO.getUsername())).thenReturn(Optional.of(playerO));
+      when(gameService.create(input, playerX, playerO)).thenReturn(expected);
+
+      facility.create(input);
+
+      verify(gameService, never()).start(any());
+      verify(moveFacility, never()).moveBot(any());
+    }
+  }
+
+  @Nested
+  class UpdateGameStatusTests {
+
+    @Test
+    void should_update_status_and_let_bot_move() {
+      TicTacToeGameStatusInput input = TicTacToeGameStatusInput.builder().status(Status.IN_PROGRESS.name()).build();
+      TicTacToeGame game = TicTacToeGame.builder().setRandomUUID().status(Status.IN_PROGRESS).build();
+
+      when(gameService.updateStatus(game.getId(), input)).thenReturn(game);
+
+      TicTacToeGame actual = facility.updateStatus(game.getId(), input);
+
+      assertEquals(game, actual);
+      verify(moveFacility).moveBot(game);
+    }
+  }
+
+  @Nested
+  class CreateMatchesTests {
+
+    @Test
+    void should_create_matches_with_resolved_players() {
+      TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+      TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+      List<TicTacToeMatch> matches = List.of(new TicTacToeMatch(ticket(playerX), ticket(playerO)));
+      Map<String, TicTacToePlayer> players = Map.of(playerX.getId(), playerX, playerO.getId(), playerO);
+      List<TicTacToeGame> games = List.of(TicTacToeGame.builder().setRandomUUID().status(Status.IN_PROGRESS).build());
+
+      when(playerService.getPlayersById(List.of(playerX.getId(), playerO.getId()))).thenReturn(players);
+      when(gameService.createMatches(matches, players)).thenReturn(games);
+
+      TicTacToeMatchResult actual = facility.createMatches(matches);
+
+      assertEquals(games, actual.games());
+      assertThat(actual.unmatched()).isEmpty();
+    }
+
+    @Test
+    void should_return_partners_of_missing_players_as_unmatched() {
+      TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+      TicTacToePlayer missing = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+      List<TicTacToeMatch> matches = List.of(new TicTacToeMatch(ticket(playerX), ticket(missing)));
+      Map<String, TicTacToePlayer> players = Map.of(playerX.getId(), playerX);
+
+      when(playerService.getPlayersById(List.of(playerX.getId(), missing.getId()))).thenReturn(players);
+      when(gameService.createMatches(matches, players)).thenReturn(List.of());
+
+      TicTacToeMatchResult actual = facility.createMatches(matches);
+
+      assertThat(actual.games()).isEmpty();
+      assertThat(actual.unmatched()).containsExactly(matches.get(0).playerX());
+    }
+
+    private TicTacToeMatchmakingTicket ticket(TicTacToePlayer player) {
+      return TicTacToeMatchmakingTicket.builder()
+        .playerId(player.getId())
+        .username(player.getUsername())
+        .rating(player.getRating())
+        .enqueuedAt(LocalDateTime.now())
+        .build();
+    }
+  }
+
+  @Nested
+  class ExpireStaleGamesTests {
+
+    @Test
+    void should_register_results_of_forfeited_games() {
+      TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+      TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+      TicTacToeGame rejected = TicTacToeGame.builder()
+        .setRandomUUID()
+        .playerX(playerX)
+        .playerO(playerO)
+        .status(Status.REJECTED)
+        .build();
+      TicTacToeGame forfeited = TicTacToeGame.builder()
+        .setRandomUUID()
+        .playerX(playerX)
+        .playerO(playerO)
+        .status(Status.FINISHED)
+        .turn(Token.O)
+        .build();
+      List<TicTacToeGame> games = List.of(rejected, forfeited);
+
+      when(gameService.expireStale(eq(games), any())).thenReturn(games);
+
+      assertEquals(games, facility.expireStale(games));
+      verify(playerService).registerGameResult(playerX.getId(), playerO.getId(), Token.O);
+      verify(playerService, times(1)).registerGameResult(any(String.class), any(String.class), any(Token.class));
+    }
   }
 }
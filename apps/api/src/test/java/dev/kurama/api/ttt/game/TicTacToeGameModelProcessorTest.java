@@ -98,7 +98,7 @@ class TicTacToeGameModelProcessorTest {
     assertThat(actual.getLinks()).hasSize(3);
     assertThat(actual.getLink(TIC_TAC_TOE_MOVES_REL)).isPresent()
       .hasValueSatisfying(
-        link -> assertThat(link.getHref()).isEqualTo(format("/api/tic-tac-toe/game/%s/move", model.getId())));
+        link -> assertThat(link.getHref()).isEqualTo(format("/api/tic-tac-toe/game/%s/move{?after}", model.getId())));
   }
 
 
@@ -110,7 +110,7 @@ class TicTacToeGameModelProcessorTest {
     assertThat(actual.getLinks()).hasSize(3);
     assertThat(actual.getLink(TIC_TAC_TOE_MOVES_REL)).isPresent()
       .hasValueSatisfying(
-        link -> assertThat(link.getHref()).isEqualTo(format("/api/tic-tac-toe/game/%s/move", model.getId())));
+        link -> assertThat(link.getHref()).isEqualTo(format("/api/tic-tac-toe/game/%s/move{?after}", model.getId())));
   }
 
   @Test
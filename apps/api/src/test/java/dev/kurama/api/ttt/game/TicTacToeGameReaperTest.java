@@ -0,0 +1,73 @@
+package dev.kurama.api.ttt.game;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TicTacToeGameReaperTest {
+
+  @Mock
+  private TicTacToeGameService gameService;
+
+  @Mock
+  private TicTacToeGameFacility gameFacility;
+
+  private TicTacToeGameReaper reaper;
+
+  private final List<TicTacToeGame> fullChunk = List.of(game(), game());
+
+  private final List<TicTacToeGame> lastChunk = List.of(game());
+
+  @BeforeEach
+  void setUp() {
+    reaper = new TicTacToeGameReaper(gameService, gameFacility, 1000, 1000, 2);
+    when(gameService.findStale(any(), any(), eq(2))).thenReturn(List.of());
+  }
+
+  @Test
+  void should_reap_stale_games_in_chunks() {
+    when(gameService.findStale(eq(Status.PENDING), any(), eq(2))).thenReturn(fullChunk, lastChunk);
+    when(gameFacility.expireStale(fullChunk)).thenReturn(fullChunk);
+    when(gameFacility.expireStale(lastChunk)).thenReturn(lastChunk);
+
+    reaper.reap();
+
+    verify(gameFacility).expireStale(fullChunk);
+    verify(gameFacility).expireStale(lastChunk);
+    verify(gameService, times(2)).findStale(eq(Status.PENDING), any(), eq(2));
+    verify(gameService).findStale(eq(Status.IN_PROGRESS), any(), eq(2));
+  }
+
+  @Test
+  void should_stop_when_no_game_in_chunk_could_be_expired() {
+    when(gameService.findStale(eq(Status.IN_PROGRESS), any(), eq(2))).thenReturn(fullChunk);
+    when(gameFacility.expireStale(fullChunk)).thenReturn(List.of());
+
+    reaper.reap();
+
+    verify(gameFacility, times(1)).expireStale(fullChunk);
+  }
+
+  @Test
+  void should_not_expire_without_stale_games() {
+    reaper.reap();
+
+    verify(gameFacility, never()).expireStale(any());
+  }
+
+  private static TicTacToeGame game() {
+    return TicTacToeGame.builder().setRandomUUID().status(Status.PENDING).build();
+  }
+}
@@ -6,6 +6,9 @@ import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTest
 
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest(showSql = false)
@@ -89,4 +93,72 @@ class TicTacToeGameRepositoryIT {
     assertThat(actual).isFalse();
   }
 
+  @Test
+  void should_find_stale_games_by_status_oldest_first() {
+    LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+    TicTacToeGame oldest = game(Status.PENDING, now.minusHours(3));
+    TicTacToeGame older = game(Status.PENDING, now.minusHours(2));
+    game(Status.PENDING, now);
+    game(Status.IN_PROGRESS, now.minusHours(4));
+
+    List<TicTacToeGame> actual = ticTacToeGameRepository.findAllByStatusAndLastActivityAtBeforeOrderByLastActivityAtAsc(
+      Status.PENDING, now.minusHours(1), PageRequest.of(0, 10));
+
+    assertThat(actual.stream().map(TicTacToeGame::getId).toList()).isEqualTo(List.of(oldest.getId(), older.getId()));
+  }
+
+  @Test
+  void should_update_stale_game_only_if_unchanged() {
+    LocalDateTime lastActivityAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    LocalDateTime now = lastActivityAt.plusHours(2);
+    TicTacToeGame game = game(Status.IN_PROGRESS, lastActivityAt);
+
+    assertThat(ticTacToeGameRepository.updateStale(game.getId(), Status.IN_PROGRESS, lastActivityAt.minusSeconds(1),
+      Token.O, Status.FINISHED, now, now)).isZero();
+    assertThat(ticTacToeGameRepository.updateStale(game.getId(), Status.IN_PROGRESS, lastActivityAt, Token.O,
+      Status.FINISHED, now, now)).isEqualTo(1);
+    entityManager.clear();
+
+    TicTacToeGame actual = entityManager.find(TicTacToeGame.class, game.getId());
+    assertThat(actual.getStatus()).isEqualTo(Status.FINISHED);
+    assertThat(actual.getTurn()).isEqualTo(Token.O);
+    assertThat(actual.getFinishedAt()).isEqualTo(now);
+  }
+
+  @Test
+  void should_copy_player_usernames_on_persist() {
+    TicTacToeGame game = game(Status.PENDING, LocalDateTime.now());
+    entityManager.flush();
+    entityManager.clear();
+
+    TicTacToeGame actual = entityManager.find(TicTacToeGame.class, game.getId());
+    assertThat(actual.getPlayerXUsername()).isEqualTo(playerX.getUsername());
+    assertThat(actual.getPlayerOUsername()).isEqualTo(playerO.getUsername());
+  }
+
+  @Test
+  void should_update_denormalized_player_usernames() {
+    TicTacToeGame game = game(Status.PENDING, LocalDateTime.now());
+
+    assertThat(ticTacToeGameRepository.updatePlayerOUsername(playerO.getId(), "renamed")).isEqualTo(1);
+    assertThat(ticTacToeGameRepository.updatePlayerXUsername(playerO.getId(), "renamed")).isZero();
+    entityManager.clear();
+
+    TicTacToeGame actual = entityManager.find(TicTacToeGame.class, game.getId());
+    assertThat(actual.getPlayerOUsername()).isEqualTo("renamed");
+    assertThat(actual.getPlayerXUsername()).isEqualTo(playerX.getUsername());
+  }
+
+  private TicTacToeGame game(Status status, LocalDateTime lastActivityAt) {
+    TicTacToeGame game = TicTacToeGame.builder()
+      .setRandomUUID()
+      .playerX(playerX)
+      .playerO(playerO)
+      .status(status)
+      .turn(Token.X)
+      .lastActivityAt(lastActivityAt)
+      .build();
+    entityManager.persist(game);
+    return game;
+  }
 }
@@ -2,18 +2,22 @@ package dev.kurama.api.ttt.game;
 
 import static dev.kurama.api.core.utility.AuthorityUtils.setContextUser;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.input.TicTacToeGameFilterInput;
 import dev.kurama.api.ttt.game.input.TicTacToeGameStatusInput;
+import dev.kurama.api.ttt.move.TicTacToeGameMove;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import dev.kurama.support.ServiceLayerIntegrationTestConfig;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +27,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
 
 @ServiceLayerIntegrationTestConfig
-@Import({TicTacToeGameService.class})
+@Import({TicTacToeGameService.class, TicTacToeGameStateCache.class})
 class TicTacToeGameServiceIT {
 
   @Autowired
@@ -89,6 +93,38 @@ class TicTacToeGameServiceIT {
     assertThat(actual.getStatus()).isEqualTo(Status.IN_PROGRESS);
   }
 
+  @Test
+  void should_apply_move_to_game_state() {
+    expected.setStatus(Status.IN_PROGRESS);
+    expected.setBoard("X________");
+    expected.setTurn(Token.O);
+    expected.setMoveHistory(TicTacToeMoveHistory.EMPTY.append(0, 1000L).toBytes());
+    entityManager.flush();
+    entityManager.clear();
+
+    TicTacToeGameState state = service.getState(expected.getId());
+    TicTacToeGameMove move = TicTacToeGameMove.builder()
+      .board("X___O____")
+      .cell("B2")
+      .token(Token.O)
+      .number(state.moveCount() + 1)
+      .movedAt(LocalDateTime.now())
+      .moveTime(1000L)
+      .build();
+    TicTacToeGameState actual = service.applyMove(state, move);
+    entityManager.clear();
+    TicTacToeGame game = entityManager.find(TicTacToeGame.class, expected.getId());
+
+    assertThat(state.moveCount()).isEqualTo(1);
+    assertThat(state.getCurrentPlayerId()).isEqualTo(playerO.getId());
+    assertThat(actual.moveCount()).isEqualTo(2);
+    assertThat(game.getBoard()).isEqualTo("X___O____");
+    assertThat(game.getMoveHistory()).isEqualTo(TicTacToeMoveHistory.EMPTY.append(0, 1000L).append(4, 1000L).toBytes());
+    assertThat(game.getTurn()).isEqualTo(Token.X);
+    assertThat(game.getStatus()).isEqualTo(Status.IN_PROGRESS);
+    assertThat(game.getLastActivityAt()).isCloseTo(move.getMovedAt(), within(1, ChronoUnit.MICROS));
+  }
+
   @Test
   void should_get_all_games() {
     TicTacToeGameFilterInput input = TicTacToeGameFilterInput.builder()
@@ -4,23 +4,31 @@ import static dev.kurama.api.core.utility.AuthorityUtils.setContextUser;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import dev.kurama.api.core.exception.domain.ForbiddenException;
 import dev.kurama.api.core.filter.ContextUser;
 import dev.kurama.api.ttt.core.TicTacToeAuthority;
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.input.TicTacToeGameInput;
 import dev.kurama.api.ttt.game.input.TicTacToeGameStatusInput;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatch;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatchmakingTicket;
 import dev.kurama.api.ttt.move.TicTacToeGameMove;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -49,6 +58,9 @@ class TicTacToeGameServiceTest {
   @Mock
   private TicTacToeGameChangedEventEmitter eventEmitter;
 
+  @Mock
+  private TicTacToeGameStateCache stateCache;
+
   TicTacToeGame expected = TicTacToeGame.builder()
     .setRandomUUID()
     .status(Status.PENDING)
@@ -107,6 +119,49 @@ class TicTacToeGameServiceTest {
     }
   }
 
+  @Test
+  void should_create_started_matches() {
+    TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+    TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+    TicTacToeMatch match = new TicTacToeMatch(ticket(playerX), ticket(playerO));
+    TicTacToeMatch orphan = new TicTacToeMatch(ticket(playerX),
+      ticket(TicTacToePlayer.builder().setRandomUUID().username("user-3").build()));
+
+    when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    List<TicTacToeGame> actual = service.createMatches(List.of(match, orphan),
+      Map.of(playerX.getId(), playerX, playerO.getId(), playerO));
+
+    assertEquals(1, actual.size());
+    TicTacToeGame game = actual.get(0);
+    assertEquals(playerX, game.getPlayerX());
+    assertEquals(playerO, game.getPlayerO());
+    assertEquals(Status.IN_PROGRESS, game.getStatus());
+    assertEquals(Token.X, game.getTurn());
+    assertEquals(TicTacToeBoard.EMPTY.toString(), game.getBoard());
+    assertNotNull(game.getStartedAt());
+    verify(stateCache).put(any(TicTacToeGameState.class));
+    verify(eventEmitter).emitTicTacToeGameCreatedEvent(game);
+  }
+
+  private static TicTacToeMatchmakingTicket ticket(TicTacToePlayer player) {
+    return TicTacToeMatchmakingTicket.builder()
+      .playerId(player.getId())
+      .username(player.getUsername())
+      .rating(player.getRating())
+      .enqueuedAt(LocalDateTime.now())
+      .build();
+  }
+
+  @Test
+  void should_update_player_username_in_games() {
+    service.updatePlayerUsername("player-1", "renamed");
+
+    verify(repository).updatePlayerXUsername("player-1", "renamed");
+    verify(repository).updatePlayerOUsername("player-1", "renamed");
+    verify(stateCache).invalidatePlayer("player-1");
+  }
+
   @Nested
   class UpdateTicTacToeGameStatusTests {
 
@@ -211,113 +266,143 @@ class TicTacToeGameServiceTest {
   }
 
   @Nested
-  class ApplyTicTacToeGameMoveTests {
+  class GetTicTacToeGameStateTests {
 
     TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
     TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
 
     @Test
-    void should_apply_move() {
+    void should_get_cached_state() {
+      TicTacToeGameState state = TicTacToeGameState.of(
+        TicTacToeGame.builder().setRandomUUID().playerX(playerX).playerO(playerO).status(Status.IN_PROGRESS).build(),
+        0);
+      when(stateCache.get(state.id())).thenReturn(Optional.of(state));
+
+      assertEquals(state, service.getState(state.id()));
+      verifyNoInteractions(repository);
+    }
+
+    @Test
+    void should_load_and_cache_state() {
       TicTacToeGame game = TicTacToeGame.builder()
         .setRandomUUID()
         .playerX(playerX)
         .playerO(playerO)
         .status(Status.IN_PROGRESS)
         .lastActivityAt(LocalDateTime.now())
-        .requestedAt(LocalDateTime.now())
-        .board("_________")
+        .board("XO_______")
+        .moveHistory(TicTacToeMoveHistory.EMPTY.append(0, 1000).append(1, 2000).toBytes())
         .turn(Token.X)
         .build();
+      when(stateCache.get(game.getId())).thenReturn(Optional.empty());
+      when(repository.findById(game.getId())).thenReturn(Optional.of(game));
 
-      TicTacToeGameMove move = TicTacToeGameMove.builder()
-        .game(game)
-        .board("X________")
-        .cell("C1")
-        .token(Token.X)
-        .number(1)
-        .movedAt(LocalDateTime.now())
-        .moveTime(1000L)
-        .build();
+      TicTacToeGameState actual = service.getState(game.getId());
 
-      when(repository.save(any(TicTacToeGame.class))).thenAnswer(invocation -> invocation.getArgument(0));
+      verify(stateCache).put(actual);
+      assertEquals(TicTacToeBoard.of("XO_______"), actual.board());
+      assertEquals(2, actual.moveCount());
+      assertEquals(TicTacToeMoveHistory.of(game.getMoveHistory()), actual.history());
+      assertEquals(playerX.getId(), actual.getCurrentPlayerId());
+      assertEquals(playerO.getUsername(), actual.playerOUsername());
+      assertEquals(game.getLastActivityAt(), actual.lastActivityAt());
+    }
+  }
 
-      TicTacToeGame actual = service.applyMove(game, move);
+  @Nested
+  class ApplyTicTacToeGameMoveTests {
 
-      verify(eventEmitter).emitTicTacToeGameUpdatedEvent(actual);
-      assertEquals("X________", actual.getBoard());
-      assertEquals(Token.O, actual.getTurn());
-      assertTrue(actual.getMoves().contains(move));
-      assertNotNull(actual.getLastActivityAt());
+    TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+    TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+
+    @BeforeEach
+    void setUp() {
+      when(repository.updateProgress(any(), any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void should_apply_move() {
+      TicTacToeGameState state = getState("_________", 0);
+      TicTacToeGameMove move = getMove("X________", "A1", 1);
+
+      TicTacToeGameState actual = service.applyMove(state, move);
+
+      verify(repository).updateProgress(eq(state.id()), eq("_________"), eq(Status.IN_PROGRESS), eq("X________"),
+        aryEq(TicTacToeMoveHistory.EMPTY.append(0, 1000).toBytes()), eq(Token.O), eq(Status.IN_PROGRESS),
+        eq(move.getMovedAt()), eq(null));
+      verify(stateCache).put(actual);
+      verify(eventEmitter).emitTicTacToeGameMovedEvent(actual, move);
+      assertEquals(TicTacToeBoard.of("X________"), actual.board());
+      assertEquals(Token.O, actual.turn());
+      assertEquals(1, actual.moveCount());
+      assertEquals(1, actual.history().size());
+      assertEquals(move.getMovedAt(), actual.lastActivityAt());
     }
 
     @Test
     void should_move_to_win() {
-      TicTacToeGame game = TicTacToeGame.builder()
-        .setRandomUUID()
-        .playerX(playerX)
-        .playerO(playerO)
-        .status(Status.IN_PROGRESS)
-        .lastActivityAt(LocalDateTime.now())
-        .requestedAt(LocalDateTime.now())
-        .board("XO_XO____")
-        .turn(Token.X)
-        .build();
+      TicTacToeGameState state = getState("XO_XO____", 4);
+      TicTacToeGameMove move = getMove("XO_XO_X__", "C1", 5);
 
-      TicTacToeGameMove move = TicTacToeGameMove.builder()
-        .game(game)
-        .board("XO_XO_X__")
-        .cell("C2")
-        .token(Token.X)
-        .number(5)
-        .movedAt(LocalDateTime.now())
-        .moveTime(1000L)
-        .build();
+      TicTacToeGameState actual = service.applyMove(state, move);
 
-      when(repository.save(any(TicTacToeGame.class))).thenAnswer(invocation -> invocation.getArgument(0));
+      verify(repository).updateProgress(eq(state.id()), eq("XO_XO____"), eq(Status.IN_PROGRESS), eq("XO_XO_X__"),
+        any(), eq(Token.X), eq(Status.FINISHED), eq(move.getMovedAt()), eq(move.getMovedAt()));
+      verify(stateCache).put(actual);
+      verify(eventEmitter).emitTicTacToeGameMovedEvent(actual, move);
+      assertEquals(Token.X, actual.turn());
+      assertEquals(Status.FINISHED, actual.status());
+    }
 
-      TicTacToeGame actual = service.applyMove(game, move);
+    @Test
+    void should_move_to_tie() {
+      TicTacToeGameState state = getState("XXOOOXX_O", 8);
+      TicTacToeGameMove move = getMove("XXOOOXXXO", "C2", 9);
 
-      verify(eventEmitter).emitTicTacToeGameUpdatedEvent(actual);
-      assertEquals("XO_XO_X__", actual.getBoard());
-      assertEquals(Token.X, actual.getTurn());
-      assertTrue(actual.getMoves().contains(move));
-      assertNotNull(actual.getFinishedAt());
-      assertEquals(Status.FINISHED, actual.getStatus());
+      TicTacToeGameState actual = service.applyMove(state, move);
+
+      verify(repository).updateProgress(eq(state.id()), eq("XXOOOXX_O"), eq(Status.IN_PROGRESS), eq("XXOOOXXXO"),
+        any(), eq(Token.NONE), eq(Status.FINISHED), eq(move.getMovedAt()), eq(move.getMovedAt()));
+      verify(eventEmitter).emitTicTacToeGameMovedEvent(actual, move);
+      assertEquals(Token.NONE, actual.turn());
+      assertEquals(Status.FINISHED, actual.status());
     }
 
     @Test
-    void should_move_to_tie() {
-      TicTacToeGame game = TicTacToeGame.builder()
+    void should_throw_if_game_was_modified_concurrently() {
+      TicTacToeGameState state = getState("_________", 0);
+      TicTacToeGameMove move = getMove("X________", "A1", 1);
+      when(repository.updateProgress(any(), any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+      assertThrows(OptimisticLockingFailureException.class, () -> service.applyMove(state, move));
+
+      verify(stateCache).invalidate(state.id());
+      verify(stateCache, never()).put(any());
+      verifyNoInteractions(eventEmitter);
+    }
+
+    private TicTacToeGameState getState(String board, int moveCount) {
+      return TicTacToeGameState.of(TicTacToeGame.builder()
         .setRandomUUID()
         .playerX(playerX)
         .playerO(playerO)
         .status(Status.IN_PROGRESS)
         .lastActivityAt(LocalDateTime.now())
         .requestedAt(LocalDateTime.now())
-        .board("XXOOOXX_O")
+        .board(board)
         .turn(Token.X)
-        .build();
+        .build(), moveCount);
+    }
 
-      TicTacToeGameMove move = TicTacToeGameMove.builder()
-        .game(game)
-        .board("XXOOOXXXO")
-        .cell("A2")
+    private TicTacToeGameMove getMove(String board, String cell, int number) {
+      return TicTacToeGameMove.builder()
+        .board(board)
+        .cell(cell)
         .token(Token.X)
-        .number(9)
+        .number(number)
         .movedAt(LocalDateTime.now())
         .moveTime(1000L)
         .build();
-
-      when(repository.save(any(TicTacToeGame.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-      TicTacToeGame actual = service.applyMove(game, move);
-
-      verify(eventEmitter).emitTicTacToeGameUpdatedEvent(actual);
-      assertEquals("XXOOOXXXO", actual.getBoard());
-      assertEquals(Token.NONE, actual.getTurn());
-      assertTrue(actual.getMoves().contains(move));
-      assertNotNull(actual.getFinishedAt());
-      assertEquals(Status.FINISHED, actual.getStatus());
     }
   }
 
@@ -358,4 +443,75 @@ class TicTacToeGameServiceTest {
 
     assertEquals(expected, actual);
   }
+
+  @Nested
+  class ExpireStaleTicTacToeGameTests {
+
+    LocalDateTime lastActivityAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    LocalDateTime now = lastActivityAt.plusDays(2);
+    TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+    TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+
+    @Test
+    void should_find_stale_games() {
+      List<TicTacToeGame> games = List.of(game(Status.PENDING, null));
+      when(repository.findAllByStatusAndLastActivityAtBeforeOrderByLastActivityAtAsc(Status.PENDING, now,
+        PageRequest.of(0, 10))).thenReturn(games);
+
+      assertEquals(games, service.findStale(Status.PENDING, now, 10));
+    }
+
+    @Test
+    void should_reject_stale_pending_game() {
+      TicTacToeGame game = game(Status.PENDING, null);
+      when(repository.updateStale(game.getId(), Status.PENDING, lastActivityAt, null, Status.REJECTED, now,
+        null)).thenReturn(1);
+
+      List<TicTacToeGame> actual = service.expireStale(List.of(game), now);
+
+      assertEquals(List.of(game), actual);
+      assertEquals(Status.REJECTED, game.getStatus());
+      assertEquals(now, game.getLastActivityAt());
+      verify(stateCache).invalidate(game.getId());
+      verify(eventEmitter).emitTicTacToeGameUpdatedEvent(game);
+    }
+
+    @Test
+    void should_forfeit_stale_in_progress_game_to_waiting_player() {
+      TicTacToeGame game = game(Status.IN_PROGRESS, Token.O);
+      when(repository.updateStale(game.getId(), Status.IN_PROGRESS, lastActivityAt, Token.X, Status.FINISHED, now,
+        now)).thenReturn(1);
+
+      List<TicTacToeGame> actual = service.expireStale(List.of(game), now);
+
+      assertEquals(List.of(game), actual);
+      assertEquals(Status.FINISHED, game.getStatus());
+      assertEquals(Token.X, game.getTurn());
+      assertEquals(now, game.getFinishedAt());
+      verify(eventEmitter).emitTicTacToeGameUpdatedEvent(game);
+    }
+
+    @Test
+    void should_skip_game_changed_since_it_was_read() {
+      TicTacToeGame game = game(Status.IN_PROGRESS, Token.X);
+      when(repository.updateStale(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+      List<TicTacToeGame> actual = service.expireStale(List.of(game), now);
+
+      assertEquals(List.of(), actual);
+      assertEquals(Status.IN_PROGRESS, game.getStatus());
+      verifyNoInteractions(stateCache, eventEmitter);
+    }
+
+    private TicTacToeGame game(Status status, Token turn) {
+      return TicTacToeGame.builder()
+        .setRandomUUID()
+        .playerX(playerX)
+        .playerO(playerO)
+        .status(status)
+        .turn(turn)
+        .lastActivityAt(lastActivityAt)
+        .build();
+    }
+  }
 }
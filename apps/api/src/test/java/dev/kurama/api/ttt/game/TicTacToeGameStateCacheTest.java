@@ -0,0 +1,114 @@
+package dev.kurama.api.ttt.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TicTacToeGameStateCacheTest {
+
+  private TicTacToeGameStateCache cache;
+
+  private TicTacToeGameState state;
+
+  @BeforeEach
+  void setUp() {
+    cache = new TicTacToeGameStateCache(10, 3_600_000);
+    state = TicTacToeGameState.of(TicTacToeGame.builder()
+      .setRandomUUID()
+      .playerX(TicTacToePlayer.builder().setRandomUUID().username("user-1").build())
+      .playerO(TicTacToePlayer.builder().setRandomUUID().username("user-2").build())
+      .status(Status.IN_PROGRESS)
+      .board("_________")
+      .turn(Token.X)
+      .lastActivityAt(LocalDateTime.now())
+      .build(), 0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void should_cache_in_progress_games() {
+    cache.put(state);
+
+    assertThat(cache.get(state.id())).contains(state);
+  }
+
+  @Test
+  void should_evict_games_no_longer_in_progress() {
+    cache.put(state);
+    cache.put(state.toBuilder().status(Status.FINISHED).board(TicTacToeBoard.of("XXXOO____")).build());
+
+    assertThat(cache.get(state.id())).isEmpty();
+  }
+
+  @Test
+  void should_write_through_after_commit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.put(state);
+
+    assertThat(cache.get(state.id())).isEmpty();
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    assertThat(cache.get(state.id())).contains(state);
+  }
+
+  @Test
+  void should_drop_stale_state_when_transaction_does_not_commit() {
+    cache.put(state);
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.put(state.toBuilder().moveCount(1).build());
+
+    assertThat(cache.get(state.id())).isEmpty();
+  }
+
+  @Test
+  void should_evict_only_games_of_player() {
+    TicTacToeGameState other = state.toBuilder().id("other-game").playerXId("other-x").playerOId("other-o").build();
+    cache.put(state);
+    cache.put(other);
+
+    cache.invalidatePlayer(state.playerOId());
+
+    assertThat(cache.get(state.id())).isEmpty();
+    assertThat(cache.get(other.id())).contains(other);
+  }
+
+  @Test
+  void should_evict_games_of_player_again_after_commit() {
+    TransactionSynchronizationManager.initSynchronization();
+    cache.invalidatePlayer(state.playerXId());
+    List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+
+    cache.put(state);
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(cache.get(state.id())).isEmpty();
+  }
+
+  @Test
+  void should_bind_cache_metrics() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    cache.bindTo(registry);
+
+    assertThat(registry.find("cache.size").tag("cache", TicTacToeGameStateCache.CACHE_NAME).gauge()).isNotNull();
+  }
+}
@@ -21,4 +21,19 @@ class TicTacToeGameTest {
     assertEquals(game.getCurrentPlayer(), game.getPlayerO());
   }
 
+  @Test
+  void should_copy_player_usernames_before_persist() {
+    TicTacToeGame match = TicTacToeGame.builder()
+      .setRandomUUID()
+      .status(TicTacToeGame.Status.PENDING)
+      .playerX(TicTacToePlayer.builder().setRandomUUID().username("user-1").build())
+      .playerO(TicTacToePlayer.builder().setRandomUUID().username("user-2").build())
+      .build();
+
+    match.copyPlayerUsernames();
+
+    assertEquals("user-1", match.getPlayerXUsername());
+    assertEquals("user-2", match.getPlayerOUsername());
+  }
+
 }
@@ -0,0 +1,101 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import static dev.kurama.api.ttt.core.TicTacToeAuthority.TIC_TAC_TOE_ROOT;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_LEADERBOARD_PATH;
+import static dev.kurama.support.TestUtils.getAuthorizationHeader;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.kurama.api.core.utility.JWTTokenProvider;
+import dev.kurama.api.ttt.support.ImportTicTacToeMappers;
+import dev.kurama.support.ImportTestSecurityConfiguration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ImportTestSecurityConfiguration
+@WebMvcTest(controllers = TicTacToeLeaderboardController.class)
+@Import({TicTacToeLeaderboardFacade.class, TicTacToeLeaderboardModelAssembler.class})
+@ImportTicTacToeMappers
+class TicTacToeLeaderboardControllerIT {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JWTTokenProvider jwtTokenProvider;
+
+  @MockBean
+  private TicTacToeLeaderboard leaderboard;
+
+  TicTacToeLeaderboardEntry entry = TicTacToeLeaderboardEntry.builder()
+    .rank(1)
+    .playerId("player-1")
+    .username("user-1")
+    .rating(1216)
+    .wins(1)
+    .build();
+
+  @Nested
+  class GetLeaderboardITs {
+
+    @Test
+    void should_return_forbidden_without_authentication() throws Exception {
+      mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void should_return_unauthorized_without_tic_tac_toe_root_authority() throws Exception {
+      mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH).accept(HAL_FORMS_JSON_VALUE)
+        .headers(getAuthorizationHeader(jwtTokenProvider, "MOCK:AUTH"))).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void should_return_leaderboard_page_with_tic_tac_toe_root_authority() throws Exception {
+      when(leaderboard.getPage(any())).thenReturn(new PageImpl<>(List.of(entry), PageRequest.of(0, 10), 1));
+
+      mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH).accept(HAL_FORMS_JSON_VALUE)
+          .headers(getAuthorizationHeader(jwtTokenProvider, TIC_TAC_TOE_ROOT)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.ticTacToeLeaderboardModels[0].playerId", equalTo(entry.playerId())))
+        .andExpect(jsonPath("$._embedded.ticTacToeLeaderboardModels[0].rank", equalTo(1)))
+        .andExpect(jsonPath("$.page.totalElements", equalTo(1)));
+    }
+  }
+
+  @Nested
+  class GetPlayerRankITs {
+
+    @Test
+    void should_return_player_rank_with_tic_tac_toe_root_authority() throws Exception {
+      when(leaderboard.getEntry(entry.playerId())).thenReturn(entry);
+
+      mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH + "/" + entry.playerId()).accept(HAL_FORMS_JSON_VALUE)
+          .headers(getAuthorizationHeader(jwtTokenProvider, TIC_TAC_TOE_ROOT)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.rank", equalTo(1)))
+        .andExpect(jsonPath("$.rating", equalTo(1216)));
+    }
+
+    @Test
+    void should_return_not_found_for_unknown_player() throws Exception {
+      when(leaderboard.getEntry("unknown")).thenThrow(new NoSuchElementException());
+
+      mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH + "/unknown").accept(HAL_FORMS_JSON_VALUE)
+        .headers(getAuthorizationHeader(jwtTokenProvider, TIC_TAC_TOE_ROOT))).andExpect(status().isNotFound());
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_LEADERBOARD_PATH;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.kurama.api.core.exception.ExceptionHandlers;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {TicTacToeLeaderboardController.class})
+@Import(TicTacToeLeaderboardControllerTest.TicTacToeLeaderboardControllerConfig.class)
+class TicTacToeLeaderboardControllerTest {
+
+  @Autowired
+  private TicTacToeLeaderboardController controller;
+
+  @Autowired
+  private TicTacToeLeaderboardFacade facade;
+
+  private MockMvc mockMvc;
+
+  private final TicTacToeLeaderboardModel model = TicTacToeLeaderboardModel.builder()
+    .rank(1)
+    .playerId("player-1")
+    .username("user-1")
+    .rating(1216)
+    .build();
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(controller)
+      .setControllerAdvice(new ExceptionHandlers())
+      .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+      .build();
+  }
+
+  @Test
+  void should_get_leaderboard() throws Exception {
+    PagedModel<TicTacToeLeaderboardModel> pagedModel = PagedModel.of(List.of(model), new PageMetadata(1, 0, 1));
+    when(facade.getLeaderboard(any(Pageable.class))).thenReturn(pagedModel);
+
+    mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content", hasSize(1)))
+      .andExpect(jsonPath("$.content..playerId", hasItem(model.getPlayerId())));
+  }
+
+  @Test
+  void should_get_player_rank() throws Exception {
+    when(facade.getPlayerRank(model.getPlayerId())).thenReturn(model);
+
+    mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH + "/" + model.getPlayerId()).accept(
+        MediaTypes.HAL_FORMS_JSON_VALUE))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.rank").value(1))
+      .andExpect(jsonPath("$.rating").value(1216));
+  }
+
+  @Test
+  void should_return_not_found_for_unknown_player() throws Exception {
+    when(facade.getPlayerRank("unknown")).thenThrow(new NoSuchElementException());
+
+    mockMvc.perform(get(TIC_TAC_TOE_LEADERBOARD_PATH + "/unknown").accept(MediaTypes.HAL_FORMS_JSON_VALUE))
+      .andExpect(status().isNotFound());
+  }
+
+  @TestConfiguration
+  protected static class TicTacToeLeaderboardControllerConfig {
+
+    @Bean
+    public TicTacToeLeaderboardFacade ticTacToeLeaderboardFacade() {
+      return Mockito.mock(TicTacToeLeaderboardFacade.class);
+    }
+  }
+}
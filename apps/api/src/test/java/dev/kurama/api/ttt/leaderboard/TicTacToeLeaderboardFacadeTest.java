@@ -0,0 +1,69 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TicTacToeLeaderboardFacadeTest {
+
+  @InjectMocks
+  private TicTacToeLeaderboardFacade facade;
+
+  @Mock
+  private TicTacToeLeaderboard leaderboard;
+
+  @Mock
+  private TicTacToeLeaderboardMapper mapper;
+
+  @Mock
+  private TicTacToeLeaderboardModelAssembler assembler;
+
+  TicTacToeLeaderboardEntry entry = TicTacToeLeaderboardEntry.builder()
+    .rank(1)
+    .playerId("player-1")
+    .username("user-1")
+    .rating(1216)
+    .wins(1)
+    .build();
+
+  TicTacToeLeaderboardModel model = TicTacToeLeaderboardModel.builder()
+    .rank(1)
+    .playerId("player-1")
+    .username("user-1")
+    .rating(1216)
+    .wins(1)
+    .build();
+
+  @Test
+  void should_get_leaderboard() {
+    PageRequest pageable = PageRequest.of(0, 10);
+    Page<TicTacToeLeaderboardEntry> entries = new PageImpl<>(List.of(entry), pageable, 1);
+    Page<TicTacToeLeaderboardModel> models = new PageImpl<>(List.of(model), pageable, 1);
+    PagedModel<TicTacToeLeaderboardModel> expected = PagedModel.of(List.of(model),
+      new PagedModel.PageMetadata(10, 0, 1));
+    when(leaderboard.getPage(pageable)).thenReturn(entries);
+    when(mapper.ticTacToeLeaderboardEntryPageToTicTacToeLeaderboardModelPage(entries)).thenReturn(models);
+    when(assembler.toPagedModel(models)).thenReturn(expected);
+
+    assertEquals(expected, facade.getLeaderboard(pageable));
+  }
+
+  @Test
+  void should_get_player_rank() {
+    when(leaderboard.getEntry("player-1")).thenReturn(entry);
+    when(mapper.ticTacToeLeaderboardEntryToTicTacToeLeaderboardModel(entry)).thenReturn(model);
+
+    assertEquals(model, facade.getPlayerRank("player-1"));
+  }
+}
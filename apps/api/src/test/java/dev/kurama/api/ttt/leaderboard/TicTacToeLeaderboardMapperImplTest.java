@@ -0,0 +1,66 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TicTacToeLeaderboardMapperImplTest {
+
+  @Autowired
+  private TicTacToeLeaderboardMapper mapper;
+
+  TicTacToeLeaderboardEntry entry = TicTacToeLeaderboardEntry.builder()
+    .rank(2)
+    .playerId("player-1")
+    .username("user-1")
+    .rating(1216)
+    .wins(3)
+    .losses(2)
+    .draws(1)
+    .build();
+
+  @Test
+  void tic_tac_toe_leaderboard_entry_to_tic_tac_toe_leaderboard_model() {
+    TicTacToeLeaderboardModel actual = mapper.ticTacToeLeaderboardEntryToTicTacToeLeaderboardModel(entry);
+
+    assertEquals(entry.rank(), actual.getRank());
+    assertEquals(entry.playerId(), actual.getPlayerId());
+    assertEquals(entry.username(), actual.getUsername());
+    assertEquals(entry.rating(), actual.getRating());
+    assertEquals(entry.wins(), actual.getWins());
+    assertEquals(entry.losses(), actual.getLosses());
+    assertEquals(entry.draws(), actual.getDraws());
+  }
+
+  @Test
+  void tic_tac_toe_leaderboard_entry_page_to_tic_tac_toe_leaderboard_model_page() {
+    Page<TicTacToeLeaderboardEntry> entries = new PageImpl<>(List.of(entry), PageRequest.of(0, 10), 1);
+
+    Page<TicTacToeLeaderboardModel> actual = mapper.ticTacToeLeaderboardEntryPageToTicTacToeLeaderboardModelPage(
+      entries);
+
+    assertEquals(entries.getTotalElements(), actual.getTotalElements());
+    assertEquals(entry.playerId(), actual.getContent().get(0).getPlayerId());
+  }
+
+  @TestConfiguration
+  protected static class TicTacToeLeaderboardMapperTestConfiguration {
+
+    @Bean
+    public TicTacToeLeaderboardMapper ticTacToeLeaderboardMapper() {
+      return Mappers.getMapper(TicTacToeLeaderboardMapper.class);
+    }
+
+  }
+}
@@ -0,0 +1,223 @@
+package dev.kurama.api.ttt.leaderboard;
+
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository.RatingCount;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TicTacToeLeaderboardTest {
+
+  private final TicTacToePlayerRepository repository = mock(TicTacToePlayerRepository.class);
+
+  private TicTacToeLeaderboard leaderboard;
+
+  private final TicTacToePlayer playerA = player("a", 1300);
+  private final TicTacToePlayer playerB = player("b", 1200);
+  private final TicTacToePlayer playerC = player("c", 1200);
+  private final TicTacToePlayer playerD = player("d", 1100);
+
+  private final TicTacToePlayer bot = player(TIC_TAC_TOE_BOT_ID, 1500);
+
+  private final List<TicTacToePlayer> players = List.of(playerA, playerB, playerC, playerD);
+
+  private final Comparator<TicTacToePlayer> ranking = Comparator.comparingInt(TicTacToePlayer::getRating)
+    .reversed()
+    .thenComparing(TicTacToePlayer::getId);
+
+  @BeforeEach
+  void setUp() {
+    leaderboard = new TicTacToeLeaderboard(repository, 2);
+    when(repository.countByRating(TIC_TAC_TOE_BOT_ID)).thenAnswer(invocation -> players.stream()
+      .collect(Collectors.groupingBy(TicTacToePlayer::getRating, Collectors.counting()))
+      .entrySet()
+      .stream()
+      .map(entry -> ratingCount(entry.getKey(), entry.getValue()))
+      .toList());
+    when(repository.findAllByIdNotOrderByRatingDescIdAsc(eq(TIC_TAC_TOE_BOT_ID), any())).thenAnswer(invocation -> {
+      Pageable pageable = invocation.getArgument(1);
+      return players.stream().sorted(ranking).skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+    });
+    when(repository.findAllRankedAfter(anyInt(), anyString(), eq(TIC_TAC_TOE_BOT_ID), any())).thenAnswer(invocation -> {
+      TicTacToePlayer after = player(invocation.getArgument(1), invocation.getArgument(0));
+      Pageable pageable = invocation.getArgument(3);
+      return players.stream()
+        .filter(player -> ranking.compare(player, after) > 0)
+        .sorted(ranking)
+        .limit(pageable.getPageSize())
+        .toList();
+    });
+    Map<String, TicTacToePlayer> byId = players.stream()
+      .collect(Collectors.toMap(TicTacToePlayer::getId, Function.identity()));
+    byId.put(bot.getId(), bot);
+    when(repository.findById(any())).thenAnswer(
+      invocation -> Optional.ofNullable(byId.get(invocation.<String>getArgument(0))));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void should_serve_top_page_from_memory() {
+    Page<TicTacToeLeaderboardEntry> actual = leaderboard.getPage(PageRequest.of(0, 2));
+
+    assertThat(actual.getTotalElements()).isEqualTo(4);
+    assertThat(actual.getContent()).extracting(TicTacToeLeaderboardEntry::playerId, TicTacToeLeaderboardEntry::rank)
+      .containsExactly(tuple("a", 1), tuple("b", 2));
+    verify(repository, times(1)).findAllByIdNotOrderByRatingDescIdAsc(eq(TIC_TAC_TOE_BOT_ID), any());
+  }
+
+  @Test
+  void should_serve_pages_beyond_top_from_repository_with_shared_ranks() {
+    Page<TicTacToeLeaderboardEntry> actual = leaderboard.getPage(PageRequest.of(1, 2));
+
+    assertThat(actual.getContent()).extracting(TicTacToeLeaderboardEntry::playerId, TicTacToeLeaderboardEntry::rank)
+      .containsExactly(tuple("c", 2), tuple("d", 4));
+    verify(repository).findAllByIdNotOrderByRatingDescIdAsc(TIC_TAC_TOE_BOT_ID, PageRequest.of(1, 2));
+  }
+
+  @Test
+  void should_get_rank_of_player() {
+    assertThat(leaderboard.getEntry("a").rank()).isEqualTo(1);
+    assertThat(leaderboard.getEntry("c").rank()).isEqualTo(2);
+    assertThat(leaderboard.getEntry("d").rank()).isEqualTo(4);
+    verify(repository, never()).findById("a");
+  }
+
+  @Test
+  void should_update_ranks_incrementally() {
+    leaderboard.getPage(PageRequest.of(0, 2));
+    playerD.setRating(1400);
+
+    leaderboard.update(playerD, 1100);
+
+    assertThat(leaderboard.getPage(PageRequest.of(0, 2)).getContent()).extracting(TicTacToeLeaderboardEntry::playerId,
+      TicTacToeLeaderboardEntry::rank).containsExactly(tuple("d", 1), tuple("a", 2));
+    assertThat(leaderboard.getEntry("b").rank()).isEqualTo(3);
+    verify(repository, times(1)).countByRating(TIC_TAC_TOE_BOT_ID);
+  }
+
+  @Test
+  void should_drop_player_falling_out_of_top() {
+    leaderboard.getPage(PageRequest.of(0, 2));
+    playerA.setRating(1000);
+
+    leaderboard.update(playerA, 1300);
+
+    assertThat(leaderboard.getEntry("a").rank()).isEqualTo(4);
+    verify(repository).findById("a");
+    assertThat(leaderboard.getPage(PageRequest.of(0, 1)).getContent()).extracting(TicTacToeLeaderboardEntry::playerId)
+      .containsExactly("b");
+  }
+
+  @Test
+  void should_backfill_top_when_player_falls_out() {
+    leaderboard.getPage(PageRequest.of(0, 2));
+    playerA.setRating(1000);
+
+    leaderboard.update(playerA, 1300);
+
+    assertThat(leaderboard.getPage(PageRequest.of(0, 2)).getContent()).extracting(TicTacToeLeaderboardEntry::playerId,
+      TicTacToeLeaderboardEntry::rank).containsExactly(tuple("b", 1), tuple("c", 1));
+    verify(repository).findAllRankedAfter(1200, "b", TIC_TAC_TOE_BOT_ID, PageRequest.of(0, 1));
+    verify(repository, times(1)).findAllByIdNotOrderByRatingDescIdAsc(eq(TIC_TAC_TOE_BOT_ID), any());
+  }
+
+  @Test
+  void should_exclude_bot() {
+    leaderboard.getPage(PageRequest.of(0, 2));
+
+    leaderboard.add(bot);
+    bot.setRating(1600);
+    leaderboard.update(bot, 1500);
+
+    Page<TicTacToeLeaderboardEntry> actual = leaderboard.getPage(PageRequest.of(0, 2));
+    assertThat(actual.getTotalElements()).isEqualTo(4);
+    assertThat(actual.getContent()).extracting(TicTacToeLeaderboardEntry::playerId).containsExactly("a", "b");
+    assertThatThrownBy(() -> leaderboard.getEntry(TIC_TAC_TOE_BOT_ID)).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void should_count_new_players() {
+    leaderboard.getPage(PageRequest.of(0, 2));
+
+    leaderboard.add(player("e", 1250));
+
+    Page<TicTacToeLeaderboardEntry> actual = leaderboard.getPage(PageRequest.of(0, 2));
+    assertThat(actual.getTotalElements()).isEqualTo(5);
+    assertThat(actual.getContent()).extracting(TicTacToeLeaderboardEntry::playerId, TicTacToeLeaderboardEntry::rank)
+      .containsExactly(tuple("a", 1), tuple("e", 2));
+  }
+
+  @Test
+  void should_apply_updates_after_commit() {
+    leaderboard.getPage(PageRequest.of(0, 2));
+    TransactionSynchronizationManager.initSynchronization();
+    playerD.setRating(1400);
+
+    leaderboard.update(playerD, 1100);
+
+    assertThat(leaderboard.getEntry("a").rank()).isEqualTo(1);
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    assertThat(leaderboard.getEntry("a").rank()).isEqualTo(2);
+  }
+
+  @Test
+  void should_rebuild_on_reload() {
+    leaderboard.getPage(PageRequest.of(0, 2));
+    playerD.setRating(1400);
+
+    leaderboard.reload();
+
+    assertThat(leaderboard.getEntry("d").rank()).isEqualTo(1);
+  }
+
+  private static TicTacToePlayer player(String id, int rating) {
+    return TicTacToePlayer.builder().id(id).username("user-" + id).rating(rating).build();
+  }
+
+  private static RatingCount ratingCount(int rating, long count) {
+    return new RatingCount() {
+      @Override
+      public int getRating() {
+        return rating;
+      }
+
+      @Override
+      public long getCount() {
+        return count;
+      }
+    };
+  }
+}
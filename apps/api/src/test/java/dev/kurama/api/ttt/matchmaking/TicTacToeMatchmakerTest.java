@@ -0,0 +1,96 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.ttt.game.TicTacToeGameFacility;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TicTacToeMatchmakerTest {
+
+  @Mock
+  private TicTacToeMatchmakingQueue queue;
+
+  @Mock
+  private TicTacToeGameFacility gameFacility;
+
+  private TicTacToeMatchmaker matchmaker;
+
+  private final List<TicTacToeMatch> matches = List.of(match("a", "b"), match("c", "d"), match("e", "f"));
+
+  @BeforeEach
+  void setUp() {
+    matchmaker = new TicTacToeMatchmaker(queue, gameFacility, 2);
+    when(gameFacility.createMatches(any())).thenReturn(new TicTacToeMatchResult(List.of(), List.of()));
+  }
+
+  @Test
+  void should_create_matched_games_in_batches() {
+    when(queue.pair(any(), anyInt())).thenReturn(matches);
+
+    matchmaker.match();
+
+    verify(gameFacility).createMatches(matches.subList(0, 2));
+    verify(gameFacility).createMatches(matches.subList(2, 3));
+  }
+
+  @Test
+  void should_retry_failed_batch_match_by_match_and_re_enqueue_failed_matches() {
+    when(queue.pair(any(), anyInt())).thenReturn(matches);
+    when(gameFacility.createMatches(matches.subList(0, 2))).thenThrow(new IllegalStateException());
+    when(gameFacility.createMatches(List.of(matches.get(1)))).thenThrow(new IllegalStateException());
+
+    matchmaker.match();
+
+    verify(gameFacility).createMatches(List.of(matches.get(0)));
+    verify(gameFacility).createMatches(matches.subList(2, 3));
+    verify(queue).release(matches.get(1));
+    verify(queue, never()).release(matches.get(0));
+    verify(queue, never()).release(matches.get(2));
+  }
+
+  @Test
+  void should_re_enqueue_unmatched_players() {
+    when(queue.pair(any(), anyInt())).thenReturn(matches);
+    when(gameFacility.createMatches(matches.subList(0, 2))).thenReturn(
+      new TicTacToeMatchResult(List.of(), List.of(matches.get(1).playerO())));
+
+    matchmaker.match();
+
+    verify(queue).release(matches.get(1).playerO());
+    verify(queue, never()).release(matches.get(1).playerX());
+    verify(queue, never()).release(any(TicTacToeMatch.class));
+  }
+
+  @Test
+  void should_not_create_games_without_matches() {
+    when(queue.pair(any(), anyInt())).thenReturn(List.of());
+
+    matchmaker.match();
+
+    verify(gameFacility, never()).createMatches(any());
+  }
+
+  private static TicTacToeMatch match(String playerX, String playerO) {
+    return new TicTacToeMatch(ticket(playerX), ticket(playerO));
+  }
+
+  private static TicTacToeMatchmakingTicket ticket(String playerId) {
+    return TicTacToeMatchmakingTicket.builder()
+      .playerId(playerId)
+      .username("user-" + playerId)
+      .rating(1200)
+      .enqueuedAt(LocalDateTime.now())
+      .build();
+  }
+}
@@ -0,0 +1,95 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_MATCHMAKING_PATH;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.kurama.api.core.exception.ExceptionHandlers;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {TicTacToeMatchmakingController.class})
+@Import(TicTacToeMatchmakingControllerTest.TicTacToeMatchmakingControllerConfig.class)
+class TicTacToeMatchmakingControllerTest {
+
+  @Autowired
+  private TicTacToeMatchmakingController controller;
+
+  @Autowired
+  private TicTacToeMatchmakingFacade facade;
+
+  private MockMvc mockMvc;
+
+  private final TicTacToeMatchmakingModel model = TicTacToeMatchmakingModel.builder()
+    .playerId("player-1")
+    .username("user-1")
+    .rating(1216)
+    .build();
+
+  @BeforeEach
+  void setUp() {
+    Mockito.reset(facade);
+    mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new ExceptionHandlers()).build();
+  }
+
+  @Test
+  void should_get_ticket() throws Exception {
+    when(facade.getTicket()).thenReturn(model);
+
+    mockMvc.perform(get(TIC_TAC_TOE_MATCHMAKING_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.playerId").value(model.getPlayerId()))
+      .andExpect(jsonPath("$.rating").value(model.getRating()));
+  }
+
+  @Test
+  void should_return_not_found_if_not_queued() throws Exception {
+    when(facade.getTicket()).thenThrow(new NoSuchElementException());
+
+    mockMvc.perform(get(TIC_TAC_TOE_MATCHMAKING_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE))
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void should_enqueue() throws Exception {
+    when(facade.enqueue()).thenReturn(model);
+
+    mockMvc.perform(put(TIC_TAC_TOE_MATCHMAKING_PATH).accept(MediaTypes.HAL_FORMS_JSON_VALUE))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.playerId").value(model.getPlayerId()));
+  }
+
+  @Test
+  void should_dequeue() throws Exception {
+    mockMvc.perform(delete(TIC_TAC_TOE_MATCHMAKING_PATH)).andExpect(status().isNoContent());
+
+    verify(facade).dequeue();
+  }
+
+  @TestConfiguration
+  protected static class TicTacToeMatchmakingControllerConfig {
+
+    @Bean
+    public TicTacToeMatchmakingFacade ticTacToeMatchmakingFacade() {
+      return Mockito.mock(TicTacToeMatchmakingFacade.class);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import static dev.kurama.api.core.utility.AuthorityUtils.setContextUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.exception.domain.not.found.EntityNotFoundException;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayerService;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TicTacToeMatchmakingFacadeTest {
+
+  @InjectMocks
+  private TicTacToeMatchmakingFacade facade;
+
+  @Mock
+  private TicTacToeMatchmakingQueue queue;
+
+  @Mock
+  private TicTacToePlayerService playerService;
+
+  @Mock
+  private TicTacToeMatchmakingMapper mapper;
+
+  private final TicTacToePlayer player = TicTacToePlayer.builder().id("player-1").username("user-1").build();
+
+  private final TicTacToeMatchmakingTicket ticket = TicTacToeMatchmakingTicket.builder()
+    .playerId(player.getId())
+    .username(player.getUsername())
+    .rating(player.getRating())
+    .enqueuedAt(LocalDateTime.now())
+    .build();
+
+  private final TicTacToeMatchmakingModel model = TicTacToeMatchmakingModel.builder()
+    .playerId(player.getId())
+    .build();
+
+  @BeforeEach
+  void setUp() {
+    setContextUser(ContextUser.builder().id(player.getId()).username(player.getUsername()).build());
+  }
+
+  @Test
+  void should_get_ticket() {
+    when(queue.find(player.getId())).thenReturn(Optional.of(ticket));
+    when(mapper.ticTacToeMatchmakingTicketToTicTacToeMatchmakingModel(ticket)).thenReturn(model);
+
+    assertThat(facade.getTicket()).isEqualTo(model);
+  }
+
+  @Test
+  void should_throw_if_not_queued() {
+    when(queue.find(player.getId())).thenReturn(Optional.empty());
+
+    assertThrows(NoSuchElementException.class, () -> facade.getTicket());
+  }
+
+  @Test
+  void should_enqueue_current_player() {
+    when(playerService.getPlayerByUsername(player.getUsername())).thenReturn(Optional.of(player));
+    when(queue.enqueue(eq(player), any())).thenReturn(ticket);
+    when(mapper.ticTacToeMatchmakingTicketToTicTacToeMatchmakingModel(ticket)).thenReturn(model);
+
+    assertThat(facade.enqueue()).isEqualTo(model);
+  }
+
+  @Test
+  void should_throw_if_player_is_not_found() {
+    when(playerService.getPlayerByUsername(player.getUsername())).thenReturn(Optional.empty());
+
+    assertThrows(EntityNotFoundException.class, () -> facade.enqueue());
+  }
+
+  @Test
+  void should_dequeue_current_player() {
+    facade.dequeue();
+
+    verify(queue).dequeue(player.getId());
+  }
+}
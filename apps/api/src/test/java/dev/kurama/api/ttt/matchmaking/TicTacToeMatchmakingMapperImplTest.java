@@ -0,0 +1,46 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TicTacToeMatchmakingMapperImplTest {
+
+  @Autowired
+  private TicTacToeMatchmakingMapper mapper;
+
+  @Test
+  void tic_tac_toe_matchmaking_ticket_to_tic_tac_toe_matchmaking_model() {
+    TicTacToeMatchmakingTicket ticket = TicTacToeMatchmakingTicket.builder()
+      .playerId("player-1")
+      .username("user-1")
+      .rating(1216)
+      .enqueuedAt(LocalDateTime.now())
+      .build();
+
+    TicTacToeMatchmakingModel actual = mapper.ticTacToeMatchmakingTicketToTicTacToeMatchmakingModel(ticket);
+
+    assertEquals(ticket.playerId(), actual.getPlayerId());
+    assertEquals(ticket.username(), actual.getUsername());
+    assertEquals(ticket.rating(), actual.getRating());
+    assertEquals(ticket.enqueuedAt(), actual.getEnqueuedAt());
+  }
+
+  @TestConfiguration
+  protected static class TicTacToeMatchmakingMapperTestConfiguration {
+
+    @Bean
+    public TicTacToeMatchmakingMapper ticTacToeMatchmakingMapper() {
+      return Mappers.getMapper(TicTacToeMatchmakingMapper.class);
+    }
+
+  }
+}
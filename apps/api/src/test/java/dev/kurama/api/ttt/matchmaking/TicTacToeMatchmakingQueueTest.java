@@ -0,0 +1,124 @@
+package dev.kurama.api.ttt.matchmaking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TicTacToeMatchmakingQueueTest {
+
+  private final LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  private TicTacToeMatchmakingQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    queue = new TicTacToeMatchmakingQueue(50, 25, 400);
+  }
+
+  @Test
+  void should_enqueue_player_once() {
+    TicTacToeMatchmakingTicket first = queue.enqueue(player("a", 1200), now);
+    TicTacToeMatchmakingTicket second = queue.enqueue(player("a", 1300), now.plusSeconds(5));
+
+    assertThat(second).isEqualTo(first);
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.find("a")).contains(first);
+  }
+
+  @Test
+  void should_dequeue_player() {
+    queue.enqueue(player("a", 1200), now);
+
+    assertThat(queue.dequeue("a")).isTrue();
+    assertThat(queue.dequeue("a")).isFalse();
+    assertThat(queue.size()).isZero();
+    assertThat(queue.find("a")).isEmpty();
+  }
+
+  @Test
+  void should_pair_players_within_window() {
+    queue.enqueue(player("a", 1200), now);
+    queue.enqueue(player("b", 1240), now.plusSeconds(1));
+
+    List<TicTacToeMatch> matches = queue.pair(now.plusSeconds(1), 10);
+
+    assertThat(matches).hasSize(1);
+    assertThat(matches.get(0).playerX().playerId()).isEqualTo("a");
+    assertThat(matches.get(0).playerO().playerId()).isEqualTo("b");
+    assertThat(queue.size()).isZero();
+    assertThat(queue.find("a")).isEmpty();
+  }
+
+  @Test
+  void should_not_pair_players_outside_window() {
+    queue.enqueue(player("a", 1200), now);
+    queue.enqueue(player("b", 1300), now);
+
+    assertThat(queue.pair(now, 10)).isEmpty();
+    assertThat(queue.size()).isEqualTo(2);
+  }
+
+  @Test
+  void should_widen_window_with_wait_time() {
+    queue.enqueue(player("a", 1200), now);
+    queue.enqueue(player("b", 1300), now);
+
+    assertThat(queue.pair(now.plusSeconds(2), 10)).hasSize(1);
+  }
+
+  @Test
+  void should_cap_window() {
+    TicTacToeMatchmakingTicket ticket = queue.enqueue(player("a", 1200), now);
+
+    assertThat(queue.getWindow(ticket, now)).isEqualTo(50);
+    assertThat(queue.getWindow(ticket, now.plusSeconds(4))).isEqualTo(150);
+    assertThat(queue.getWindow(ticket, now.plusHours(1))).isEqualTo(400);
+  }
+
+  @Test
+  void should_pair_closest_neighbours() {
+    queue.enqueue(player("a", 1000), now);
+    queue.enqueue(player("b", 1500), now);
+    queue.enqueue(player("c", 1010), now);
+    queue.enqueue(player("d", 1520), now);
+    queue.enqueue(player("e", 2000), now);
+
+    List<TicTacToeMatch> matches = queue.pair(now, 10);
+
+    assertThat(matches).extracting(match -> match.playerX().playerId() + match.playerO().playerId())
+      .containsExactly("ac", "bd");
+    assertThat(queue.find("e")).isPresent();
+  }
+
+  @Test
+  void should_limit_pairs() {
+    queue.enqueue(player("a", 1000), now);
+    queue.enqueue(player("b", 1000), now);
+    queue.enqueue(player("c", 1500), now);
+    queue.enqueue(player("d", 1500), now);
+
+    assertThat(queue.pair(now, 1)).hasSize(1);
+    assertThat(queue.size()).isEqualTo(2);
+  }
+
+  @Test
+  void should_release_match_with_original_tickets() {
+    TicTacToeMatchmakingTicket a = queue.enqueue(player("a", 1200), now);
+    TicTacToeMatchmakingTicket b = queue.enqueue(player("b", 1210), now.plusSeconds(3));
+    TicTacToeMatch match = queue.pair(now.plusSeconds(3), 10).get(0);
+
+    queue.release(match);
+
+    assertThat(queue.size()).isEqualTo(2);
+    assertThat(queue.find("a")).contains(a);
+    assertThat(queue.find("b")).get().extracting(TicTacToeMatchmakingTicket::enqueuedAt).isEqualTo(b.enqueuedAt());
+  }
+
+  private static TicTacToePlayer player(String id, int rating) {
+    return TicTacToePlayer.builder().id(id).username("user-" + id).rating(rating).build();
+  }
+}
@@ -0,0 +1,136 @@
+package dev.kurama.api.ttt.move;
+
+import static dev.kurama.api.core.utility.AuthorityUtils.setContextUser;
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.ttt.core.TicTacToeAuthority;
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.game.TicTacToeGame;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.game.TicTacToeGameRepository;
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import dev.kurama.api.ttt.player.TicTacToePlayerEventListener;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles(value = "integration-test")
+@SpringBootTest
+class TicTacToeGameMoveConcurrencyIT {
+
+  private static final int GAMES = 100;
+
+  private static final int ROUNDS = 4;
+
+  private static final int THREADS = 16;
+
+  @Autowired
+  private TicTacToeGameMoveFacility facility;
+
+  @Autowired
+  private TicTacToeGameRepository gameRepository;
+
+  @Autowired
+  private TicTacToeGameMoveService moveService;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @MockBean
+  private TicTacToePlayerEventListener ticTacToePlayerEventListener;
+
+  private List<String> gameIds;
+
+  @BeforeEach
+  void setUp() {
+    gameIds = transactionTemplate.execute(status -> IntStream.range(0, GAMES)
+      .mapToObj(index -> gameRepository.save(TicTacToeGame.builder()
+        .setRandomUUID()
+        .playerX(TicTacToePlayer.builder().setRandomUUID().username(randomUUID()).wins(0).draws(0).losses(0).build())
+        .playerO(TicTacToePlayer.builder().setRandomUUID().username(randomUUID()).wins(0).draws(0).losses(0).build())
+        .status(Status.IN_PROGRESS)
+        .lastActivityAt(LocalDateTime.now())
+        .requestedAt(LocalDateTime.now())
+        .startedAt(LocalDateTime.now())
+        .board(TicTacToeBoard.EMPTY.toString())
+        .turn(Token.X)
+        .build()).getId())
+      .toList());
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> gameRepository.deleteAllById(gameIds));
+  }
+
+  @Test
+  void should_keep_boards_consistent_under_concurrent_moves() throws InterruptedException {
+    List<Runnable> tasks = new ArrayList<>();
+    AtomicInteger accepted = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    for (String gameId : gameIds) {
+      for (int round = 0; round < ROUNDS; round++) {
+        for (int index = 0; index < TicTacToeBoard.SIZE; index++) {
+          TicTacToeGameMoveInput input = TicTacToeGameMoveInput.builder().cell(TicTacToeBoard.getCell(index)).build();
+          tasks.add(() -> {
+            setContextUser(ContextUser.builder().id(randomUUID()).build(), TicTacToeAuthority.TIC_TAC_TOE_GAME_MOVE);
+            try {
+              facility.move(gameId, input);
+              accepted.incrementAndGet();
+            } catch (RuntimeException exception) {
+              rejected.incrementAndGet();
+            } finally {
+              SecurityContextHolder.clearContext();
+            }
+          });
+        }
+      }
+    }
+    Collections.shuffle(tasks);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    tasks.forEach(executor::execute);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+    assertThat(accepted.get() + rejected.get()).isEqualTo(GAMES * ROUNDS * TicTacToeBoard.SIZE);
+    int persisted = transactionTemplate.execute(status -> gameIds.stream()
+      .mapToInt(gameId -> assertConsistent(gameRepository.findById(gameId).orElseThrow()))
+      .sum());
+    assertThat(persisted).isEqualTo(accepted.get());
+  }
+
+  private int assertConsistent(TicTacToeGame game) {
+    List<TicTacToeGameMove> moves = moveService.getMoves(game);
+    TicTacToeBoard board = TicTacToeBoard.EMPTY;
+    for (int number = 1; number <= moves.size(); number++) {
+      TicTacToeGameMove move = moves.get(number - 1);
+      assertThat(board.isOver()).isFalse();
+      assertThat(move.getNumber()).isEqualTo(number);
+      assertThat(move.getToken()).isEqualTo(board.getTurn());
+      board = board.move(TicTacToeBoard.getIndex(move.getCell()), move.getToken());
+      assertThat(move.getBoard()).isEqualTo(board.toString());
+    }
+    assertThat(game.getBoard()).isEqualTo(board.toString());
+    assertThat(game.getStatus()).isEqualTo(board.isOver() ? Status.FINISHED : Status.IN_PROGRESS);
+    return moves.size();
+  }
+}
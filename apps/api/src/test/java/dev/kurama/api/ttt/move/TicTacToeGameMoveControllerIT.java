@@ -58,7 +58,7 @@ class TicTacToeGameMoveControllerIT {
     .turn(Token.X)
     .build();
   TicTacToeGameMove move = TicTacToeGameMove.builder()
-    .setRandomUUID()
+    .id(randomUUID())
     .game(game)
     .board("OX__X__XO")
     .cell("B2")
@@ -101,7 +101,7 @@ class TicTacToeGameMoveControllerIT {
         .andExpect(jsonPath("$._embedded.ticTacToeGameMoveModels[0].moveTime", equalTo(move.getMoveTime().intValue())))
         .andExpect(jsonPath("$._links.*", hasSize(2)))
         .andExpect(jsonPath("$._links.self.href",
-          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", move.getId()))))
+          equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", move.getId()) + "{?after}")))
         .andExpect(jsonPath("$._links.game.href",
           equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAME_PATH.replace("{gameId}", move.getId()))));
     }
@@ -64,6 +64,17 @@ class TicTacToeGameMoveControllerTest {
       .andExpect(jsonPath("$.content[0].id").value(gameMoveModel.getId()));
   }
 
+  @Test
+  void should_get_game_moves_after() throws Exception {
+    when(facade.getGameMovesAfter(gameMoveModel.getGameId(), 3)).thenReturn(CollectionModel.of(List.of(gameMoveModel)));
+
+    mockMvc.perform(get(TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", gameMoveModel.getGameId())).param("after", "3")
+        .accept(MediaTypes.HAL_FORMS_JSON_VALUE))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content.length()").value(1))
+      .andExpect(jsonPath("$.content[0].id").value(gameMoveModel.getId()));
+  }
+
   @Test
   void should_create_game_move() throws Exception {
     var input = TicTacToeGameMoveInput.builder().cell("B2").build();
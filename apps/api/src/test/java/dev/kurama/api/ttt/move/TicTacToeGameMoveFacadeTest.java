@@ -4,8 +4,10 @@ import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
+import dev.kurama.api.ttt.core.TicTacToeBoard;
 import dev.kurama.api.ttt.game.TicTacToeGame;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.game.TicTacToeGameState;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -61,6 +63,30 @@ class TicTacToeGameMoveFacadeTest {
     assertEquals(facade.move(gameMoveModel.getGameId(), input), gameMoveModel);
   }
 
+  @Test
+  void should_submit_move() {
+    TicTacToeGameMoveInput input = TicTacToeGameMoveInput.builder().cell("B2").build();
+    TicTacToeGameMoveResult result = new TicTacToeGameMoveResult(move, null, TicTacToeGameState.builder()
+      .id(game.getId())
+      .status(Status.IN_PROGRESS)
+      .board(TicTacToeBoard.of(move.getBoard()))
+      .turn(Token.O)
+      .moveCount(5)
+      .playerXId(randomUUID())
+      .playerXUsername("user-1")
+      .playerOId(randomUUID())
+      .playerOUsername("user-2")
+      .build());
+    TicTacToeGameMoveResultModel resultModel = TicTacToeGameMoveResultModel.builder()
+      .gameId(game.getId())
+      .move(gameMoveModel)
+      .build();
+    when(facility.submitMove(game.getId(), input)).thenReturn(result);
+    when(mapper.ticTacToeGameMoveResultToTicTacToeGameMoveResultModel(result)).thenReturn(resultModel);
+
+    assertEquals(resultModel, facade.submitMove(game.getId(), input));
+  }
+
   @Test
   void should_get_all_game_moves() {
     List<TicTacToeGameMove> moves = List.of(move);
@@ -73,5 +99,17 @@ class TicTacToeGameMoveFacadeTest {
     assertEquals(facade.getAllGameMoves(gameMoveModel.getGameId()), movesModel);
   }
 
+  @Test
+  void should_get_game_moves_after() {
+    List<TicTacToeGameMove> moves = List.of(move);
+    List<TicTacToeGameMoveModel> models = List.of(gameMoveModel);
+    CollectionModel<TicTacToeGameMoveModel> movesModel = CollectionModel.of(models);
+    when(facility.getGameMovesAfter(gameMoveModel.getGameId(), 3)).thenReturn(moves);
+    when(mapper.ticTacToeGameMoveCollectionToTicTacToeGameMoveCollectionModel(moves)).thenReturn(models);
+    when(assembler.toCollectionModel(models, gameMoveModel.getGameId())).thenReturn(movesModel);
+
+    assertEquals(facade.getGameMovesAfter(gameMoveModel.getGameId(), 3), movesModel);
+  }
+
 
 }
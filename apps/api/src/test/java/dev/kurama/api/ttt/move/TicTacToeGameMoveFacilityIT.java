@@ -2,21 +2,27 @@ package dev.kurama.api.ttt.move;
 
 import static dev.kurama.api.core.utility.AuthorityUtils.setContextUser;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_USERNAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 
 import dev.kurama.api.core.exception.domain.ForbiddenException;
 import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
+import dev.kurama.api.ttt.core.TicTacToeSolver;
 import dev.kurama.api.ttt.game.TicTacToeGame;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.TicTacToeGameService;
+import dev.kurama.api.ttt.game.TicTacToeGameStateCache;
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboard;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import dev.kurama.api.ttt.player.TicTacToePlayerService;
 import dev.kurama.support.ServiceLayerIntegrationTestConfig;
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Set;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,7 +32,7 @@ import org.springframework.context.annotation.Import;
 
 @ServiceLayerIntegrationTestConfig
 @Import({TicTacToeGameMoveFacility.class, TicTacToeGameService.class, TicTacToeGameMoveService.class,
-  TicTacToePlayerService.class,})
+  TicTacToePlayerService.class, TicTacToeSolver.class, TicTacToeGameStateCache.class, TicTacToeLeaderboard.class})
 class TicTacToeGameMoveFacilityIT {
 
   @Autowired
@@ -68,18 +74,58 @@ class TicTacToeGameMoveFacilityIT {
       setContextUser(ContextUser.builder().id(playerX.getId()).username(playerX.getUsername()).build());
 
       TicTacToeGameMove move = facility.move(game.getId(), input);
+      entityManager.flush();
+      entityManager.refresh(game);
 
       assertThat(move).isNotNull();
       assertThat(move.getGame()).isEqualTo(game);
       assertThat(move.getPlayer()).isEqualTo(playerX);
       assertThat(move.getCell()).isEqualTo("B2");
       assertThat(move.getMovedAt()).isNotNull();
+      assertThat(move.getNumber()).isEqualTo(1);
       assertThat(move.getGame().getBoard()).isEqualTo("OX__X__XO");
       assertThat(move.getGame().getStatus()).isEqualTo(Status.FINISHED);
+      assertThat(move.getGame().getFinishedAt()).isNotNull();
       assertThat(move.getGame().getPlayerX().getWins()).isEqualTo(1);
       assertThat(move.getGame().getPlayerO().getLosses()).isEqualTo(1);
     }
 
+    @Test
+    void should_reply_with_bot_move() {
+      TicTacToePlayer bot = Optional.ofNullable(entityManager.find(TicTacToePlayer.class, TIC_TAC_TOE_BOT_ID))
+        .orElseGet(() -> entityManager.persist(
+          TicTacToePlayer.builder().id(TIC_TAC_TOE_BOT_ID).username(TIC_TAC_TOE_BOT_USERNAME).build()));
+      TicTacToeGame botGame = entityManager.persist(TicTacToeGame.builder()
+        .setRandomUUID()
+        .playerX(playerX)
+        .playerO(bot)
+        .status(Status.IN_PROGRESS)
+        .lastActivityAt(LocalDateTime.now())
+        .requestedAt(LocalDateTime.now())
+        .board("_________")
+        .turn(Token.X)
+        .build());
+      TicTacToeGameMoveInput input = TicTacToeGameMoveInput.builder().cell("A2").build();
+
+      setContextUser(ContextUser.builder().id(playerX.getId()).username(playerX.getUsername()).build());
+
+      TicTacToeGameMove move = facility.move(botGame.getId(), input);
+      entityManager.flush();
+      entityManager.refresh(botGame);
+
+      assertThat(move.getBoard()).isEqualTo("_X_______");
+      assertThat(facility.getAllGameMoves(botGame.getId())).hasSize(2)
+        .filteredOn(botMove -> botMove.getNumber() == 2)
+        .singleElement()
+        .satisfies(botMove -> {
+          assertThat(botMove.getPlayer()).isEqualTo(bot);
+          assertThat(botMove.getToken()).isEqualTo(Token.O);
+        });
+      assertThat(move.getGame().getBoard()).isEqualTo("OX_______");
+      assertThat(move.getGame().getTurn()).isEqualTo(Token.X);
+      assertThat(move.getGame().getStatus()).isEqualTo(Status.IN_PROGRESS);
+    }
+
 
     @Test
     void should_throw_if_game_is_not_in_progress() {
@@ -142,47 +188,12 @@ class TicTacToeGameMoveFacilityIT {
         .requestedAt(LocalDateTime.now())
         .board("OX_____XO")
         .turn(Token.X)
-        .moves(Set.of(TicTacToeGameMove.builder()
-          .setRandomUUID()
-          .game(game)
-          .player(playerX)
-          .cell("A2")
-          .board("_X________")
-          .movedAt(LocalDateTime.now())
-          .moveTime(1000L)
-          .token(Token.X)
-          .number(1)
-          .build(), TicTacToeGameMove.builder()
-          .setRandomUUID()
-          .game(game)
-          .player(playerO)
-          .cell("A1")
-          .board("OX_______")
-          .movedAt(LocalDateTime.now())
-          .moveTime(1000L)
-          .token(Token.O)
-          .number(2)
-          .build(), TicTacToeGameMove.builder()
-          .setRandomUUID()
-          .game(game)
-          .player(playerX)
-          .cell("C2")
-          .board("OX_____X_")
-          .movedAt(LocalDateTime.now())
-          .moveTime(1000L)
-          .token(Token.X)
-          .number(3)
-          .build(), TicTacToeGameMove.builder()
-          .setRandomUUID()
-          .game(game)
-          .player(playerO)
-          .cell("C3")
-          .board("OX_____XO")
-          .movedAt(LocalDateTime.now())
-          .moveTime(1000L)
-          .token(Token.O)
-          .number(4)
-          .build()))
+        .startedAt(LocalDateTime.now())
+        .moveHistory(TicTacToeMoveHistory.EMPTY.append(1, 1000L)
+          .append(0, 1000L)
+          .append(7, 1000L)
+          .append(8, 1000L)
+          .toBytes())
         .build());
     }
 
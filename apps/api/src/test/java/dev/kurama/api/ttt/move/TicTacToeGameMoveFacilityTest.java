@@ -2,27 +2,36 @@ package dev.kurama.api.ttt.move;
 
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static dev.kurama.api.ttt.core.TicTacToeAuthority.TIC_TAC_TOE_GAME_READ;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_USERNAME;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import dev.kurama.api.core.exception.domain.ForbiddenException;
 import dev.kurama.api.core.filter.ContextUser;
 import dev.kurama.api.core.utility.AuthorityUtils;
 import dev.kurama.api.ttt.core.TicTacToeAuthority;
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.core.TicTacToeSolver;
 import dev.kurama.api.ttt.game.TicTacToeGame;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
 import dev.kurama.api.ttt.game.TicTacToeGameService;
+import dev.kurama.api.ttt.game.TicTacToeGameState;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import dev.kurama.api.ttt.player.TicTacToePlayerService;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,7 +39,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(SpringExtension.class)
 class TicTacToeGameMoveFacilityTest {
@@ -47,6 +59,12 @@ class TicTacToeGameMoveFacilityTest {
   @Mock
   private TicTacToePlayerService ticTacToePlayerService;
 
+  @Mock
+  private TicTacToeSolver solver;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
 
   TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
   TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
@@ -76,17 +94,47 @@ class TicTacToeGameMoveFacilityTest {
 
     TicTacToeGameMoveInput input = TicTacToeGameMoveInput.builder().cell("B2").build();
 
+    TicTacToeGameState state = TicTacToeGameState.of(game, 4);
+
+    TicTacToeGameState nextState = state.toBuilder()
+      .board(TicTacToeBoard.of("OX__X__XO"))
+      .turn(Token.O)
+      .moveCount(5)
+      .build();
+
+    @BeforeEach
+    void setUp() {
+      when(transactionTemplate.execute(any())).thenAnswer(
+        invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     void should_move_as_current_turn_user() {
       AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
-      when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
-      when(ticTacToeGameMoveService.createMove(game, input.getCell())).thenReturn(move);
-      when(ticTacToeGameService.applyMove(game, move)).thenReturn(game);
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
+      when(ticTacToeGameMoveService.createMove(state, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(state, move)).thenReturn(nextState);
 
       TicTacToeGameMove actual = facility.move(game.getId(), input);
 
       assertEquals(actual, move);
-      verify(ticTacToePlayerService, never()).registerGameResult(any(), any(), any());
+      verify(ticTacToeGameService, never()).findById(any());
+      verify(ticTacToePlayerService, never()).registerGameResult(any(String.class), any(), any());
+    }
+
+    @Test
+    void should_submit_move_with_resulting_state() {
+      AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
+      when(ticTacToeGameMoveService.createMove(state, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(state, move)).thenReturn(nextState);
+
+      TicTacToeGameMoveResult actual = facility.submitMove(game.getId(), input);
+
+      assertEquals(move, actual.move());
+      assertNull(actual.reply());
+      assertEquals(nextState, actual.state());
+      verifyNoInteractions(solver);
     }
 
     @Test
@@ -94,86 +142,151 @@ class TicTacToeGameMoveFacilityTest {
       AuthorityUtils.setContextUser(ContextUser.builder().id(randomUUID()).build(),
         TicTacToeAuthority.TIC_TAC_TOE_GAME_MOVE);
 
-      when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
-      when(ticTacToeGameMoveService.createMove(game, input.getCell())).thenReturn(move);
-      when(ticTacToeGameService.applyMove(game, move)).thenReturn(game);
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
+      when(ticTacToeGameMoveService.createMove(state, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(state, move)).thenReturn(nextState);
 
       TicTacToeGameMove actual = facility.move(game.getId(), input);
 
       assertEquals(actual, move);
-      verify(ticTacToePlayerService, never()).registerGameResult(any(), any(), any());
+      verify(ticTacToePlayerService, never()).registerGameResult(any(String.class), any(), any());
     }
 
 
     @Test
     void should_final_move_and_update_player_counters() {
       AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
-      TicTacToeGame finishedGame = TicTacToeGame.builder()
-        .id(game.getId())
-        .playerX(playerX)
-        .playerO(playerO)
-        .status(Status.FINISHED)
-        .lastActivityAt(LocalDateTime.now())
-        .requestedAt(LocalDateTime.now())
-        .board("OX__X__XO")
-        .turn(Token.X)
-        .build();
-      when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
-      when(ticTacToeGameMoveService.createMove(game, input.getCell())).thenReturn(move);
-      when(ticTacToeGameService.applyMove(game, move)).thenReturn(finishedGame);
+      TicTacToeGameState finishedState = nextState.toBuilder().status(Status.FINISHED).turn(Token.X).build();
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
+      when(ticTacToeGameMoveService.createMove(state, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(state, move)).thenReturn(finishedState);
+
+      TicTacToeGameMove actual = facility.move(game.getId(), input);
+
+      assertEquals(actual, move);
+      verify(ticTacToePlayerService).registerGameResult(playerX.getId(), playerO.getId(), Token.X);
+    }
+
+    @Test
+    void should_retry_move_after_concurrent_update() {
+      AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
+      when(ticTacToeGameMoveService.createMove(state, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(state, move)).thenThrow(new OptimisticLockingFailureException("conflict"))
+        .thenReturn(nextState);
 
       TicTacToeGameMove actual = facility.move(game.getId(), input);
 
       assertEquals(actual, move);
-      verify(ticTacToePlayerService).registerGameResult(playerX, playerO, game.getTurn());
+      verify(transactionTemplate, times(2)).execute(any());
+      verify(ticTacToeGameService, times(2)).getState(game.getId());
+    }
+
+    @Test
+    void should_throw_if_concurrent_updates_persist() {
+      AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
+      when(ticTacToeGameMoveService.createMove(state, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(state, move)).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+      assertThrows(OptimisticLockingFailureException.class, () -> facility.move(game.getId(), input));
+
+      verify(transactionTemplate, times(3)).execute(any());
+      verify(ticTacToePlayerService, never()).registerGameResult(any(String.class), any(), any());
+    }
+
+    @Test
+    void should_not_retry_if_no_longer_current_user_turn() {
+      AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state).thenReturn(nextState);
+      when(ticTacToeGameMoveService.createMove(state, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(state, move)).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+      assertThrows(ForbiddenException.class, () -> facility.move(game.getId(), input));
+
+      verify(transactionTemplate, times(2)).execute(any());
     }
 
     @ParameterizedTest
     @EnumSource(value = Status.class, mode = EnumSource.Mode.EXCLUDE, names = {"IN_PROGRESS"})
     void should_throw_if_game_is_not_in_progress(Status status) {
       AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
-      TicTacToeGame notInProgress = TicTacToeGame.builder()
-        .id(game.getId())
-        .playerX(playerX)
-        .playerO(playerO)
-        .status(status)
-        .lastActivityAt(LocalDateTime.now())
-        .requestedAt(LocalDateTime.now())
-        .board("OX__X__XO")
-        .turn(Token.X)
-        .build();
-      when(ticTacToeGameService.findById(game.getId())).thenReturn(notInProgress);
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state.toBuilder().status(status).build());
 
       assertThrows(ForbiddenException.class, () -> facility.move(game.getId(), input));
 
       verify(ticTacToeGameMoveService, never()).createMove(any(), any());
       verify(ticTacToeGameService, never()).applyMove(any(), any());
-      verify(ticTacToePlayerService, never()).registerGameResult(any(), any(), any());
+      verify(ticTacToePlayerService, never()).registerGameResult(any(String.class), any(), any());
     }
 
     @Test
     void should_throw_if_not_current_user_turn() {
       AuthorityUtils.setContextUser(ContextUser.builder().id(playerO.getId()).build());
-      when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
 
       assertThrows(ForbiddenException.class, () -> facility.move(game.getId(), input));
 
       verify(ticTacToeGameMoveService, never()).createMove(any(), any());
       verify(ticTacToeGameService, never()).applyMove(any(), any());
-      verify(ticTacToePlayerService, never()).registerGameResult(any(), any(), any());
+      verify(ticTacToePlayerService, never()).registerGameResult(any(String.class), any(), any());
     }
 
     @Test
     void should_throw_if_illegal_move() {
       AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
       TicTacToeGameMoveInput illegalMoveInput = TicTacToeGameMoveInput.builder().cell("A2").build();
-      when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(state);
 
       assertThrows(IllegalArgumentException.class, () -> facility.move(game.getId(), illegalMoveInput));
 
       verify(ticTacToeGameMoveService, never()).createMove(any(), any());
       verify(ticTacToeGameService, never()).applyMove(any(), any());
-      verify(ticTacToePlayerService, never()).registerGameResult(any(), any(), any());
+      verify(ticTacToePlayerService, never()).registerGameResult(any(String.class), any(), any());
+    }
+
+    @Test
+    void should_reply_with_bot_move() {
+      TicTacToePlayer bot = TicTacToePlayer.builder().id(TIC_TAC_TOE_BOT_ID).username(TIC_TAC_TOE_BOT_USERNAME).build();
+      TicTacToeGameState botGameState = state.toBuilder()
+        .playerOId(bot.getId())
+        .playerOUsername(bot.getUsername())
+        .build();
+      TicTacToeGameState botTurnState = nextState.toBuilder()
+        .playerOId(bot.getId())
+        .playerOUsername(bot.getUsername())
+        .build();
+      TicTacToeGameMove botMove = TicTacToeGameMove.builder()
+        .board("OX_OX__XO")
+        .cell("B1")
+        .token(Token.O)
+        .number(6)
+        .movedAt(LocalDateTime.now())
+        .moveTime(1000L)
+        .build();
+      AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
+      when(ticTacToeGameService.getState(game.getId())).thenReturn(botGameState);
+      when(ticTacToeGameMoveService.createMove(botGameState, input.getCell())).thenReturn(move);
+      when(ticTacToeGameService.applyMove(botGameState, move)).thenReturn(botTurnState);
+      when(solver.getBestMove(TicTacToeBoard.of("OX__X__XO"))).thenReturn(3);
+      when(ticTacToeGameMoveService.createMove(botTurnState, "B1")).thenReturn(botMove);
+      when(ticTacToeGameService.applyMove(botTurnState, botMove)).thenReturn(botTurnState);
+
+      TicTacToeGameMoveResult actual = facility.submitMove(game.getId(), input);
+
+      assertEquals(move, actual.move());
+      assertEquals(botMove, actual.reply());
+      assertEquals(botTurnState, actual.state());
+      verify(ticTacToeGameService).applyMove(botTurnState, botMove);
+    }
+
+    @Test
+    void should_not_move_bot_out_of_turn() {
+      facility.moveBot(game);
+
+      verifyNoInteractions(solver);
+      verify(ticTacToeGameService, never()).getState(any());
+      verify(ticTacToeGameMoveService, never()).createMove(any(), any());
     }
   }
 
@@ -206,9 +319,9 @@ class TicTacToeGameMoveFacilityTest {
     @Test
     void should_get_all_game_moves_as_x() {
       AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
-      game.setMoves(Set.of(move));
       game.setPrivate(true);
       when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
+      when(ticTacToeGameMoveService.getMoves(game)).thenReturn(List.of(move));
 
       Collection<TicTacToeGameMove> actual = facility.getAllGameMoves(game.getId());
 
@@ -218,9 +331,9 @@ class TicTacToeGameMoveFacilityTest {
     @Test
     void should_get_all_game_moves_as_o() {
       AuthorityUtils.setContextUser(ContextUser.builder().id(playerO.getId()).build());
-      game.setMoves(Set.of(move));
       game.setPrivate(true);
       when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
+      when(ticTacToeGameMoveService.getMoves(game)).thenReturn(List.of(move));
 
       Collection<TicTacToeGameMove> actual = facility.getAllGameMoves(game.getId());
 
@@ -230,9 +343,9 @@ class TicTacToeGameMoveFacilityTest {
     @Test
     void should_get_all_game_moves_as_admin() {
       AuthorityUtils.setContextUser(ContextUser.builder().id(randomUUID()).build(), TIC_TAC_TOE_GAME_READ);
-      game.setMoves(Set.of(move));
       game.setPrivate(true);
       when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
+      when(ticTacToeGameMoveService.getMoves(game)).thenReturn(List.of(move));
 
       Collection<TicTacToeGameMove> actual = facility.getAllGameMoves(game.getId());
 
@@ -247,6 +360,28 @@ class TicTacToeGameMoveFacilityTest {
 
       assertThrows(ForbiddenException.class, () -> facility.getAllGameMoves(game.getId()));
     }
+
+    @Test
+    void should_get_game_moves_after_number() {
+      AuthorityUtils.setContextUser(ContextUser.builder().id(playerX.getId()).build());
+      game.setPrivate(true);
+      when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
+      when(ticTacToeGameMoveService.getMovesAfter(game, 0)).thenReturn(List.of(move));
+
+      Collection<TicTacToeGameMove> actual = facility.getGameMovesAfter(game.getId(), 0);
+
+      assertEquals(actual, List.of(move));
+    }
+
+    @Test
+    void should_throw_getting_game_moves_after_number_if_private_and_not_admin_nor_involved_player() {
+      AuthorityUtils.setContextUser(ContextUser.builder().id(randomUUID()).build());
+      game.setPrivate(true);
+      when(ticTacToeGameService.findById(game.getId())).thenReturn(game);
+
+      assertThrows(ForbiddenException.class, () -> facility.getGameMovesAfter(game.getId(), 0));
+      verify(ticTacToeGameMoveService, never()).getMovesAfter(any(), anyInt());
+    }
   }
 
 }
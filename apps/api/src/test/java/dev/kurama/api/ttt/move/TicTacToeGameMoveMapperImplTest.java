@@ -4,8 +4,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import dev.kurama.api.ttt.core.TicTacToeBoard;
 import dev.kurama.api.ttt.game.TicTacToeGame;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.game.TicTacToeGameState;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import dev.kurama.api.ttt.player.TicTacToePlayerMapper;
@@ -71,6 +73,26 @@ class TicTacToeGameMoveMapperImplTest {
     assertEquals(move.getGame().getId(), actual.iterator().next().getGameId());
   }
 
+  @Test
+  void tic_tac_toe_game_move_result_to_tic_tac_toe_game_move_result_model() {
+    TicTacToeGameState state = TicTacToeGameState.of(game, 5)
+      .toBuilder()
+      .board(TicTacToeBoard.of(move.getBoard()))
+      .turn(Token.O)
+      .build();
+
+    TicTacToeGameMoveResultModel actual = mapper.ticTacToeGameMoveResultToTicTacToeGameMoveResultModel(
+      new TicTacToeGameMoveResult(move, null, state));
+
+    assertNotNull(actual);
+    assertEquals(game.getId(), actual.getGameId());
+    assertEquals(move.getCell(), actual.getMove().getCell());
+    assertNull(actual.getReply());
+    assertEquals("OX__X__XO", actual.getBoard());
+    assertEquals(Token.O, actual.getTurn());
+    assertEquals(Status.IN_PROGRESS, actual.getStatus());
+    assertEquals(5, actual.getMoveCount());
+  }
 
   @TestConfiguration
   protected static class TicTacToeGameMoveMapperTestConfiguration {
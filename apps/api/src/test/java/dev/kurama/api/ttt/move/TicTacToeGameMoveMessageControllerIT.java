@@ -0,0 +1,170 @@
+package dev.kurama.api.ttt.move;
+
+import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_PATH;
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static dev.kurama.api.ttt.move.TicTacToeGameMoveMessageController.TIC_TAC_TOE_GAME_MOVE_DESTINATION;
+import static dev.kurama.api.ttt.move.TicTacToeGameMoveMessageController.TIC_TAC_TOE_GAME_MOVE_ERROR_CHANNEL;
+import static dev.kurama.api.ttt.move.TicTacToeGameMoveMessageController.TIC_TAC_TOE_GAME_MOVE_RESULT_CHANNEL;
+import static dev.kurama.support.TestUtils.getAuthorizationHeader;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.map;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.exception.domain.ForbiddenException;
+import dev.kurama.api.core.utility.JWTTokenProvider;
+import dev.kurama.api.ttt.core.TicTacToeAuthority;
+import dev.kurama.api.ttt.core.TicTacToeBoard;
+import dev.kurama.api.ttt.game.TicTacToeGame;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.game.TicTacToeGameState;
+import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import dev.kurama.api.ttt.player.TicTacToePlayerEventListener;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+@ActiveProfiles(value = "integration-test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TicTacToeGameMoveMessageControllerIT {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private JWTTokenProvider jwtTokenProvider;
+
+  @MockBean
+  private TicTacToeGameMoveFacility facility;
+
+  @MockBean
+  private TicTacToePlayerEventListener ticTacToePlayerEventListener;
+
+  private WebSocketStompClient stompClient;
+
+  private StompSession session;
+
+  private final BlockingQueue<Map<String, Object>> results = new LinkedBlockingQueue<>();
+
+  private final BlockingQueue<Map<String, Object>> errors = new LinkedBlockingQueue<>();
+
+  TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+  TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+  TicTacToeGame game = TicTacToeGame.builder()
+    .setRandomUUID()
+    .playerX(playerX)
+    .playerO(playerO)
+    .status(Status.IN_PROGRESS)
+    .lastActivityAt(LocalDateTime.now())
+    .requestedAt(LocalDateTime.now())
+    .board("OX_____XO")
+    .turn(Token.X)
+    .build();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+    stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    StompHeaders connectHeaders = new StompHeaders();
+    HttpHeaders authorizationHeader = getAuthorizationHeader(jwtTokenProvider, TicTacToeAuthority.TIC_TAC_TOE_ROOT);
+    connectHeaders.add(HttpHeaders.AUTHORIZATION, authorizationHeader.getFirst(HttpHeaders.AUTHORIZATION));
+    session = stompClient.connectAsync("ws://localhost:" + port + ROOT_WEBSOCKET_PATH, new WebSocketHttpHeaders(),
+      connectHeaders, new StompSessionHandlerAdapter() {
+      }).get(5, TimeUnit.SECONDS);
+    session.subscribe("/user" + TIC_TAC_TOE_GAME_MOVE_RESULT_CHANNEL, new QueueFrameHandler(results));
+    session.subscribe("/user" + TIC_TAC_TOE_GAME_MOVE_ERROR_CHANNEL, new QueueFrameHandler(errors));
+  }
+
+  @AfterEach
+  void tearDown() {
+    session.disconnect();
+    stompClient.stop();
+  }
+
+  @Test
+  void should_reply_with_move_result() throws InterruptedException {
+    TicTacToeGameMove move = TicTacToeGameMove.builder()
+      .id(randomUUID())
+      .game(game)
+      .player(playerX)
+      .board("OX__X__XO")
+      .cell("B2")
+      .token(Token.X)
+      .number(5)
+      .movedAt(LocalDateTime.now())
+      .moveTime(1000L)
+      .build();
+    TicTacToeGameState state = TicTacToeGameState.of(game, 5)
+      .toBuilder()
+      .board(TicTacToeBoard.of(move.getBoard()))
+      .turn(Token.O)
+      .build();
+    when(facility.submitMove(eq(game.getId()), any())).thenReturn(new TicTacToeGameMoveResult(move, null, state));
+
+    session.send(destination(game.getId()), Map.of("cell", "B2"));
+
+    Map<String, Object> result = results.poll(5, TimeUnit.SECONDS);
+    assertThat(result).isNotNull()
+      .containsEntry("gameId", game.getId())
+      .containsEntry("board", "OX__X__XO")
+      .containsEntry("turn", "O")
+      .containsEntry("status", "IN_PROGRESS")
+      .containsEntry("moveCount", 5)
+      .containsEntry("reply", null);
+    assertThat(result.get("move")).asInstanceOf(map(String.class, Object.class))
+      .containsEntry("id", move.getId())
+      .containsEntry("cell", "B2");
+    assertThat(errors).isEmpty();
+  }
+
+  @Test
+  void should_reply_with_error() throws InterruptedException {
+    when(facility.submitMove(eq(game.getId()), any())).thenThrow(new ForbiddenException("It is not your turn"));
+
+    session.send(destination(game.getId()), Map.of("cell", "B2"));
+
+    Map<String, Object> error = errors.poll(5, TimeUnit.SECONDS);
+    assertThat(error).isNotNull().containsEntry("status", 403).containsEntry("message", "It is not your turn");
+    assertThat(results).isEmpty();
+  }
+
+  private String destination(String gameId) {
+    return "/ws" + TIC_TAC_TOE_GAME_MOVE_DESTINATION.replace("{gameId}", gameId);
+  }
+
+  private record QueueFrameHandler(BlockingQueue<Map<String, Object>> queue) implements StompFrameHandler {
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+      return Map.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handleFrame(StompHeaders headers, Object payload) {
+      queue.add((Map<String, Object>) payload);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package dev.kurama.api.ttt.move;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.domain.DomainResponse;
+import dev.kurama.api.core.exception.domain.ForbiddenException;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class TicTacToeGameMoveMessageControllerTest {
+
+  @InjectMocks
+  private TicTacToeGameMoveMessageController controller;
+
+  @Mock
+  private TicTacToeGameMoveFacade facade;
+
+  @Test
+  void should_submit_move() {
+    String gameId = randomUUID();
+    TicTacToeGameMoveInput input = TicTacToeGameMoveInput.builder().cell("B2").build();
+    TicTacToeGameMoveResultModel expected = TicTacToeGameMoveResultModel.builder().gameId(gameId).build();
+    when(facade.submitMove(gameId, input)).thenReturn(expected);
+
+    assertEquals(expected, controller.move(gameId, input));
+  }
+
+  @Test
+  void forbidden_exception_should_return_forbidden() {
+    DomainResponse actual = controller.forbiddenException(new ForbiddenException("It is not your turn"));
+
+    assertEquals(403, actual.getStatus());
+    assertEquals("It is not your turn", actual.getMessage());
+  }
+
+  @Test
+  void access_denied_exception_should_return_forbidden() {
+    assertEquals(403, controller.forbiddenException(new AccessDeniedException("denied")).getStatus());
+  }
+
+  @Test
+  void no_such_element_exception_should_return_not_found() {
+    assertEquals(404, controller.notFoundException(new NoSuchElementException()).getStatus());
+  }
+
+  @Test
+  void concurrency_failure_exception_should_return_conflict() {
+    assertEquals(409, controller.concurrencyFailureException(new OptimisticLockingFailureException("id")).getStatus());
+  }
+
+  @Test
+  void illegal_argument_exception_should_return_bad_request() {
+    assertEquals(400, controller.badRequestException(new IllegalArgumentException("Illegal move A1")).getStatus());
+  }
+}
@@ -36,7 +36,8 @@ class TicTacToeGameMoveModelAssemblerTest {
 
     assertThat(actual.getLink(SELF)).isPresent()
       .hasValueSatisfying(
-        link -> assertThat(link.getHref()).isEqualTo(TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", "game-id")));
+        link -> assertThat(link.getHref()).isEqualTo(
+          TIC_TAC_TOE_GAME_MOVE_PATH.replace("{gameId}", "game-id") + "{?after}"));
     assertThat(actual.getLink(TIC_TAC_TOE_GAME_REL)).isPresent()
       .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(TIC_TAC_TOE_GAMES_PATH + "/game-id"));
   }
@@ -1,16 +1,22 @@
 package dev.kurama.api.ttt.move;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
+import dev.kurama.api.ttt.core.TicTacToeMoveHistory;
 import dev.kurama.api.ttt.game.TicTacToeGame;
 import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.game.TicTacToeGameRepository;
+import dev.kurama.api.ttt.game.TicTacToeGameState;
 import dev.kurama.api.ttt.player.TicTacToePlayer;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -22,34 +28,85 @@ class TicTacToeGameMoveServiceTest {
   private TicTacToeGameMoveService service;
 
   @Mock
-  private TicTacToeGameMoveRepository repository;
+  private TicTacToeGameRepository gameRepository;
+
+  @Mock
+  private TicTacToePlayerRepository playerRepository;
 
   @Test
   void should_create_move() {
+    TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+    TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
     TicTacToeGame game = TicTacToeGame.builder()
       .setRandomUUID()
+      .playerX(playerX)
+      .playerO(playerO)
       .status(Status.IN_PROGRESS)
       .isPrivate(false)
-      .turn(TicTacToePlayer.Token.X)
-      .board("_________")
+      .turn(TicTacToePlayer.Token.O)
+      .board("X________")
       .requestedAt(LocalDateTime.ofEpochSecond(1000000 / 1000, 0, ZoneOffset.UTC))
       .lastActivityAt(LocalDateTime.ofEpochSecond(2000000 / 1000, 0, ZoneOffset.UTC))
       .startedAt(LocalDateTime.ofEpochSecond(2000000 / 1000, 0, ZoneOffset.UTC))
       .build();
+    when(gameRepository.getReferenceById(game.getId())).thenReturn(game);
+    when(playerRepository.getReferenceById(playerO.getId())).thenReturn(playerO);
 
-    service.createMove(game, "B2");
-
-    ArgumentCaptor<TicTacToeGameMove> argument = ArgumentCaptor.forClass(TicTacToeGameMove.class);
-    verify(repository).save(argument.capture());
+    TicTacToeGameMove actual = service.createMove(TicTacToeGameState.of(game, 1), "B2");
 
-    TicTacToeGameMove actual = argument.getValue();
     assertEquals(game, actual.getGame());
+    assertEquals(playerO, actual.getPlayer());
     assertEquals("B2", actual.getCell());
-    assertEquals(TicTacToePlayer.Token.X, actual.getToken());
-    assertEquals(1, actual.getNumber());
-    assertEquals("____X____", actual.getBoard());
+    assertEquals(TicTacToePlayer.Token.O, actual.getToken());
+    assertEquals(2, actual.getNumber());
+    assertEquals("X___O____", actual.getBoard());
+  }
+
+  @Test
+  void should_replay_moves_from_history() {
+    TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+    TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+    LocalDateTime startedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    TicTacToeGame game = TicTacToeGame.builder()
+      .setRandomUUID()
+      .playerX(playerX)
+      .playerO(playerO)
+      .status(Status.IN_PROGRESS)
+      .board("X___O___X")
+      .startedAt(startedAt)
+      .moveHistory(TicTacToeMoveHistory.EMPTY.append(0, 1500).append(4, 2000).append(8, 500).toBytes())
+      .build();
+
+    List<TicTacToeGameMove> actual = service.getMoves(game);
+
+    assertEquals(List.of("A1", "B2", "C3"), actual.stream().map(TicTacToeGameMove::getCell).toList());
+    assertEquals(List.of(1, 2, 3), actual.stream().map(TicTacToeGameMove::getNumber).toList());
+    assertEquals(List.of("X________", "X___O____", "X___O___X"),
+      actual.stream().map(TicTacToeGameMove::getBoard).toList());
+    assertEquals(List.of(Token.X, Token.O, Token.X), actual.stream().map(TicTacToeGameMove::getToken).toList());
+    assertEquals(List.of(playerX, playerO, playerX), actual.stream().map(TicTacToeGameMove::getPlayer).toList());
+    assertEquals(startedAt.plusSeconds(4), actual.get(2).getMovedAt());
+    assertEquals(500L, actual.get(2).getMoveTime());
+  }
+
+  @Test
+  void should_replay_moves_after_number() {
+    TicTacToePlayer playerX = TicTacToePlayer.builder().setRandomUUID().username("user-1").build();
+    TicTacToePlayer playerO = TicTacToePlayer.builder().setRandomUUID().username("user-2").build();
+    TicTacToeGame game = TicTacToeGame.builder()
+      .setRandomUUID()
+      .playerX(playerX)
+      .playerO(playerO)
+      .status(Status.IN_PROGRESS)
+      .startedAt(LocalDateTime.now())
+      .moveHistory(TicTacToeMoveHistory.EMPTY.append(0, 1500).append(4, 2000).append(8, 500).toBytes())
+      .build();
 
+    List<TicTacToeGameMove> actual = service.getMovesAfter(game, 1);
 
+    assertEquals(List.of(2, 3), actual.stream().map(TicTacToeGameMove::getNumber).toList());
+    assertEquals(service.getMoves(game).get(1).getId(), actual.get(0).getId());
+    assertTrue(service.getMovesAfter(game, 3).isEmpty());
   }
 
 }
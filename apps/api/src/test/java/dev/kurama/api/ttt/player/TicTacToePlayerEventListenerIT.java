@@ -8,6 +8,12 @@ import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.ttt.game.TicTacToeGame;
+import dev.kurama.api.ttt.game.TicTacToeGame.Status;
+import dev.kurama.api.ttt.game.TicTacToeGameChangedEventEmitter;
+import dev.kurama.api.ttt.game.TicTacToeGameService;
+import dev.kurama.api.ttt.game.TicTacToeGameStateCache;
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboard;
 import dev.kurama.support.ServiceLayerIntegrationTestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,7 +23,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 
 @ServiceLayerIntegrationTestConfig
-@Import({TicTacToePlayerEventListener.class, TicTacToePlayerService.class})
+@Import({TicTacToePlayerEventListener.class, TicTacToePlayerService.class, TicTacToeLeaderboard.class,
+  TicTacToeGameService.class, TicTacToeGameChangedEventEmitter.class, TicTacToeGameStateCache.class})
 class TicTacToePlayerEventListenerIT {
 
   @Autowired
@@ -53,4 +60,29 @@ class TicTacToePlayerEventListenerIT {
     assertEquals(0, player.getDraws());
   }
 
+  @Test
+  void should_rename_ttt_player_and_games_on_user_updated_event() {
+    TicTacToePlayer player = entityManager.persist(
+      TicTacToePlayer.builder().id(user.getId()).user(user).username(user.getUsername()).build());
+    TicTacToePlayer opponent = entityManager.persist(
+      TicTacToePlayer.builder().setRandomUUID().username(randomAlphanumeric(8)).build());
+    TicTacToeGame game = entityManager.persistAndFlush(
+      TicTacToeGame.builder().setRandomUUID().playerX(opponent).playerO(player).status(Status.PENDING).build());
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId(user.getId())
+      .username(randomAlphanumeric(8))
+      .previousUsername(user.getUsername())
+      .action(UserChangedEventAction.UPDATED)
+      .build();
+
+    applicationEventPublisher.publishEvent(event);
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(event.getUsername(), entityManager.find(TicTacToePlayer.class, player.getId()).getUsername());
+    TicTacToeGame actual = entityManager.find(TicTacToeGame.class, game.getId());
+    assertEquals(event.getUsername(), actual.getPlayerOUsername());
+    assertEquals(opponent.getUsername(), actual.getPlayerXUsername());
+  }
+
 }
@@ -1,5 +1,6 @@
 package dev.kurama.api.ttt.player;
 
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -7,6 +8,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.ttt.game.TicTacToeGameService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -22,6 +24,9 @@ class TicTacToePlayerEventListenerTest {
   @Mock
   private TicTacToePlayerService service;
 
+  @Mock
+  private TicTacToeGameService gameService;
+
   @Test
   void should_create_tic_tac_toe_player_when_user_created() {
     UserChangedEvent event = UserChangedEvent.builder()
@@ -82,5 +87,94 @@ class TicTacToePlayerEventListenerTest {
     verifyNoInteractions(service);
   }
 
+  @Test
+  void should_create_bot_player_when_application_ready() {
+    when(service.existsById(TIC_TAC_TOE_BOT_ID)).thenReturn(false);
+
+    listener.applicationReadyEvent();
+
+    verify(service).createBot();
+  }
+
+  @Test
+  void should_not_create_bot_player_when_already_exists() {
+    when(service.existsById(TIC_TAC_TOE_BOT_ID)).thenReturn(true);
+
+    listener.applicationReadyEvent();
+
+    verify(service, never()).createBot();
+  }
+
+  @Test
+  void should_rename_player_and_games_when_username_updated() {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId("userId")
+      .username("renamed")
+      .previousUsername("username")
+      .action(UserChangedEvent.UserChangedEventAction.UPDATED)
+      .build();
+
+    when(service.updateUsername(event.getUserId(), event.getUsername())).thenReturn(true);
+
+    listener.userUpdatedEvent(event);
+
+    verify(gameService).updatePlayerUsername(event.getUserId(), event.getUsername());
+  }
+
+  @Test
+  void should_not_rename_games_when_player_username_unchanged() {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId("userId")
+      .username("renamed")
+      .previousUsername("username")
+      .action(UserChangedEvent.UserChangedEventAction.UPDATED)
+      .build();
+
+    when(service.updateUsername(event.getUserId(), event.getUsername())).thenReturn(false);
+
+    listener.userUpdatedEvent(event);
+
+    verifyNoInteractions(gameService);
+  }
+
+  @Test
+  void should_not_look_up_player_when_username_unchanged() {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId("userId")
+      .username("username")
+      .previousUsername("username")
+      .action(UserChangedEvent.UserChangedEventAction.UPDATED)
+      .build();
+
+    listener.userUpdatedEvent(event);
+
+    verifyNoInteractions(service, gameService);
+  }
+
+  @Test
+  void should_not_look_up_player_when_previous_username_unknown() {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId("userId")
+      .username("username")
+      .action(UserChangedEvent.UserChangedEventAction.UPDATED)
+      .build();
+
+    listener.userUpdatedEvent(event);
+
+    verifyNoInteractions(service, gameService);
+  }
+
+  @Test
+  void should_not_rename_when_user_created() {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId("userId")
+      .username("username")
+      .action(UserChangedEvent.UserChangedEventAction.CREATED)
+      .build();
+
+    listener.userUpdatedEvent(event);
 
+    verify(service, never()).updateUsername(any(), any());
+    verifyNoInteractions(gameService);
+  }
 }
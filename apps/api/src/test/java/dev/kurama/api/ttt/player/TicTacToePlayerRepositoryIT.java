@@ -1,11 +1,14 @@
 package dev.kurama.api.ttt.player;
 
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
 
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.ttt.player.TicTacToePlayerRepository.RatingCount;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest(showSql = false)
@@ -75,4 +79,59 @@ class TicTacToePlayerRepositoryIT {
     }
   }
 
+  @Nested
+  class LeaderboardTests {
+
+    @BeforeEach
+    void setUp() {
+      playerX.setRating(3990);
+      playerO.setRating(3980);
+      playerR.setRating(3980);
+      TicTacToePlayer bot = entityManager.find(TicTacToePlayer.class, TIC_TAC_TOE_BOT_ID);
+      if (bot == null) {
+        bot = entityManager.persist(TicTacToePlayer.builder().id(TIC_TAC_TOE_BOT_ID).username("bot").build());
+      }
+      bot.setRating(4000);
+      entityManager.flush();
+    }
+
+    @Test
+    void should_find_players_ordered_by_rating() {
+      List<TicTacToePlayer> actual = repository.findAllByIdNotOrderByRatingDescIdAsc(TIC_TAC_TOE_BOT_ID,
+        PageRequest.of(0, 3));
+
+      assertThat(actual).asList().hasSize(3).extracting("rating").containsExactly(3990, 3980, 3980);
+      assertThat(actual.get(0).getId()).isEqualTo(playerX.getId());
+      assertThat(actual.get(1).getId().compareTo(actual.get(2).getId())).isNegative();
+    }
+
+    @Test
+    void should_find_players_ranked_after() {
+      List<TicTacToePlayer> ranked = repository.findAllByIdNotOrderByRatingDescIdAsc(TIC_TAC_TOE_BOT_ID,
+        PageRequest.of(0, 3));
+
+      List<TicTacToePlayer> actual = repository.findAllRankedAfter(3980, ranked.get(1).getId(), TIC_TAC_TOE_BOT_ID,
+        PageRequest.of(0, 1));
+
+      assertThat(actual).asList().hasSize(1).extracting("id").containsExactly(ranked.get(2).getId());
+    }
+
+    @Test
+    void should_count_players_by_rating() {
+      List<RatingCount> actual = repository.countByRating(TIC_TAC_TOE_BOT_ID);
+
+      assertThat(actual).asList()
+        .extracting("rating", "count")
+        .contains(tuple(3990, 1L), tuple(3980, 2L))
+        .doesNotContain(tuple(4000, 1L));
+    }
+
+    @Test
+    void should_find_players_for_update() {
+      List<TicTacToePlayer> actual = repository.findAllForUpdateByIdIn(List.of(playerX.getId(), playerO.getId()));
+
+      assertThat(actual).asList().hasSize(2).extracting("id").contains(playerX.getId(), playerO.getId());
+    }
+  }
+
 }
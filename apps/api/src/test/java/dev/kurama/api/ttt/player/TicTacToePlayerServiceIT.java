@@ -1,5 +1,7 @@
 package dev.kurama.api.ttt.player;
 
+import static dev.kurama.api.ttt.core.TicTacToeRating.DEFAULT_RATING;
+import static dev.kurama.api.ttt.core.TicTacToeRating.K_FACTOR;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -7,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboard;
+import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import dev.kurama.support.ServiceLayerIntegrationTestConfig;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +20,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 @ServiceLayerIntegrationTestConfig
-@Import({TicTacToePlayerService.class})
+@Import({TicTacToePlayerService.class, TicTacToeLeaderboard.class})
 class TicTacToePlayerServiceIT {
 
   @Autowired
@@ -72,4 +76,18 @@ class TicTacToePlayerServiceIT {
     assertFalse(actual.contains(player3));
   }
 
+  @Test
+  void should_register_game_result_and_update_ratings() {
+    service.registerGameResult(player1.getId(), player2.getId(), Token.X);
+    entityManager.flush();
+    entityManager.clear();
+
+    TicTacToePlayer winner = entityManager.find(TicTacToePlayer.class, player1.getId());
+    TicTacToePlayer loser = entityManager.find(TicTacToePlayer.class, player2.getId());
+    assertEquals(1, winner.getWins());
+    assertEquals(1, loser.getLosses());
+    assertEquals(DEFAULT_RATING + K_FACTOR / 2, winner.getRating());
+    assertEquals(DEFAULT_RATING - K_FACTOR / 2, loser.getRating());
+  }
+
 }
@@ -1,17 +1,25 @@
 package dev.kurama.api.ttt.player;
 
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_ID;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BOT_USERNAME;
+import static dev.kurama.api.ttt.core.TicTacToeRating.DEFAULT_RATING;
+import static dev.kurama.api.ttt.core.TicTacToeRating.K_FACTOR;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboard;
 import dev.kurama.api.ttt.player.TicTacToePlayer.Token;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +37,9 @@ class TicTacToePlayerServiceTest {
   @Mock
   private TicTacToePlayerRepository repository;
 
+  @Mock
+  private TicTacToeLeaderboard leaderboard;
+
   TicTacToePlayer playerX = TicTacToePlayer.builder()
     .setRandomUUID()
     .username("user-1")
@@ -64,6 +75,45 @@ class TicTacToePlayerServiceTest {
     assertTrue(service.getPlayerByUsername("non-existing-username").isEmpty());
   }
 
+  @Test
+  void test_get_player_without_user_by_username() {
+    TicTacToePlayer bot = TicTacToePlayer.builder().id(TIC_TAC_TOE_BOT_ID).username(TIC_TAC_TOE_BOT_USERNAME).build();
+    when(repository.findByUserUsername(any())).thenReturn(Optional.empty());
+    when(repository.findByUsernameAndUserIsNull(TIC_TAC_TOE_BOT_USERNAME)).thenReturn(Optional.of(bot));
+
+    assertEquals(bot, service.getPlayerByUsername(TIC_TAC_TOE_BOT_USERNAME).get());
+  }
+
+  @Test
+  void test_get_players_by_id() {
+    when(repository.findAllById(List.of(playerX.getId(), "missing"))).thenReturn(List.of(playerX));
+
+    Map<String, TicTacToePlayer> actual = service.getPlayersById(List.of(playerX.getId(), "missing"));
+
+    assertThat(actual.keySet(), hasSize(1));
+    assertThat(actual.values(), hasItem(playerX));
+  }
+
+  @Test
+  void test_update_username() {
+    when(repository.findById(playerX.getId())).thenReturn(Optional.of(playerX));
+    when(repository.save(playerX)).thenReturn(playerX);
+
+    assertTrue(service.updateUsername(playerX.getId(), "renamed"));
+
+    assertEquals("renamed", playerX.getUsername());
+    verify(leaderboard).update(playerX, playerX.getRating());
+  }
+
+  @Test
+  void test_update_username_if_unchanged() {
+    when(repository.findById(playerX.getId())).thenReturn(Optional.of(playerX));
+
+    assertFalse(service.updateUsername(playerX.getId(), playerX.getUsername()));
+
+    verify(repository, never()).save(any());
+  }
+
   @Test
   void test_find_players() {
     when(repository.findAllByUserUsernameLike(any())).thenReturn(List.of());
@@ -76,6 +126,8 @@ class TicTacToePlayerServiceTest {
 
   @Test
   void test_create() {
+    when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
     service.create(playerX.getId(), playerX.getUsername());
 
     ArgumentCaptor<TicTacToePlayer> argument = ArgumentCaptor.forClass(TicTacToePlayer.class);
@@ -88,6 +140,25 @@ class TicTacToePlayerServiceTest {
     assertEquals(0, capturedPlayer.getWins());
     assertEquals(0, capturedPlayer.getLosses());
     assertEquals(0, capturedPlayer.getDraws());
+    assertEquals(DEFAULT_RATING, capturedPlayer.getRating());
+    verify(leaderboard).add(capturedPlayer);
+  }
+
+  @Test
+  void test_create_bot() {
+    when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    service.createBot();
+
+    ArgumentCaptor<TicTacToePlayer> argument = ArgumentCaptor.forClass(TicTacToePlayer.class);
+    verify(repository).save(argument.capture());
+
+    TicTacToePlayer capturedPlayer = argument.getValue();
+    assertEquals(TIC_TAC_TOE_BOT_ID, capturedPlayer.getId());
+    assertEquals(TIC_TAC_TOE_BOT_USERNAME, capturedPlayer.getUsername());
+    assertNull(capturedPlayer.getUser());
+    assertTrue(capturedPlayer.isBot());
+    verify(leaderboard).add(capturedPlayer);
   }
 
   @Test
@@ -109,6 +180,10 @@ class TicTacToePlayerServiceTest {
     assertEquals(0, capturedPlayers.get(1).getWins());
     assertEquals(1, capturedPlayers.get(1).getLosses());
     assertEquals(0, capturedPlayers.get(1).getDraws());
+    assertEquals(DEFAULT_RATING + K_FACTOR / 2, capturedPlayers.get(0).getRating());
+    assertEquals(DEFAULT_RATING - K_FACTOR / 2, capturedPlayers.get(1).getRating());
+    verify(leaderboard).update(playerX, DEFAULT_RATING);
+    verify(leaderboard).update(playerO, DEFAULT_RATING);
   }
 
   @Test
@@ -130,6 +205,8 @@ class TicTacToePlayerServiceTest {
     assertEquals(1, capturedPlayers.get(1).getWins());
     assertEquals(0, capturedPlayers.get(1).getLosses());
     assertEquals(0, capturedPlayers.get(1).getDraws());
+    assertEquals(DEFAULT_RATING - K_FACTOR / 2, capturedPlayers.get(0).getRating());
+    assertEquals(DEFAULT_RATING + K_FACTOR / 2, capturedPlayers.get(1).getRating());
   }
 
   @Test
@@ -151,6 +228,20 @@ class TicTacToePlayerServiceTest {
     assertEquals(0, capturedPlayers.get(1).getWins());
     assertEquals(0, capturedPlayers.get(1).getLosses());
     assertEquals(1, capturedPlayers.get(1).getDraws());
+    assertEquals(DEFAULT_RATING, capturedPlayers.get(0).getRating());
+    assertEquals(DEFAULT_RATING, capturedPlayers.get(1).getRating());
+  }
+
+  @Test
+  void test_register_game_result_by_id_locks_both_players() {
+    when(repository.findAllForUpdateByIdIn(List.of(playerX.getId(), playerO.getId()))).thenReturn(
+      List.of(playerO, playerX));
+
+    service.registerGameResult(playerX.getId(), playerO.getId(), Token.X);
+
+    assertEquals(1, playerX.getWins());
+    assertEquals(1, playerO.getLosses());
+    verify(repository).saveAll(List.of(playerX, playerO));
   }
 
 }
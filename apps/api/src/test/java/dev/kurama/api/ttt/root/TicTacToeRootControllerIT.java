@@ -5,6 +5,8 @@ import static dev.kurama.api.ttt.core.TicTacToeAuthority.TIC_TAC_TOE_GAME_CREATE
 import static dev.kurama.api.ttt.core.TicTacToeAuthority.TIC_TAC_TOE_ROOT;
 import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BASE_PATH;
 import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_GAMES_PATH;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_LEADERBOARD_PATH;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_MATCHMAKING_PATH;
 import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_PLAYER_PATH;
 import static dev.kurama.api.ttt.game.TicTacToeGameChangedMessageSender.TIC_TAC_TOE_GAMES_CHANGED_CHANNEL;
 import static dev.kurama.api.ttt.game.TicTacToeGameChangedMessageSender.TIC_TAC_TOE_GAME_PLAYER_CHANGED_CHANNEL;
@@ -49,7 +51,7 @@ class TicTacToeRootControllerIT {
     mockMvc.perform(get(TIC_TAC_TOE_BASE_PATH).accept(HAL_FORMS_JSON_VALUE)
         .headers(TestUtils.getAuthorizationHeader(jwtTokenProvider, TIC_TAC_TOE_ROOT)))
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$._links.*", hasSize(8)))
+      .andExpect(jsonPath("$._links.*", hasSize(10)))
       .andExpect(jsonPath("$._links.self.href", equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_BASE_PATH)))
       .andExpect(jsonPath("$._links.root.href", equalTo(MOCK_MVC_HOST + BASE_PATH)))
       .andExpect(jsonPath("$._links.game.href", equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAMES_PATH + "/{gameId}")))
@@ -58,6 +60,9 @@ class TicTacToeRootControllerIT {
       .andExpect(jsonPath("$._links.games.templated", equalTo(true)))
       .andExpect(jsonPath("$._links.players.href", equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_PLAYER_PATH + "{?username}")))
       .andExpect(jsonPath("$._links.players.templated", equalTo(true)))
+      .andExpect(jsonPath("$._links.leaderboard.href",
+        equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_LEADERBOARD_PATH + "{?page,size,sort}")))
+      .andExpect(jsonPath("$._links.matchmaking.href", equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_MATCHMAKING_PATH)))
       .andExpect(jsonPath("$._links.create.href", equalTo(MOCK_MVC_HOST + TIC_TAC_TOE_GAMES_PATH)))
       .andExpect(jsonPath("$._links.ws:games.href", equalTo(TIC_TAC_TOE_GAMES_CHANGED_CHANNEL)))
       .andExpect(jsonPath("$._links.ws:game:player.href",
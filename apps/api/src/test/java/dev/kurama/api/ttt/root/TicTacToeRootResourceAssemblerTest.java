@@ -6,10 +6,14 @@ import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
 import static dev.kurama.api.ttt.core.TicTacToeAuthority.TIC_TAC_TOE_GAME_CREATE;
 import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_BASE_PATH;
 import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_GAMES_PATH;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_LEADERBOARD_PATH;
+import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_MATCHMAKING_PATH;
 import static dev.kurama.api.ttt.core.TicTacToeConstant.TIC_TAC_TOE_PLAYER_PATH;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_CREATE_REL;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_GAMES_REL;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_GAME_REL;
+import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_LEADERBOARD_REL;
+import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_MATCHMAKING_REL;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_PLAYERS_REL;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_WS_GAMES;
 import static dev.kurama.api.ttt.core.TicTacToeRelations.TIC_TAC_TOE_WS_GAME_PLAYER;
@@ -44,7 +48,7 @@ class TicTacToeRootResourceAssemblerTest {
   @Test
   void should_have_self_link() {
     RepresentationModel<?> actual = ticTacToeRootResourceAssembler.assemble();
-    assertThat(actual.getLinks()).hasSize(8);
+    assertThat(actual.getLinks()).hasSize(10);
     assertThat(actual.getLink(SELF)).isPresent()
       .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(TIC_TAC_TOE_BASE_PATH));
   }
@@ -71,6 +75,21 @@ class TicTacToeRootResourceAssemblerTest {
       .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(TIC_TAC_TOE_GAMES_PATH + "/{gameId}"));
   }
 
+  @Test
+  void should_have_leaderboard_link() {
+    RepresentationModel<?> actual = ticTacToeRootResourceAssembler.assemble();
+    assertThat(actual.getLink(TIC_TAC_TOE_LEADERBOARD_REL)).isPresent()
+      .hasValueSatisfying(
+        link -> assertThat(link.getHref()).isEqualTo(TIC_TAC_TOE_LEADERBOARD_PATH + "{?page,size,sort}"));
+  }
+
+  @Test
+  void should_have_matchmaking_link() {
+    RepresentationModel<?> actual = ticTacToeRootResourceAssembler.assemble();
+    assertThat(actual.getLink(TIC_TAC_TOE_MATCHMAKING_REL)).isPresent()
+      .hasValueSatisfying(link -> assertThat(link.getHref()).isEqualTo(TIC_TAC_TOE_MATCHMAKING_PATH));
+  }
+
   @Test
   void should_have_players_link() {
     RepresentationModel<?> actual = ticTacToeRootResourceAssembler.assemble();
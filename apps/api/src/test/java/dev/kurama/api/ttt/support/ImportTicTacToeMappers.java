@@ -1,6 +1,8 @@
 package dev.kurama.api.ttt.support;
 
 import dev.kurama.api.ttt.game.TicTacToeGameMapperImpl;
+import dev.kurama.api.ttt.leaderboard.TicTacToeLeaderboardMapperImpl;
+import dev.kurama.api.ttt.matchmaking.TicTacToeMatchmakingMapperImpl;
 import dev.kurama.api.ttt.move.TicTacToeGameMoveMapperImpl;
 import dev.kurama.api.ttt.player.TicTacToePlayerMapperImpl;
 import java.lang.annotation.Documented;
@@ -15,7 +17,8 @@ import org.springframework.context.annotation.Import;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 @Inherited
-@Import({TicTacToeGameMapperImpl.class, TicTacToeGameMoveMapperImpl.class, TicTacToePlayerMapperImpl.class})
+@Import({TicTacToeGameMapperImpl.class, TicTacToeGameMoveMapperImpl.class, TicTacToePlayerMapperImpl.class,
+  TicTacToeLeaderboardMapperImpl.class, TicTacToeMatchmakingMapperImpl.class})
 public @interface ImportTicTacToeMappers {
 
 }
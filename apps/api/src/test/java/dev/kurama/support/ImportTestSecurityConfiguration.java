@@ -2,6 +2,7 @@ package dev.kurama.support;
 
 import dev.kurama.api.core.configuration.SecurityConfiguration;
 import dev.kurama.api.core.filter.JWTAccessDeniedHandler;
+import dev.kurama.api.core.filter.JWTAuthenticationCache;
 import dev.kurama.api.core.filter.JWTAuthenticationEntryPoint;
 import dev.kurama.api.core.hateoas.HateoasConfiguration;
 import dev.kurama.api.core.service.UserDetailsServiceImpl;
@@ -27,8 +28,8 @@ import org.springframework.context.annotation.Import;
 @Inherited
 @ImportAuthorities
 @Import({SecurityConfiguration.class, UserDetailsServiceImpl.class, JWTTokenProvider.class,
-  JWTAuthenticationEntryPoint.class, JWTAccessDeniedHandler.class, TestSecurityConfiguration.class,
-  HateoasConfiguration.class})
+  JWTAuthenticationCache.class, JWTAuthenticationEntryPoint.class, JWTAccessDeniedHandler.class,
+  TestSecurityConfiguration.class, HateoasConfiguration.class})
 public @interface ImportTestSecurityConfiguration {
 
 }
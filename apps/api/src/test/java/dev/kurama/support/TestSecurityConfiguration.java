@@ -1,5 +1,6 @@
 package dev.kurama.support;
 
+import dev.kurama.api.core.repository.JWTSecretRepository;
 import dev.kurama.api.core.repository.UserRepository;
 import dev.kurama.api.core.service.LoginAttemptService;
 import org.mockito.Mockito;
@@ -14,6 +15,11 @@ public class TestSecurityConfiguration {
     return Mockito.mock(UserRepository.class);
   }
 
+  @Bean
+  public JWTSecretRepository JWTSecretRepository() {
+    return Mockito.mock(JWTSecretRepository.class);
+  }
+
   @Bean
   public LoginAttemptService LoginAttemptService() {
     return Mockito.mock(LoginAttemptService.class);
@@ -118,7 +118,7 @@ export namespace AllTicTacToeGameMoves {
         },
         _links: {
           self: {
-            href: 'http://localhost/api/tic-tac-toe/game/tic-tac-toe-g2/move',
+            href: 'http://localhost/api/tic-tac-toe/game/tic-tac-toe-g2/move{?after}',
           },
         },
       },
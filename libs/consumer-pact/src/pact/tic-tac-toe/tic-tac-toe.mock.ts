@@ -23,7 +23,7 @@ export function gameWithId(gameId: string, movesLink = false) {
     _links: {
       self: { href: `http://localhost/api/tic-tac-toe/game/${gameId}` },
       ws: { href: `/ami/tic-tac-toe/game/${gameId}` },
-      ...(movesLink ? { moves: { href: `http://localhost/api/tic-tac-toe/game/${gameId}/move` } } : {}),
+      ...(movesLink ? { moves: { href: `http://localhost/api/tic-tac-toe/game/${gameId}/move{?after}` } } : {}),
     },
     id: `${gameId}`,
     _templates: { ...defaultTemplate },
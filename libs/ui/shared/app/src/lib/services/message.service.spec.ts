@@ -1,7 +1,7 @@
 import { TestBed } from '@angular/core/testing';
 import { TokenKeys } from '@app/ui/shared/domain';
 import { IMessage } from '@stomp/stompjs';
-import { firstValueFrom, of, tap } from 'rxjs';
+import { firstValueFrom, of, tap, toArray } from 'rxjs';
 import { HotSocket } from '../utils/hot-socket.model';
 import { MessageService } from './message.service';
 
@@ -28,6 +28,19 @@ describe('MessageService', () => {
     });
   });
 
+  it('should listen to channel and unpack message batches', (done) => {
+    const batch = { events: [{ id: 'testId1' }, { id: 'testId2' }] };
+    jest.spyOn(service, 'watch').mockReturnValueOnce(of({ body: JSON.stringify(batch) } as IMessage));
+
+    service
+      .listen<{ id: string }>('/ami/user')
+      .pipe(toArray())
+      .subscribe((appMessages: { id: string }[]) => {
+        expect(appMessages).toEqual(batch.events);
+        done();
+      });
+  });
+
   it.each<any | jest.DoneCallback>([
     null,
     undefined,
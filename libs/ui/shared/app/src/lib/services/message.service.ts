@@ -1,9 +1,9 @@
 import { Injectable } from '@angular/core';
-import { ApplicationMessage, TokenKeys } from '@app/ui/shared/domain';
+import { ApplicationMessage, isApplicationMessageBatch, TokenKeys } from '@app/ui/shared/domain';
 import { RxStomp } from '@stomp/rx-stomp';
 import { RxStompConfig } from '@stomp/rx-stomp/esm6/rx-stomp-config';
 import { filter, from, Observable, of, share } from 'rxjs';
-import { map } from 'rxjs/operators';
+import { map, mergeMap } from 'rxjs/operators';
 import { filterNulls } from '../utils/filter-null.rxjs.pipe';
 import { HotSocket } from '../utils/hot-socket.model';
 
@@ -42,7 +42,10 @@ export class MessageService extends RxStomp {
       filter((message) => !!message?.body),
       map((message) => JSON.parse(message.body)),
       filterNulls(),
-    );
+      mergeMap((message: ApplicationMessage) =>
+        isApplicationMessageBatch(message) ? from(message.events) : of(message),
+      ),
+    ) as Observable<T>;
   }
 
   public multicast<T extends ApplicationMessage = ApplicationMessage>(channel: string): Observable<T> {
@@ -73,6 +73,7 @@ export enum ServiceLogsAuthority {
 
 export enum TokenAuthority {
   TOKEN_REFRESH = 'token:refresh',
+  TOKEN_ROTATE = 'token:rotate',
 }
 
 export enum UserAuthority {
@@ -1,4 +1,11 @@
 // eslint-disable-next-line @typescript-eslint/no-empty-interface
 export interface ApplicationMessage {}
 
+export interface ApplicationMessageBatch<T extends ApplicationMessage = ApplicationMessage> extends ApplicationMessage {
+  events: T[];
+}
+
+export const isApplicationMessageBatch = (message: ApplicationMessage): message is ApplicationMessageBatch =>
+  Array.isArray((message as ApplicationMessageBatch).events);
+
 export const WEBSOCKET_REL = 'ws';
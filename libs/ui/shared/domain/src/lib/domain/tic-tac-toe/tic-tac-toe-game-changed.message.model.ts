@@ -8,6 +8,18 @@ export interface TicTacToeGameChangedMessage extends ApplicationMessage {
   turn: TicTacToeGamePlayer;
   status: TicTacToeGameStatus;
   action: TicTacToeGameChangedMessageAction;
+  board?: string;
+  sequence?: number;
+  move?: TicTacToeGameChangedMessageMove;
+}
+
+export interface TicTacToeGameChangedMessageMove {
+  id: string;
+  cell: string;
+  token: TicTacToeGamePlayer;
+  number: number;
+  board: string;
+  moveTime: number;
 }
 
 export enum TicTacToeGameChangedMessageAction {